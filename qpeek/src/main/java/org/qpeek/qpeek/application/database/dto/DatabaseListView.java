@@ -0,0 +1,12 @@
+package org.qpeek.qpeek.application.database.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 회원 저장소 목록 항목 (소프트 삭제된 저장소 제외)
+ */
+public record DatabaseListView(Long databaseId,
+                               String name,
+                               String description,
+                               OffsetDateTime createdAt) {
+}
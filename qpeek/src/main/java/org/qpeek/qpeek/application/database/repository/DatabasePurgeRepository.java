@@ -0,0 +1,33 @@
+package org.qpeek.qpeek.application.database.repository;
+
+import java.util.Optional;
+
+/**
+ * 소프트 삭제된 저장소의 하위 행 정리. 모든 메서드는 호출자의 (짧은) 트랜잭션 안에서 실행.
+ */
+public interface DatabasePurgeRepository {
+
+    /**
+     * 가장 먼저 삭제된 저장소 1개를 트랜잭션 끝까지 점유 (다른 노드가 점유 중인 저장소는 건너뜀)
+     */
+    Optional<Long> claimDeleted();
+
+    /**
+     * 저장소의 작업을 최대 limit 개 삭제 (종속 행: 알림, 완료 로그, 휴지통 항목 포함)
+     *
+     * @return 삭제한 작업 수
+     */
+    int purgeTasks(Long databaseId, int limit);
+
+    /**
+     * 작업이 남지 않은 큐를 최대 limit 개 삭제 (완료 롤업은 FK cascade)
+     *
+     * @return 삭제한 큐 수
+     */
+    int purgeQueues(Long databaseId, int limit);
+
+    /**
+     * 큐가 남지 않은 저장소 행 삭제
+     */
+    boolean purgeDatabase(Long databaseId);
+}
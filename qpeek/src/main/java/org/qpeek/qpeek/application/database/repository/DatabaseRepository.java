@@ -0,0 +1,14 @@
+package org.qpeek.qpeek.application.database.repository;
+
+import org.qpeek.qpeek.application.database.dto.DatabaseListView;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface DatabaseRepository {
+
+    /**
+     * 회원의 활성 저장소를 (created_at, database_id) 순으로 keyset 조회. afterCreatedAt 이 null 이면 첫 페이지.
+     */
+    List<DatabaseListView> findPageByMember(Long memberId, OffsetDateTime afterCreatedAt, Long afterDatabaseId, int limit);
+}
@@ -0,0 +1,124 @@
+package org.qpeek.qpeek.application.database.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.database.repository.DatabasePurgeRepository;
+import org.qpeek.qpeek.common.ratelimit.PurgePacing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 소프트 삭제된 저장소(Database) 하위 행 정리 (다중 노드)
+ * <p>
+ * <정책>
+ * - 가장 먼저 삭제된 저장소부터 작업(+ 알림, 완료 로그, 휴지통 항목) → 큐(+ 완료 롤업) → 저장소 행 순으로 삭제.
+ * - 청크 하나(= 짧은 트랜잭션 하나)는 한 저장소의 작업 또는 큐를 최대 chunkSize 개만 지운다.
+ * - 남은 행이 있는 동안 같은 주기 안에서 이어서 처리하되, 청크 사이에 PurgePacing 이 정한 만큼 쉰다.
+ * - 저장소 정리는 하드 삭제 이력(TaskHardDeleteLog)을 남기지 않는다(휴지통 보관 만료 삭제가 아님).
+ * <p>
+ * <설계 메모>
+ * - 진행 상태를 따로 저장하지 않는다. 청크마다 저장소 행을 FOR UPDATE SKIP LOCKED 로 다시 점유하고 남은 행을 지우므로
+ *   노드가 중단되면 마지막 청크만 롤백되고, 다음 주기(또는 다른 노드)가 그 지점부터 이어서 정리한다.
+ * - 작업 10만 건인 저장소도 (chunkSize 행 + 종속 행) 단위 트랜잭션의 연속이라 잠금 유지 시간/트랜잭션당 WAL 이 작고,
+ *   청크 사이 휴식 동안 체크포인트/복제/autovacuum 이 따라올 수 있다.
+ * - 노드마다 서로 다른 저장소를 가져가므로 여러 저장소가 삭제되면 노드 수만큼 병렬로 정리된다.
+ * - 쉬는 동안 스케줄러 스레드를 붙잡지 않도록 전용 스레드(최저 우선순위)에서 실행.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.database.purge", name = "enabled", matchIfMissing = true)
+public class DatabasePurger {
+
+    private final DatabasePurgeRepository databasePurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabasePurgeProperties properties;
+    private final PurgePacing pacing;
+    private final Clock clock;
+
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DatabasePurger(DatabasePurgeRepository databasePurgeRepository,
+                          PlatformTransactionManager transactionManager,
+                          DatabasePurgeProperties properties,
+                          Clock clock) {
+        if (properties.chunkSize() < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        this.databasePurgeRepository = databasePurgeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.pacing = new PurgePacing(properties.rowsPerSecond(), properties.peakRowsPerSecond(),
+                properties.peakStartHour(), properties.peakEndHour(), ZoneId.of(properties.peakZone()));
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("database-purge").daemon(true).priority(Thread.MIN_PRIORITY).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.database.purge.poll-interval:1m}")
+    public void poll() {
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // 진행 중이던 청크만 롤백되고 다음 기동에서 이어서 정리
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted() && pacing.rateAt(clock.instant()) > 0) {
+                long startedNanos = System.nanoTime();
+                Optional<Chunk> chunk = transactionTemplate.execute(status -> purgeChunk());
+                if (chunk == null || chunk.isEmpty()) return;
+                if (chunk.get().databaseDeleted()) {
+                    log.info("deleted database purged. databaseId={}", chunk.get().databaseId());
+                }
+
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+                Thread.sleep(pacing.pauseAfter(chunk.get().rows(), elapsed, clock.instant()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("database purge failed. retry on next poll", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 점유한 저장소에서 다음 단계 하나를 chunkSize 만큼 진행. 삭제된 저장소가 없으면 empty.
+     */
+    private Optional<Chunk> purgeChunk() {
+        return databasePurgeRepository.claimDeleted().map(databaseId -> {
+            int tasks = databasePurgeRepository.purgeTasks(databaseId, properties.chunkSize());
+            if (tasks > 0) return new Chunk(databaseId, tasks, false);
+            int queues = databasePurgeRepository.purgeQueues(databaseId, properties.chunkSize());
+            if (queues > 0) return new Chunk(databaseId, queues, false);
+            return new Chunk(databaseId, 1, databasePurgeRepository.purgeDatabase(databaseId));
+        });
+    }
+
+    /**
+     * @param rows            이번 청크에서 삭제한 작업/큐/저장소 행 수 (종속 행 제외, 속도 계산용)
+     * @param databaseDeleted 저장소 행까지 삭제되어 정리가 끝났는지
+     */
+    private record Chunk(Long databaseId, int rows, boolean databaseDeleted) {
+    }
+}
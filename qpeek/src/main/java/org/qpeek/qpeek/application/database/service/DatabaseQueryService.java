@@ -0,0 +1,52 @@
+package org.qpeek.qpeek.application.database.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.database.dto.DatabaseListView;
+import org.qpeek.qpeek.application.database.repository.DatabaseRepository;
+import org.qpeek.qpeek.common.pagination.CursorPage;
+import org.qpeek.qpeek.common.pagination.KeysetCursor;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 저장소 조회 유스케이스
+ * <p>
+ * <설계 메모>
+ * - 회원의 활성 저장소 목록은 (created_at, database_id) keyset 페이징. 커서 = (createdAt, databaseId).
+ */
+@Service
+@RequiredArgsConstructor
+public class DatabaseQueryService {
+
+    private final DatabaseRepository databaseRepository;
+
+    public CursorPage<DatabaseListView> listDatabases(Long memberId, String cursor, int size) {
+        if (memberId == null) throw new IllegalArgumentException("memberId is null");
+        CursorPage.validSize(size);
+
+        List<String> keys = KeysetCursor.decode(cursor, 2);
+        List<DatabaseListView> fetched = keys == null
+                ? databaseRepository.findPageByMember(memberId, null, null, size + 1)
+                : databaseRepository.findPageByMember(memberId, parseTime(keys.get(0)), parseId(keys.get(1)), size + 1);
+        return CursorPage.of(fetched, size, last -> KeysetCursor.encode(last.createdAt(), last.databaseId()));
+    }
+
+    private static OffsetDateTime parseTime(String value) {
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (NullPointerException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+}
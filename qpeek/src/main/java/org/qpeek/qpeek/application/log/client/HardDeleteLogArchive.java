@@ -0,0 +1,33 @@
+package org.qpeek.qpeek.application.log.client;
+
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 작업 하드 삭제 이력 보관소 (추가 전용, hard_deleted_at 의 UTC 월 단위 파티션)
+ * <p>
+ * 조회 결과 Stream 은 파일을 열어 둔 채 지연 읽기하므로 반드시 닫아야 한다(try-with-resources).
+ * 같은 이력(log_id)이 다른 범위의 세그먼트로 다시 보관되어 있어도 조회 결과에는 한 번만 나온다.
+ */
+public interface HardDeleteLogArchive {
+
+    /**
+     * month 파티션에 새 세그먼트로 게시. 모든 행의 hard_deleted_at 이 month(UTC) 안이어야 한다.
+     * 같은 식별자 범위의 세그먼트가 이미 있으면 덮어쓴다(같은 묶음 재시도는 멱등).
+     */
+    void append(YearMonth month, List<ArchivedHardDeleteLog> rows);
+
+    /**
+     * 작업의 보관된 이력 (파티션 월 순)
+     */
+    Stream<ArchivedHardDeleteLog> findByTaskId(Long taskId);
+
+    /**
+     * hard_deleted_at 이 [from, to) 인 보관된 이력 (파티션 월 → 세그먼트 → hard_deleted_at 순)
+     */
+    Stream<ArchivedHardDeleteLog> findBetween(OffsetDateTime from, OffsetDateTime to);
+}
@@ -0,0 +1,9 @@
+package org.qpeek.qpeek.application.log.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 보관(archive) 대상/보관된 작업 하드 삭제 이력 1건 (task_hard_delete_logs 행과 같은 값)
+ */
+public record ArchivedHardDeleteLog(Long logId, Long taskId, OffsetDateTime trashedAt, OffsetDateTime hardDeletedAt) {
+}
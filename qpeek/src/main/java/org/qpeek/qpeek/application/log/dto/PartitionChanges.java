@@ -0,0 +1,17 @@
+package org.qpeek.qpeek.application.log.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 월 파티션 유지보수 결과
+ *
+ * @param created  새로 만든 파티션의 월
+ * @param detached 분리(보관용 독립 테이블로 전환)한 파티션의 월
+ */
+public record PartitionChanges(List<YearMonth> created, List<YearMonth> detached) {
+
+    public boolean isEmpty() {
+        return created.isEmpty() && detached.isEmpty();
+    }
+}
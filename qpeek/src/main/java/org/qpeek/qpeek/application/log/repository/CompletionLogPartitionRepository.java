@@ -0,0 +1,19 @@
+package org.qpeek.qpeek.application.log.repository;
+
+import org.qpeek.qpeek.application.log.dto.PartitionChanges;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+public interface CompletionLogPartitionRepository {
+
+    /**
+     * completion_logs 월 파티션 유지보수 (노드 간 advisory lock, 트랜잭션 밖에서 호출)
+     * - current ~ current + premadeMonths 파티션이 없으면 만든다.
+     * - retainedMonths > 0 이면 current - retainedMonths 보다 이전 월 파티션을 분리(DETACH CONCURRENTLY)해
+     *   completion_logs_archive_YYYYMM 독립 테이블로 남긴다(보관/내보내기 후 삭제는 운영 작업).
+     *
+     * @return 다른 노드가 진행 중이면 empty
+     */
+    Optional<PartitionChanges> maintain(YearMonth current, int premadeMonths, int retainedMonths);
+}
@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.application.log.repository;
+
+import org.qpeek.qpeek.domain.log.entity.CompletionLog;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface CompletionLogRepository {
+
+    /**
+     * 완료 로그 일괄 INSERT + 큐별 시간/일 롤업 가산 (식별자는 global_sequence 블록 단위 할당, 1회 왕복)
+     */
+    void insertAll(List<CompletionLog> logs);
+
+    /**
+     * 재개로 취소된 완료의 로그 삭제 (completed_at 으로 해당 월 파티션만 접근, 큐별 롤업에서도 차감)
+     *
+     * @return 삭제된 행 수
+     */
+    int delete(Long taskId, OffsetDateTime completedAt);
+}
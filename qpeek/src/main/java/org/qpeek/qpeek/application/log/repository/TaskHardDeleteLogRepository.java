@@ -0,0 +1,20 @@
+package org.qpeek.qpeek.application.log.repository;
+
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskHardDeleteLogRepository {
+
+    /**
+     * hard_deleted_at < cutoff 인 이력을 오래된 순으로 limit 개까지 점유 (FOR UPDATE SKIP LOCKED, 트랜잭션 안에서 호출)
+     */
+    List<ArchivedHardDeleteLog> claimOlderThan(OffsetDateTime cutoff, int limit);
+
+    /**
+     * @return 삭제된 행 수
+     */
+    int deleteAll(Collection<Long> logIds);
+}
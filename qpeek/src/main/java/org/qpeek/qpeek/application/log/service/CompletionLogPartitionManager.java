@@ -0,0 +1,55 @@
+package org.qpeek.qpeek.application.log.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.log.repository.CompletionLogPartitionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * completion_logs 월 파티션 관리
+ * <p>
+ * <정책>
+ * - 파티션 경계는 UTC 월. 현재 월부터 premadeMonths 개월 뒤까지 항상 파티션이 있어야 한다(없으면 삽입 실패).
+ * - retainedMonths 를 지정하면 그보다 오래된 파티션은 분리해 보관용 테이블로 남긴다(조회 대상에서 제외).
+ * <p>
+ * <설계 메모>
+ * - 기동 직후 + checkInterval 마다 실행. 모든 노드가 실행해도 advisory lock 으로 1개 노드만 DDL 수행, 나머지는 건너뜀.
+ * - 분리는 DETACH PARTITION CONCURRENTLY 로 삽입을 막지 않는다(기본 파티션을 두지 않는 이유).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.log.completion-partitions", name = "enabled", matchIfMissing = true)
+public class CompletionLogPartitionManager {
+
+    private final CompletionLogPartitionRepository partitionRepository;
+    private final CompletionLogPartitionProperties properties;
+    private final Clock clock;
+
+    public CompletionLogPartitionManager(CompletionLogPartitionRepository partitionRepository,
+                                         CompletionLogPartitionProperties properties,
+                                         Clock clock) {
+        if (properties.premadeMonths() < 1) throw new IllegalArgumentException("premadeMonths must be >= 1");
+        if (properties.retainedMonths() < 0) throw new IllegalArgumentException("retainedMonths must be >= 0");
+        this.partitionRepository = partitionRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.log.completion-partitions.check-interval:6h}")
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        partitionRepository.maintain(current, properties.premadeMonths(), properties.retainedMonths())
+                .ifPresentOrElse(
+                        changes -> {
+                            if (!changes.isEmpty()) {
+                                log.info("completion log partitions maintained. created={}, detached={}", changes.created(), changes.detached());
+                            }
+                        },
+                        () -> log.debug("completion log partition maintenance skipped (locked by another node)"));
+    }
+}
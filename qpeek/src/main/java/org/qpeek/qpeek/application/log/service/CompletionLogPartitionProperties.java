@@ -0,0 +1,19 @@
+package org.qpeek.qpeek.application.log.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled        파티션 유지보수 사용 여부
+ * @param checkInterval  유지보수 주기 (기동 직후 1회 포함)
+ * @param premadeMonths  현재 월 이후 미리 만들어 둘 파티션 수
+ * @param retainedMonths 현재 월 이전에 남겨 둘 월 수. 그보다 오래된 파티션은 분리. 0 이면 분리하지 않음
+ */
+@ConfigurationProperties(prefix = "qpeek.log.completion-partitions")
+public record CompletionLogPartitionProperties(@DefaultValue("true") boolean enabled,
+                                               @DefaultValue("6h") Duration checkInterval,
+                                               @DefaultValue("3") int premadeMonths,
+                                               @DefaultValue("0") int retainedMonths) {
+}
@@ -0,0 +1,86 @@
+package org.qpeek.qpeek.application.log.service;
+
+import org.qpeek.qpeek.application.log.repository.CompletionLogRepository;
+import org.qpeek.qpeek.domain.log.entity.CompletionLog;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트랜잭션 단위 완료 로그 쓰기 버퍼 (write-behind)
+ * <p>
+ * <정책>
+ * - 완료 로그는 작업 완료와 같은 트랜잭션에서 기록된다: 커밋 직전(beforeCommit) 또는 batchSize 도달 시 INSERT.
+ *   트랜잭션이 롤백되면 모아 둔 로그도 버려진다. 트랜잭션 밖 호출은 허용하지 않는다.
+ * - 재개(retract)된 완료는 아직 버퍼에 있으면 버퍼에서 빼고, 이미 기록됐으면 삭제한다.
+ * <p>
+ * <설계 메모>
+ * - 로그마다 persist(시퀀스 + INSERT) 대신 묶음마다 식별자 블록 할당 1회 + 배열 INSERT 1회.
+ * - 시간 기준 flush 는 두지 않는다: 트랜잭션 경계를 넘겨 모으면 작업 완료와 로그의 원자성이 깨진다.
+ * - 버퍼는 트랜잭션 리소스로 바인딩(스레드/트랜잭션마다 1개)하므로 동기화가 필요 없다.
+ */
+@Component
+public class CompletionLogWriter {
+
+    private final CompletionLogRepository completionLogRepository;
+    private final CompletionLogWriterProperties properties;
+
+    public CompletionLogWriter(CompletionLogRepository completionLogRepository, CompletionLogWriterProperties properties) {
+        if (properties.batchSize() < 1) throw new IllegalArgumentException("batchSize must be >= 1");
+        this.completionLogRepository = completionLogRepository;
+        this.properties = properties;
+    }
+
+    public void append(CompletionLog log) {
+        if (log == null) throw new IllegalArgumentException("log is null");
+        List<CompletionLog> buffer = currentBuffer();
+        buffer.add(log);
+        if (buffer.size() >= properties.batchSize()) flush(buffer);
+    }
+
+    public void retract(Long taskId, OffsetDateTime completedAt) {
+        if (taskId == null || completedAt == null) throw new IllegalArgumentException("taskId or completedAt is null");
+        boolean buffered = currentBuffer().removeIf(log ->
+                taskId.equals(log.getTask().getId()) && log.getCompletedAt().isEqual(completedAt));
+        if (!buffered) completionLogRepository.delete(taskId, completedAt);
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    @SuppressWarnings("unchecked")
+    private List<CompletionLog> currentBuffer() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("completion log requires an active transaction");
+        }
+        List<CompletionLog> buffer = (List<CompletionLog>) TransactionSynchronizationManager.getResource(this);
+        if (buffer != null) return buffer;
+
+        List<CompletionLog> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                CompletionLogWriter.this.flush(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CompletionLogWriter.this);
+            }
+        });
+        return created;
+    }
+
+    private void flush(List<CompletionLog> buffer) {
+        if (buffer.isEmpty()) return;
+        completionLogRepository.insertAll(List.copyOf(buffer));
+        buffer.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package org.qpeek.qpeek.application.log.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param batchSize 트랜잭션 안에서 모아 두는 최대 완료 로그 수 (도달하면 커밋 전이라도 같은 트랜잭션에서 INSERT)
+ */
+@ConfigurationProperties(prefix = "qpeek.log.completion-writer")
+public record CompletionLogWriterProperties(@DefaultValue("500") int batchSize) {
+}
@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.application.log.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled          하드 삭제 이력 보관 이관 사용 여부
+ * @param checkInterval    이관 주기
+ * @param retention        DB 에 남겨 둘 기간. hard_deleted_at 이 이보다 오래된 이력은 보관 파일로 이동
+ * @param batchSize        묶음(= 트랜잭션, 세그먼트) 하나에서 옮길 최대 이력 수
+ * @param maxBatchesPerRun 한 주기에 처리할 최대 묶음 수 (밀린 이력은 다음 주기에 이어서 처리)
+ */
+@ConfigurationProperties(prefix = "qpeek.log.hard-delete-archive")
+public record HardDeleteLogArchiveProperties(@DefaultValue("true") boolean enabled,
+                                             @DefaultValue("1h") Duration checkInterval,
+                                             @DefaultValue("90d") Duration retention,
+                                             @DefaultValue("10000") int batchSize,
+                                             @DefaultValue("10") int maxBatchesPerRun) {
+}
@@ -0,0 +1,87 @@
+package org.qpeek.qpeek.application.log.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.log.client.HardDeleteLogArchive;
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+import org.qpeek.qpeek.application.log.repository.TaskHardDeleteLogRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * task_hard_delete_logs → 압축 보관 파일 이관
+ * <p>
+ * <정책>
+ * - hard_deleted_at 이 retention 보다 오래된 이력을 오래된 순으로 batchSize 개씩 옮긴다.
+ * - 묶음마다: 점유(SKIP LOCKED) → UTC 월별 세그먼트 게시(fsync) → DB 행 삭제 를 한 트랜잭션으로 처리.
+ * - 이관된 이력은 HardDeleteLogArchive 의 findByTaskId / findBetween 으로 조회.
+ * <p>
+ * <설계 메모>
+ * - 파일 게시 후 커밋 전에 실패하면 행이 남아 다음 주기에 다시 옮겨진다. 같은 묶음이면 같은 세그먼트를 덮어쓰지만
+ *   묶음 경계가 달라지면 중복 행이 생길 수 있다(최소 1회 전달) → 읽는 쪽은 log_id 로 중복을 제거한다.
+ * - 여러 노드가 실행해도 SKIP LOCKED 로 서로 다른 행을 옮기므로 세그먼트가 겹치지 않는다(보관 경로는 공유 볼륨 전제).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.log.hard-delete-archive", name = "enabled", matchIfMissing = true)
+public class HardDeleteLogArchiver {
+
+    private final TaskHardDeleteLogRepository hardDeleteLogRepository;
+    private final HardDeleteLogArchive archive;
+    private final HardDeleteLogArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public HardDeleteLogArchiver(TaskHardDeleteLogRepository hardDeleteLogRepository,
+                                 HardDeleteLogArchive archive,
+                                 HardDeleteLogArchiveProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 Clock clock) {
+        if (properties.retention().isNegative()) throw new IllegalArgumentException("retention must be >= 0");
+        if (properties.batchSize() < 1) throw new IllegalArgumentException("batchSize must be >= 1");
+        if (properties.maxBatchesPerRun() < 1) throw new IllegalArgumentException("maxBatchesPerRun must be >= 1");
+        this.hardDeleteLogRepository = hardDeleteLogRepository;
+        this.archive = archive;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.log.hard-delete-archive.check-interval:1h}")
+    public void archive() {
+        OffsetDateTime cutoff = OffsetDateTime.now(clock).minus(properties.retention());
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved == null ? 0 : moved;
+            if (moved == null || moved < properties.batchSize()) break;
+        }
+        if (total > 0) log.info("task hard delete logs archived. rows={}, cutoff={}", total, cutoff);
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private int archiveBatch(OffsetDateTime cutoff) {
+        List<ArchivedHardDeleteLog> rows = hardDeleteLogRepository.claimOlderThan(cutoff, properties.batchSize());
+        if (rows.isEmpty()) return 0;
+
+        Map<YearMonth, List<ArchivedHardDeleteLog>> byMonth = new TreeMap<>();
+        for (ArchivedHardDeleteLog row : rows) {
+            YearMonth month = YearMonth.from(row.hardDeletedAt().atZoneSameInstant(ZoneOffset.UTC));
+            byMonth.computeIfAbsent(month, key -> new ArrayList<>()).add(row);
+        }
+        byMonth.forEach(archive::append);
+
+        return hardDeleteLogRepository.deleteAll(rows.stream().map(ArchivedHardDeleteLog::logId).toList());
+    }
+}
@@ -0,0 +1,8 @@
+package org.qpeek.qpeek.application.member.repository;
+
+import org.qpeek.qpeek.domain.member.entity.Member;
+
+public interface MemberRepository {
+
+    Member getReference(Long memberId);
+}
@@ -0,0 +1,16 @@
+package org.qpeek.qpeek.application.notification.client;
+
+import org.qpeek.qpeek.application.notification.dto.DeliveryResult;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+
+import java.util.List;
+
+/**
+ * 채널별 알림 발송 (외부 시스템)
+ * - 다이제스트 1개 = 외부 호출 1회. 다이제스트에 포함된 알림마다 같은 결과를 반환한다.
+ * - 모두 끝난(성공/실패/시간 초과) 뒤 반환하며 예외를 던지지 않는다.
+ */
+public interface NotificationSender {
+
+    List<DeliveryResult> sendAll(List<NotificationDigest> digests);
+}
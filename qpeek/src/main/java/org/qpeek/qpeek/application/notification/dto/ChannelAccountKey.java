@@ -0,0 +1,9 @@
+package org.qpeek.qpeek.application.notification.dto;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+
+/**
+ * 회원의 채널 계정 식별 키 (UNIQUE(member_id, channel_type))
+ */
+public record ChannelAccountKey(Long memberId, NotificationChannelType channel) {
+}
@@ -0,0 +1,20 @@
+package org.qpeek.qpeek.application.notification.dto;
+
+/**
+ * 발송 시점에 필요한 채널 계정 상태 (캐시 값)
+ *
+ * @param channelAccountId 채널 계정 (계정이 없으면 null)
+ * @param address          채널 주소/토큰 (계정이 없으면 null)
+ * @param deliverable      발송 가능 여부 (ReminderChannelAccount.canSend: 활성 + 검증 완료)
+ */
+public record ChannelAccountState(Long channelAccountId, String address, boolean deliverable) {
+
+    private static final ChannelAccountState ABSENT = new ChannelAccountState(null, null, false);
+
+    /**
+     * 계정이 없는 키 (없음도 캐시하여 매번 조회하지 않는다)
+     */
+    public static ChannelAccountState absent() {
+        return ABSENT;
+    }
+}
@@ -0,0 +1,17 @@
+package org.qpeek.qpeek.application.notification.dto;
+
+/**
+ * 알림 1건의 발송 결과
+ *
+ * @param error 실패 사유 (성공이면 null)
+ */
+public record DeliveryResult(Long notificationId, boolean delivered, String error) {
+
+    public static DeliveryResult delivered(Long notificationId) {
+        return new DeliveryResult(notificationId, true, null);
+    }
+
+    public static DeliveryResult failed(Long notificationId, String error) {
+        return new DeliveryResult(notificationId, false, error);
+    }
+}
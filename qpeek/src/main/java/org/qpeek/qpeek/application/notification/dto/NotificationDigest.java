@@ -0,0 +1,24 @@
+package org.qpeek.qpeek.application.notification.dto;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+
+import java.util.List;
+
+/**
+ * 같은 회원/채널로 묶어 한 번에 보내는 알림 묶음 (1건이면 단건 발송)
+ *
+ * @param items scheduled_at 오름차순
+ */
+public record NotificationDigest(Long memberId,
+                                 NotificationChannelType channel,
+                                 String address,
+                                 List<PendingNotification> items) {
+
+    public boolean single() {
+        return items.size() == 1;
+    }
+
+    public PendingNotification first() {
+        return items.getFirst();
+    }
+}
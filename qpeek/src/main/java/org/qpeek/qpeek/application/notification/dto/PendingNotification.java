@@ -0,0 +1,31 @@
+package org.qpeek.qpeek.application.notification.dto;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 발송 대상으로 점유(claim)한 알림
+ *
+ * @param channelAccountId 발송 채널 계정 (ChannelAccountCache 로 해석 전이거나 발송 가능한 채널 계정이 없으면 null)
+ * @param address          채널 주소/토큰 (ChannelAccountCache 로 해석 전이거나 발송 가능한 채널 계정이 없으면 null)
+ * @param taskTitle        관련 작업 제목 (작업 없는 알림이면 null)
+ * @param dueAt            관련 작업 마감 시각 (없으면 null)
+ */
+public record PendingNotification(Long notificationId,
+                                  Long memberId,
+                                  Long taskId,
+                                  NotificationType type,
+                                  NotificationChannelType channel,
+                                  OffsetDateTime scheduledAt,
+                                  Long channelAccountId,
+                                  String address,
+                                  String taskTitle,
+                                  OffsetDateTime dueAt) {
+
+    public PendingNotification withAccount(Long channelAccountId, String address) {
+        return new PendingNotification(notificationId, memberId, taskId, type, channel, scheduledAt,
+                channelAccountId, address, taskTitle, dueAt);
+    }
+}
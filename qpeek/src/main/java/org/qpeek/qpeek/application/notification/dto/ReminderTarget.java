@@ -0,0 +1,19 @@
+package org.qpeek.qpeek.application.notification.dto;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * 작업 소유자의 알림 기준 (설정이 없으면 ReminderSetting 기본값)
+ *
+ * @param channels 발송 가능한(활성 + 검증 완료) 채널
+ */
+public record ReminderTarget(Long memberId,
+                             ZoneId zone,
+                             int imminentHours,
+                             boolean notifyDayBefore,
+                             boolean notifyOnDueDay,
+                             Set<NotificationChannelType> channels) {
+}
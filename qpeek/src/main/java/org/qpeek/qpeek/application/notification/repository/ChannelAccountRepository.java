@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.application.notification.repository;
+
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountKey;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountState;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ChannelAccountRepository {
+
+    /**
+     * 여러 (회원, 채널) 계정 상태를 한 번에 조회 (단일 쿼리). 계정이 없는 키는 결과에 포함되지 않는다.
+     */
+    Map<ChannelAccountKey, ChannelAccountState> findStates(Collection<ChannelAccountKey> keys);
+}
@@ -0,0 +1,63 @@
+package org.qpeek.qpeek.application.notification.repository;
+
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.entity.Notification;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface NotificationRepository {
+
+    List<Notification> findByTask(Long taskId);
+
+    List<Notification> findAllById(Collection<Long> notificationIds);
+
+    void saveAll(Collection<Notification> notifications);
+
+    void deleteAll(Collection<Notification> notifications);
+
+    /**
+     * 작업의 미발송 알림 일괄 삭제 (단일 DELETE, dead letter 는 이력으로 남김)
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteUnsentByTask(Long taskId);
+
+    /**
+     * 여러 작업의 미발송 알림 일괄 삭제 (단일 DELETE, dead letter 는 이력으로 남김)
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteUnsentByTasks(Collection<Long> taskIds);
+
+    /**
+     * 다음 시도 시각이 된 미발송 알림(dead letter 제외)을 next_attempt_at 순으로 점유 (FOR UPDATE SKIP LOCKED, 트랜잭션 안에서 호출)
+     * <p>
+     * 채널 계정 필드(channelAccountId, address)는 비어 있으며 ChannelAccountCache 로 해석한다.
+     */
+    List<PendingNotification> claimDue(OffsetDateTime now, int limit);
+
+    /**
+     * 지정 회원들의 미발송 알림 중 다음 시도 시각이 (after, until] 인 것을 점유 (다이제스트 조기 발송용, FOR UPDATE SKIP LOCKED)
+     */
+    List<PendingNotification> claimScheduledBetween(Collection<Long> memberIds, OffsetDateTime after, OffsetDateTime until, int limit);
+
+    /**
+     * 일괄 발송 완료 처리 (단일 UPDATE). scheduled_at 은 바꾸지 않는다(예정보다 먼저 보낸 알림은 sent_at < scheduled_at).
+     */
+    int markSent(Collection<Long> notificationIds, OffsetDateTime sentAt);
+
+    /**
+     * 발송된 OVERDUE 알림의 다음 회차 예약 (작업이 열려 있고 반복 주기 > 0 인 경우만, 단일 INSERT)
+     */
+    int scheduleOverdueRepeats(Collection<Long> sentNotificationIds, OffsetDateTime now);
+
+    /**
+     * 미발송 알림의 다음 시도 시각을 건별로 미룸 (unnest 단일 UPDATE, scheduled_at 유지)
+     */
+    int deferAll(Map<Long, OffsetDateTime> nextAttemptAtById, OffsetDateTime now);
+
+    int deleteByIds(Collection<Long> notificationIds);
+}
@@ -0,0 +1,13 @@
+package org.qpeek.qpeek.application.notification.repository;
+
+import org.qpeek.qpeek.application.notification.dto.ReminderTarget;
+
+import java.util.Optional;
+
+public interface ReminderTargetRepository {
+
+    /**
+     * 작업 → 큐 → 저장소 → 회원 경로로 소유자 알림 기준 조회 (단일 조회)
+     */
+    Optional<ReminderTarget> findByTask(Long taskId);
+}
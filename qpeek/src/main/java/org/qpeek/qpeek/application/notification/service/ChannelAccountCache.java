@@ -0,0 +1,95 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountKey;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountState;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.application.notification.repository.ChannelAccountRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * (회원, 채널) → 채널 계정 상태 read-through 캐시 (노드 로컬)
+ * <p>
+ * <설계 메모>
+ * - 발송 배치마다 알림 행별로 채널 계정을 조인/조회하지 않고, 배치의 키를 모아 getAll 로 한 번에 해석.
+ *   캐시에 없는 키만 단일 쿼리(ChannelAccountRepository.findStates)로 적재한다.
+ * - 계정이 없는 키도 absent 로 캐시(반복 조회 방지). 크기 상한(maximumSize)으로 메모리 제한.
+ * - 무효화: 계정 엔티티 변경(enable/disable/updateAddressOrToken/setVerifiedAt, 생성/삭제) 커밋 이후 Hibernate 리스너가 evict.
+ * - 다른 노드의 변경, 적재 중 커밋된 변경은 expireAfterWrite 안에 반영된다.
+ * - 캐시 값은 최대 expireAfterWrite 만큼 오래되었을 수 있으므로, 되돌릴 수 없는 결정(발송 불가 알림 삭제) 전에는
+ *   resolveFresh 로 DB 를 다시 읽어 확인한다(다시 읽은 값은 캐시에도 반영).
+ */
+@Component
+public class ChannelAccountCache {
+
+    private final Cache<ChannelAccountKey, ChannelAccountState> cache;
+    private final ChannelAccountRepository channelAccountRepository;
+
+    public ChannelAccountCache(ChannelAccountRepository channelAccountRepository, ChannelAccountCacheProperties properties) {
+        this.channelAccountRepository = channelAccountRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+    }
+
+    public Map<ChannelAccountKey, ChannelAccountState> getAll(Collection<ChannelAccountKey> keys) {
+        return cache.getAll(keys, this::load);
+    }
+
+    /**
+     * 점유한 알림에 발송 가능한 채널 계정(주소/토큰)을 채운다. 발송 불가/계정 없음이면 주소는 null.
+     */
+    public List<PendingNotification> resolve(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) return notifications;
+        return resolveWith(notifications, getAll(keysOf(notifications)));
+    }
+
+    /**
+     * resolve 와 같지만 캐시를 거치지 않고 DB 에서 다시 읽는다 (다시 읽은 상태로 캐시 갱신)
+     */
+    public List<PendingNotification> resolveFresh(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) return notifications;
+        Map<ChannelAccountKey, ChannelAccountState> states = load(keysOf(notifications));
+        cache.putAll(states);
+        return resolveWith(notifications, states);
+    }
+
+    public void evict(ChannelAccountKey key) {
+        cache.invalidate(key);
+    }
+
+    private List<PendingNotification> resolveWith(List<PendingNotification> notifications,
+                                                  Map<ChannelAccountKey, ChannelAccountState> states) {
+        List<PendingNotification> resolved = new ArrayList<>(notifications.size());
+        for (PendingNotification notification : notifications) {
+            ChannelAccountState state = states.get(keyOf(notification));
+            resolved.add(state != null && state.deliverable()
+                    ? notification.withAccount(state.channelAccountId(), state.address())
+                    : notification.withAccount(null, null));
+        }
+        return resolved;
+    }
+
+    private Map<ChannelAccountKey, ChannelAccountState> load(Set<? extends ChannelAccountKey> keys) {
+        Map<ChannelAccountKey, ChannelAccountState> found = channelAccountRepository.findStates(new ArrayList<>(keys));
+        Map<ChannelAccountKey, ChannelAccountState> loaded = new HashMap<>(keys.size() * 2);
+        for (ChannelAccountKey key : keys) {
+            loaded.put(key, found.getOrDefault(key, ChannelAccountState.absent()));
+        }
+        return loaded;
+    }
+
+    private static Set<ChannelAccountKey> keysOf(List<PendingNotification> notifications) {
+        Set<ChannelAccountKey> keys = new HashSet<>();
+        notifications.forEach(notification -> keys.add(keyOf(notification)));
+        return keys;
+    }
+
+    private static ChannelAccountKey keyOf(PendingNotification notification) {
+        return new ChannelAccountKey(notification.memberId(), notification.channel());
+    }
+}
@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize      캐시에 보관하는 최대 (회원, 채널) 수
+ * @param expireAfterWrite 적재 후 만료 시간 (다른 노드에서의 변경/JDBC 일괄 변경이 반영되는 최대 지연)
+ */
+@ConfigurationProperties(prefix = "qpeek.notification.account-cache")
+public record ChannelAccountCacheProperties(@DefaultValue("100000") long maximumSize,
+                                            @DefaultValue("5m") Duration expireAfterWrite) {
+}
@@ -0,0 +1,43 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+
+import java.util.*;
+
+/**
+ * 점유한 알림을 (회원, 채널) 단위 다이제스트로 묶음
+ * - 다이제스트 순서는 각 묶음의 가장 이른 scheduled_at 순, 묶음 안은 scheduled_at 순.
+ * - maxItems 를 넘으면 여러 다이제스트로 나눈다(채널 메시지 길이 제한).
+ */
+public final class NotificationCoalescer {
+
+    private NotificationCoalescer() {
+    }
+
+    public static List<NotificationDigest> coalesce(List<PendingNotification> notifications, int maxItems) {
+        if (maxItems < 1) throw new IllegalArgumentException("maxItems must be >= 1");
+
+        List<PendingNotification> sorted = new ArrayList<>(notifications);
+        sorted.sort(Comparator.comparing(PendingNotification::scheduledAt).thenComparing(PendingNotification::notificationId));
+
+        Map<Group, List<PendingNotification>> groups = new LinkedHashMap<>();
+        for (PendingNotification notification : sorted) {
+            groups.computeIfAbsent(new Group(notification.memberId(), notification.channel()), key -> new ArrayList<>())
+                    .add(notification);
+        }
+
+        List<NotificationDigest> digests = new ArrayList<>(groups.size());
+        groups.forEach((group, items) -> {
+            for (int from = 0; from < items.size(); from += maxItems) {
+                List<PendingNotification> chunk = List.copyOf(items.subList(from, Math.min(from + maxItems, items.size())));
+                digests.add(new NotificationDigest(group.memberId(), group.channel(), chunk.getFirst().address(), chunk));
+            }
+        });
+        return digests;
+    }
+
+    private record Group(Long memberId, NotificationChannelType channel) {
+    }
+}
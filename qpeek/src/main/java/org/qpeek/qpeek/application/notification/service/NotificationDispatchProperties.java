@@ -0,0 +1,27 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled          발송기 사용 여부
+ * @param batchSize        한 번에 점유(claim)하는 알림 수
+ * @param maxBatchesPerRun 한 주기에 연속 처리하는 최대 배치 수 (배치가 가득 찬 동안 계속)
+ * @param digestWindow     다이제스트로 함께 보낼 수 있는 조기 발송 구간 (0 이면 이미 도래한 알림끼리만 묶음)
+ * @param digestMaxItems   다이제스트 1건에 담는 최대 알림 수
+ * @param maxAttempts      알림 1건의 최대 발송 시도 횟수 (도달하면 dead letter)
+ * @param retryBaseDelay   첫 실패 후 재시도 지연 상한 (실패마다 2배, full jitter)
+ * @param retryMaxDelay    재시도 지연 상한의 최댓값
+ */
+@ConfigurationProperties(prefix = "qpeek.notification.dispatch")
+public record NotificationDispatchProperties(@DefaultValue("true") boolean enabled,
+                                             @DefaultValue("100") int batchSize,
+                                             @DefaultValue("20") int maxBatchesPerRun,
+                                             @DefaultValue("5m") Duration digestWindow,
+                                             @DefaultValue("50") int digestMaxItems,
+                                             @DefaultValue("8") int maxAttempts,
+                                             @DefaultValue("30s") Duration retryBaseDelay,
+                                             @DefaultValue("1h") Duration retryMaxDelay) {
+}
@@ -0,0 +1,203 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.notification.client.NotificationSender;
+import org.qpeek.qpeek.application.notification.dto.DeliveryResult;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.application.notification.repository.NotificationRepository;
+import org.qpeek.qpeek.domain.notification.entity.Notification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.notification.service.DeliveryBackoff;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 알림 발송기 (다중 노드 outbox)
+ * <p>
+ * <정책>
+ * - sent_at IS NULL AND next_attempt_at <= now 인 알림을 next_attempt_at 순으로 batchSize 만큼 점유 → 발송 → 일괄 sent 처리.
+ * - 발송 실패 건은 시도 횟수/사유를 기록하고 지수 백오프(full jitter) 후로 다음 시도를 미룬다(scheduled_at 은 계획 슬롯으로 유지).
+ *   maxAttempts 에 도달하면 dead letter 로 전환되어 더 이상 점유되지 않는다(발송 대기 인덱스에서도 제외).
+ * - 발송 가능한 채널 계정이 사라진 알림은 발송하지 않고 삭제.
+ *   채널 계정은 ChannelAccountCache 에서 배치 단위로 해석(캐시 미스만 다중 키 단일 조회).
+ *   캐시로 발송 불가가 된 알림만 DB 에서 계정을 다시 읽어 확인한 뒤 삭제한다(다른 노드에서 만든 계정의 오래된 '없음' 캐시로 지우지 않도록).
+ * - 같은 (회원, 채널)의 알림은 다이제스트 1건으로 묶어 외부 호출 1회로 보낸다.
+ *   배치에 포함된 (회원, 채널)에 대해서는 digestWindow 안에 예정된 알림도 함께 점유해 조기 발송(scheduled_at 은 계획 슬롯으로 유지, sent_at < scheduled_at).
+ * - 다이제스트마다 채널 유형/채널 계정 토큰 버킷을 확인. 허용되지 않으면 실패로 보지 않고 다음 시도 시각을 다음 토큰 시각으로 미룬다.
+ * - OVERDUE 발송 후 작업이 아직 열려 있고 overdueIntervalHours > 0 이면 다음 회차를 예약.
+ * <p>
+ * <설계 메모>
+ * - FOR UPDATE SKIP LOCKED: 노드마다 서로 다른 행을 가져가므로 중복 발송/단일 노드 병목 없이 노드 수에 비례해 처리량 증가.
+ * - 점유~sent 처리까지 한 트랜잭션. 노드가 죽으면 잠금이 풀려 다른 노드가 다시 점유한다(최소 1회 발송).
+ * - 배치 안의 발송은 NotificationSender 가 채널별로 병렬 처리(가상 스레드)하고 전부 끝난 뒤 결과를 받는다.
+ * - 배치가 가득 차 있으면 같은 주기 안에서 maxBatchesPerRun 까지 연속 처리.
+ * - 실패 처리는 드문 경로이므로 엔티티(Notification.recordFailure)로 도메인 규칙을 적용하고, 성공 처리는 단일 UPDATE 로 일괄 반영.
+ * - 역압(backpressure): 속도 제한에 걸린 배치가 있으면 점유 크기를 절반으로 줄이고 이번 주기를 끝낸다(AIMD).
+ *   포화된 채널 때문에 잠근 행을 다시 미루는 일을 줄이고, 다른 노드/채널이 처리할 여지를 남긴다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.notification.dispatch", name = "enabled", matchIfMissing = true)
+public class NotificationDispatcher {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationSender notificationSender;
+    private final ChannelAccountCache channelAccountCache;
+    private final NotificationRateLimiter notificationRateLimiter;
+    private final NotificationDispatchProperties properties;
+    private final NotificationRateLimitProperties rateLimitProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private volatile int claimSize;
+
+    public NotificationDispatcher(NotificationRepository notificationRepository,
+                                  NotificationSender notificationSender,
+                                  ChannelAccountCache channelAccountCache,
+                                  NotificationRateLimiter notificationRateLimiter,
+                                  NotificationDispatchProperties properties,
+                                  NotificationRateLimitProperties rateLimitProperties,
+                                  TransactionTemplate transactionTemplate,
+                                  Clock clock) {
+        this.notificationRepository = notificationRepository;
+        this.notificationSender = notificationSender;
+        this.channelAccountCache = channelAccountCache;
+        this.notificationRateLimiter = notificationRateLimiter;
+        this.properties = properties;
+        this.rateLimitProperties = rateLimitProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.claimSize = properties.batchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.notification.dispatch.poll-interval:1s}")
+    public void dispatch() {
+        for (int run = 0; run < properties.maxBatchesPerRun(); run++) {
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> dispatchBatch()))) return;
+        }
+    }
+
+    /**
+     * @return 같은 주기 안에서 다음 배치를 이어서 처리할지 여부 (배치가 가득 찼고 속도 제한에 걸리지 않음)
+     */
+    private boolean dispatchBatch() {
+        int limit = claimSize;
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<PendingNotification> claimed = channelAccountCache.resolve(notificationRepository.claimDue(now, limit));
+        if (claimed.isEmpty()) {
+            adjustClaimSize(false);
+            return false;
+        }
+
+        List<PendingNotification> deliverable = new ArrayList<>();
+        List<PendingNotification> unresolved = new ArrayList<>();
+        for (PendingNotification notification : claimed) {
+            (notification.address() == null ? unresolved : deliverable).add(notification);
+        }
+        List<Long> undeliverable = new ArrayList<>();
+        for (PendingNotification notification : channelAccountCache.resolveFresh(unresolved)) {
+            if (notification.address() == null) undeliverable.add(notification.notificationId());
+            else deliverable.add(notification);
+        }
+        deliverable.addAll(claimWithinDigestWindow(deliverable, now));
+
+        Map<Long, PendingNotification> byId = new HashMap<>();
+        deliverable.forEach(notification -> byId.put(notification.notificationId(), notification));
+        List<NotificationDigest> digests = NotificationCoalescer.coalesce(deliverable, properties.digestMaxItems());
+
+        List<NotificationDigest> permitted = new ArrayList<>(digests.size());
+        Map<Long, OffsetDateTime> throttled = new HashMap<>();
+        for (NotificationDigest digest : digests) {
+            Duration wait = notificationRateLimiter.tryAcquire(digest.channel(), digest.first().channelAccountId());
+            if (wait.isZero()) {
+                permitted.add(digest);
+            } else {
+                OffsetDateTime retryAt = now.plus(wait).truncatedTo(ChronoUnit.MILLIS).plus(1, ChronoUnit.MILLIS);
+                digest.items().forEach(item -> throttled.put(item.notificationId(), retryAt));
+            }
+        }
+
+        List<Long> sent = new ArrayList<>();
+        List<Long> overdueSent = new ArrayList<>();
+        Map<Long, String> failed = new HashMap<>();
+        for (DeliveryResult result : notificationSender.sendAll(permitted)) {
+            PendingNotification notification = byId.get(result.notificationId());
+            if (!result.delivered()) {
+                log.warn("notification send failed. id={}, channel={}, error={}",
+                        result.notificationId(), notification.channel(), result.error());
+                failed.put(result.notificationId(), result.error());
+                continue;
+            }
+            sent.add(result.notificationId());
+            if (notification.type() == NotificationType.OVERDUE) overdueSent.add(result.notificationId());
+        }
+
+        notificationRepository.markSent(sent, now);
+        notificationRepository.scheduleOverdueRepeats(overdueSent, now);
+        notificationRepository.deferAll(throttled, now);
+        notificationRepository.deleteByIds(undeliverable);
+        recordFailures(failed, now);
+        log.debug("notification batch dispatched. claimed={}, digests={}, sent={}, failed={}, throttled={}",
+                claimed.size(), digests.size(), sent.size(), failed.size(), throttled.size());
+
+        adjustClaimSize(!throttled.isEmpty());
+        return claimed.size() == limit && throttled.isEmpty();
+    }
+
+    /**
+     * 실패 건 시도 횟수/사유 기록 → 백오프 재스케줄 또는 dead letter (점유한 행이므로 같은 트랜잭션에서 갱신)
+     */
+    private void recordFailures(Map<Long, String> failed, OffsetDateTime now) {
+        if (failed.isEmpty()) return;
+        DeliveryBackoff backoff = DeliveryBackoff.of(properties.maxAttempts(),
+                properties.retryBaseDelay(), properties.retryMaxDelay(), ThreadLocalRandom.current());
+        for (Notification notification : notificationRepository.findAllById(failed.keySet())) {
+            if (!notification.recordFailure(failed.get(notification.getId()), now, backoff)) {
+                log.error("notification dead-lettered. id={}, channel={}, attempts={}, lastError={}",
+                        notification.getId(), notification.getChannel(), notification.getAttemptCount(), notification.getLastError());
+            }
+        }
+    }
+
+    /**
+     * AIMD: 속도 제한에 걸리면 점유 크기를 절반으로, 아니면 batchSize 까지 조금씩 늘린다.
+     */
+    private void adjustClaimSize(boolean saturated) {
+        int current = claimSize;
+        claimSize = saturated
+                ? Math.max(rateLimitProperties.minClaimSize(), current / 2)
+                : Math.min(properties.batchSize(), current + Math.max(1, properties.batchSize() / 10));
+    }
+
+    /**
+     * 배치에 포함된 (회원, 채널)의 알림 중 digestWindow 안에 예정된 것을 함께 점유 (조기 발송)
+     */
+    private List<PendingNotification> claimWithinDigestWindow(List<PendingNotification> due, OffsetDateTime now) {
+        if (due.isEmpty() || properties.digestWindow().isZero()) return List.of();
+        Set<Long> memberIds = new LinkedHashSet<>();
+        due.forEach(notification -> memberIds.add(notification.memberId()));
+        Set<DigestGroup> groups = new HashSet<>();
+        due.forEach(notification -> groups.add(new DigestGroup(notification.memberId(), notification.channel())));
+
+        List<PendingNotification> early = notificationRepository.claimScheduledBetween(
+                memberIds, now, now.plus(properties.digestWindow()), properties.batchSize());
+        return channelAccountCache.resolve(early).stream()
+                .filter(notification -> notification.address() != null)
+                .filter(notification -> groups.contains(new DigestGroup(notification.memberId(), notification.channel())))
+                .toList();
+    }
+
+    private record DigestGroup(Long memberId, NotificationChannelType channel) {
+    }
+}
@@ -0,0 +1,47 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 노드 단위 발송 속도 제한 (노드 N 대면 전체 허용량은 N 배)
+ *
+ * @param channelPerSecond 채널 유형 전체 기본 초당 허용 수
+ * @param channelBurst     채널 유형 전체 기본 연속 허용 수
+ * @param channels         채널 유형별 제한 (예: qpeek.notification.rate-limit.channels.kakao.per-second=20)
+ * @param accountPerSecond 채널 계정(웹훅/토큰) 1개 기본 초당 허용 수
+ * @param accountBurst     채널 계정 1개 기본 연속 허용 수
+ * @param accounts         채널 유형별 계정 제한 (예: Slack 웹훅은 초당 1건)
+ * @param accountCapacity  메모리에 유지하는 계정 버킷 수
+ * @param minClaimSize     포화 시 줄어드는 점유 크기의 하한
+ */
+@ConfigurationProperties(prefix = "qpeek.notification.rate-limit")
+public record NotificationRateLimitProperties(@DefaultValue("50") double channelPerSecond,
+                                              @DefaultValue("50") int channelBurst,
+                                              Map<NotificationChannelType, Rate> channels,
+                                              @DefaultValue("1") double accountPerSecond,
+                                              @DefaultValue("5") int accountBurst,
+                                              Map<NotificationChannelType, Rate> accounts,
+                                              @DefaultValue("100000") long accountCapacity,
+                                              @DefaultValue("10") int minClaimSize) {
+
+    public Rate channelRate(NotificationChannelType channel) {
+        Rate fallback = new Rate(channelPerSecond, channelBurst);
+        return channels == null ? fallback : channels.getOrDefault(channel, fallback);
+    }
+
+    public Rate accountRate(NotificationChannelType channel) {
+        Rate fallback = new Rate(accountPerSecond, accountBurst);
+        return accounts == null ? fallback : accounts.getOrDefault(channel, fallback);
+    }
+
+    /**
+     * @param perSecond 초당 보충 토큰 수
+     * @param burst     최대 연속 허용 수
+     */
+    public record Rate(double perSecond, int burst) {
+    }
+}
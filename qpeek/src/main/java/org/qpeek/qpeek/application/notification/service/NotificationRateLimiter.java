@@ -0,0 +1,62 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.qpeek.qpeek.common.ratelimit.TokenBucket;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 채널 유형 + 채널 계정(ReminderChannelAccount) 2단계 토큰 버킷
+ * <p>
+ * <설계 메모>
+ * - 채널 유형 버킷 → 계정 버킷 순으로 확인. 계정 버킷이 거절하면 채널 유형 토큰은 반환(refund).
+ * - 계정 버킷은 Caffeine 에 보관(최근 사용 기준 만료). 버킷 자체는 lock-free.
+ * - 단조 시계(System.nanoTime) 기준. 반환값은 다음 시도까지의 대기 시간.
+ */
+@Component
+public class NotificationRateLimiter {
+
+    private final NotificationRateLimitProperties properties;
+    private final Map<NotificationChannelType, TokenBucket> channelBuckets = new EnumMap<>(NotificationChannelType.class);
+    private final Cache<Long, TokenBucket> accountBuckets;
+
+    public NotificationRateLimiter(NotificationRateLimitProperties properties) {
+        this.properties = properties;
+        long now = System.nanoTime();
+        for (NotificationChannelType channel : NotificationChannelType.values()) {
+            NotificationRateLimitProperties.Rate rate = properties.channelRate(channel);
+            channelBuckets.put(channel, new TokenBucket(rate.perSecond(), rate.burst(), now));
+        }
+        this.accountBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.accountCapacity())
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    /**
+     * @return Duration.ZERO 면 발송 허용(토큰 소비), 아니면 다시 시도할 때까지의 대기 시간
+     */
+    public Duration tryAcquire(NotificationChannelType channel, Long channelAccountId) {
+        long now = System.nanoTime();
+        TokenBucket channelBucket = channelBuckets.get(channel);
+        long wait = channelBucket.tryAcquire(now);
+        if (wait > 0) return Duration.ofNanos(wait);
+        if (channelAccountId == null) return Duration.ZERO;
+
+        TokenBucket accountBucket = accountBuckets.get(channelAccountId, id -> {
+            NotificationRateLimitProperties.Rate rate = properties.accountRate(channel);
+            return new TokenBucket(rate.perSecond(), rate.burst(), now);
+        });
+        wait = accountBucket.tryAcquire(now);
+        if (wait > 0) {
+            channelBucket.refund(now);
+            return Duration.ofNanos(wait);
+        }
+        return Duration.ZERO;
+    }
+}
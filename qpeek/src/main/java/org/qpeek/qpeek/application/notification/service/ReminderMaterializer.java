@@ -0,0 +1,136 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.member.repository.MemberRepository;
+import org.qpeek.qpeek.application.notification.dto.ReminderTarget;
+import org.qpeek.qpeek.application.notification.repository.NotificationRepository;
+import org.qpeek.qpeek.application.notification.repository.ReminderTargetRepository;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.qpeek.qpeek.domain.notification.entity.Notification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.notification.service.ReminderPlan;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusesChanged;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * 작업 마감/상태 변경 → 알림(Notification) 행 증분 반영
+ * <p>
+ * <정책>
+ * - 마감 변경(열린 작업): ReminderPlan 으로 원하는 (유형, 채널, 시각)을 계산해 미발송 알림과 비교.
+ *   같은 (유형, 채널)이 있으면 시각이 다를 때만 reschedule, 더 이상 필요 없으면 삭제, 없던 것만 생성.
+ * - 이미 발송됐거나 dead letter 가 된 알림과 같은 (유형, 채널, 시각)은 다시 만들지 않는다.
+ * - 완료/휴지통 등으로 닫히거나 마감이 해제되면 미발송 알림을 일괄 삭제. 다시 열리면 재계산.
+ * <p>
+ * <설계 메모>
+ * - 발행 트랜잭션 안에서 동기 처리(작업 변경과 알림 변경이 함께 커밋/롤백).
+ * - 야간 전체 재생성 대신 변경된 작업의 행만 갱신하므로 쓰기량이 실제 변경량에 비례.
+ * - 일괄 전이(TaskStatusesChanged)로 닫힌 작업들의 미발송 알림은 한 문장으로 삭제.
+ * - 소유자/설정/채널은 단일 조회(ReminderTargetRepository)로 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderMaterializer {
+
+    private static final Set<NotificationType> TASK_TYPES = EnumSet.of(
+            NotificationType.BEFORE_DAY, NotificationType.IMMINENT, NotificationType.DUE, NotificationType.OVERDUE);
+
+    private final NotificationRepository notificationRepository;
+    private final ReminderTargetRepository reminderTargetRepository;
+    private final TaskRepository taskRepository;
+    private final MemberRepository memberRepository;
+    private final Clock clock;
+
+    @EventListener
+    public void onDueChanged(TaskDueChanged event) {
+        if (!event.status().isOpen()) return;
+        if (event.dueAt() == null) {
+            notificationRepository.deleteUnsentByTask(event.taskId());
+            return;
+        }
+        materialize(event.taskId(), event.dueAt());
+    }
+
+    @EventListener
+    public void onStatusChanged(TaskStatusChanged event) {
+        if (event.closed()) {
+            notificationRepository.deleteUnsentByTask(event.taskId());
+        } else if (event.opened() && event.dueAt() != null) {
+            materialize(event.taskId(), event.dueAt());
+        }
+    }
+
+    @EventListener
+    public void onStatusesChanged(TaskStatusesChanged event) {
+        List<Long> closed = new ArrayList<>();
+        for (TaskStatusChanged change : event.changes()) {
+            if (change.closed()) closed.add(change.taskId());
+            else if (change.opened() && change.dueAt() != null) materialize(change.taskId(), change.dueAt());
+        }
+        if (!closed.isEmpty()) notificationRepository.deleteUnsentByTasks(closed);
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private void materialize(Long taskId, OffsetDateTime dueAt) {
+        ReminderTarget target = reminderTargetRepository.findByTask(taskId).orElse(null);
+        if (target == null) return;
+
+        Map<NotificationType, OffsetDateTime> plan = ReminderPlan.of(dueAt, target.zone(), target.imminentHours(),
+                target.notifyDayBefore(), target.notifyOnDueDay(), OffsetDateTime.now(clock));
+
+        Set<Slot> pending = new HashSet<>();
+        Set<SentSlot> sent = new HashSet<>();
+        List<Notification> removed = new ArrayList<>();
+        for (Notification notification : notificationRepository.findByTask(taskId)) {
+            if (!TASK_TYPES.contains(notification.getType())) continue;
+            Slot slot = new Slot(notification.getType(), notification.getChannel());
+            if (notification.getSentAt() != null || notification.isDeadLettered()) {
+                sent.add(new SentSlot(slot, notification.getScheduledAt().toInstant()));
+                continue;
+            }
+            OffsetDateTime desired = target.channels().contains(slot.channel()) ? plan.get(slot.type()) : null;
+            if (desired == null || !pending.add(slot)) {
+                removed.add(notification); // 더 이상 필요 없거나 중복
+            } else if (!desired.isEqual(notification.getScheduledAt())) {
+                notification.reschedule(desired);
+            }
+        }
+
+        List<Notification> created = new ArrayList<>();
+        Member member = null;
+        Task task = null;
+        for (NotificationChannelType channel : target.channels()) {
+            for (Map.Entry<NotificationType, OffsetDateTime> entry : plan.entrySet()) {
+                Slot slot = new Slot(entry.getKey(), channel);
+                if (pending.contains(slot) || sent.contains(new SentSlot(slot, entry.getValue().toInstant()))) continue;
+                if (member == null) {
+                    member = memberRepository.getReference(target.memberId());
+                    task = taskRepository.getReference(taskId);
+                }
+                created.add(Notification.scheduleForTask(entry.getKey(), channel, entry.getValue(), member, task));
+            }
+        }
+
+        if (!removed.isEmpty()) notificationRepository.deleteAll(removed);
+        if (!created.isEmpty()) notificationRepository.saveAll(created);
+    }
+
+    private record Slot(NotificationType type, NotificationChannelType channel) {
+    }
+
+    private record SentSlot(Slot slot, Instant scheduledAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package org.qpeek.qpeek.application.queue.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 저장소 내 큐 목록 항목
+ */
+public record TaskQueueListView(Long queueId,
+                                String name,
+                                String description,
+                                int maxTasks,
+                                OffsetDateTime createdAt) {
+}
@@ -0,0 +1,44 @@
+package org.qpeek.qpeek.application.queue.repository;
+
+import org.qpeek.qpeek.application.queue.dto.TaskQueueListView;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface TaskQueueRepository {
+
+    boolean existsById(Long queueId);
+
+    /**
+     * 조회 없이 식별자만 가진 참조(프록시) 반환
+     */
+    TaskQueue getReference(Long queueId);
+
+    /**
+     * 열린 작업 슬롯 1개를 원자적으로 예약 (active_task_count < max_tasks 인 경우에만 증가)
+     *
+     * @return 예약 성공 여부 (큐가 가득 찼거나 존재하지 않으면 false)
+     */
+    boolean tryReserveSlot(Long queueId);
+
+    /**
+     * 열린 작업 슬롯 1개 반환 (0 미만으로 내려가지 않음)
+     */
+    void releaseSlot(Long queueId);
+
+    /**
+     * 열린 작업 슬롯 count 개를 원자적으로 예약 (모두 들어갈 때만 증가)
+     */
+    boolean tryReserveSlots(Long queueId, int count);
+
+    /**
+     * 열린 작업 슬롯 count 개 반환 (0 미만으로 내려가지 않음)
+     */
+    void releaseSlots(Long queueId, int count);
+
+    /**
+     * 저장소의 큐를 (created_at, queue_id) 순으로 keyset 조회. afterCreatedAt 이 null 이면 첫 페이지.
+     */
+    List<TaskQueueListView> findPageByDatabase(Long databaseId, OffsetDateTime afterCreatedAt, Long afterQueueId, int limit);
+}
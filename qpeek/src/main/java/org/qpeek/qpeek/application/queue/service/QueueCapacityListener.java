@@ -0,0 +1,51 @@
+package org.qpeek.qpeek.application.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.queue.repository.TaskQueueRepository;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusesChanged;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업 상태 전이에 맞춰 queues.active_task_count 증감
+ * <p>
+ * <설계 메모>
+ * - 발행 트랜잭션 안에서 동기 처리하므로 상태 변경과 카운터 변경은 함께 커밋/롤백된다.
+ * - 닫힌 작업을 다시 여는 경우(reopen)도 용량을 예약해야 하며, 가득 찼으면 예외로 전체 변경을 롤백한다.
+ * - 일괄 전이(TaskStatusesChanged)는 큐별 순증감으로 합쳐 큐마다 UPDATE 1회. 예약은 전부 들어갈 때만 성공한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueCapacityListener {
+
+    private final TaskQueueRepository taskQueueRepository;
+
+    @EventListener
+    public void onStatusChanged(TaskStatusChanged event) {
+        if (event.closed()) {
+            taskQueueRepository.releaseSlot(event.queueId());
+        } else if (event.opened() && !taskQueueRepository.tryReserveSlot(event.queueId())) {
+            throw new IllegalStateException("policy: queue is full");
+        }
+    }
+
+    @EventListener
+    public void onStatusesChanged(TaskStatusesChanged event) {
+        Map<Long, Integer> deltas = new TreeMap<>(); // 큐 순서 고정 (동시 일괄 전이 간 교착 방지)
+        for (TaskStatusChanged change : event.changes()) {
+            if (change.closed()) deltas.merge(change.queueId(), -1, Integer::sum);
+            else if (change.opened()) deltas.merge(change.queueId(), 1, Integer::sum);
+        }
+        deltas.forEach((queueId, delta) -> {
+            if (delta < 0) {
+                taskQueueRepository.releaseSlots(queueId, -delta);
+            } else if (delta > 0 && !taskQueueRepository.tryReserveSlots(queueId, delta)) {
+                throw new IllegalStateException("policy: queue is full");
+            }
+        });
+    }
+}
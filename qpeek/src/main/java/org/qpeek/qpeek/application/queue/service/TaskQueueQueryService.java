@@ -0,0 +1,52 @@
+package org.qpeek.qpeek.application.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.queue.dto.TaskQueueListView;
+import org.qpeek.qpeek.application.queue.repository.TaskQueueRepository;
+import org.qpeek.qpeek.common.pagination.CursorPage;
+import org.qpeek.qpeek.common.pagination.KeysetCursor;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 큐 조회 유스케이스
+ * <p>
+ * <설계 메모>
+ * - 저장소 내 큐 목록은 (created_at, queue_id) keyset 페이징. 커서 = (createdAt, queueId).
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskQueueQueryService {
+
+    private final TaskQueueRepository taskQueueRepository;
+
+    public CursorPage<TaskQueueListView> listQueues(Long databaseId, String cursor, int size) {
+        if (databaseId == null) throw new IllegalArgumentException("databaseId is null");
+        CursorPage.validSize(size);
+
+        List<String> keys = KeysetCursor.decode(cursor, 2);
+        List<TaskQueueListView> fetched = keys == null
+                ? taskQueueRepository.findPageByDatabase(databaseId, null, null, size + 1)
+                : taskQueueRepository.findPageByDatabase(databaseId, parseTime(keys.get(0)), parseId(keys.get(1)), size + 1);
+        return CursorPage.of(fetched, size, last -> KeysetCursor.encode(last.createdAt(), last.queueId()));
+    }
+
+    private static OffsetDateTime parseTime(String value) {
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (NullPointerException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+}
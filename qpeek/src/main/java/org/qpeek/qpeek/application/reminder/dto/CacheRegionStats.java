@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.application.reminder.dto;
+
+/**
+ * 2차 캐시 영역 통계 (애플리케이션 기동 이후 누적, 현재 노드)
+ *
+ * @param elementCount 현재 노드 메모리에 있는 엔트리 수 (알 수 없으면 음수)
+ * @param hitRatio     hit / (hit + miss), 조회가 없으면 0
+ */
+public record CacheRegionStats(String region,
+                               long hitCount,
+                               long missCount,
+                               long putCount,
+                               long elementCount,
+                               double hitRatio) {
+
+    public static CacheRegionStats of(String region, long hitCount, long missCount, long putCount, long elementCount) {
+        long lookups = hitCount + missCount;
+        return new CacheRegionStats(region, hitCount, missCount, putCount, elementCount,
+                lookups == 0 ? 0.0 : (double) hitCount / lookups);
+    }
+}
@@ -0,0 +1,16 @@
+package org.qpeek.qpeek.application.reminder.repository;
+
+import org.qpeek.qpeek.application.reminder.dto.CacheRegionStats;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+
+import java.util.Optional;
+
+public interface ReminderSettingRepository {
+
+    /**
+     * 회원 알림 설정 (2차 캐시 영역 우선)
+     */
+    Optional<ReminderSetting> findByMemberId(Long memberId);
+
+    CacheRegionStats cacheStatistics();
+}
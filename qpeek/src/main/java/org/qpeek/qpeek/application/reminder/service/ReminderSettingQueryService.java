@@ -0,0 +1,20 @@
+package org.qpeek.qpeek.application.reminder.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.reminder.dto.CacheRegionStats;
+import org.qpeek.qpeek.application.reminder.repository.ReminderSettingRepository;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ReminderSettingQueryService {
+
+    private final ReminderSettingRepository reminderSettingRepository;
+
+    /**
+     * ReminderSetting 2차 캐시 영역 hit/miss 통계 (현재 노드)
+     */
+    public CacheRegionStats cacheStatistics() {
+        return reminderSettingRepository.cacheStatistics();
+    }
+}
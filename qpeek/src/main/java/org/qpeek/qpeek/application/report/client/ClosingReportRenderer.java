@@ -0,0 +1,28 @@
+package org.qpeek.qpeek.application.report.client;
+
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+
+import java.io.OutputStream;
+
+/**
+ * 데일리 클로징 리포트 PDF 렌더러
+ * - open 에서 머리말(날짜, 완료/미완료 수)을 쓰고, 완료 내역은 add 로 1행씩 흘려 쓴다.
+ * - 채워진 페이지는 바로 out 에 기록되므로 메모리 사용량은 행 수와 무관하다.
+ * - out 은 닫지 않는다(호출 측 소유).
+ */
+public interface ClosingReportRenderer {
+
+    ReportDocument open(PendingReportPdf report, OutputStream out);
+
+    interface ReportDocument extends AutoCloseable {
+
+        void add(CompletionLine line);
+
+        /**
+         * 문서 마무리(남은 페이지, 상호 참조 표 기록)
+         */
+        @Override
+        void close();
+    }
+}
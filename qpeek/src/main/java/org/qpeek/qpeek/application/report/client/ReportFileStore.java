@@ -0,0 +1,24 @@
+package org.qpeek.qpeek.application.report.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 리포트 파일 저장소 (외부 시스템)
+ * - writer 가 스트림에 직접 흘려 쓴다(파일 전체를 메모리에 올리지 않음).
+ * - writer 가 예외 없이 끝난 경우에만 key 위치에 원자적으로 게시하고, 실패하면 쓰던 내용을 버린다.
+ * - 같은 key 로 다시 저장하면 덮어쓴다.
+ */
+public interface ReportFileStore {
+
+    /**
+     * @return 게시된 파일의 URL
+     * @throws java.io.UncheckedIOException 저장 실패
+     */
+    String store(String key, ContentWriter writer);
+
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
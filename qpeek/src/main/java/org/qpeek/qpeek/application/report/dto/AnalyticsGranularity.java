@@ -0,0 +1,23 @@
+package org.qpeek.qpeek.application.report.dto;
+
+import java.time.Period;
+
+/**
+ * 완료 분석 버킷 단위와 1회 조회 가능한 최대 구간
+ * - HOUR: UTC 시각 경계(completion_rollup_hourly), DAY/WEEK: 회원 현지 날짜(completion_rollup_daily, 주는 월요일 시작)
+ */
+public enum AnalyticsGranularity {
+    HOUR(Period.ofDays(31)),
+    DAY(Period.ofDays(366)),
+    WEEK(Period.ofYears(3));
+
+    private final Period maxRange;
+
+    AnalyticsGranularity(Period maxRange) {
+        this.maxRange = maxRange;
+    }
+
+    public Period maxRange() {
+        return maxRange;
+    }
+}
@@ -0,0 +1,16 @@
+package org.qpeek.qpeek.application.report.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 분석 응답 버킷
+ *
+ * @param averageProgress 완료 시점 진행률 평균 (0 ~ 100)
+ */
+public record CompletionBucket(OffsetDateTime start, int completedCount, double averageProgress) {
+
+    public static CompletionBucket of(CompletionRollup rollup) {
+        return new CompletionBucket(rollup.start(), rollup.completedCount(),
+                (double) rollup.progressSum() / rollup.completedCount());
+    }
+}
@@ -0,0 +1,12 @@
+package org.qpeek.qpeek.application.report.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 리포트 PDF 의 완료 내역 1행 (completion_logs 1건)
+ */
+public record CompletionLine(OffsetDateTime completedAt,
+                             String queueName,
+                             String title,
+                             int progress) {
+}
@@ -0,0 +1,11 @@
+package org.qpeek.qpeek.application.report.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 롤업 버킷 1개 (완료 수, 완료 시 진행률 합)
+ *
+ * @param start 버킷 시작 (DAY/WEEK 는 회원 현지 날짜의 0시)
+ */
+public record CompletionRollup(OffsetDateTime start, int completedCount, long progressSum) {
+}
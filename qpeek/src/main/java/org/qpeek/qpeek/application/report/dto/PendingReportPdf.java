@@ -0,0 +1,34 @@
+package org.qpeek.qpeek.application.report.dto;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+/**
+ * PDF 생성을 위해 점유(claim)한 리포트
+ *
+ * @param version  점유 시점의 리포트 버전 (렌더링 중 클로징이 다시 갱신했으면 URL 을 붙이지 않는다)
+ * @param zoneId   회원 시간대 (그 날의 범위와 완료 시각 표기 기준)
+ */
+public record PendingReportPdf(Long reportId,
+                               Long version,
+                               Long memberId,
+                               LocalDate reportDate,
+                               ZoneId zoneId,
+                               int completedCount,
+                               int incompleteCount) {
+
+    /**
+     * 그 날(현지) 시작 시각
+     */
+    public OffsetDateTime dayStart() {
+        return reportDate.atStartOfDay(zoneId).toOffsetDateTime();
+    }
+
+    /**
+     * 다음 날(현지) 시작 시각 (배타)
+     */
+    public OffsetDateTime dayEnd() {
+        return reportDate.plusDays(1).atStartOfDay(zoneId).toOffsetDateTime();
+    }
+}
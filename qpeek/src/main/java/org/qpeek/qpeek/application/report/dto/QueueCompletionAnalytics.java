@@ -0,0 +1,25 @@
+package org.qpeek.qpeek.application.report.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 큐 완료 분석 (롤업 기반)
+ *
+ * @param zoneId          날짜 해석 기준 (큐 소유 회원 시간대)
+ * @param averageProgress 구간 전체 완료 시점 진행률 평균 (완료가 없으면 null)
+ * @param currentStreak   오늘(또는 어제)까지 이어지는 연속 완료 일수
+ * @param longestStreak   최근 streak 구간(1년) 안의 최장 연속 완료 일수
+ * @param buckets         완료가 있는 버킷만 시작 시각 순 (빈 버킷은 생략)
+ */
+public record QueueCompletionAnalytics(Long queueId,
+                                       AnalyticsGranularity granularity,
+                                       LocalDate from,
+                                       LocalDate to,
+                                       String zoneId,
+                                       long totalCompleted,
+                                       Double averageProgress,
+                                       int currentStreak,
+                                       int longestStreak,
+                                       List<CompletionBucket> buckets) {
+}
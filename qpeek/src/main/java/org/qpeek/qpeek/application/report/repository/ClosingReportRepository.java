@@ -0,0 +1,47 @@
+package org.qpeek.qpeek.application.report.repository;
+
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+import org.qpeek.qpeek.domain.report.entity.ClosingReport;
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface ClosingReportRepository {
+
+    Optional<ClosingReport> findById(Long reportId);
+
+    /**
+     * 묶음 단위 트랜잭션 잠금 (pg_try_advisory_xact_lock). 다른 노드가 처리 중이면 false.
+     */
+    boolean tryLockBucket(ClosingBucket bucket);
+
+    /**
+     * 묶음 처리 기록 (closing_bucket_runs). 같은 트랜잭션의 upsert 와 함께 커밋/롤백된다.
+     *
+     * @return 이미 처리된 묶음이면 false
+     */
+    boolean markBucketClosed(ClosingBucket bucket, OffsetDateTime now);
+
+    /**
+     * 묶음 전체 회원의 그 날 카운터(daily_task_counters)를 단일 조회로 읽어 batchSize 단위 upsert (uk_closing_member_date)
+     * - 기존 리포트의 수치가 바뀌면 PDF URL 을 비워 다시 생성되게 한다.
+     *
+     * @return upsert 한 리포트 수
+     */
+    int upsertBucket(ClosingBucket bucket, int batchSize, OffsetDateTime now);
+
+    /**
+     * PDF 가 없는 리포트를 오래된 날짜부터 최대 limit 건 점유 (FOR UPDATE SKIP LOCKED + 점유 만료 시각 기록)
+     * - 점유가 leaseUntil 전에 끝나지 않으면(노드 중단 등) 다시 점유 대상이 된다.
+     */
+    List<PendingReportPdf> claimPdfPending(int limit, OffsetDateTime leaseUntil, OffsetDateTime now);
+
+    /**
+     * 리포트 날짜(회원 현지)의 완료 내역을 완료 시각 순으로 fetchSize 단위 커서로 읽어 1행씩 전달 (트랜잭션 안에서 호출)
+     */
+    void streamCompletions(PendingReportPdf report, int fetchSize, Consumer<CompletionLine> consumer);
+}
@@ -0,0 +1,41 @@
+package org.qpeek.qpeek.application.report.repository;
+
+import org.qpeek.qpeek.application.report.dto.CompletionRollup;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 큐별 완료 롤업 조회 (completion_rollup_hourly / completion_rollup_daily 기본키 범위 스캔만 사용)
+ * - 완료 수가 0 인 버킷은 반환하지 않는다.
+ */
+public interface CompletionRollupRepository {
+
+    /**
+     * 큐 소유 회원의 시간대 (큐가 없으면 empty)
+     */
+    Optional<ZoneId> findZone(Long queueId);
+
+    /**
+     * [from, to) 시간 버킷
+     */
+    List<CompletionRollup> findHourly(Long queueId, OffsetDateTime from, OffsetDateTime to);
+
+    /**
+     * [from, to] 현지 날짜 버킷
+     */
+    List<CompletionRollup> findDaily(Long queueId, LocalDate from, LocalDate to, ZoneId zoneId);
+
+    /**
+     * [from, to] 현지 날짜를 월요일 시작 주 단위로 합친 버킷
+     */
+    List<CompletionRollup> findWeekly(Long queueId, LocalDate from, LocalDate to, ZoneId zoneId);
+
+    /**
+     * [from, to] 중 완료가 있었던 현지 날짜
+     */
+    List<LocalDate> findActiveDates(Long queueId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,14 @@
+package org.qpeek.qpeek.application.report.repository;
+
+import org.qpeek.qpeek.domain.report.value.CounterDelta;
+
+import java.util.List;
+
+public interface DailyTaskCounterRepository {
+
+    /**
+     * 큐 소유 회원의 현지 날짜별 카운터에 증감 적용 (단일 upsert, 원자적 증감)
+     * - 감소는 그 작업이 증가할 때 귀속된 날짜(task_counter_dates)에 적용한다. 삭제된 데이터베이스의 큐는 무시.
+     */
+    void apply(Long queueId, List<CounterDelta> deltas);
+}
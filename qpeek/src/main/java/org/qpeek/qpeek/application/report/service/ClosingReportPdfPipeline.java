@@ -0,0 +1,169 @@
+package org.qpeek.qpeek.application.report.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.report.client.ClosingReportRenderer;
+import org.qpeek.qpeek.application.report.client.ClosingReportRenderer.ReportDocument;
+import org.qpeek.qpeek.application.report.client.ReportFileStore;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+import org.qpeek.qpeek.application.report.repository.ClosingReportRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 데일리 클로징 리포트 PDF 생성
+ * <p>
+ * <정책>
+ * - PDF URL 이 없는 리포트를 오래된 날짜부터 점유해 렌더링 → 파일 저장소에 게시 → ClosingReport.attachPdfUrl.
+ * - 점유는 만료(lease)가 있어 노드가 중단되어도 다른 노드가 이어받는다. 실패한 리포트도 만료 후 다시 시도.
+ * - 렌더링 중 클로징이 리포트를 다시 갱신했으면(version 변경) URL 을 붙이지 않는다 → 다음 점유에서 새 수치로 생성.
+ * <p>
+ * <설계 메모>
+ * - 전용 고정 스레드(workers, 최저 우선순위) + 유한 대기열. API 요청 스레드/기본 실행기와 자원을 나누지 않는다.
+ * - backpressure: 빈 슬롯(workers + queueCapacity) 만큼만 DB 에서 점유. 자정에 수천 건이 쌓여도 메모리에는
+ *   점유한 리포트 식별 정보만 올라가고, 나머지는 DB 에 대기한다.
+ * - 밀려 있는 동안(직전 점유가 빈 슬롯을 가득 채움)에는 작업이 끝날 때마다 바로 다음 리포트를 점유해 주기를 기다리지 않는다.
+ * - 완료 내역은 커서로 fetchSize 씩 읽어 렌더러에 흘려 쓰고, 렌더러는 채워진 페이지를 바로 파일로 내보낸다.
+ *   리포트 1건의 메모리 사용량은 (fetchSize 행 + 1페이지)로 행 수와 무관.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.report.pdf", name = "enabled", matchIfMissing = true)
+public class ClosingReportPdfPipeline {
+
+    private final ClosingReportRepository closingReportRepository;
+    private final ClosingReportRenderer renderer;
+    private final ReportFileStore fileStore;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ClosingReportPdfProperties properties;
+    private final Clock clock;
+
+    private final Semaphore slots;
+    private final ThreadPoolExecutor executor;
+    private final ReentrantLock claiming = new ReentrantLock();
+    private volatile boolean backlogged;
+
+    public ClosingReportPdfPipeline(ClosingReportRepository closingReportRepository,
+                                    ClosingReportRenderer renderer,
+                                    ReportFileStore fileStore,
+                                    PlatformTransactionManager transactionManager,
+                                    ClosingReportPdfProperties properties,
+                                    Clock clock) {
+        this.closingReportRepository = closingReportRepository;
+        this.renderer = renderer;
+        this.fileStore = fileStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+        this.slots = new Semaphore(properties.workers() + properties.queueCapacity());
+        this.executor = new ThreadPoolExecutor(properties.workers(), properties.workers(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofPlatform().name("report-pdf-", 0).daemon(true).priority(Thread.MIN_PRIORITY).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.report.pdf.poll-interval:10s}")
+    public void poll() {
+        claimIntoFreeSlots();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // 중단된 리포트는 점유 만료 후 다시 생성
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    /**
+     * 빈 슬롯 수만큼 점유해 실행기에 넘긴다. 슬롯이 없으면 아무것도 점유하지 않는다.
+     */
+    private void claimIntoFreeSlots() {
+        if (!claiming.tryLock()) return;
+        try {
+            int free = slots.drainPermits();
+            if (free == 0) return;
+
+            List<PendingReportPdf> claimed;
+            try {
+                OffsetDateTime now = OffsetDateTime.now(clock);
+                claimed = transactionTemplate.execute(status ->
+                        closingReportRepository.claimPdfPending(free, now.plus(properties.lease()), now));
+            } catch (RuntimeException e) {
+                slots.release(free);
+                throw e;
+            }
+            slots.release(free - claimed.size());
+            backlogged = claimed.size() == free;
+            claimed.forEach(report -> executor.execute(() -> process(report)));
+        } finally {
+            claiming.unlock();
+        }
+    }
+
+    private void process(PendingReportPdf report) {
+        try {
+            render(report);
+        } catch (RuntimeException e) {
+            log.error("closing report pdf failed. reportId={}, date={}", report.reportId(), report.reportDate(), e);
+        } finally {
+            if (backlogged) refill();
+            slots.release();
+        }
+    }
+
+    /**
+     * 밀려 있으면 다음 리포트를 바로 점유. 자기 슬롯을 반납하기 전에 호출해야 점유 수가 남은 스레드 + 대기열을 넘지 않는다.
+     */
+    private void refill() {
+        try {
+            claimIntoFreeSlots();
+        } catch (RuntimeException e) {
+            log.warn("closing report pdf claim failed. retry on next poll", e);
+        }
+    }
+
+    private void render(PendingReportPdf report) {
+        String url = fileStore.store(keyOf(report), out -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (ReportDocument document = renderer.open(report, out)) {
+                closingReportRepository.streamCompletions(report, properties.fetchSize(), document::add);
+            }
+        }));
+
+        Boolean attached = transactionTemplate.execute(status -> closingReportRepository.findById(report.reportId())
+                .filter(closingReport -> Objects.equals(closingReport.getVersion(), report.version()))
+                .map(closingReport -> {
+                    closingReport.attachPdfUrl(url);
+                    return true;
+                })
+                .orElse(false));
+        if (Boolean.TRUE.equals(attached)) {
+            log.debug("closing report pdf attached. reportId={}, url={}", report.reportId(), url);
+        } else {
+            log.debug("closing report changed while rendering. reportId={}", report.reportId());
+        }
+    }
+
+    /**
+     * 날짜별 디렉터리 + 리포트/버전별 파일 (수치가 바뀌어 다시 만든 PDF 는 URL 도 달라진다)
+     */
+    private static String keyOf(PendingReportPdf report) {
+        return "closing-reports/%s/%d-%d-v%d.pdf".formatted(report.reportDate(), report.memberId(), report.reportId(), report.version());
+    }
+}
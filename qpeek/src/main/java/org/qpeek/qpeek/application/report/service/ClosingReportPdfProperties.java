@@ -0,0 +1,23 @@
+package org.qpeek.qpeek.application.report.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled       리포트 PDF 생성 사용 여부
+ * @param workers       렌더링 전용 스레드 수 (렌더링 중에는 스레드마다 DB 커넥션 1개 사용)
+ * @param queueCapacity 점유했지만 아직 렌더링을 시작하지 않은 리포트의 최대 수 (workers + queueCapacity 초과로는 점유하지 않음)
+ * @param pollInterval  대기 리포트 확인 주기 (밀려 있는 동안은 작업이 끝날 때마다 바로 채움)
+ * @param lease         점유 유지 시간 (이 안에 URL 을 붙이지 못하면 다시 점유 대상)
+ * @param fetchSize     완료 내역 커서 fetch 크기
+ */
+@ConfigurationProperties(prefix = "qpeek.report.pdf")
+public record ClosingReportPdfProperties(@DefaultValue("true") boolean enabled,
+                                         @DefaultValue("2") int workers,
+                                         @DefaultValue("32") int queueCapacity,
+                                         @DefaultValue("10s") Duration pollInterval,
+                                         @DefaultValue("10m") Duration lease,
+                                         @DefaultValue("500") int fetchSize) {
+}
@@ -0,0 +1,74 @@
+package org.qpeek.qpeek.application.report.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.report.dto.AnalyticsGranularity;
+import org.qpeek.qpeek.application.report.dto.CompletionBucket;
+import org.qpeek.qpeek.application.report.dto.CompletionRollup;
+import org.qpeek.qpeek.application.report.dto.QueueCompletionAnalytics;
+import org.qpeek.qpeek.application.report.repository.CompletionRollupRepository;
+import org.qpeek.qpeek.domain.report.service.CompletionStreaks;
+import org.qpeek.qpeek.domain.report.value.CompletionStreak;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 큐 완료 분석 유스케이스 (처리량 차트, 연속 완료, 완료 시 평균 진행률)
+ * <p>
+ * <정책>
+ * - 날짜는 큐 소유 회원의 시간대 기준. 구간은 [from, to] (양끝 포함) 이며 단위별 최대 구간을 넘을 수 없다.
+ * - 연속 완료는 오늘 기준 최근 STREAK_WINDOW_DAYS 일만 본다(그 이상 이어진 연속은 구간 길이로 잘림).
+ * <p>
+ * <설계 메모>
+ * - 원본 completion_logs 는 읽지 않고 롤업(완료 로그 기록과 같은 문장에서 증감)만 읽는다.
+ *   조회 비용은 구간의 버킷 수에만 비례(최대 구간 제한) → 이력 길이와 무관.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CompletionAnalyticsService {
+
+    static final int STREAK_WINDOW_DAYS = 366;
+
+    private final CompletionRollupRepository completionRollupRepository;
+    private final Clock clock;
+
+    public QueueCompletionAnalytics analyze(Long queueId, LocalDate from, LocalDate to, AnalyticsGranularity granularity) {
+        if (queueId == null) throw new IllegalArgumentException("queueId is null");
+        if (from == null || to == null) throw new IllegalArgumentException("from or to is null");
+        if (granularity == null) throw new IllegalArgumentException("granularity is null");
+        if (from.isAfter(to)) throw new IllegalArgumentException("from must be <= to");
+        if (to.isAfter(from.plus(granularity.maxRange())))
+            throw new IllegalArgumentException("range exceeds " + granularity.maxRange() + " for " + granularity);
+
+        ZoneId zone = completionRollupRepository.findZone(queueId)
+                .orElseThrow(() -> new IllegalArgumentException("queue not found"));
+
+        List<CompletionRollup> rollups = switch (granularity) {
+            case HOUR -> completionRollupRepository.findHourly(queueId,
+                    from.atStartOfDay(zone).toOffsetDateTime(), to.plusDays(1).atStartOfDay(zone).toOffsetDateTime());
+            case DAY -> completionRollupRepository.findDaily(queueId, from, to, zone);
+            case WEEK -> completionRollupRepository.findWeekly(queueId, from, to, zone);
+        };
+
+        long total = 0;
+        long progressSum = 0;
+        for (CompletionRollup rollup : rollups) {
+            total += rollup.completedCount();
+            progressSum += rollup.progressSum();
+        }
+
+        LocalDate today = LocalDate.now(clock.withZone(zone));
+        CompletionStreak streak = CompletionStreaks.of(
+                completionRollupRepository.findActiveDates(queueId, today.minusDays(STREAK_WINDOW_DAYS - 1), today), today);
+
+        return new QueueCompletionAnalytics(queueId, granularity, from, to, zone.getId(),
+                total, total == 0 ? null : (double) progressSum / total,
+                streak.current(), streak.longest(),
+                rollups.stream().map(CompletionBucket::of).toList());
+    }
+}
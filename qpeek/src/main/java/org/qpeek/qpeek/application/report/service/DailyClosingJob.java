@@ -0,0 +1,103 @@
+package org.qpeek.qpeek.application.report.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.report.repository.ClosingReportRepository;
+import org.qpeek.qpeek.domain.report.service.ClosingSchedule;
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 데일리 클로징 (회원 현지 자정마다 ClosingReport 생성)
+ * <p>
+ * <정책>
+ * - 15분 경계마다 그 시각에 하루가 끝나는 시간대를 묶음(ClosingBucket)으로 계산하고, 묶음마다 전날 리포트를 만든다.
+ * - completedCount: 그 날(현지) 완료 수. incompleteCount: 그 날 마감인데 자정까지 열려 있는 작업 수.
+ *   두 값 모두 작업 변경 시점에 증감해 둔 daily_task_counters 행을 옮겨 적는다(DailyTaskCounterListener).
+ * - 같은 (회원, 날짜) 리포트가 이미 있으면 현재 카운터 값으로 갱신(upsert) → 재실행/보완 처리에 안전.
+ * <p>
+ * <설계 메모>
+ * - 회원 단위 루프 대신 묶음 단위 집합 연산, 자정에 하루치를 재집계하지 않음: 묶음 회원의 카운터 행을 조회 1회로 읽어 옮겨 적는다.
+ * - 묶음마다 별도 트랜잭션 + advisory lock. 처리 기록(closing_bucket_runs)은 묶음을 실제로 처리한 노드가
+ *   리포트 upsert 와 같은 트랜잭션에서 남긴다 → 잠금을 얻었는데 기록이 있으면 완료로 보고 건너뛴다.
+ * - 다른 노드가 잠금을 쥐고 있으면 완료로 치지 않고 다음 주기에 그 경계부터 다시 본다(그 노드가 롤백해도 누락되지 않음).
+ * - 처리한 마지막 경계는 노드 메모리에 보관. 기동 시 catchUp 만큼 지난 경계를 다시 확인(처리 기록이 있는 묶음은 건너뜀).
+ *   실패한 경계는 다음 주기에 그 경계부터 다시 시도한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.report.closing", name = "enabled", matchIfMissing = true)
+public class DailyClosingJob {
+
+    private static final List<ZoneId> ZONES = ZoneId.getAvailableZoneIds().stream().sorted().map(ZoneId::of).toList();
+
+    private final ClosingReportRepository closingReportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyClosingProperties properties;
+    private final Clock clock;
+
+    private volatile Instant lastBoundary;
+
+    public DailyClosingJob(ClosingReportRepository closingReportRepository,
+                           TransactionTemplate transactionTemplate,
+                           DailyClosingProperties properties,
+                           Clock clock) {
+        this.closingReportRepository = closingReportRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.lastBoundary = clock.instant().minus(properties.catchUp());
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.report.closing.poll-interval:1m}")
+    public void run() {
+        Instant now = clock.instant();
+        for (Instant boundary = ClosingSchedule.nextBoundary(lastBoundary); !boundary.isAfter(now); boundary = ClosingSchedule.nextBoundary(boundary)) {
+            if (!close(boundary)) return;
+            lastBoundary = boundary;
+        }
+    }
+
+    /**
+     * @return 경계의 모든 묶음이 처리 기록을 남겼으면 true
+     */
+    private boolean close(Instant boundary) {
+        for (ClosingBucket bucket : ClosingSchedule.bucketsAt(boundary, ZONES)) {
+            try {
+                Boolean closed = transactionTemplate.execute(status -> closeBucket(bucket));
+                if (!Boolean.TRUE.equals(closed)) {
+                    log.debug("closing bucket locked by another node. retry next poll. date={}, zones={}", bucket.reportDate(), bucket.zoneIds().size());
+                    return false;
+                }
+            } catch (RuntimeException e) {
+                log.error("closing bucket failed. date={}, end={}", bucket.reportDate(), bucket.end(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 잠금을 얻지 못했으면 false (처리 여부를 알 수 없음)
+     */
+    private boolean closeBucket(ClosingBucket bucket) {
+        if (!closingReportRepository.tryLockBucket(bucket)) return false;
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        if (!closingReportRepository.markBucketClosed(bucket, now)) {
+            log.debug("closing bucket already closed. date={}, zones={}", bucket.reportDate(), bucket.zoneIds().size());
+            return true;
+        }
+        int upserted = closingReportRepository.upsertBucket(bucket, properties.batchSize(), now);
+        log.info("closing bucket done. date={}, start={}, end={}, zones={}, reports={}",
+                bucket.reportDate(), bucket.start(), bucket.end(), bucket.zoneIds().size(), upserted);
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package org.qpeek.qpeek.application.report.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled      데일리 클로징 사용 여부
+ * @param pollInterval 경계 도달 확인 주기 (경계 자체는 15분 단위)
+ * @param catchUp      기동 직후 다시 처리하는 지난 경계 구간 (재배포 중 놓친 자정 보완, upsert 라 중복 처리 무해)
+ * @param batchSize    upsert 1회에 담는 리포트 수 (집계 결과 커서 fetch 크기)
+ */
+@ConfigurationProperties(prefix = "qpeek.report.closing")
+public record DailyClosingProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("1m") Duration pollInterval,
+                                     @DefaultValue("2h") Duration catchUp,
+                                     @DefaultValue("1000") int batchSize) {
+}
@@ -0,0 +1,55 @@
+package org.qpeek.qpeek.application.report.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.report.repository.DailyTaskCounterRepository;
+import org.qpeek.qpeek.domain.report.service.DailyCounterDeltas;
+import org.qpeek.qpeek.domain.report.value.CounterDelta;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusesChanged;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업 상태/마감 변경에 맞춰 daily_task_counters 증감
+ * <p>
+ * <설계 메모>
+ * - 발행 트랜잭션 안에서 동기 처리하므로 작업 변경과 카운터 변경은 함께 커밋/롤백된다.
+ * - 일괄 전이(TaskStatusesChanged)는 큐별로 증감을 모아 큐마다 upsert 1회.
+ * - 데일리 클로징은 카운터 행을 그대로 옮겨 적기만 하므로 자정에 하루치를 다시 집계하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyTaskCounterListener {
+
+    private final DailyTaskCounterRepository dailyTaskCounterRepository;
+
+    @EventListener
+    public void onStatusChanged(TaskStatusChanged event) {
+        apply(event.queueId(), DailyCounterDeltas.of(event));
+    }
+
+    @EventListener
+    public void onStatusesChanged(TaskStatusesChanged event) {
+        Map<Long, List<CounterDelta>> byQueue = new TreeMap<>();
+        for (TaskStatusChanged change : event.changes()) {
+            List<CounterDelta> deltas = DailyCounterDeltas.of(change);
+            if (!deltas.isEmpty()) byQueue.computeIfAbsent(change.queueId(), queueId -> new ArrayList<>()).addAll(deltas);
+        }
+        byQueue.forEach(this::apply);
+    }
+
+    @EventListener
+    public void onDueChanged(TaskDueChanged event) {
+        apply(event.queueId(), DailyCounterDeltas.of(event));
+    }
+
+    private void apply(Long queueId, List<CounterDelta> deltas) {
+        if (!deltas.isEmpty()) dailyTaskCounterRepository.apply(queueId, deltas);
+    }
+}
@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.application.task.dto;
+
+/**
+ * 큐에 작업 추가 요청
+ */
+public record AddTaskCommand(Long queueId, String title) {
+}
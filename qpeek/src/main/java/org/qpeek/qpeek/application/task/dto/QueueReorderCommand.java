@@ -0,0 +1,12 @@
+package org.qpeek.qpeek.application.task.dto;
+
+import java.util.List;
+
+/**
+ * 큐 일괄 재정렬 요청
+ *
+ * @param expectedVersion 클라이언트가 마지막으로 읽은 TaskQueue.version
+ * @param orderedTaskIds  새 순서(앞에서부터). 목록에 없는 작업은 기존 순서대로 뒤에 붙는다.
+ */
+public record QueueReorderCommand(Long queueId, Long expectedVersion, List<Long> orderedTaskIds) {
+}
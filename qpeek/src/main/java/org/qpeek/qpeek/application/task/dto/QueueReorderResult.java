@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.application.task.dto;
+
+/**
+ * 큐 일괄 재정렬 결과 (versionMatched = false 이면 작업은 갱신되지 않음)
+ */
+public record QueueReorderResult(boolean versionMatched, int matchedTasks, Long newVersion) {
+}
@@ -0,0 +1,9 @@
+package org.qpeek.qpeek.application.task.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 마감 스케줄러 적재용 (ACTIVE 작업의 마감 시각)
+ */
+public record TaskDueSchedule(Long taskId, OffsetDateTime dueAt) {
+}
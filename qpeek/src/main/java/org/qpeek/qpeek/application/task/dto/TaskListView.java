@@ -0,0 +1,16 @@
+package org.qpeek.qpeek.application.task.dto;
+
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 큐 내 작업 목록 항목 (본문 제외)
+ */
+public record TaskListView(Long taskId,
+                           String title,
+                           TaskStatus status,
+                           OffsetDateTime dueAt,
+                           int progress,
+                           Long priorityIndex) {
+}
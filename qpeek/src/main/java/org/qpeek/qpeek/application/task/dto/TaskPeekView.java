@@ -0,0 +1,9 @@
+package org.qpeek.qpeek.application.task.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 큐 head peek 결과 (content 등 본문은 포함하지 않음)
+ */
+public record TaskPeekView(Long taskId, String title, OffsetDateTime dueAt, Long priorityIndex) {
+}
@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.application.task.dto;
+
+/**
+ * 작업 우선순위 키 조회 결과 (priorityIndex 가 null 이면 순위 미지정)
+ */
+public record TaskRank(Long taskId, Long priorityIndex) {
+}
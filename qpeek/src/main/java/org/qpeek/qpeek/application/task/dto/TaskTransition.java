@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.application.task.dto;
+
+/**
+ * 일괄 상태 전이 결과 (전이된 작업과 소속 큐)
+ */
+public record TaskTransition(Long taskId, Long queueId) {
+}
@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.application.task.event;
+
+/**
+ * 큐 우선순위 키 간격이 좁아져 재정렬이 필요함을 알리는 이벤트 (커밋 이후 비동기 처리)
+ */
+public record QueueRebalanceRequested(Long queueId) {
+}
@@ -0,0 +1,114 @@
+package org.qpeek.qpeek.application.task.repository;
+
+import org.qpeek.qpeek.application.task.dto.QueueReorderResult;
+import org.qpeek.qpeek.application.task.dto.TaskDueSchedule;
+import org.qpeek.qpeek.application.task.dto.TaskListView;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.qpeek.qpeek.application.task.dto.TaskRank;
+import org.qpeek.qpeek.application.task.dto.TaskTransition;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskRepository {
+
+    Optional<Task> findById(Long taskId);
+
+    Task getReference(Long taskId);
+
+    Task save(Task task);
+
+    List<Task> findAllById(Collection<Long> taskIds);
+
+    List<Task> saveAll(Collection<Task> tasks);
+
+    /**
+     * 작업 행 잠금 조회 (PESSIMISTIC_WRITE, 트랜잭션 끝까지 유지)
+     * - 완료/재개처럼 이전 값(completedAt)을 읽고 완료 로그를 교체하는 변경을 같은 작업끼리 직렬화한다.
+     */
+    Optional<Task> findByIdForUpdate(Long taskId);
+
+    /**
+     * 여러 작업 행 잠금 조회 (findByIdForUpdate 와 같음, 식별자 순으로 잠금)
+     */
+    List<Task> findAllByIdForUpdate(Collection<Long> taskIds);
+
+    /**
+     * 큐 행 잠금 (FOR NO KEY UPDATE, 트랜잭션 끝까지 유지)
+     * - 같은 큐의 순서 변경(이동 / 재정렬 / 일괄 재정렬)을 직렬화한다. 이후 문장은 앞선 변경이 커밋된 키를 읽는다.
+     *
+     * @return 큐가 없으면 false
+     */
+    boolean lockQueue(Long queueId);
+
+    /**
+     * 작업이 속한 큐 행 잠금 (lockQueue 와 같음, 작업 엔티티를 읽기 전에 호출)
+     *
+     * @return 잠근 큐 ID, 작업이 없으면 empty
+     */
+    Optional<Long> lockQueueOfTask(Long taskId);
+
+    /**
+     * 같은 큐에 속한 작업들의 우선순위 키 조회 (FOR SHARE)
+     */
+    List<TaskRank> findRanksForShare(Long queueId, Collection<Long> taskIds);
+
+    /**
+     * 큐 전체 우선순위 키를 PriorityRank.spread 간격으로 재부여 (단일 UPDATE)
+     *
+     * @param excludedTaskId 재정렬 대상에서 제외할 작업(이동 중인 작업), null 가능
+     * @return 갱신된 행 수
+     */
+    int rebalance(Long queueId, Long excludedTaskId);
+
+    /**
+     * 큐 버전 검증/증가와 전체 우선순위 키 재부여를 한 문장으로 수행
+     * - 버전이 일치하지 않으면 아무 행도 갱신하지 않는다.
+     */
+    QueueReorderResult reorder(Long queueId, Long expectedVersion, List<Long> orderedTaskIds);
+
+    /**
+     * 큐의 ACTIVE 작업 상위 limit 개 (priority_index, task_id 순)
+     */
+    List<TaskPeekView> findPeek(Long queueId, int limit);
+
+    /**
+     * 큐/상태별 작업을 (priority_index NULLS LAST, task_id) 순으로 keyset 조회
+     *
+     * @param afterRanked   커서 위치가 순위 지정 구간이면 true(afterPriority 사용), 미지정(null) 구간이면 false
+     * @param afterPriority 마지막 항목의 priority_index (첫 페이지면 afterTaskId 와 함께 null)
+     */
+    List<TaskListView> findPageByQueue(Long queueId, TaskStatus status,
+                                       boolean afterRanked, Long afterPriority, Long afterTaskId, int limit);
+
+    /**
+     * ACTIVE 작업의 마감 스케줄 (큐별 idx_tasks_queue_due 범위 스캔)
+     *
+     * @param dueAfter 하한(미포함), null 이면 지난 마감까지 전부
+     * @param dueUntil 상한(포함)
+     */
+    List<TaskDueSchedule> findDueSchedules(OffsetDateTime dueAfter, OffsetDateTime dueUntil);
+
+    /**
+     * 단일 작업의 마감 스케줄 (ACTIVE 이고 마감이 있는 경우만)
+     */
+    Optional<TaskDueSchedule> findDueSchedule(Long taskId);
+
+    /**
+     * ACTIVE 이면서 마감이 지난(due_at < now) 작업을 OVERDUE 로 일괄 전이
+     *
+     * @return 실제로 전이된 작업
+     */
+    List<TaskTransition> markOverdue(Collection<Long> taskIds, OffsetDateTime now);
+
+    /**
+     * OVERDUE 이면서 마감이 해제되었거나 미래로 미뤄진 작업을 ACTIVE 로 일괄 전이
+     *
+     * @return 실제로 전이된 작업
+     */
+    List<TaskTransition> markActive(Collection<Long> taskIds, OffsetDateTime now);
+}
@@ -0,0 +1,48 @@
+package org.qpeek.qpeek.application.task.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.task.event.QueueRebalanceRequested;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 큐 우선순위 키 비동기 재정렬
+ * <p>
+ * <설계 메모>
+ * - 요청 트랜잭션 커밋 이후(AFTER_COMMIT) 별도 스레드/트랜잭션에서 큐 전체를 단일 UPDATE 로 재부여.
+ * - 같은 큐에 대한 요청이 겹치면 진행 중인 1건으로 합친다(노드 단위).
+ * - 큐 행을 잠근 뒤 재부여: 다른 노드의 재정렬이나 진행 중인 이동(TaskReorderService)이 커밋된 다음 키를 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueRebalancer {
+
+    private final TaskRepository taskRepository;
+    private final TaskPeekCache taskPeekCache;
+    private final Set<Long> pendingQueues = ConcurrentHashMap.newKeySet();
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRebalanceRequested(QueueRebalanceRequested event) {
+        Long queueId = event.queueId();
+        if (!pendingQueues.add(queueId)) return;
+        try {
+            if (!taskRepository.lockQueue(queueId)) return; // 그 사이 큐 삭제
+            int updated = taskRepository.rebalance(queueId, null);
+            taskPeekCache.evictAfterCommit(queueId);
+            log.debug("queue rebalanced. queueId={}, updated={}", queueId, updated);
+        } finally {
+            pendingQueues.remove(queueId);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.qpeek.qpeek.application.task.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.log.service.CompletionLogWriter;
+import org.qpeek.qpeek.application.queue.repository.TaskQueueRepository;
+import org.qpeek.qpeek.application.task.dto.AddTaskCommand;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.application.trash.repository.TrashItemRepository;
+import org.qpeek.qpeek.application.trash.service.TrashProperties;
+import org.qpeek.qpeek.domain.log.entity.CompletionLog;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusesChanged;
+import org.qpeek.qpeek.domain.trash.entity.TrashItem;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 작업 변경 유스케이스
+ * <p>
+ * <설계 메모>
+ * - 상태/마감 변경은 엔티티 메서드 호출 후 save 로 도메인 이벤트(TaskStatusChanged, TaskDueChanged)를 발행한다.
+ * - 큐 용량은 tasks 컬렉션을 읽지 않고 queues.active_task_count 원자 예약으로 검사(O(1)).
+ * - 완료 로그는 CompletionLogWriter 버퍼에 모아 같은 트랜잭션의 커밋 직전에 일괄 INSERT.
+ *   일괄 완료(completeAll)는 작업 조회 1회 + 로그 INSERT 묶음 단위 1회.
+ * - 완료/재개는 작업 행을 잠그고(PESSIMISTIC_WRITE) 읽는다: 같은 작업의 동시 완료는 차례로 실행되어
+ *   뒤 요청이 앞 요청의 완료 로그를 교체한다(작업당 로그 1건).
+ * - 휴지통 이동/복구는 작업 상태와 휴지통 항목(TrashItem)을 함께 바꾼다.
+ *   일괄 처리(trashAll/restoreAll)는 chunkSize 개마다 작업 UPDATE + 항목 INSERT/DELETE 를 한 문장(SQL 왕복 1회)으로 수행하고,
+ *   큐 용량/일별 카운터/알림/마감 스케줄은 TaskStatusesChanged 한 건으로 묶어 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskCommandService {
+
+    private final TaskRepository taskRepository;
+    private final TaskQueueRepository taskQueueRepository;
+    private final CompletionLogWriter completionLogWriter;
+    private final TrashItemRepository trashItemRepository;
+    private final TrashProperties trashProperties;
+    private final TaskPeekCache taskPeekCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Transactional
+    public Long addTask(AddTaskCommand command) {
+        Long queueId = command.queueId();
+        if (queueId == null) throw new IllegalArgumentException("queueId is null");
+
+        if (!taskQueueRepository.tryReserveSlot(queueId)) {
+            if (!taskQueueRepository.existsById(queueId)) throw new IllegalArgumentException("queue not found");
+            throw new IllegalStateException("policy: queue is full");
+        }
+
+        TaskQueue queue = taskQueueRepository.getReference(queueId);
+        return taskRepository.save(Task.create(command.title(), queue)).getId();
+    }
+
+    @Transactional
+    public void complete(Long taskId) {
+        Task task = getTaskForUpdate(taskId);
+        markCompleted(task);
+        taskRepository.save(task);
+    }
+
+    /**
+     * 여러 작업 일괄 완료 (하나라도 없으면 전체 실패)
+     *
+     * @return 완료 처리한 작업 수
+     */
+    @Transactional
+    public int completeAll(Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) throw new IllegalArgumentException("taskIds is empty");
+        Set<Long> distinctIds = new LinkedHashSet<>(taskIds);
+        List<Task> tasks = taskRepository.findAllByIdForUpdate(distinctIds);
+        if (tasks.size() != distinctIds.size()) throw new IllegalArgumentException("task not found");
+
+        tasks.forEach(this::markCompleted);
+        taskRepository.saveAll(tasks);
+        return tasks.size();
+    }
+
+    @Transactional
+    public void reopen(Long taskId) {
+        Task task = getTaskForUpdate(taskId);
+        OffsetDateTime previousCompletedAt = task.getCompletedAt();
+        task.reopen();
+        taskRepository.save(task);
+        if (previousCompletedAt != null) completionLogWriter.retract(taskId, previousCompletedAt);
+    }
+
+    /**
+     * 마감 지정/해제 (null 이면 해제)
+     */
+    @Transactional
+    public void changeDue(Long taskId, OffsetDateTime dueAt) {
+        Task task = getTask(taskId);
+        task.setDue(dueAt);
+        taskRepository.save(task);
+    }
+
+    @Transactional
+    public void deferDays(Long taskId, int days) {
+        Task task = getTask(taskId);
+        task.deferDays(days, clock);
+        taskRepository.save(task);
+    }
+
+    /**
+     * 휴지통으로 이동 (이미 휴지통이면 아무것도 하지 않음)
+     */
+    @Transactional
+    public void trash(Long taskId) {
+        Task task = getTask(taskId);
+        if (task.getStatus() == TaskStatus.TRASHED) return;
+        task.softDelete(clock);
+        taskRepository.save(task);
+        trashItemRepository.save(TrashItem.create(task.getTrashedAt(), trashProperties.retention(), task));
+    }
+
+    @Transactional
+    public void restore(Long taskId) {
+        Task task = getTask(taskId);
+        task.restore(clock);
+        trashItemRepository.deleteByTaskId(taskId);
+        taskRepository.save(task);
+    }
+
+    /**
+     * 여러 작업 일괄 휴지통 이동 (없는 작업/이미 휴지통인 작업은 건너뜀)
+     *
+     * @return 휴지통으로 이동한 작업 수
+     */
+    @Transactional
+    public int trashAll(Collection<Long> taskIds) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime retentionUntil = now.plus(trashProperties.retention());
+        return transitionAll(taskIds, chunk -> trashItemRepository.trashAll(chunk, now, retentionUntil));
+    }
+
+    /**
+     * 여러 작업 일괄 복구 (휴지통이 아닌 작업은 건너뜀, 다시 열리는 작업이 큐 용량을 넘으면 전체 실패)
+     *
+     * @return 복구한 작업 수
+     */
+    @Transactional
+    public int restoreAll(Collection<Long> taskIds) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        return transitionAll(taskIds, chunk -> trashItemRepository.restoreAll(chunk, now));
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    /**
+     * 완료 처리 + 완료 로그 적재 (이미 완료된 작업이면 이전 완료 로그를 새 완료 시각으로 교체)
+     */
+    private void markCompleted(Task task) {
+        OffsetDateTime previousCompletedAt = task.getCompletedAt();
+        task.markCompleted(clock);
+        if (previousCompletedAt != null) completionLogWriter.retract(task.getId(), previousCompletedAt);
+        completionLogWriter.append(CompletionLog.createFromTask(task, clock));
+    }
+
+    private int transitionAll(Collection<Long> taskIds, Function<List<Long>, List<TaskStatusChanged>> transition) {
+        if (taskIds == null || taskIds.isEmpty()) throw new IllegalArgumentException("taskIds is empty");
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(taskIds));
+
+        List<TaskStatusChanged> changes = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += trashProperties.chunkSize()) {
+            changes.addAll(transition.apply(distinctIds.subList(from, Math.min(from + trashProperties.chunkSize(), distinctIds.size()))));
+        }
+        if (changes.isEmpty()) return 0;
+
+        eventPublisher.publishEvent(new TaskStatusesChanged(changes));
+        changes.stream().map(TaskStatusChanged::queueId).distinct().forEach(taskPeekCache::evictAfterCommit);
+        return changes.size();
+    }
+
+    private Task getTask(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("task not found"));
+    }
+
+    private Task getTaskForUpdate(Long taskId) {
+        return taskRepository.findByIdForUpdate(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("task not found"));
+    }
+}
@@ -0,0 +1,170 @@
+package org.qpeek.qpeek.application.task.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.task.dto.TaskDueSchedule;
+import org.qpeek.qpeek.application.task.dto.TaskTransition;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.common.time.HierarchicalTimingWheel;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusesChanged;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 마감 경계 스케줄러 (ACTIVE → OVERDUE 전이)
+ * <p>
+ * <정책>
+ * - 작업마다 OVERDUE(dueAt 초과) 경계를 타이밍 휠에 등록.
+ * - OVERDUE 경계 통과 시 batchSize 단위 UPDATE 로 전이. 조건(status = ACTIVE AND due_at < now)을 SQL 에서 재검증하므로
+ *   휠에 남은 오래된 항목이 잘못 전이시키지 않는다.
+ * - 마감이 미래로 미뤄진 OVERDUE 작업은 ACTIVE 로 되돌린다.
+ * - 임박(IMMINENT) 알림은 ReminderMaterializer 가 알림 행(scheduled_at = dueAt - imminentHours)으로 만들므로 휠에 두지 않는다.
+ * <p>
+ * <설계 메모>
+ * - 기동 시 idx_tasks_queue_due 를 큐별 LATERAL 범위 스캔으로 읽어 now + horizon 까지 적재(지난 마감 포함).
+ *   이후 refillInterval 마다 horizon 끝 구간만 추가 적재 → 매 분 전체 테이블 폴링 없음.
+ * - 증분 갱신: setDue / deferTo / deferDays(TaskDueChanged), 완료/재개/삭제(TaskStatusChanged, 일괄 전이는 TaskStatusesChanged)를 커밋 이후 반영.
+ * - 주기 적재는 scheduleIfAbsent 로 넣어 더 최신인 증분 등록을 덮어쓰지 않는다.
+ * - 노드 로컬 휠. 여러 노드가 같은 전이를 시도해도 SQL 조건으로 1회만 반영된다.
+ * - 전이 UPDATE 는 tasks.version 을 올린다: 같은 작업을 먼저 읽은 트랜잭션은 OVERDUE 를 덮어쓰지 않고 낙관적 잠금 실패로 끝난다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.task.due", name = "enabled", matchIfMissing = true)
+public class TaskDueScheduler {
+
+    private final TaskRepository taskRepository;
+    private final TaskPeekCache taskPeekCache;
+    private final TaskDueSchedulerProperties properties;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    private volatile OffsetDateTime loadedUntil;
+
+    public TaskDueScheduler(TaskRepository taskRepository,
+                            TaskPeekCache taskPeekCache,
+                            TaskDueSchedulerProperties properties,
+                            Clock clock) {
+        this.taskRepository = taskRepository;
+        this.taskPeekCache = taskPeekCache;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(properties.tick().toMillis(), properties.wheelSize(), properties.levels(), clock.millis());
+    }
+
+
+    // 적재 ----------------------------------------------------------------
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        OffsetDateTime until = OffsetDateTime.now(clock).plus(properties.horizon());
+        List<TaskDueSchedule> schedules = taskRepository.findDueSchedules(null, until);
+        schedules.forEach(this::scheduleIfAbsent);
+        loadedUntil = until;
+        log.info("task due scheduler rehydrated. tasks={}, until={}", schedules.size(), until);
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.task.due.refill-interval:1h}", initialDelayString = "${qpeek.task.due.refill-interval:1h}")
+    public void refill() {
+        OffsetDateTime from = loadedUntil;
+        if (from == null) return; // 기동 적재 전
+        OffsetDateTime until = OffsetDateTime.now(clock).plus(properties.horizon());
+        if (!until.isAfter(from)) return;
+        taskRepository.findDueSchedules(from, until).forEach(this::scheduleIfAbsent);
+        loadedUntil = until;
+    }
+
+
+    // 경계 처리 ----------------------------------------------------------------
+
+
+    @Scheduled(fixedDelayString = "${qpeek.task.due.tick:1s}")
+    public void tick() {
+        List<Long> expired = wheel.advanceTo(clock.millis());
+        if (!expired.isEmpty()) markOverdue(expired);
+    }
+
+    private void markOverdue(List<Long> taskIds) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        for (int from = 0; from < taskIds.size(); from += properties.batchSize()) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + properties.batchSize(), taskIds.size()));
+            try {
+                List<TaskTransition> rows = taskRepository.markOverdue(chunk, now);
+                rows.stream().map(TaskTransition::queueId).distinct().forEach(taskPeekCache::evict);
+            } catch (DataAccessException e) {
+                log.warn("overdue transition failed, retrying later. tasks={}", chunk.size(), e);
+                long retryAt = clock.millis() + properties.retryDelay().toMillis();
+                chunk.forEach(taskId -> wheel.scheduleIfAbsent(taskId, retryAt));
+            }
+        }
+    }
+
+
+    // 증분 갱신 ----------------------------------------------------------------
+
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onDueChanged(TaskDueChanged event) {
+        cancel(event.taskId());
+        if (!event.status().isOpen()) return;
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        if (event.status() == TaskStatus.OVERDUE && (event.dueAt() == null || !event.dueAt().isBefore(now))) {
+            taskRepository.markActive(List.of(event.taskId()), now).forEach(row -> taskPeekCache.evict(row.queueId()));
+        }
+        if (event.dueAt() != null && !event.dueAt().isAfter(now.plus(properties.horizon()))) {
+            taskRepository.findDueSchedule(event.taskId()).ifPresent(this::schedule);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusesChanged(TaskStatusesChanged event) {
+        event.changes().forEach(this::onStatusChanged);
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(TaskStatusChanged event) {
+        if (event.closed()) {
+            cancel(event.taskId());
+        } else if (event.opened() && event.dueAt() != null
+                && !event.dueAt().isAfter(OffsetDateTime.now(clock).plus(properties.horizon()))) {
+            taskRepository.findDueSchedule(event.taskId()).ifPresent(this::schedule);
+        }
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private void schedule(TaskDueSchedule schedule) {
+        wheel.schedule(schedule.taskId(), overdueAt(schedule));
+    }
+
+    private void scheduleIfAbsent(TaskDueSchedule schedule) {
+        wheel.scheduleIfAbsent(schedule.taskId(), overdueAt(schedule));
+    }
+
+    private void cancel(Long taskId) {
+        wheel.cancel(taskId);
+    }
+
+    // checkDueStatus 와 동일하게 now > dueAt 부터 OVERDUE
+    private static long overdueAt(TaskDueSchedule schedule) {
+        return schedule.dueAt().toInstant().toEpochMilli() + 1;
+    }
+}
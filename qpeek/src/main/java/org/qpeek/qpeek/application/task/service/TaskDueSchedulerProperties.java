@@ -0,0 +1,27 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled        마감 스케줄러 사용 여부
+ * @param tick           타이밍 휠 tick (경계 통과 후 최대 지연)
+ * @param wheelSize      레벨당 슬롯 수
+ * @param levels         휠 레벨 수 (tick * wheelSize^levels 가 휠 구간)
+ * @param horizon        메모리에 올려두는 마감 구간 (refillInterval 보다 길어야 추가 적재 사이에 경계를 놓치지 않음)
+ * @param refillInterval horizon 끝 구간 추가 적재 주기
+ * @param batchSize      상태 전이 UPDATE 한 번에 처리하는 작업 수
+ * @param retryDelay     전이 실패 시 재시도 지연
+ */
+@ConfigurationProperties(prefix = "qpeek.task.due")
+public record TaskDueSchedulerProperties(@DefaultValue("true") boolean enabled,
+                                         @DefaultValue("1s") Duration tick,
+                                         @DefaultValue("64") int wheelSize,
+                                         @DefaultValue("4") int levels,
+                                         @DefaultValue("8d") Duration horizon,
+                                         @DefaultValue("1h") Duration refillInterval,
+                                         @DefaultValue("500") int batchSize,
+                                         @DefaultValue("30s") Duration retryDelay) {
+}
@@ -0,0 +1,58 @@
+package org.qpeek.qpeek.application.task.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 큐별 head peek 캐시 (노드 로컬)
+ * <p>
+ * <설계 메모>
+ * - 큐마다 상위 maxDepth 개만 보관하고, 요청 limit 만큼 잘라서 반환.
+ * - 무효화는 커밋 이후에만 수행(evictAfterCommit)하여 커밋 전 스냅샷이 다시 캐시에 올라가지 않도록 한다.
+ * - Caffeine get(key, loader)는 키 단위로 적재/무효화를 직렬화하므로 적재 중 무효화된 값이 남지 않는다.
+ * - 무효화는 이 노드에서 커밋된 변경에만 적용된다. 다른 노드의 변경은 expireAfterWrite(기본 5s) 안에 반영되며,
+ *   이것이 peek 결과의 최대 지연(staleness) 상한이다.
+ */
+@Component
+public class TaskPeekCache {
+
+    private final Cache<Long, List<TaskPeekView>> cache;
+
+    public TaskPeekCache(TaskPeekProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.cachedQueues())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+    }
+
+    public List<TaskPeekView> get(Long queueId, Function<Long, List<TaskPeekView>> loader) {
+        return cache.get(queueId, loader);
+    }
+
+    public void evict(Long queueId) {
+        cache.invalidate(queueId);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후, 밖이면 즉시 무효화
+     */
+    public void evictAfterCommit(Long queueId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(queueId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(queueId);
+            }
+        });
+    }
+}
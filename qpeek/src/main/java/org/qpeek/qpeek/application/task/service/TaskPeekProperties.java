@@ -0,0 +1,17 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxDepth         큐마다 캐시에 보관하는 상위 작업 수(= peek 최대 limit)
+ * @param cachedQueues     캐시에 보관하는 최대 큐 수
+ * @param expireAfterWrite 적재 후 만료 시간 (다른 노드에서의 변경이 이 노드의 peek 에 반영되는 최대 지연)
+ */
+@ConfigurationProperties(prefix = "qpeek.task.peek")
+public record TaskPeekProperties(@DefaultValue("20") int maxDepth,
+                                 @DefaultValue("10000") long cachedQueues,
+                                 @DefaultValue("5s") Duration expireAfterWrite) {
+}
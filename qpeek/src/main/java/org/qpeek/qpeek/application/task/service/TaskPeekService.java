@@ -0,0 +1,34 @@
+package org.qpeek.qpeek.application.task.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 큐 head peek 유스케이스
+ * <p>
+ * <설계 메모>
+ * - 열린 작업(ACTIVE, OVERDUE) 상위 K개를 priority_index 순으로 반환. 마감이 지나도 큐에서 빠지지 않는다(OVERDUE 는 dueAt 으로 구분).
+ * - 부분 커버링 인덱스(idx_tasks_queue_open_priority_peek)로 Task 엔티티/본문(@Lob content) 로딩 없이 조회하고,
+ * 결과는 TaskPeekCache 에 큐 단위로 보관.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskPeekService {
+
+    private final TaskRepository taskRepository;
+    private final TaskPeekCache taskPeekCache;
+    private final TaskPeekProperties properties;
+
+    public List<TaskPeekView> peek(Long queueId, int limit) {
+        if (queueId == null) throw new IllegalArgumentException("queueId is null");
+        if (limit <= 0 || limit > properties.maxDepth())
+            throw new IllegalArgumentException("limit must be 1.." + properties.maxDepth());
+
+        List<TaskPeekView> head = taskPeekCache.get(queueId, id -> List.copyOf(taskRepository.findPeek(id, properties.maxDepth())));
+        return head.size() <= limit ? head : head.subList(0, limit);
+    }
+}
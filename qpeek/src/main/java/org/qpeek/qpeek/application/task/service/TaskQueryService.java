@@ -0,0 +1,48 @@
+package org.qpeek.qpeek.application.task.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.TaskListView;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.common.pagination.CursorPage;
+import org.qpeek.qpeek.common.pagination.KeysetCursor;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 작업 조회 유스케이스
+ * <p>
+ * <설계 메모>
+ * - 큐 내 목록은 (priority_index NULLS LAST, task_id) keyset 페이징. 커서 = (priorityIndex, taskId).
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskQueryService {
+
+    private final TaskRepository taskRepository;
+
+    public CursorPage<TaskListView> listTasks(Long queueId, TaskStatus status, String cursor, int size) {
+        if (queueId == null) throw new IllegalArgumentException("queueId is null");
+        if (status == null) throw new IllegalArgumentException("status is null");
+        CursorPage.validSize(size);
+
+        List<String> keys = KeysetCursor.decode(cursor, 2);
+        Long afterPriority = keys == null ? null : parseLong(keys.get(0));
+        Long afterTaskId = keys == null ? null : parseLong(keys.get(1));
+        if (keys != null && afterTaskId == null) throw new IllegalArgumentException("invalid cursor");
+
+        List<TaskListView> fetched = taskRepository.findPageByQueue(
+                queueId, status, afterPriority != null, afterPriority, afterTaskId, size + 1);
+        return CursorPage.of(fetched, size, last -> KeysetCursor.encode(last.priorityIndex(), last.taskId()));
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) return null;
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.qpeek.qpeek.application.task.service;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.QueueReorderCommand;
+import org.qpeek.qpeek.application.task.dto.QueueReorderResult;
+import org.qpeek.qpeek.application.task.dto.TaskRank;
+import org.qpeek.qpeek.application.task.event.QueueRebalanceRequested;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 작업 순서 변경 유스케이스
+ * <p>
+ * <설계 메모>
+ * - 드래그&드롭 이동은 이웃(prev/next) 키의 중간값만 기록하므로 UPDATE 1건, TaskQueue.version 은 건드리지 않는다.
+ * - 간격이 이미 소진된 경우에만 같은 트랜잭션에서 즉시 재정렬하고, 좁아진 경우는 커밋 후 비동기 재정렬을 요청한다.
+ * - 이동 / 비동기 재정렬(QueueRebalancer) / 일괄 재정렬은 모두 먼저 큐 행을 잠근다(FOR NO KEY UPDATE).
+ *   잠금 이후 문장은 앞선 변경이 커밋된 키를 읽으므로, 재정렬이 오래된 스냅샷으로 이동 결과를 덮어쓰지 않는다.
+ * - 이동은 잠금 후에 작업 엔티티를 읽는다. 재정렬이 올린 tasks.version 과 어긋난 엔티티를 flush 하지 않기 위해서다.
+ * - 일괄 재정렬(reorderAll)만 TaskQueue.version 을 검증/증가시키며, 버전 검증과 키 재부여는 한 문장으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskReorderService {
+
+    private final TaskRepository taskRepository;
+    private final TaskPeekCache taskPeekCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * taskId 를 prevTaskId 와 nextTaskId 사이로 이동 (null 이면 각각 맨 앞 / 맨 뒤)
+     */
+    @Transactional
+    public void moveBetween(Long taskId, Long prevTaskId, Long nextTaskId) {
+        taskRepository.lockQueueOfTask(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("task not found"));
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("task not found"));
+        TaskQueue queue = task.getQueue();
+        Long queueId = queue.getId();
+
+        Neighbours neighbours = loadNeighbours(queueId, taskId, prevTaskId, nextTaskId);
+        if (neighbours.hasUnranked() || !task.moveBetween(queue, neighbours.prev(), neighbours.next())) {
+            taskRepository.rebalance(queueId, taskId);
+            taskPeekCache.evictAfterCommit(queueId);
+            neighbours = loadNeighbours(queueId, taskId, prevTaskId, nextTaskId);
+            if (!task.moveBetween(queue, neighbours.prev(), neighbours.next())) {
+                throw new IllegalStateException("priority gap exhausted after rebalance");
+            }
+        }
+
+        if (PriorityRank.needsRebalance(neighbours.prev(), task.getPriorityIndex(), neighbours.next())) {
+            eventPublisher.publishEvent(new QueueRebalanceRequested(queueId));
+        }
+    }
+
+
+    /**
+     * 큐 전체 순서를 한 번에 반영 (버전 검증 1회 + 집합 기반 UPDATE 1문장)
+     *
+     * @return 증가된 TaskQueue.version
+     */
+    @Transactional
+    public Long reorderAll(QueueReorderCommand command) {
+        List<Long> ids = validOrderedIds(command.orderedTaskIds());
+        if (command.queueId() == null) throw new IllegalArgumentException("queueId is null");
+        if (command.expectedVersion() == null) throw new IllegalArgumentException("expectedVersion is null");
+
+        if (!taskRepository.lockQueue(command.queueId())) throw new IllegalArgumentException("queue not found");
+        QueueReorderResult result = taskRepository.reorder(command.queueId(), command.expectedVersion(), ids);
+        if (!result.versionMatched()) throw new IllegalStateException("queue version mismatch");
+        if (result.matchedTasks() != ids.size()) throw new IllegalArgumentException("task not found in queue"); // 롤백
+        taskPeekCache.evictAfterCommit(command.queueId());
+        return result.newVersion();
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private Neighbours loadNeighbours(Long queueId, Long taskId, Long prevTaskId, Long nextTaskId) {
+        if (prevTaskId != null && Objects.equals(prevTaskId, nextTaskId))
+            throw new IllegalArgumentException("prev and next must be different tasks");
+        if (taskId.equals(prevTaskId) || taskId.equals(nextTaskId))
+            throw new IllegalArgumentException("task cannot be its own neighbour");
+
+        List<Long> ids = new ArrayList<>(2);
+        if (prevTaskId != null) ids.add(prevTaskId);
+        if (nextTaskId != null) ids.add(nextTaskId);
+
+        Map<Long, TaskRank> ranks = taskRepository.findRanksForShare(queueId, ids).stream()
+                .collect(Collectors.toMap(TaskRank::taskId, Function.identity()));
+        if (ranks.size() != ids.size()) throw new IllegalArgumentException("neighbour task not found in queue");
+
+        TaskRank prev = prevTaskId == null ? null : ranks.get(prevTaskId);
+        TaskRank next = nextTaskId == null ? null : ranks.get(nextTaskId);
+        boolean unranked = (prev != null && prev.priorityIndex() == null) || (next != null && next.priorityIndex() == null);
+        return new Neighbours(
+                prev == null ? null : prev.priorityIndex(),
+                next == null ? null : next.priorityIndex(),
+                unranked);
+    }
+
+    private static List<Long> validOrderedIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) throw new IllegalArgumentException("orderedTaskIds is empty");
+        if (ids.contains(null)) throw new IllegalArgumentException("orderedTaskIds contains null");
+        if (new HashSet<>(ids).size() != ids.size()) throw new IllegalArgumentException("orderedTaskIds has duplicates");
+        return ids;
+    }
+
+    private record Neighbours(Long prev, Long next, boolean hasUnranked) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.qpeek.qpeek.application.trash.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 보관 기간이 끝나 하드 삭제 대상으로 점유한 휴지통 항목
+ */
+public record ExpiredTrash(Long trashItemId, Long taskId, OffsetDateTime trashedAt) {
+}
@@ -0,0 +1,31 @@
+package org.qpeek.qpeek.application.trash.repository;
+
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.trash.entity.TrashItem;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TrashItemRepository {
+
+    TrashItem save(TrashItem trashItem);
+
+    void deleteByTaskId(Long taskId);
+
+    /**
+     * 휴지통이 아닌 작업들을 TRASHED 로 전이하고 휴지통 항목을 만든다 (작업 UPDATE 1회 + 항목 INSERT 1회를 한 문장으로)
+     * <p>
+     * 작업당 항목 1개(uk_trash_item_task): 이미 항목이 있으면 새 보관 기간으로 덮어쓴다.
+     *
+     * @return 실제로 전이된 작업의 상태 변경 (없는 작업/이미 휴지통인 작업은 제외)
+     */
+    List<TaskStatusChanged> trashAll(Collection<Long> taskIds, OffsetDateTime trashedAt, OffsetDateTime retentionUntil);
+
+    /**
+     * 휴지통 작업들을 복구(Task.restore 와 같은 규칙)하고 휴지통 항목을 삭제한다 (한 문장)
+     *
+     * @return 실제로 복구된 작업의 상태 변경 (휴지통이 아닌 작업은 제외)
+     */
+    List<TaskStatusChanged> restoreAll(Collection<Long> taskIds, OffsetDateTime now);
+}
@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.application.trash.repository;
+
+import org.qpeek.qpeek.application.trash.dto.ExpiredTrash;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface TrashPurgeRepository {
+
+    /**
+     * retention_until <= now 인 휴지통 항목을 만료 순으로 limit 개까지 점유 (다른 노드가 잠근 행은 건너뜀)
+     */
+    List<ExpiredTrash> claimExpired(OffsetDateTime now, int limit);
+
+    /**
+     * 점유한 항목의 작업과 종속 행(알림, 완료 로그, 휴지통 항목)을 삭제하고 하드 삭제 이력을 남긴다.
+     *
+     * @return 삭제한 작업 수
+     */
+    int purge(List<ExpiredTrash> claimed, OffsetDateTime hardDeletedAt);
+}
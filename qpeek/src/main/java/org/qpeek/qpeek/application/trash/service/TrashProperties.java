@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.application.trash.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param retention 휴지통 보관 기간 (trashedAt + retention 이후 하드 삭제 대상)
+ * @param chunkSize 일괄 휴지통 이동/복구에서 문장(SQL 왕복) 하나가 처리할 최대 작업 수
+ */
+@ConfigurationProperties(prefix = "qpeek.trash")
+public record TrashProperties(@DefaultValue("30d") Duration retention,
+                              @DefaultValue("500") int chunkSize) {
+}
@@ -0,0 +1,27 @@
+package org.qpeek.qpeek.application.trash.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled           휴지통 만료 항목 하드 삭제 사용 여부
+ * @param pollInterval      만료 항목 확인 주기 (밀려 있는 동안은 한 주기 안에서 청크를 이어서 처리)
+ * @param chunkSize         청크(= 트랜잭션) 하나에서 삭제할 최대 작업 수
+ * @param rowsPerSecond     평시 초당 삭제 작업 수 상한
+ * @param peakRowsPerSecond 피크 시간대 초당 삭제 작업 수 상한. 0 이면 피크 시간대에는 삭제하지 않음
+ * @param peakStartHour     피크 시작 시각(0~23시, 포함)
+ * @param peakEndHour       피크 종료 시각(0~24시, 제외). 시작보다 작으면 자정을 넘는 구간, 같으면 피크 없음
+ * @param peakZone          피크 시각을 해석할 시간대
+ */
+@ConfigurationProperties(prefix = "qpeek.trash.purge")
+public record TrashPurgeProperties(@DefaultValue("true") boolean enabled,
+                                   @DefaultValue("1m") Duration pollInterval,
+                                   @DefaultValue("500") int chunkSize,
+                                   @DefaultValue("2000") double rowsPerSecond,
+                                   @DefaultValue("200") double peakRowsPerSecond,
+                                   @DefaultValue("9") int peakStartHour,
+                                   @DefaultValue("23") int peakEndHour,
+                                   @DefaultValue("Asia/Seoul") String peakZone) {
+}
@@ -0,0 +1,117 @@
+package org.qpeek.qpeek.application.trash.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.trash.dto.ExpiredTrash;
+import org.qpeek.qpeek.application.trash.repository.TrashPurgeRepository;
+import org.qpeek.qpeek.common.ratelimit.PurgePacing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 휴지통 만료 항목 하드 삭제 (다중 노드)
+ * <p>
+ * <정책>
+ * - retention_until 이 지난 휴지통 항목을 만료 순으로 chunkSize 만큼 점유 → 작업과 종속 행(알림, 완료 로그, 휴지통 항목) 삭제
+ *   → 삭제한 작업마다 TaskHardDeleteLog 1건. 청크 하나가 트랜잭션 하나.
+ * - 청크가 가득 차 있으면 같은 주기 안에서 이어서 처리하되, 청크 사이에 PurgePacing 이 정한 만큼 쉰다.
+ * - 피크 시간대 상한이 0 이면 피크 동안에는 시작하지 않고, 진행 중이던 주기도 다음 청크 전에 멈춘다.
+ * <p>
+ * <설계 메모>
+ * - FOR UPDATE SKIP LOCKED: 노드마다 서로 다른 항목을 가져가므로 노드를 늘리면 처리량이 늘고, 같은 작업을 두 번 지우지 않는다.
+ *   속도 상한은 노드별이므로 전체 상한은 (노드 수 × 상한).
+ * - 청크당 SQL 왕복은 점유 1회 + 삭제/이력 1회(데이터 변경 CTE). 행 단위 엔티티 삭제/이력 INSERT 를 하지 않는다.
+ * - 쉬는 동안 스케줄러 스레드를 붙잡지 않도록 전용 스레드(최저 우선순위)에서 실행. 주기 중복 실행은 running 플래그로 막는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "qpeek.trash.purge", name = "enabled", matchIfMissing = true)
+public class TrashPurger {
+
+    private final TrashPurgeRepository trashPurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TrashPurgeProperties properties;
+    private final PurgePacing pacing;
+    private final Clock clock;
+
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TrashPurger(TrashPurgeRepository trashPurgeRepository,
+                       PlatformTransactionManager transactionManager,
+                       TrashPurgeProperties properties,
+                       Clock clock) {
+        if (properties.chunkSize() < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        this.trashPurgeRepository = trashPurgeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.pacing = new PurgePacing(properties.rowsPerSecond(), properties.peakRowsPerSecond(),
+                properties.peakStartHour(), properties.peakEndHour(), ZoneId.of(properties.peakZone()));
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("trash-purge").daemon(true).priority(Thread.MIN_PRIORITY).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${qpeek.trash.purge.poll-interval:1m}")
+    public void poll() {
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // 진행 중이던 청크는 롤백되고 다음 기동에서 다시 점유
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private void drain() {
+        int total = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted() && pacing.rateAt(clock.instant()) > 0) {
+                long startedNanos = System.nanoTime();
+                Chunk chunk = transactionTemplate.execute(status -> purgeChunk());
+                total += chunk.purged();
+                if (chunk.claimed() < properties.chunkSize()) return;
+
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+                Thread.sleep(pacing.pauseAfter(chunk.purged(), elapsed, clock.instant()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("trash purge failed. retry on next poll", e);
+        } finally {
+            running.set(false);
+            if (total > 0) log.info("trash purged. tasks={}", total);
+        }
+    }
+
+    private Chunk purgeChunk() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<ExpiredTrash> claimed = trashPurgeRepository.claimExpired(now, properties.chunkSize());
+        return new Chunk(claimed.size(), trashPurgeRepository.purge(claimed, now));
+    }
+
+    /**
+     * @param claimed 점유한 휴지통 항목 수 (chunkSize 와 같으면 밀려 있음)
+     * @param purged  실제 삭제한 작업 수
+     */
+    private record Chunk(int claimed, int purged) {
+    }
+}
@@ -0,0 +1,10 @@
+package org.qpeek.qpeek.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    // 기본 실행기는 Spring Boot 의 applicationTaskExecutor 사용.
+}
@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC(); // UTC 저장 원칙, 회원 타임존 변환은 조회/배치 시점에 수행
+    }
+}
@@ -0,0 +1,10 @@
+package org.qpeek.qpeek.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // 기본 스케줄러는 Spring Boot 의 taskScheduler 사용.
+}
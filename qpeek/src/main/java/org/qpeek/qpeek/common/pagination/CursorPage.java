@@ -0,0 +1,30 @@
+package org.qpeek.qpeek.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * size + 1 개로 조회한 결과에서 페이지를 만든다. 초과분이 있으면 마지막 항목 기준으로 다음 커서 생성.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) return new CursorPage<>(List.copyOf(fetched), null);
+        List<T> items = List.copyOf(fetched.subList(0, size));
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    public static int validSize(int size) {
+        if (size <= 0 || size > MAX_SIZE) throw new IllegalArgumentException("size must be 1.." + MAX_SIZE);
+        return size;
+    }
+}
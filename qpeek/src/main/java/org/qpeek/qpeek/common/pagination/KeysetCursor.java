@@ -0,0 +1,62 @@
+package org.qpeek.qpeek.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * KeysetCursor (불투명 커서 인코딩)
+ * <p>
+ * <정책>
+ * - 커서는 마지막으로 반환한 행의 정렬 키 값들을 담는다. 클라이언트에는 Base64URL 문자열로만 노출.
+ * - 형식: "v1" + 구분자 + 키 값들. 키 값은 숫자/타임스탬프 문자열만 사용하며 null 은 "~" 로 표기.
+ * - 형식/버전/개수가 맞지 않으면 IllegalArgumentException("invalid cursor").
+ * <p>
+ * <설계 메모>
+ * - OFFSET 대신 "WHERE (정렬키) > (커서키) ORDER BY 정렬키 LIMIT n" 으로 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+    private static final String NULL_TOKEN = "~";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder(VERSION);
+        for (Object key : keys) {
+            String value = key == null ? NULL_TOKEN : key.toString();
+            if (value.contains(DELIMITER)) throw new IllegalArgumentException("cursor key contains delimiter");
+            sb.append(DELIMITER).append(value);
+        }
+        return ENCODER.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 키 값 목록(null 키는 null), 커서가 null/blank 이면 null(첫 페이지)
+     */
+    public static List<String> decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        String raw;
+        try {
+            raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+
+        String[] parts = raw.split("\\" + DELIMITER, -1);
+        if (parts.length != keyCount + 1 || !VERSION.equals(parts[0]))
+            throw new IllegalArgumentException("invalid cursor");
+
+        return Arrays.stream(parts, 1, parts.length)
+                .map(part -> NULL_TOKEN.equals(part) ? null : part)
+                .toList();
+    }
+}
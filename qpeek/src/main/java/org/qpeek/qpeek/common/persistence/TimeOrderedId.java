@@ -0,0 +1,18 @@
+package org.qpeek.qpeek.common.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 global_sequence 대신 노드 로컬 시간 순 값(TimeOrderedIds)으로 발급.
+ * {@code @GeneratedValue} 대신 {@code @Id} 필드에 붙인다. 엔티티 단위로 선택.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
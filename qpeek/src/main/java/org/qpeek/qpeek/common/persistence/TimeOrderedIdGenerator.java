@@ -0,0 +1,82 @@
+package org.qpeek.qpeek.common.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.IdentifierGenerationException;
+
+import java.io.Serial;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link TimeOrderedId} 용 Hibernate 식별자 생성기
+ * <p>
+ * <정책>
+ * - 노드 번호 임대(IdNodeLeaser)가 activate 한 뒤에만 발급. 임대 전이거나 임대 유효 시각이 지났으면 INSERT 를 실패시킨다
+ *   (다른 노드가 같은 번호를 이어받았을 수 있으므로 중복 대신 실패를 택함).
+ * <p>
+ * <설계 메모>
+ * - 생성기는 Hibernate 가 직접 만들므로 임대 상태는 정적 참조로 공유한다(프로세스당 노드 번호 1개).
+ * - INSERT 전에 값이 정해지므로(BeforeExecutionGenerator) JDBC 배치 INSERT 가 유지된다.
+ * - 유효 시각은 System.nanoTime 기준(벽시계 보정에 영향받지 않음).
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    @Serial
+    private static final long serialVersionUID = -3127454069261733810L;
+
+    private static final AtomicReference<Lease> LEASE = new AtomicReference<>();
+
+    /**
+     * 임대받은 노드로 발급 시작. validUntilNanos(System.nanoTime 기준)까지 유효
+     */
+    public static void activate(TimeOrderedIds ids, long validUntilNanos) {
+        if (ids == null) throw new IllegalArgumentException("ids is null");
+        LEASE.set(new Lease(ids, validUntilNanos));
+    }
+
+    /**
+     * 같은 노드 번호의 임대가 연장되었을 때 유효 시각 갱신 (다른 번호로 바뀌었으면 무시)
+     */
+    public static void extend(int nodeId, long validUntilNanos) {
+        LEASE.updateAndGet(lease -> lease != null && lease.ids().nodeId() == nodeId ? new Lease(lease.ids(), validUntilNanos) : lease);
+    }
+
+    public static void deactivate() {
+        LEASE.set(null);
+    }
+
+    /**
+     * JDBC 일괄 INSERT 용 발급 (엔티티 INSERT 와 같은 임대/규칙, 한 테이블의 식별자 체계를 섞지 않기 위해 사용)
+     */
+    public static long[] nextIds(int count) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        TimeOrderedIds ids = leased();
+        long[] issued = new long[count];
+        for (int i = 0; i < count; i++) issued[i] = ids.next();
+        return issued;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return leased().next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+
+    private static TimeOrderedIds leased() {
+        Lease lease = LEASE.get();
+        if (lease == null) throw new IdentifierGenerationException("time ordered id node is not leased");
+        if (System.nanoTime() - lease.validUntilNanos() >= 0) {
+            throw new IdentifierGenerationException("time ordered id node lease expired. nodeId=" + lease.ids().nodeId());
+        }
+        return lease.ids();
+    }
+
+    private record Lease(TimeOrderedIds ids, long validUntilNanos) {
+    }
+}
@@ -0,0 +1,79 @@
+package org.qpeek.qpeek.common.persistence;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순 64비트 식별자 발급기 (노드 1개분, 순수 로직)
+ * <p>
+ * <정책>
+ * - 배치: 부호 0 | 밀리초 41비트(EPOCH 이후, 약 69년) | 노드 10비트(0..1023) | 카운터 12비트(밀리초당 4096개).
+ * - 같은 노드 안에서는 항상 증가한다. 시계가 뒤로 가거나 한 밀리초의 카운터를 다 쓰면 다음 밀리초를 미리 당겨 쓴다(대기 없음).
+ * - floorMillis(epoch ms) 이하의 시각으로는 발급하지 않는다. 노드 번호를 이어받을 때 이전 보유자의 임대 만료 시각을 넘긴다.
+ * <p>
+ * <설계 메모>
+ * - 2026년 이후 발급값은 2^57 이상이므로 global_sequence 로 발급된 값(그보다 훨씬 작음)과 겹치지 않고 항상 크다.
+ * - 노드 번호가 다르면 값이 겹치지 않으므로 노드 사이 조율 없이 메모리에서 발급(DB 왕복 0회).
+ */
+public final class TimeOrderedIds {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int COUNTER_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    public static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+    public static final long MAX_TIMESTAMP = (1L << (Long.SIZE - 1 - NODE_BITS - COUNTER_BITS)) - 1;
+
+    private final int nodeId;
+    private final LongSupplier clockMillis;
+
+    private long lastMillis; // EPOCH 기준
+    private int counter;
+
+    /**
+     * @param nodeId      임대받은 노드 번호 (0..MAX_NODE_ID)
+     * @param floorMillis 이 시각(epoch ms) 이하로는 발급하지 않음
+     * @param clockMillis 현재 시각(epoch ms)
+     */
+    public TimeOrderedIds(int nodeId, long floorMillis, LongSupplier clockMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) throw new IllegalArgumentException("nodeId must be 0.." + MAX_NODE_ID);
+        if (clockMillis == null) throw new IllegalArgumentException("clockMillis is null");
+        this.nodeId = nodeId;
+        this.clockMillis = clockMillis;
+        this.lastMillis = Math.max(floorMillis - EPOCH_MILLIS, -1);
+        this.counter = MAX_COUNTER; // 첫 발급은 floor 다음 밀리초 이후
+    }
+
+    public int nodeId() {
+        return nodeId;
+    }
+
+    public synchronized long next() {
+        long millis = clockMillis.getAsLong() - EPOCH_MILLIS;
+        if (millis > lastMillis) {
+            lastMillis = millis;
+            counter = 0;
+        } else if (++counter > MAX_COUNTER) {
+            lastMillis++;
+            counter = 0;
+        }
+        if (lastMillis < 0 || lastMillis > MAX_TIMESTAMP) throw new IllegalStateException("clock out of id range");
+        return (lastMillis << (NODE_BITS + COUNTER_BITS)) | ((long) nodeId << COUNTER_BITS) | counter;
+    }
+
+
+    // 식별자 해석 ----------------------------------------------------------------
+
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + COUNTER_BITS)) + EPOCH_MILLIS);
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) (id >>> COUNTER_BITS) & MAX_NODE_ID;
+    }
+
+    public static int counterOf(long id) {
+        return (int) id & MAX_COUNTER;
+    }
+}
@@ -0,0 +1,65 @@
+package org.qpeek.qpeek.common.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * PurgePacing (청크 단위 대량 삭제 속도 조절)
+ * <p>
+ * <정책>
+ * - [peakStartHour, peakEndHour) 시간대(peakZone 기준)에는 peakRowsPerSecond, 그 밖에는 rowsPerSecond 를 상한으로 한다.
+ * - 청크 하나를 끝낸 뒤에는 (삭제 행 수 / 초당 상한) 에서 청크에 걸린 시간을 뺀 만큼 쉰다 → 평균 속도가 상한을 넘지 않는다.
+ * <p>
+ * <설계 메모>
+ * - 청크 처리 시간을 빼 주므로 DB 가 느려지면(= I/O 포화) 쉬는 시간이 줄지 않고 처리 속도 자체가 떨어진다.
+ * - 초당 상한 0 은 "해당 시간대에는 삭제하지 않음" 으로 해석(쉬는 시간 계산에는 쓰지 않는다).
+ */
+public final class PurgePacing {
+
+    private final double rowsPerSecond;
+    private final double peakRowsPerSecond;
+    private final int peakStartHour;
+    private final int peakEndHour;
+    private final ZoneId peakZone;
+
+    public PurgePacing(double rowsPerSecond, double peakRowsPerSecond, int peakStartHour, int peakEndHour, ZoneId peakZone) {
+        if (!(rowsPerSecond > 0)) throw new IllegalArgumentException("rowsPerSecond must be > 0");
+        if (!(peakRowsPerSecond >= 0)) throw new IllegalArgumentException("peakRowsPerSecond must be >= 0");
+        if (peakStartHour < 0 || peakStartHour > 23) throw new IllegalArgumentException("peakStartHour must be in [0, 23]");
+        if (peakEndHour < 0 || peakEndHour > 24) throw new IllegalArgumentException("peakEndHour must be in [0, 24]");
+        if (peakZone == null) throw new IllegalArgumentException("peakZone is null");
+        this.rowsPerSecond = rowsPerSecond;
+        this.peakRowsPerSecond = peakRowsPerSecond;
+        this.peakStartHour = peakStartHour;
+        this.peakEndHour = peakEndHour;
+        this.peakZone = peakZone;
+    }
+
+    /**
+     * now 시각의 초당 삭제 상한 (0 이면 삭제하지 않음)
+     */
+    public double rateAt(Instant now) {
+        return isPeak(now) ? peakRowsPerSecond : rowsPerSecond;
+    }
+
+    public boolean isPeak(Instant now) {
+        int hour = now.atZone(peakZone).getHour();
+        if (peakStartHour == peakEndHour) return false;
+        if (peakStartHour < peakEndHour) return hour >= peakStartHour && hour < peakEndHour;
+        return hour >= peakStartHour || hour < peakEndHour;
+    }
+
+    /**
+     * purged 건을 elapsed 동안 삭제하고 now 에 끝났을 때 다음 청크까지 쉴 시간
+     */
+    public Duration pauseAfter(int purged, Duration elapsed, Instant now) {
+        if (purged < 0) throw new IllegalArgumentException("purged must be >= 0");
+        if (elapsed == null) throw new IllegalArgumentException("elapsed is null");
+        double rate = rateAt(now);
+        if (purged == 0 || rate <= 0) return Duration.ZERO;
+        Duration budget = Duration.ofNanos((long) (purged * 1_000_000_000d / rate));
+        Duration pause = budget.minus(elapsed);
+        return pause.isNegative() ? Duration.ZERO : pause;
+    }
+}
@@ -0,0 +1,56 @@
+package org.qpeek.qpeek.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenBucket (lock-free 토큰 버킷)
+ * <p>
+ * <정책>
+ * - 초당 ratePerSecond 개 보충, 최대 burst 개까지 저장.
+ * - tryAcquire: 토큰이 있으면 0, 없으면 다음 토큰까지 기다려야 하는 나노초를 반환(소비하지 않음).
+ * <p>
+ * <설계 메모>
+ * - GCRA(Generic Cell Rate Algorithm) 형태: 상태는 "이론상 다음 도착 시각(tat)" 하나뿐이라 AtomicLong CAS 로 갱신.
+ *   tat - now 가 (burst - 1) * interval 이하이면 허용. 토큰 버킷과 동일한 허용 패턴.
+ * - 락/할당 없이 경쟁 스레드 간 정확한 허용 수 보장.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (!(ratePerSecond > 0)) throw new IllegalArgumentException("ratePerSecond must be > 0");
+        if (burst < 1) throw new IllegalArgumentException("burst must be >= 1");
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0 이면 토큰 1개 소비, 양수면 그만큼 기다린 뒤 다시 시도해야 함
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            long waitNanos = base - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) return waitNanos;
+            if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) return 0;
+        }
+    }
+
+    /**
+     * 소비한 토큰 1개 반환 (다른 버킷에서 거절되어 실제 발송하지 않은 경우)
+     */
+    public void refund(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long refunded = tat - intervalNanos;
+            if (refunded - nowNanos < 0) refunded = nowNanos;
+            if (refunded == tat || theoreticalArrival.compareAndSet(tat, refunded)) return;
+        }
+    }
+}
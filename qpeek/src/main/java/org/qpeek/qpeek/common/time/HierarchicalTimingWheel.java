@@ -0,0 +1,187 @@
+package org.qpeek.qpeek.common.time;
+
+import java.util.*;
+
+/**
+ * HierarchicalTimingWheel (계층형 타이밍 휠)
+ * <p>
+ * <정책>
+ * - 키 단위로 만료 시각(epoch millis)을 등록하고, advanceTo(now) 호출 시 deadline <= now 인 키를 반환한다.
+ * - 같은 키를 다시 등록하면 이전 등록을 대체한다(재스케줄). cancel 로 제거.
+ * - 만료 판정 단위는 tick. 반환은 최대 1 tick 늦을 수 있으나 deadline 이전에 반환되지는 않는다.
+ * <p>
+ * <설계 메모>
+ * - level i 의 슬롯 하나는 tick * wheelSize^i 구간을 담당. 상위 슬롯은 시작 시각에 하위 레벨로 재배치(cascade).
+ * - 등록/취소 O(1), 진행은 tick 당 O(1) + 만료 건수. 전체 스캔 없이 가까운 마감부터 처리.
+ * - 최상위 구간을 넘는 항목은 overflow(정렬 집합)에 보관하다가 최상위 레벨 회전 시 편입.
+ * - 스레드 안전: 모든 공개 메서드는 인스턴스 락으로 직렬화.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Set<Entry<K>>>> levels;
+    private final NavigableSet<Entry<K>> overflow = new TreeSet<>();
+    private final List<Entry<K>> ready = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private long currentTime;
+    private long sequence;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be > 0");
+        if (wheelSize < 2) throw new IllegalArgumentException("wheelSize must be >= 2");
+        if (levelCount < 1) throw new IllegalArgumentException("levelCount must be >= 1");
+
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+        long span = tickMillis;
+        for (int i = 0; i < levelCount; i++) {
+            spans[i] = span;
+            List<Set<Entry<K>>> buckets = new ArrayList<>(wheelSize);
+            for (int b = 0; b < wheelSize; b++) buckets.add(new LinkedHashSet<>());
+            levels.add(buckets);
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTime = Math.floorDiv(startMillis, tickMillis) * tickMillis;
+    }
+
+
+    // 공개 API ----------------------------------------------------------------
+
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Objects.requireNonNull(key, "key");
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, deadlineMillis, sequence++);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * 이미 등록된 키면 무시 (주기 적재가 더 최신의 증분 등록을 덮어쓰지 않도록)
+     */
+    public synchronized boolean scheduleIfAbsent(K key, long deadlineMillis) {
+        if (entries.containsKey(key)) return false;
+        schedule(key, deadlineMillis);
+        return true;
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) return false;
+        if (entry.bucket != null) entry.bucket.remove(entry);
+        else if (!overflow.remove(entry)) ready.remove(entry);
+        return true;
+    }
+
+    /**
+     * now 까지 시간을 진행하고 만료된 키 목록을 반환 (deadline 오름차순 보장하지 않음)
+     */
+    public synchronized List<K> advanceTo(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drainReady(expired);
+
+        while (currentTime + tickMillis <= nowMillis) {
+            cascade();
+            Set<Entry<K>> bucket = bucketOf(0, currentTime);
+            for (Entry<K> entry : bucket) {
+                entries.remove(entry.key);
+                entry.bucket = null;
+                expired.add(entry.key);
+            }
+            bucket.clear();
+            currentTime += tickMillis;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private void place(Entry<K> entry) {
+        if (entry.deadline < currentTime) {
+            ready.add(entry);
+            return;
+        }
+        for (int i = 0; i < spans.length; i++) {
+            long distance = Math.floorDiv(entry.deadline, spans[i]) - Math.floorDiv(currentTime, spans[i]);
+            boolean notCurrentSlot = i == 0 || distance >= 1; // 상위 레벨의 현재 슬롯은 이미 재배치 시점이 지남
+            if (notCurrentSlot && distance < wheelSize) {
+                Set<Entry<K>> bucket = bucketOf(i, entry.deadline);
+                bucket.add(entry);
+                entry.bucket = bucket;
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private void cascade() {
+        for (int i = spans.length - 1; i >= 1; i--) {
+            if (Math.floorMod(currentTime, spans[i]) != 0) continue;
+            if (i == spans.length - 1) pullOverflow();
+
+            Set<Entry<K>> bucket = bucketOf(i, currentTime);
+            List<Entry<K>> moved = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<K> entry : moved) {
+                entry.bucket = null;
+                place(entry);
+            }
+        }
+    }
+
+    private void pullOverflow() {
+        long top = spans[spans.length - 1];
+        while (!overflow.isEmpty()) {
+            Entry<K> first = overflow.first();
+            if (Math.floorDiv(first.deadline, top) - Math.floorDiv(currentTime, top) >= wheelSize) return;
+            overflow.pollFirst();
+            place(first);
+        }
+    }
+
+    private void drainReady(List<K> expired) {
+        for (Entry<K> entry : ready) {
+            entries.remove(entry.key);
+            expired.add(entry.key);
+        }
+        ready.clear();
+    }
+
+    private Set<Entry<K>> bucketOf(int level, long time) {
+        return levels.get(level).get((int) Math.floorMod(Math.floorDiv(time, spans[level]), (long) wheelSize));
+    }
+
+    private static final class Entry<K> implements Comparable<Entry<K>> {
+        private final K key;
+        private final long deadline;
+        private final long seq;
+        private Set<Entry<K>> bucket;
+
+        private Entry(K key, long deadline, long seq) {
+            this.key = key;
+            this.deadline = deadline;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Entry<K> other) {
+            int byDeadline = Long.compare(deadline, other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(seq, other.seq);
+        }
+    }
+}
@@ -30,6 +30,8 @@ import java.util.Objects;
  * <설계 메모>
  * - 유니크 제약: (member_id, name)으로 회원별 이름 중복 방지.
  * - 인덱스: member_id, deleted_at(활성 목록/정리 배치 성능 목적). 운영 시 WHERE deleted_at IS NULL 부분 인덱스 고려 가능.
+ * - 인덱스: (member_id, created_at)으로 회원별 목록을 생성일 순 keyset 페이징.
+ * - 삭제 전략: deleteByOwner 는 소프트 삭제만 한다. 하위 작업 → 큐 → 저장소 행은 DatabasePurger 가 청크 단위로 정리.
  */
 @Entity
 @Getter
@@ -37,6 +39,7 @@ import java.util.Objects;
         uniqueConstraints = @UniqueConstraint(name = "uk_databases_member_name", columnNames = {"member_id", "name"}),
         indexes = {
                 @Index(name = "idx_databases_member", columnList = "member_id"),
+                @Index(name = "idx_databases_member_created_at", columnList = "member_id, created_at"),
                 @Index(name = "idx_databases_deleted_at", columnList = "deleted_at")
         })
 @Check(constraints = "name <> ''")
@@ -15,13 +15,24 @@ import org.qpeek.qpeek.domain.task.enums.TaskStatus;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 
+/**
+ * CompletionLog (작업 완료 기록, 삽입 전용)
+ * <p>
+ * <설계 메모>
+ * - 테이블은 completed_at(UTC) 월 단위 범위 분할 (db/extension/007, CompletionLogPartitionManager).
+ *   기간 조건이 있는 조회는 해당 월 파티션만 읽는다.
+ * - 분할 테이블의 유일 제약은 분할 키를 포함해야 하므로 uk_completion_task = (task_id, completed_at).
+ *   작업당 1건은 완료/재개 시 작업 행 잠금(TaskCommandService, 동시 완료를 직렬화) + Task 의 @Version
+ *   + CompletionLogWriter(재개 시 삭제, 재완료 시 교체)가 보장한다.
+ * - local_date(일 롤업 날짜, 기록 시점 회원 현지 날짜)는 저장소가 INSERT 문장에서 채우는 컬럼이라 매핑하지 않는다(db/extension/016).
+ * - 시간 인덱스는 BRIN(idx_completion_completed_at_brin, 확장 스크립트). 큐별 조회는 idx_completion_queue_date.
+ */
 @Entity
 @Getter
 @Table(name = "completion_logs",
-        uniqueConstraints = @UniqueConstraint(name = "uk_completion_task", columnNames = "task_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_completion_task", columnNames = {"task_id", "completed_at"}),
         indexes = {
-                @Index(name = "idx_completion_queue_date", columnList = "queue_id, completed_at"),
-                @Index(name = "idx_completion_completed_at", columnList = "completed_at")
+                @Index(name = "idx_completion_queue_date", columnList = "queue_id, completed_at")
         })
 @Check(constraints = "progress BETWEEN 0 AND 100 AND btrim(title_snapshot) <> ''")
 @ToString(of = {"id", "queueId", "completedAt", "progress"})
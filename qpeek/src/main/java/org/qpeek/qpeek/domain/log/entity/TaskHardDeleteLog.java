@@ -24,6 +24,7 @@ import java.time.OffsetDateTime;
  * - 조회 최적화를 위해 taskId / hardDeletedAt 인덱스 구성.
  * - 무결성 제약: hard_deleted_at >= trashed_at.
  * - 로그 테이블이므로 UPDATE 최소화(대부분 INSERT-only).
+ * - 보관 기간이 지난 행은 HardDeleteLogArchiver 가 압축 보관 파일(월 파티션)로 옮기고 테이블에서 삭제.
  * - 보존 기간(retention) 정책 증빙이 필요 없다면 단순히 trashedAt과 hardDeletedAt만 기록.
  * (정책 추적이 필요하면 별도 테이블/정책 버전으로 관리)
  */
@@ -8,9 +8,11 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.Check;
 import org.qpeek.qpeek.common.entity.BaseEntity;
+import org.qpeek.qpeek.common.persistence.TimeOrderedId;
 import org.qpeek.qpeek.domain.member.entity.Member;
 import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
 import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.notification.service.DeliveryBackoff;
 import org.qpeek.qpeek.domain.task.entity.Task;
 
 import java.time.Clock;
@@ -24,11 +26,17 @@ import java.time.OffsetDateTime;
  * - task: 관련 작업(선택). report 타입 등은 null 가능. 생성 후 변경 불가(updatable=false).
  * - type: D-1 / IMMINENT / DUE / OVERDUE / REPORT 등 알림 유형.
  * - channel: EMAIL / KAKAO / SLACK / WEBPUSH 등 발송 채널.
- * - scheduledAt: 발송 예정 시각(timestamptz). null 불가.
- * - sentAt: 실제 발송 시각(timestamptz). null이면 아직 미발송 상태.
+ * - scheduledAt: 계획된 발송 시각(timestamptz). null 불가. 발송/실패/속도 제한으로는 바뀌지 않는다(리마인더 중복 판단 키).
+ * - nextAttemptAt: 다음 발송 시도 시각(timestamptz). 생성/reschedule 시 scheduledAt 과 같고, 재시도·속도 제한 대기만 이 값을 미룬다.
+ * - sentAt: 실제 발송 시각(timestamptz). null이면 아직 미발송 상태. 다이제스트 조기 발송이면 scheduledAt 보다 이르다.
+ * - attemptCount: 발송 실패 누적 횟수. lastError: 마지막 실패 사유(최대 500자).
+ * - 발송 실패 시 DeliveryBackoff 에 따라 nextAttemptAt 을 미룬다(지수 백오프 + jitter).
+ * - deadLetteredAt: 재시도 한도에 도달한 시각. dead letter 는 발송/재스케줄 대상이 아니다.
  * <설계 메모>
  * - 인덱스: (scheduled_at), (member_id, scheduled_at), (task_id), (sent_at) 권장.
- * - 무결성: sent_at >= scheduled_at 또는 sent_at IS NULL 보장(@Check).
+ *   발송 대기 부분 인덱스(sent_at IS NULL AND dead_lettered_at IS NULL, next_attempt_at 기준)는 db/extension 에서 생성.
+ * - 식별자: 알림 일괄 생성(리마인더 전개)이 잦아 global_sequence 대신 노드 로컬 시간 순 식별자(@TimeOrderedId) 사용.
+ * - 무결성: 발송 완료와 dead letter 는 동시에 불가, attempt_count >= 0 (@Check).
  */
 @Entity
 @Getter
@@ -39,13 +47,15 @@ import java.time.OffsetDateTime;
                 @Index(name = "idx_notifications_task", columnList = "task_id"),
                 @Index(name = "idx_notifications_sent_at", columnList = "sent_at")
         })
-@Check(constraints = "sent_at IS NULL OR sent_at >= scheduled_at")
-@ToString(of = {"id", "type", "channel", "scheduledAt", "sentAt"})
+@Check(constraints = "(sent_at IS NULL OR dead_lettered_at IS NULL) AND attempt_count >= 0")
+@ToString(of = {"id", "type", "channel", "scheduledAt", "sentAt", "attemptCount", "deadLetteredAt"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseEntity {
 
+    public static final int LAST_ERROR_MAX_LENGTH = 500;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "global_seq_gen")
+    @TimeOrderedId
     @Column(name = "notification_id")
     private Long id;
 
@@ -60,9 +70,21 @@ public class Notification extends BaseEntity {
     @Column(name = "scheduled_at", nullable = false, columnDefinition = "timestamptz")
     private OffsetDateTime scheduledAt;
 
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "timestamptz")
+    private OffsetDateTime nextAttemptAt;
+
     @Column(name = "sent_at", columnDefinition = "timestamptz")
     private OffsetDateTime sentAt;
 
+    @Column(name = "attempt_count", nullable = false, columnDefinition = "integer default 0")
+    private int attemptCount;
+
+    @Column(name = "last_error", length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    @Column(name = "dead_lettered_at", columnDefinition = "timestamptz")
+    private OffsetDateTime deadLetteredAt;
+
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "member_id", nullable = false, updatable = false)
@@ -77,6 +99,7 @@ public class Notification extends BaseEntity {
         this.type = validNullOrBlank(type, "type");
         this.channel = validNullOrBlank(channel, "channel");
         this.scheduledAt = validNullOrBlank(scheduledAt, "scheduledAt");
+        this.nextAttemptAt = scheduledAt;
         this.sentAt = null;
         this.member = validMemberIsNull(member);
         this.task = validTaskIsNull(task);
@@ -102,7 +125,7 @@ public class Notification extends BaseEntity {
      */
     public boolean canSend(OffsetDateTime now) {
         validNullOrBlank(now, "now");
-        return sentAt == null && !now.isBefore(scheduledAt); // now >= scheduledAt
+        return sentAt == null && deadLetteredAt == null && !now.isBefore(nextAttemptAt); // now >= nextAttemptAt
     }
 
     /**
@@ -114,17 +137,55 @@ public class Notification extends BaseEntity {
     }
 
     /**
-     * 재스케줄(미발송 상태에서만 허용)
+     * 계획 시각 변경(미발송 상태에서만 허용). 다음 시도 시각도 새 계획 시각으로 맞춘다.
      */
     public void reschedule(OffsetDateTime newTime) {
-        if (this.sentAt != null) throw new IllegalStateException("already sent");
+        ensurePending();
         this.scheduledAt = validNullOrBlank(newTime, "scheduledAt");
+        this.nextAttemptAt = newTime;
+    }
+
+    /**
+     * 발송 실패 기록: 한도 미만이면 다음 시도를 백오프 후로 미루고(scheduledAt 유지), 한도에 도달하면 dead letter 로 전환
+     *
+     * @return 재시도가 예약되었으면 true, dead letter 로 전환되었으면 false
+     */
+    public boolean recordFailure(String error, OffsetDateTime now, DeliveryBackoff backoff) {
+        validNullOrBlank(now, "now");
+        validNullOrBlank(backoff, "backoff");
+        ensurePending();
+
+        this.attemptCount++;
+        this.lastError = truncate(error);
+        if (backoff.exhausted(attemptCount)) {
+            this.deadLetteredAt = now;
+            return false;
+        }
+        this.nextAttemptAt = now.plus(backoff.delayAfter(attemptCount));
+        return true;
+    }
+
+    public boolean isDeadLettered() {
+        return deadLetteredAt != null;
+    }
+
+    /**
+     * 다음 발송 시도 시각 (발송 완료/dead letter 이면 null)
+     */
+    public OffsetDateTime getNextAttemptAt() {
+        return sentAt == null && deadLetteredAt == null ? nextAttemptAt : null;
     }
 
 
     // 검증 로직 ----------------------------------------------------------------
 
 
+    private void ensurePending() {
+        if (this.sentAt != null) throw new IllegalStateException("already sent");
+        if (this.deadLetteredAt != null) throw new IllegalStateException("already dead-lettered");
+    }
+
+
     private static Member validMemberIsNull(Member member) {
         if (member == null || member.getId() == null)
             throw new IllegalArgumentException("member is null or transient");
@@ -138,6 +199,11 @@ public class Notification extends BaseEntity {
         return task;
     }
 
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() <= LAST_ERROR_MAX_LENGTH ? error : error.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+
     private static <T> T validNullOrBlank(T value, String name) {
         if (value == null) throw new IllegalArgumentException(name + " is null");
         if (value instanceof CharSequence cs && cs.toString().isBlank())
@@ -0,0 +1,62 @@
+package org.qpeek.qpeek.domain.notification.service;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * DeliveryBackoff (알림 발송 재시도 간격/한도)
+ * <p>
+ * <도메인 규칙/정책>
+ * - n번째 실패 후 다음 시도까지의 대기: [0, min(maxDelay, baseDelay * 2^(n-1))] 구간의 균등 난수 (full jitter).
+ * - 실패 횟수가 maxAttempts 에 도달하면 더 이상 재시도하지 않는다(dead letter).
+ * <p>
+ * <설계 메모>
+ * - 같은 장애로 한꺼번에 실패한 알림들이 같은 시각에 다시 몰리지 않도록 지연 전체를 난수로 분산.
+ * - 난수원은 외부에서 주입(테스트에서 고정 가능).
+ */
+public final class DeliveryBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final int maxAttempts;
+    private final long baseMillis;
+    private final long maxMillis;
+    private final RandomGenerator random;
+
+    private DeliveryBackoff(int maxAttempts, Duration baseDelay, Duration maxDelay, RandomGenerator random) {
+        if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be >= 1");
+        if (baseDelay == null || baseDelay.isNegative() || baseDelay.isZero())
+            throw new IllegalArgumentException("baseDelay must be positive");
+        if (maxDelay == null || maxDelay.compareTo(baseDelay) < 0)
+            throw new IllegalArgumentException("maxDelay must be >= baseDelay");
+        if (random == null) throw new IllegalArgumentException("random is null");
+        this.maxAttempts = maxAttempts;
+        this.baseMillis = baseDelay.toMillis();
+        this.maxMillis = maxDelay.toMillis();
+        this.random = random;
+    }
+
+    public static DeliveryBackoff of(int maxAttempts, Duration baseDelay, Duration maxDelay, RandomGenerator random) {
+        return new DeliveryBackoff(maxAttempts, baseDelay, maxDelay, random);
+    }
+
+    /**
+     * 누적 실패 횟수가 재시도 한도에 도달했는지
+     */
+    public boolean exhausted(int attemptCount) {
+        return attemptCount >= maxAttempts;
+    }
+
+    /**
+     * attemptCount 번째 실패 후 다음 시도까지의 대기 시간
+     */
+    public Duration delayAfter(int attemptCount) {
+        if (attemptCount < 1) throw new IllegalArgumentException("attemptCount must be >= 1");
+        long ceiling = Math.min(maxMillis, baseMillis << Math.min(attemptCount - 1, MAX_SHIFT));
+        return Duration.ofMillis(random.nextLong(ceiling + 1));
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+}
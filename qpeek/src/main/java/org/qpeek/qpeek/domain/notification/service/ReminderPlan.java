@@ -0,0 +1,62 @@
+package org.qpeek.qpeek.domain.notification.service;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ReminderPlan (작업 마감 기준 알림 예정 시각 계산)
+ * <p>
+ * <도메인 규칙/정책>
+ * - BEFORE_DAY: notifyDayBefore 이면 마감 전날 REMINDER_TIME(회원 시간대).
+ * - DUE: notifyOnDueDay 이면 마감 당일 REMINDER_TIME(회원 시간대). 마감이 그보다 이르면 생략(OVERDUE 가 대신함).
+ * - IMMINENT: imminentHours > 0 이면 dueAt - imminentHours.
+ * - OVERDUE: dueAt (마감 경과 직후 첫 알림). 반복 주기(overdueIntervalHours)는 발송 시점에 다음 회차로 이어간다.
+ * - now 이전으로 계산된 예정 시각은 생략한다(OVERDUE 제외: 지난 마감은 즉시 1회 알린다).
+ * <p>
+ * <설계 메모>
+ * - 순수 계산. 저장된 알림과의 차이(diff)는 애플리케이션 계층에서 비교해 필요한 행만 갱신.
+ */
+public final class ReminderPlan {
+
+    public static final LocalTime REMINDER_TIME = LocalTime.of(9, 0);
+
+    private ReminderPlan() {
+    }
+
+    public static Map<NotificationType, OffsetDateTime> of(OffsetDateTime dueAt,
+                                                           ZoneId zone,
+                                                           int imminentHours,
+                                                           boolean notifyDayBefore,
+                                                           boolean notifyOnDueDay,
+                                                           OffsetDateTime now) {
+        if (dueAt == null) throw new IllegalArgumentException("dueAt is null");
+        if (zone == null) throw new IllegalArgumentException("zone is null");
+        if (now == null) throw new IllegalArgumentException("now is null");
+
+        Map<NotificationType, OffsetDateTime> plan = new EnumMap<>(NotificationType.class);
+        var dueDay = dueAt.atZoneSameInstant(zone).toLocalDate();
+
+        if (notifyDayBefore) {
+            putIfNotPast(plan, NotificationType.BEFORE_DAY, dueDay.minusDays(1).atTime(REMINDER_TIME).atZone(zone).toOffsetDateTime(), now);
+        }
+        if (notifyOnDueDay) {
+            OffsetDateTime dueMorning = dueDay.atTime(REMINDER_TIME).atZone(zone).toOffsetDateTime();
+            if (dueMorning.isBefore(dueAt)) putIfNotPast(plan, NotificationType.DUE, dueMorning, now);
+        }
+        if (imminentHours > 0) {
+            putIfNotPast(plan, NotificationType.IMMINENT, dueAt.minusHours(imminentHours), now);
+        }
+        plan.put(NotificationType.OVERDUE, dueAt);
+        return plan;
+    }
+
+    private static void putIfNotPast(Map<NotificationType, OffsetDateTime> plan, NotificationType type,
+                                     OffsetDateTime at, OffsetDateTime now) {
+        if (!at.isBefore(now)) plan.put(type, at);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Check;
 import org.qpeek.qpeek.common.entity.BaseEntity;
 import org.qpeek.qpeek.domain.database.entity.Database;
 import org.qpeek.qpeek.domain.task.entity.Task;
@@ -22,24 +23,28 @@ import java.util.List;
  * - name: 원문 보존(공백 포함). 전부 공백만은 금지, 길이 ≤ 100.
  * - description: 선택(Optional). 원문 보존, 전부 공백만이면 null, 길이 ≤ 500.
  * - maxTasks: 기본 50. addTask 시 개수 제한 검사.
+ * - activeTaskCount: 열린(ACTIVE/OVERDUE) 작업 수. 엔티티로는 갱신하지 않고(updatable=false) 조건부 원자 UPDATE 로만 증감.
  * - version: 재정렬 낙관적 잠금 버전(@Version). reorder에서 동시성 제어에 사용.
  * <p>
  * <설계 메모>
  * - UNIQUE (database_id, name): 같은 DB 안에서 큐 이름 중복 금지(다른 DB끼리는 허용).
  * - INDEX (database_id): "특정 DB의 큐 목록" 조회/카운트 최적화.
  * - INDEX (database_id, created_at): DB별 목록을 생성일로 정렬/페이징할 때 커버.
+ * - 용량 검사: tasks 컬렉션 로딩 대신 "SET active_task_count = active_task_count + 1 WHERE active_task_count < max_tasks"
+ * 한 문장으로 예약(O(1), 노드 간 경쟁에도 초과 불가). version 은 증가시키지 않아 재정렬 잠금과 경합하지 않음.
  * - Queue(1) — Task(*)
  * - Queue(1) — RecurringRule(0..*)
  */
 @Entity
 @Getter
+@Check(constraints = "active_task_count >= 0")
 @Table(name = "queues",
         uniqueConstraints = @UniqueConstraint(name = "uk_queues_db_name", columnNames = {"database_id", "name"}),
         indexes = {
                 @Index(name = "idx_queues_db", columnList = "database_id"),
                 @Index(name = "idx_queues_db_created_at", columnList = "database_id, created_at")
         })
-@ToString(of = {"id", "name", "description", "maxTasks"})
+@ToString(of = {"id", "name", "description", "maxTasks", "activeTaskCount"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TaskQueue extends BaseEntity {
 
@@ -61,6 +66,9 @@ public class TaskQueue extends BaseEntity {
     @Column(name = "max_tasks", nullable = false)
     private int maxTasks = 50;
 
+    @Column(name = "active_task_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int activeTaskCount = 0;
+
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "database_id", nullable = false, updatable = false)
@@ -90,6 +98,17 @@ public class TaskQueue extends BaseEntity {
     }
 
 
+    // 행위(도메인 메서드) ----------------------------------------------------------------
+
+
+    /**
+     * 조회 시점 기준 여유 여부(표시용). 실제 예약은 원자 UPDATE 로 수행.
+     */
+    public boolean hasCapacity() {
+        return activeTaskCount < maxTasks;
+    }
+
+
     // 검증 로직 ----------------------------------------------------------------
 
 
@@ -3,6 +3,8 @@ package org.qpeek.qpeek.domain.reminder.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Check;
 import org.qpeek.qpeek.common.entity.BaseEntity;
 import org.qpeek.qpeek.domain.member.entity.Member;
@@ -22,6 +24,11 @@ import org.qpeek.qpeek.domain.member.entity.Member;
  * - overdueIntervalHours = 24h
  * - notifyDayBefore = true
  * - notifyOnDueDay = true
+ * <p>
+ * <설계 메모>
+ * - 알림 계산마다 읽히지만 거의 바뀌지 않으므로 2차 캐시(CACHE_REGION, READ_WRITE) 대상.
+ *   change* / updateAll 로 바뀐 값은 커밋 시 영역에 반영되고, 변경 중인 키는 soft lock 으로 DB 에서 읽는다.
+ * - JDBC 로 reminder_setting 을 직접 갱신하면 캐시가 어긋나므로 변경은 엔티티로만 한다.
  */
 @Entity
 @Getter
@@ -30,13 +37,16 @@ import org.qpeek.qpeek.domain.member.entity.Member;
 @Table(name = "reminder_setting")
 @ToString(of = {"id", "imminentHours", "overdueIntervalHours", "notifyDayBefore", "notifyOnDueDay"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-// TODO: @Cacheable(2차 캐시) 검토.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReminderSetting.CACHE_REGION)
 public class ReminderSetting extends BaseEntity {
 
-    private static final int DEFAULT_IMMINENT_HOURS = 3;
-    private static final int DEFAULT_OVERDUE_INTERVAL_HRS = 24;
-    private static final boolean DEFAULT_NOTIFY_DAY_BEFORE = true;
-    private static final boolean DEFAULT_NOTIFY_ON_DUE = true;
+    public static final String CACHE_REGION = "reminderSetting";
+
+    public static final int DEFAULT_IMMINENT_HOURS = 3;
+    public static final int DEFAULT_OVERDUE_INTERVAL_HRS = 24;
+    public static final boolean DEFAULT_NOTIFY_DAY_BEFORE = true;
+    public static final boolean DEFAULT_NOTIFY_ON_DUE = true;
 
     @Id
     @Column(name = "member_id", nullable = false, updatable = false)
@@ -20,7 +20,7 @@ import java.util.Objects;
  * 1. 보고 단위는 회원(Member)×날짜(LocalDate)이며, 회원당 날짜별 최대 1건만 존재한다.
  * - DB 제약: UNIQUE(member_id, report_date)
  * 2. completedCount / incompleteCount 는 0 이상이어야 한다.
- * 3. generatedPdfUrl 은 선택(Optional)이며, 추후 PDF 생성 후 연결할 수 있다.
+ * 3. generatedPdfUrl 은 선택(Optional)이며, PDF 생성 후 연결한다(ClosingReportPdfPipeline). 수치가 바뀌면 비워져 다시 생성된다.
  * 4. reportDate 는 회원의 타임존 기준으로 산출된 “그 날”의 날짜를 저장한다.
  * <p>
  * <설계 메모>
@@ -0,0 +1,62 @@
+package org.qpeek.qpeek.domain.report.service;
+
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * ClosingSchedule (현지 자정 기준 데일리 클로징 묶음 계산)
+ * <p>
+ * <도메인 규칙/정책>
+ * - 경계(boundary)는 UTC 기준 BOUNDARY_STEP(15분) 간격. 현행 시간대 오프셋은 모두 15분의 배수라 현지 자정은 항상 경계와 겹친다.
+ * - 경계 시각이 어떤 시간대의 "다음 날 시작"과 같으면, 그 시간대의 전날(reportDate)을 마감한다.
+ *   하루의 시작은 LocalDate.atStartOfDay(zone) 기준(자정이 DST 공백이면 그 날 첫 유효 시각).
+ * - 같은 (reportDate, 시작 시각)을 갖는 시간대끼리 하나의 ClosingBucket 으로 묶는다.
+ * <p>
+ * <설계 메모>
+ * - 순수 계산. 회원을 순회하지 않고 시간대 목록(수백 개)만 검사하므로 경계마다 비용이 일정.
+ */
+public final class ClosingSchedule {
+
+    public static final Duration BOUNDARY_STEP = Duration.ofMinutes(15);
+
+    private ClosingSchedule() {
+    }
+
+    /**
+     * after 이후(초과) 첫 경계
+     */
+    public static Instant nextBoundary(Instant after) {
+        if (after == null) throw new IllegalArgumentException("after is null");
+        long step = BOUNDARY_STEP.toSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(after.getEpochSecond(), step) * step + step);
+    }
+
+    /**
+     * boundary 에 하루가 끝나는 시간대 묶음
+     */
+    public static List<ClosingBucket> bucketsAt(Instant boundary, Collection<ZoneId> zones) {
+        if (boundary == null) throw new IllegalArgumentException("boundary is null");
+        if (zones == null) throw new IllegalArgumentException("zones is null");
+
+        Map<BucketKey, Set<String>> grouped = new LinkedHashMap<>();
+        Instant lastInstantOfDay = boundary.minusNanos(1);
+        for (ZoneId zone : zones) {
+            LocalDate reportDate = LocalDate.ofInstant(lastInstantOfDay, zone);
+            if (!reportDate.plusDays(1).atStartOfDay(zone).toInstant().equals(boundary)) continue;
+            Instant start = reportDate.atStartOfDay(zone).toInstant();
+            grouped.computeIfAbsent(new BucketKey(reportDate, start), key -> new TreeSet<>()).add(zone.getId());
+        }
+
+        List<ClosingBucket> buckets = new ArrayList<>(grouped.size());
+        grouped.forEach((key, zoneIds) -> buckets.add(new ClosingBucket(key.reportDate(), key.start(), boundary, zoneIds)));
+        return buckets;
+    }
+
+    private record BucketKey(LocalDate reportDate, Instant start) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.qpeek.qpeek.domain.report.service;
+
+import org.qpeek.qpeek.domain.report.value.CompletionStreak;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * CompletionStreaks (완료가 있었던 날짜 → 연속 완료 일수 계산)
+ * <p>
+ * <도메인 규칙/정책>
+ * - 하루에 1건 이상 완료하면 그 날은 활동일. 활동일이 끊김 없이 이어진 구간이 연속(streak).
+ * - 현재 연속: 오늘이 활동일이면 오늘까지, 아니면 어제까지 이어진 구간(오늘은 아직 끝나지 않았으므로 끊긴 것으로 보지 않음).
+ * - 오늘 이후 날짜는 무시.
+ * <p>
+ * <설계 메모>
+ * - 순수 계산. 날짜 목록은 일별 롤업에서 고정 길이 구간만 읽어 오므로 이력 길이와 무관.
+ */
+public final class CompletionStreaks {
+
+    private CompletionStreaks() {
+    }
+
+    public static CompletionStreak of(Collection<LocalDate> activeDates, LocalDate today) {
+        if (activeDates == null) throw new IllegalArgumentException("activeDates is null");
+        if (today == null) throw new IllegalArgumentException("today is null");
+
+        TreeSet<LocalDate> dates = new TreeSet<>(activeDates);
+        dates.tailSet(today, false).clear();
+        if (dates.isEmpty()) return CompletionStreak.none();
+
+        int longest = 0;
+        int run = 0;
+        LocalDate previous = null;
+        for (LocalDate date : dates) {
+            run = previous != null && previous.plusDays(1).equals(date) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = date;
+        }
+
+        LocalDate last = dates.last();
+        int current = last.equals(today) || last.equals(today.minusDays(1)) ? run : 0;
+        return new CompletionStreak(current, longest);
+    }
+}
@@ -0,0 +1,55 @@
+package org.qpeek.qpeek.domain.report.service;
+
+import org.qpeek.qpeek.domain.report.value.CounterDelta;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DailyCounterDeltas (작업 변경 → 회원 현지 날짜별 카운터 증감 계산)
+ * <p>
+ * <도메인 규칙/정책>
+ * - completed: 완료 시각(completedAt)의 날짜에 +1. reopen 등으로 완료 시각이 사라지거나 바뀌면 이전 날짜에 -1.
+ *   완료된 작업을 휴지통으로 보내도 완료 시각은 남으므로 완료 수는 그대로 둔다.
+ * - dueOpen: 열린(ACTIVE/OVERDUE) 작업의 마감 날짜에 +1. 닫히면(완료/휴지통) -1, 다시 열리면 +1,
+ *   열린 상태에서 마감이 바뀌면 이전 날짜 -1 / 새 날짜 +1.
+ * <p>
+ * <설계 메모>
+ * - 순수 계산. 날짜 변환(회원 시간대)과 원자적 증감은 저장소에서 한 문장으로 처리한다.
+ * - 감소는 시각을 다시 변환하지 않고 그 작업이 증가할 때 귀속된 날짜에 적용한다(저장소가 작업별로 기록) → 시간대가 바뀌어도 음수가 되지 않는다.
+ */
+public final class DailyCounterDeltas {
+
+    private DailyCounterDeltas() {
+    }
+
+    public static List<CounterDelta> of(TaskStatusChanged event) {
+        if (event == null) throw new IllegalArgumentException("event is null");
+        List<CounterDelta> deltas = new ArrayList<>(3);
+        if (!Objects.equals(event.previousCompletedAt(), event.completedAt())) {
+            addIfPresent(deltas, event.taskId(), event.previousCompletedAt(), -1, true);
+            addIfPresent(deltas, event.taskId(), event.completedAt(), 1, true);
+        }
+        if (event.closed()) addIfPresent(deltas, event.taskId(), event.dueAt(), -1, false);
+        else if (event.opened()) addIfPresent(deltas, event.taskId(), event.dueAt(), 1, false);
+        return deltas;
+    }
+
+    public static List<CounterDelta> of(TaskDueChanged event) {
+        if (event == null) throw new IllegalArgumentException("event is null");
+        if (!event.status().isOpen()) return List.of();
+        List<CounterDelta> deltas = new ArrayList<>(2);
+        addIfPresent(deltas, event.taskId(), event.previousDueAt(), -1, false);
+        addIfPresent(deltas, event.taskId(), event.dueAt(), 1, false);
+        return deltas;
+    }
+
+    private static void addIfPresent(List<CounterDelta> deltas, Long taskId, OffsetDateTime at, int delta, boolean completed) {
+        if (at == null) return;
+        deltas.add(completed ? CounterDelta.completed(taskId, at, delta) : CounterDelta.dueOpen(taskId, at, delta));
+    }
+}
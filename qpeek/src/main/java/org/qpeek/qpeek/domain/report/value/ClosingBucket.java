@@ -0,0 +1,28 @@
+package org.qpeek.qpeek.domain.report.value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 같은 시각에 하루가 끝나는 시간대 묶음 (데일리 클로징 단위)
+ * <p>
+ * <도메인 규칙/정책>
+ * - 묶음 안의 모든 시간대는 reportDate 의 현지 하루가 같은 UTC 구간 [start, end) 에 해당한다(= 같은 UTC 오프셋).
+ * - DST 전환일처럼 시작/끝 오프셋이 다른 시간대는 별도 묶음이 된다(하루 길이 23h/25h 등).
+ */
+public record ClosingBucket(LocalDate reportDate, Instant start, Instant end, Set<String> zoneIds) {
+
+    public ClosingBucket {
+        if (reportDate == null) throw new IllegalArgumentException("reportDate is null");
+        if (start == null || end == null || !start.isBefore(end))
+            throw new IllegalArgumentException("start must be before end");
+        if (zoneIds == null || zoneIds.isEmpty()) throw new IllegalArgumentException("zoneIds is empty");
+        zoneIds = Set.copyOf(zoneIds);
+    }
+
+    public Duration length() {
+        return Duration.between(start, end);
+    }
+}
@@ -0,0 +1,20 @@
+package org.qpeek.qpeek.domain.report.value;
+
+/**
+ * 연속 완료 일수
+ *
+ * @param current 오늘(또는 아직 오늘 완료가 없으면 어제)까지 이어지는 연속 일수
+ * @param longest 조회 구간 안의 최장 연속 일수
+ */
+public record CompletionStreak(int current, int longest) {
+
+    private static final CompletionStreak NONE = new CompletionStreak(0, 0);
+
+    public CompletionStreak {
+        if (current < 0 || longest < current) throw new IllegalArgumentException("invalid streak");
+    }
+
+    public static CompletionStreak none() {
+        return NONE;
+    }
+}
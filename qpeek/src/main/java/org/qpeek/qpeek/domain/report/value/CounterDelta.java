@@ -0,0 +1,27 @@
+package org.qpeek.qpeek.domain.report.value;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 일별 작업 카운터 증감 1건
+ *
+ * @param taskId    증감 대상 작업 (감소는 이 작업이 증가할 때 귀속된 날짜에 적용)
+ * @param at        증감이 귀속되는 시각 (증가는 회원 시간대의 현지 날짜로 변환되어 적용)
+ * @param completed 완료 수 증감
+ * @param dueOpen   그 날 마감인 열린 작업 수 증감
+ */
+public record CounterDelta(Long taskId, OffsetDateTime at, int completed, int dueOpen) {
+
+    public CounterDelta {
+        if (taskId == null) throw new IllegalArgumentException("taskId is null");
+        if (at == null) throw new IllegalArgumentException("at is null");
+    }
+
+    public static CounterDelta completed(Long taskId, OffsetDateTime at, int delta) {
+        return new CounterDelta(taskId, at, delta, 0);
+    }
+
+    public static CounterDelta dueOpen(Long taskId, OffsetDateTime at, int delta) {
+        return new CounterDelta(taskId, at, 0, delta);
+    }
+}
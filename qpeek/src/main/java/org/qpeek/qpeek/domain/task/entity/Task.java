@@ -13,29 +13,38 @@ import org.qpeek.qpeek.domain.task.enums.DueStatus;
 import org.qpeek.qpeek.domain.task.enums.TaskImportance;
 import org.qpeek.qpeek.domain.task.enums.TaskStatus;
 import org.qpeek.qpeek.domain.task.enums.TaskTemplateType;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 /**
- * Database (저장소)
+ * Task (작업)
  * <p>
  * <도메인 규칙/정책>
- * - owner(member): 저장소 소유자. 생성 후 변경 불가(updatable = false).
- * - name: 회원 단위 유니크((member_id, name)). 원문 보존(공백 포함), 전부 공백만은 금지, 길이 ≤ 100.
- * - description: 선택(Optional). 원문 보존, 전부 공백만이면 null로 정규화, 길이 ≤ 500.
- * - deletedAt: 소프트 삭제 시각. OffsetDateTime(timestamptz). null이면 활성 상태.
- * - createdAt/updatedAt: BaseEntity 에서 감사(Auditing)로 관리(UTC 저장 권장).
- * - 권한: rename / deleteByOwner 는 소유자만 가능(ensureOwner로 검증).
+ * - queue: 소속 큐(필수). 생성 후 변경 불가(updatable = false), 다른 큐로의 이동 금지.
+ * - title: 원문 보존(공백 포함), 전부 공백만은 금지. content: 선택(Optional), 전부 공백만이면 null.
+ * - progress: 0..100.
+ * - status: ACTIVE → COMPLETED / OVERDUE / TRASHED. 열린 상태(ACTIVE, OVERDUE)만 큐 용량(maxTasks)을 차지한다.
+ * - dueAt: 선택. now > dueAt 이면 OVERDUE(전이는 마감 스케줄러가 수행).
+ * - completedAt / trashedAt: 완료 / 휴지통 이동 시각. 복구 시 완료 시각이 있으면 COMPLETED 로 돌아간다.
+ * - priorityIndex: 큐 안의 희소 정렬 키(PriorityRank). null 이면 순위 미지정(목록 끝).
  * <p>
  * <설계 메모>
- * - 유니크 제약: (member_id, name)으로 회원별 이름 중복 방지.
- * - 소프트 삭제 후 이름 재사용 필요 시 부분 유니크 인덱스 고려: WHERE deleted_at IS NULL.
- * - 인덱스: member_id(목록/카운트), deleted_at(정리 배치).
- * - 공백 정책: trim 미사용, isBlank()로 공백-only만 차단하여 원문 보존.
- * - 삭제 전략: 소프트 삭제 → 배치 퍼지에서 하위(queues→tasks…) 명시적 삭제.
+ * - 인덱스: queue_id, (queue_id, status, priority_index)(상태별 keyset 목록), (queue_id, due_at)(마감 스케줄 적재).
+ * - 상태/마감 변경은 도메인 이벤트(TaskStatusChanged, TaskDueChanged)로 등록하고 save 시 발행한다.
+ * - version: 낙관적 잠금(@Version). 엔티티를 거치지 않는 JDBC 상태/순위 변경도 version 을 올려,
+ *   먼저 읽어 둔 엔티티의 flush 가 그 변경을 덮어쓰지 않고 실패하게 한다.
  */
 @Entity
 @Getter
@@ -53,6 +62,10 @@ public class Task extends BaseEntity {
     @Column(name = "task_id")
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "title", nullable = false)
     private String title;
 
@@ -92,6 +105,11 @@ public class Task extends BaseEntity {
     @JoinColumn(name = "queue_id", nullable = false, updatable = false)
     private TaskQueue queue;
 
+    @JsonIgnore
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<Object> domainEvents = new ArrayList<>();
+
     private Task(String title, TaskQueue queue) {
         this.title = normalizeTitle(title);
         this.content = null;
@@ -124,7 +142,9 @@ public class Task extends BaseEntity {
     }
 
     public void setDue(OffsetDateTime dateTime) {
+        OffsetDateTime previousDueAt = this.dueAt;
         this.dueAt = dateTime; // 상태 변경은 별도 dueStatus 로직에 따름
+        registerDueChanged(previousDueAt);
     }
 
     public void changeImportance(TaskImportance level) {
@@ -137,36 +157,70 @@ public class Task extends BaseEntity {
     }
 
     public void markCompleted(Clock clock) {
+        TaskStatus from = this.status;
+        OffsetDateTime previousCompletedAt = this.completedAt;
         this.completedAt = OffsetDateTime.now(validNull(clock, "clock"));
         this.status = TaskStatus.COMPLETED;
+        registerStatusChanged(from, previousCompletedAt);
     }
 
     public void reopen() {
+        TaskStatus from = this.status;
+        OffsetDateTime previousCompletedAt = this.completedAt;
         this.completedAt = null;
         this.status = TaskStatus.ACTIVE;
+        registerStatusChanged(from, previousCompletedAt);
     }
 
     public void moveTask(TaskQueue targetQueue, Long newPriorityIndex) {
-        TaskQueue target = validQueueIsNull(targetQueue);
-        if (!Objects.equals(this.queue.getId(), target.getId())) {
-            throw new IllegalStateException("policy: cross-queue move limited");
-        }
+        validSameQueue(targetQueue);
         this.priorityIndex = newPriorityIndex;
     }
 
+    /**
+     * 이웃 작업의 우선순위 키 사이로 이동 (희소 키의 중간값 사용)
+     * - 간격이 소진되어 키를 만들 수 없으면 false 를 반환하고 상태는 변경하지 않는다.
+     */
+    public boolean moveBetween(TaskQueue targetQueue, Long prevPriorityIndex, Long nextPriorityIndex) {
+        validSameQueue(targetQueue);
+        OptionalLong key = PriorityRank.between(prevPriorityIndex, nextPriorityIndex);
+        if (key.isEmpty()) return false;
+        this.priorityIndex = key.getAsLong();
+        return true;
+    }
+
     public void deferTo(OffsetDateTime dateTime) {
         if (dateTime == null) throw new IllegalArgumentException("dateTime is null");
+        OffsetDateTime previousDueAt = this.dueAt;
         this.dueAt = dateTime;
+        registerDueChanged(previousDueAt);
     }
 
     public void deferDays(int days, Clock clock) {
         if (days <= 0) throw new IllegalArgumentException("days must be > 0");
+        OffsetDateTime previousDueAt = this.dueAt;
         this.dueAt = Objects.requireNonNullElseGet(this.dueAt, () -> OffsetDateTime.now(validNull(clock, "clock"))).plusDays(days);
+        registerDueChanged(previousDueAt);
     }
 
     public void softDelete(Clock clock) {
+        TaskStatus from = this.status;
         this.status = TaskStatus.TRASHED;
         this.trashedAt = OffsetDateTime.now(validNull(clock, "clock"));
+        registerStatusChanged(from, this.completedAt);
+    }
+
+    /**
+     * 휴지통에서 복구 - 완료 시각이 있으면 COMPLETED, 마감이 지났으면 OVERDUE, 그 외 ACTIVE
+     */
+    public void restore(Clock clock) {
+        if (this.status != TaskStatus.TRASHED) throw new IllegalStateException("task is not trashed");
+        OffsetDateTime now = OffsetDateTime.now(validNull(clock, "clock"));
+        if (this.completedAt != null) this.status = TaskStatus.COMPLETED;
+        else if (checkDueStatus(now, 0) == DueStatus.OVERDUE) this.status = TaskStatus.OVERDUE;
+        else this.status = TaskStatus.ACTIVE;
+        this.trashedAt = null;
+        registerStatusChanged(TaskStatus.TRASHED, this.completedAt);
     }
 
 
@@ -200,6 +254,33 @@ public class Task extends BaseEntity {
     }
 
 
+    // 도메인 이벤트 ----------------------------------------------------------------
+
+
+    /**
+     * 저장(save) 시 Spring Data 가 발행. 같은 트랜잭션의 리스너(큐 용량 카운터 등)가 처리한다.
+     */
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
+    private void registerStatusChanged(TaskStatus from, OffsetDateTime previousCompletedAt) {
+        if (from == this.status) return;
+        domainEvents.add(new TaskStatusChanged(id, queue.getId(), from, this.status, dueAt, completedAt, previousCompletedAt));
+    }
+
+    private void registerDueChanged(OffsetDateTime previousDueAt) {
+        if (Objects.equals(previousDueAt, this.dueAt)) return;
+        domainEvents.add(new TaskDueChanged(id, queue.getId(), this.status, previousDueAt, dueAt));
+    }
+
+
     // 검증 로직 ----------------------------------------------------------------
 
 
@@ -208,6 +289,13 @@ public class Task extends BaseEntity {
         return queue;
     }
 
+    private void validSameQueue(TaskQueue targetQueue) {
+        TaskQueue target = validQueueIsNull(targetQueue);
+        if (!Objects.equals(this.queue.getId(), target.getId())) {
+            throw new IllegalStateException("policy: cross-queue move limited");
+        }
+    }
+
     private static <T> T validNull(T value, String name) {
         if (value == null) throw new IllegalArgumentException(name + " is null");
         return value;
@@ -1,5 +1,12 @@
 package org.qpeek.qpeek.domain.task.enums;
 
 public enum TaskStatus {
-    ACTIVE, COMPLETED, OVERDUE, TRASHED
+    ACTIVE, COMPLETED, OVERDUE, TRASHED;
+
+    /**
+     * 큐 용량(maxTasks)을 차지하는 열린 상태 여부
+     */
+    public boolean isOpen() {
+        return this == ACTIVE || this == OVERDUE;
+    }
 }
@@ -0,0 +1,19 @@
+package org.qpeek.qpeek.domain.task.event;
+
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 작업 마감 시각 변경 이벤트 (setDue / deferTo / deferDays 에서 값이 바뀐 경우에만 발행)
+ *
+ * @param status        변경 시점의 작업 상태
+ * @param previousDueAt 변경 전 마감 시각 (없으면 null)
+ * @param dueAt         변경 후 마감 시각 (해제 시 null)
+ */
+public record TaskDueChanged(Long taskId,
+                             Long queueId,
+                             TaskStatus status,
+                             OffsetDateTime previousDueAt,
+                             OffsetDateTime dueAt) {
+}
@@ -0,0 +1,28 @@
+package org.qpeek.qpeek.domain.task.event;
+
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 작업 상태 전이 이벤트 (from != to 인 경우에만 발행)
+ *
+ * @param completedAt         전이 후 완료 시각 (완료 상태가 아니면 null)
+ * @param previousCompletedAt 전이 전 완료 시각 (reopen 시 취소되는 완료 시각)
+ */
+public record TaskStatusChanged(Long taskId,
+                                Long queueId,
+                                TaskStatus from,
+                                TaskStatus to,
+                                OffsetDateTime dueAt,
+                                OffsetDateTime completedAt,
+                                OffsetDateTime previousCompletedAt) {
+
+    public boolean opened() {
+        return !from.isOpen() && to.isOpen();
+    }
+
+    public boolean closed() {
+        return from.isOpen() && !to.isOpen();
+    }
+}
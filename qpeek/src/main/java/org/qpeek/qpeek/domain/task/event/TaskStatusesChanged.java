@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.domain.task.event;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 전이 이벤트 (JDBC 일괄 갱신에서 발행, 실제로 전이된 작업만 포함)
+ * <p>
+ * 리스너는 변경 전체를 큐/작업 묶음 단위로 반영한다(작업마다 TaskStatusChanged 를 처리하지 않음).
+ */
+public record TaskStatusesChanged(List<TaskStatusChanged> changes) {
+
+    public TaskStatusesChanged {
+        changes = List.copyOf(changes);
+    }
+}
@@ -0,0 +1,79 @@
+package org.qpeek.qpeek.domain.task.service;
+
+import java.util.OptionalLong;
+
+/**
+ * PriorityRank (작업 우선순위 키 계산)
+ * <p>
+ * <도메인 규칙/정책>
+ * - 우선순위 키는 희소(sparse) 간격(GAP = 2^16)으로 발급한다.
+ * - 이동 시 이웃 키(prev, next)의 중간값을 사용하므로 이동 1건당 갱신되는 행은 1개.
+ * - 중간값을 만들 수 없으면(간격 소진) empty 를 반환하고, 호출자가 재정렬(rebalance) 후 다시 계산한다.
+ * - 이웃과의 간격이 REBALANCE_THRESHOLD 미만이면 needsRebalance = true (비동기 재정렬 대상).
+ * <p>
+ * <설계 메모>
+ * - null 키는 "순위 미지정"(큐 맨 뒤)으로 취급한다. 정렬은 priority_index NULLS LAST, task_id.
+ * - 재정렬은 spread(position) 규칙((position + 1) * GAP)으로 큐 전체를 한 번에 다시 매긴다.
+ * - 오버플로 방지를 위해 중간값은 floor((a + b) / 2)를 비트 연산으로, 간격은 unsigned 비교로 계산한다.
+ */
+public final class PriorityRank {
+
+    public static final long GAP = 1L << 16;
+    public static final long REBALANCE_THRESHOLD = 1L << 4;
+
+    private PriorityRank() {
+    }
+
+
+    // 키 계산 ----------------------------------------------------------------
+
+
+    /**
+     * prev 와 next 사이의 키. prev == null 이면 맨 앞, next == null 이면 맨 뒤.
+     */
+    public static OptionalLong between(Long prev, Long next) {
+        if (prev == null && next == null) return OptionalLong.of(GAP);
+        if (prev == null) return before(next);
+        if (next == null) return after(prev);
+        if (prev >= next) throw new IllegalArgumentException("prev must be < next");
+
+        long mid = midpoint(prev, next);
+        return (mid > prev && mid < next) ? OptionalLong.of(mid) : OptionalLong.empty();
+    }
+
+    public static OptionalLong after(long last) {
+        if (last <= Long.MAX_VALUE - GAP) return OptionalLong.of(last + GAP);
+        long mid = midpoint(last, Long.MAX_VALUE);
+        return mid > last ? OptionalLong.of(mid) : OptionalLong.empty();
+    }
+
+    public static OptionalLong before(long first) {
+        if (first >= Long.MIN_VALUE + GAP) return OptionalLong.of(first - GAP);
+        long mid = midpoint(Long.MIN_VALUE, first);
+        return mid < first ? OptionalLong.of(mid) : OptionalLong.empty();
+    }
+
+    /**
+     * 재정렬 시 position(0부터) 번째 작업에 부여할 키
+     */
+    public static long spread(int position) {
+        if (position < 0) throw new IllegalArgumentException("position must be >= 0");
+        return (position + 1L) * GAP;
+    }
+
+    /**
+     * 새 키 주변 간격이 임계값보다 좁아졌는지 여부
+     */
+    public static boolean needsRebalance(Long prev, long key, Long next) {
+        return (prev != null && Long.compareUnsigned(key - prev, REBALANCE_THRESHOLD) < 0)
+                || (next != null && Long.compareUnsigned(next - key, REBALANCE_THRESHOLD) < 0);
+    }
+
+
+    // 내부 계산 ----------------------------------------------------------------
+
+
+    private static long midpoint(long a, long b) {
+        return (a >> 1) + (b >> 1) + (a & b & 1);
+    }
+}
@@ -0,0 +1,23 @@
+package org.qpeek.qpeek.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class NotificationHttpClientConfig {
+
+    /**
+     * 알림 채널 공용 HttpClient (응답 처리도 가상 스레드에서 수행)
+     */
+    @Bean
+    public HttpClient notificationHttpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package org.qpeek.qpeek.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 노드 로컬)
+ * <p>
+ * <설계 메모>
+ * - 영역은 여기서 크기/만료를 지정해 미리 생성하고, 설정되지 않은 영역이 암묵적으로 생기지 않도록 missing_cache_strategy=fail.
+ * - 노드 간 무효화가 없으므로 영역마다 expireAfterWrite 로 다른 노드 변경의 반영 지연을 제한한다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        cacheManager.createCache(ReminderSetting.CACHE_REGION, new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(properties.reminderSettingMaximumSize()))
+                .setExpireAfterWrite(OptionalLong.of(properties.reminderSettingExpireAfterWrite().toNanos())));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager,
+                                                                    SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.statistics());
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package org.qpeek.qpeek.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param statistics                      Hibernate 통계 수집 여부 (캐시 영역 hit/miss 조회에 필요)
+ * @param reminderSettingMaximumSize      ReminderSetting 영역 최대 엔트리 수
+ * @param reminderSettingExpireAfterWrite ReminderSetting 영역 적재 후 만료 시간 (다른 노드의 변경이 반영되는 최대 지연)
+ */
+@ConfigurationProperties(prefix = "qpeek.jpa.second-level-cache")
+public record SecondLevelCacheProperties(@DefaultValue("true") boolean statistics,
+                                         @DefaultValue("100000") long reminderSettingMaximumSize,
+                                         @DefaultValue("1h") Duration reminderSettingExpireAfterWrite) {
+}
@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.infrastructure.external.log;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * @param root      보관 파일 디렉터리 (여러 노드가 보관하면 공유 볼륨이어야 모든 노드에서 조회 가능)
+ * @param blockRows 압축 블록 하나의 행 수 (읽을 때 메모리에 올라가는 단위)
+ */
+@ConfigurationProperties(prefix = "qpeek.log.hard-delete-archive.storage")
+public record HardDeleteLogArchiveStorageProperties(@DefaultValue("./data/archive") Path root,
+                                                    @DefaultValue("4096") int blockRows) {
+}
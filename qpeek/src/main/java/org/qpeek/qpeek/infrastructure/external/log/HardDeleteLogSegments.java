@@ -0,0 +1,250 @@
+package org.qpeek.qpeek.infrastructure.external.log;
+
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 하드 삭제 이력 세그먼트 파일 형식 (순수 인코딩/디코딩)
+ * <p>
+ * <정책>
+ * - 파일 = MAGIC(int) + 블록*. 블록 = 헤더(행 수, task_id 최소/최대, hard_deleted_at 최소/최대, 압축 길이) + Deflate 본문.
+ * - 본문은 열 단위(log_id, task_id, trashed_at, hard_deleted_at 순)로 모은 뒤 열마다 직전 값과의 차이(delta)를 long 으로 기록.
+ * - 시각은 epoch 마이크로초(timestamptz 정밀도), 읽을 때는 UTC OffsetDateTime.
+ * <p>
+ * <설계 메모>
+ * - 행이 hard_deleted_at 순이고 식별자가 시간 순으로 증가하므로 delta 는 대부분 작은 값 → 상위 바이트가 0 이라 압축률이 높다.
+ * - 블록 헤더의 최소/최대(zone map)로 조건에 맞지 않는 블록은 압축을 풀지 않고 건너뛴다.
+ * - 읽기는 블록 1개(blockRows 행)만 메모리에 올리므로 세그먼트 크기와 무관.
+ */
+final class HardDeleteLogSegments {
+
+    static final int MAGIC = 0x51484431; // "QHD1"
+
+    private static final int COLUMNS = 4;
+
+    private HardDeleteLogSegments() {
+    }
+
+    /**
+     * 블록 헤더의 범위 정보 (건너뛰기 판단용)
+     */
+    record BlockRange(long minTaskId, long maxTaskId, long minHardDeletedAtMicros, long maxHardDeletedAtMicros) {
+    }
+
+    /**
+     * rows 를 (hard_deleted_at, log_id) 순으로 정렬해 blockRows 행 단위 블록으로 기록
+     */
+    static void write(OutputStream out, List<ArchivedHardDeleteLog> rows, int blockRows) throws IOException {
+        if (blockRows < 1) throw new IllegalArgumentException("blockRows must be >= 1");
+        List<ArchivedHardDeleteLog> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing((ArchivedHardDeleteLog row) -> toMicros(row.hardDeletedAt()))
+                .thenComparing(ArchivedHardDeleteLog::logId));
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        Deflater deflater = new Deflater();
+        try {
+            for (int from = 0; from < sorted.size(); from += blockRows) {
+                writeBlock(data, sorted.subList(from, Math.min(from + blockRows, sorted.size())), deflater);
+            }
+        } finally {
+            deflater.end();
+        }
+        data.flush();
+    }
+
+    /**
+     * 세그먼트를 순서대로 읽는 커서. blockFilter 가 false 인 블록은 압축을 풀지 않고 건너뛰고, rowFilter 를 통과한 행만 반환.
+     * 커서를 닫으면 in 도 닫힌다.
+     */
+    static SegmentCursor open(InputStream in, Predicate<BlockRange> blockFilter,
+                              Predicate<ArchivedHardDeleteLog> rowFilter) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            if (data.readInt() != MAGIC) throw new IOException("not a hard delete log segment");
+        } catch (IOException e) {
+            data.close();
+            throw e;
+        }
+        return new SegmentCursor(data, blockFilter, rowFilter);
+    }
+
+    static long toMicros(OffsetDateTime at) {
+        Instant instant = at.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    static OffsetDateTime fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L)
+                .atOffset(ZoneOffset.UTC);
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private static void writeBlock(DataOutputStream data, List<ArchivedHardDeleteLog> block, Deflater deflater) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(block.size() * COLUMNS * Long.BYTES);
+        DataOutputStream columns = new DataOutputStream(raw);
+        writeDeltas(columns, block, ArchivedHardDeleteLog::logId);
+        writeDeltas(columns, block, ArchivedHardDeleteLog::taskId);
+        writeDeltas(columns, block, row -> toMicros(row.trashedAt()));
+        writeDeltas(columns, block, row -> toMicros(row.hardDeletedAt()));
+        byte[] compressed = deflate(raw.toByteArray(), deflater);
+
+        LongSummaryStatistics taskIds = block.stream().mapToLong(ArchivedHardDeleteLog::taskId).summaryStatistics();
+        data.writeInt(block.size());
+        data.writeLong(taskIds.getMin());
+        data.writeLong(taskIds.getMax());
+        data.writeLong(toMicros(block.getFirst().hardDeletedAt())); // 정렬되어 있으므로 첫/마지막 행이 최소/최대
+        data.writeLong(toMicros(block.getLast().hardDeletedAt()));
+        data.writeInt(compressed.length);
+        data.write(compressed);
+    }
+
+    private static void writeDeltas(DataOutputStream out, List<ArchivedHardDeleteLog> block,
+                                    ToLongFunction<ArchivedHardDeleteLog> column) throws IOException {
+        long previous = 0;
+        for (ArchivedHardDeleteLog row : block) {
+            long value = column.applyAsLong(row);
+            out.writeLong(value - previous);
+            previous = value;
+        }
+    }
+
+    private static byte[] deflate(byte[] raw, Deflater deflater) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return out.toByteArray();
+    }
+
+    static final class SegmentCursor implements Iterator<ArchivedHardDeleteLog>, Closeable {
+
+        private final DataInputStream data;
+        private final Predicate<BlockRange> blockFilter;
+        private final Predicate<ArchivedHardDeleteLog> rowFilter;
+        private final Inflater inflater = new Inflater();
+
+        private List<ArchivedHardDeleteLog> block = List.of();
+        private int position;
+        private ArchivedHardDeleteLog next;
+        private boolean exhausted;
+
+        private SegmentCursor(DataInputStream data, Predicate<BlockRange> blockFilter, Predicate<ArchivedHardDeleteLog> rowFilter) {
+            this.data = data;
+            this.blockFilter = blockFilter;
+            this.rowFilter = rowFilter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) return true;
+            if (exhausted) return false;
+            try {
+                while (true) {
+                    while (position < block.size()) {
+                        ArchivedHardDeleteLog row = block.get(position++);
+                        if (rowFilter.test(row)) {
+                            next = row;
+                            return true;
+                        }
+                    }
+                    if (!readNextBlock()) {
+                        exhausted = true;
+                        return false;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to read hard delete log segment", e);
+            }
+        }
+
+        @Override
+        public ArchivedHardDeleteLog next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            ArchivedHardDeleteLog row = next;
+            next = null;
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            data.close();
+        }
+
+        /**
+         * 조건에 맞는 다음 블록을 풀어 block 에 채운다. 파일 끝이면 false.
+         */
+        private boolean readNextBlock() throws IOException {
+            while (true) {
+                int rowCount;
+                try {
+                    rowCount = data.readInt();
+                } catch (EOFException e) {
+                    return false;
+                }
+                BlockRange range = new BlockRange(data.readLong(), data.readLong(), data.readLong(), data.readLong());
+                int compressedLength = data.readInt();
+                if (!blockFilter.test(range)) {
+                    data.skipNBytes(compressedLength);
+                    continue;
+                }
+                block = decode(inflate(data.readNBytes(compressedLength), rowCount * COLUMNS * Long.BYTES), rowCount);
+                position = 0;
+                return true;
+            }
+        }
+
+        private byte[] inflate(byte[] compressed, int rawLength) throws IOException {
+            inflater.reset();
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            try {
+                int read = 0;
+                while (read < rawLength && !inflater.finished()) {
+                    int n = inflater.inflate(raw, read, rawLength - read);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                    read += n;
+                }
+                if (read != rawLength) throw new IOException("truncated block");
+            } catch (DataFormatException e) {
+                throw new IOException("corrupted block", e);
+            }
+            return raw;
+        }
+
+        private static List<ArchivedHardDeleteLog> decode(byte[] raw, int rowCount) throws IOException {
+            DataInputStream columns = new DataInputStream(new ByteArrayInputStream(raw));
+            long[][] values = new long[COLUMNS][rowCount];
+            for (long[] column : values) {
+                long previous = 0;
+                for (int i = 0; i < rowCount; i++) {
+                    previous += columns.readLong();
+                    column[i] = previous;
+                }
+            }
+            List<ArchivedHardDeleteLog> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                rows.add(new ArchivedHardDeleteLog(values[0][i], values[1][i], fromMicros(values[2][i]), fromMicros(values[3][i])));
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.qpeek.qpeek.infrastructure.external.log;
+
+import org.qpeek.qpeek.application.log.client.HardDeleteLogArchive;
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+import org.qpeek.qpeek.infrastructure.external.log.HardDeleteLogSegments.BlockRange;
+import org.qpeek.qpeek.infrastructure.external.log.HardDeleteLogSegments.SegmentCursor;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 로컬 디렉터리 하드 삭제 이력 보관소
+ * <p>
+ * <정책>
+ * - 경로: root/task-hard-delete-logs/{yyyy-MM}/segment-{첫 log_id}-{마지막 log_id}.qhdl (hard_deleted_at 의 UTC 월)
+ * - 세그먼트는 한 번 게시되면 바뀌지 않는다(추가 전용). 임시 파일에 쓰고 fsync 후 원자적 이동으로 게시.
+ * - 기간 조회는 겹치는 월 디렉터리만, 작업 조회는 모든 월을 읽되 블록 zone map 으로 대부분의 블록을 건너뛴다.
+ * - 같은 이력은 한 번만 돌려준다. 원본 삭제 전에 중단된 묶음을 다른 범위로 다시 보관하면 세그먼트 식별자 범위가 겹치므로,
+ *   월마다 범위가 겹치는 세그먼트에서 읽은 행만 log_id 로 중복을 걸러낸다(겹치지 않는 세그먼트는 그대로 흘려보냄).
+ * <p>
+ * <설계 메모>
+ * - 조회 Stream 은 세그먼트를 하나씩 열고(flatMap), 다 읽거나 Stream 이 닫히면 파일을 닫는다.
+ */
+@Component
+public class LocalHardDeleteLogArchive implements HardDeleteLogArchive {
+
+    private static final String DIRECTORY = "task-hard-delete-logs";
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".qhdl";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final int blockRows;
+
+    public LocalHardDeleteLogArchive(HardDeleteLogArchiveStorageProperties properties) {
+        if (properties.blockRows() < 1) throw new IllegalArgumentException("blockRows must be >= 1");
+        this.root = properties.root().toAbsolutePath().normalize().resolve(DIRECTORY);
+        this.blockRows = properties.blockRows();
+    }
+
+    @Override
+    public void append(YearMonth month, List<ArchivedHardDeleteLog> rows) {
+        if (month == null) throw new IllegalArgumentException("month is null");
+        if (rows == null || rows.isEmpty()) return;
+        for (ArchivedHardDeleteLog row : rows) {
+            if (!YearMonth.from(row.hardDeletedAt().atZoneSameInstant(ZoneOffset.UTC)).equals(month)) {
+                throw new IllegalArgumentException("row outside of partition " + month + ": " + row.logId());
+            }
+        }
+        LongSummaryStatistics ids = rows.stream().mapToLong(ArchivedHardDeleteLog::logId).summaryStatistics();
+        Path target = root.resolve(month.toString()).resolve(PREFIX + ids.getMin() + "-" + ids.getMax() + SUFFIX);
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                HardDeleteLogSegments.write(out, rows, blockRows);
+                out.flush();
+                channel.force(true); // 원본 행 삭제 전에 디스크에 남아 있어야 한다
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to archive " + target, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public Stream<ArchivedHardDeleteLog> findByTaskId(Long taskId) {
+        if (taskId == null) throw new IllegalArgumentException("taskId is null");
+        long id = taskId;
+        return scan(months(),
+                range -> range.minTaskId() <= id && id <= range.maxTaskId(),
+                row -> row.taskId() == id);
+    }
+
+    @Override
+    public Stream<ArchivedHardDeleteLog> findBetween(OffsetDateTime from, OffsetDateTime to) {
+        if (from == null || to == null) throw new IllegalArgumentException("from/to is null");
+        if (!from.isBefore(to)) return Stream.empty();
+        long fromMicros = HardDeleteLogSegments.toMicros(from);
+        long toMicros = HardDeleteLogSegments.toMicros(to);
+        YearMonth first = YearMonth.from(from.atZoneSameInstant(ZoneOffset.UTC));
+        YearMonth last = YearMonth.from(to.minusNanos(1).atZoneSameInstant(ZoneOffset.UTC));
+        return scan(months().stream().filter(month -> !month.isBefore(first) && !month.isAfter(last)).toList(),
+                range -> range.minHardDeletedAtMicros() < toMicros && range.maxHardDeletedAtMicros() >= fromMicros,
+                row -> {
+                    long at = HardDeleteLogSegments.toMicros(row.hardDeletedAt());
+                    return at >= fromMicros && at < toMicros;
+                });
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private Stream<ArchivedHardDeleteLog> scan(List<YearMonth> months, Predicate<BlockRange> blockFilter,
+                                               Predicate<ArchivedHardDeleteLog> rowFilter) {
+        return months.stream().flatMap(month -> scanMonth(segments(month), blockFilter, rowFilter));
+    }
+
+    /**
+     * 월 파티션 1개 조회. 식별자 범위가 다른 세그먼트와 겹치는 세그먼트의 행만 log_id 로 중복 제거
+     */
+    private static Stream<ArchivedHardDeleteLog> scanMonth(List<Segment> segments, Predicate<BlockRange> blockFilter,
+                                                           Predicate<ArchivedHardDeleteLog> rowFilter) {
+        boolean[] overlapping = new boolean[segments.size()];
+        long reach = Long.MIN_VALUE; // 앞선 세그먼트들의 마지막 log_id 최댓값
+        int reachOwner = -1;
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            if (segment.firstLogId() <= reach) {
+                overlapping[i] = true;
+                overlapping[reachOwner] = true;
+            }
+            if (segment.lastLogId() > reach) {
+                reach = segment.lastLogId();
+                reachOwner = i;
+            }
+        }
+
+        Set<Long> seen = new HashSet<>();
+        return IntStream.range(0, segments.size()).boxed().flatMap(i -> {
+            Stream<ArchivedHardDeleteLog> rows = read(segments.get(i).path(), blockFilter, rowFilter);
+            return overlapping[i] ? rows.filter(row -> seen.add(row.logId())) : rows;
+        });
+    }
+
+    private static Stream<ArchivedHardDeleteLog> read(Path segment, Predicate<BlockRange> blockFilter,
+                                                      Predicate<ArchivedHardDeleteLog> rowFilter) {
+        try {
+            SegmentCursor cursor = HardDeleteLogSegments.open(
+                    new BufferedInputStream(Files.newInputStream(segment), BUFFER_SIZE), blockFilter, rowFilter);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> {
+                        try {
+                            cursor.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open " + segment, e);
+        }
+    }
+
+    /**
+     * 보관된 월 파티션 (오래된 순)
+     */
+    private List<YearMonth> months() {
+        if (!Files.isDirectory(root)) return List.of();
+        try (Stream<Path> children = Files.list(root)) {
+            return children.filter(Files::isDirectory)
+                    .map(path -> parseMonth(path.getFileName().toString()))
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to list " + root, e);
+        }
+    }
+
+    /**
+     * 월 파티션의 세그먼트 (첫 log_id 순, 게시 전 임시 파일 제외)
+     */
+    private List<Segment> segments(YearMonth month) {
+        Path directory = root.resolve(month.toString());
+        try (Stream<Path> children = Files.list(directory)) {
+            return children.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .map(Segment::of)
+                    .sorted(Comparator.comparingLong(Segment::firstLogId))
+                    .toList();
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to list " + directory, e);
+        }
+    }
+
+    private static YearMonth parseMonth(String name) {
+        try {
+            return YearMonth.parse(name);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 남은 임시 파일(.part)은 조회 대상이 아니므로 무해
+        }
+    }
+
+    /**
+     * 게시된 세그먼트와 파일 이름의 식별자 범위 ([firstLogId, lastLogId])
+     */
+    private record Segment(Path path, long firstLogId, long lastLogId) {
+
+        static Segment of(Path path) {
+            String name = path.getFileName().toString();
+            String range = name.substring(PREFIX.length(), name.length() - SUFFIX.length());
+            int separator = range.indexOf('-');
+            return new Segment(path, Long.parseLong(range.substring(0, separator)), Long.parseLong(range.substring(separator + 1)));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.notification.client.NotificationSender;
+import org.qpeek.qpeek.application.notification.dto.DeliveryResult;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 채널별 병렬 알림 발송
+ * <p>
+ * <정책>
+ * - 다이제스트 1건 = 가상 스레드 1개 = 외부 호출 1회. 채널마다 세마포어로 동시 발송 수(maxInFlight)를 제한.
+ * - 채널별 timeout 안에 (세마포어 대기 + 요청/응답)이 끝나지 않으면 실패로 처리하고 스레드를 중단.
+ * - 느린 채널은 자기 permit 만 소모하므로 다른 채널 발송을 막지 않는다.
+ * <p>
+ * <설계 메모>
+ * - 블로킹 I/O 는 가상 스레드가 캐리어 스레드를 놓아주므로 플랫폼 스레드 수와 무관하게 수천 건 동시 진행 가능.
+ * - 채널 클라이언트는 NotificationChannelClient 빈으로 추가(채널당 1개).
+ */
+@Slf4j
+@Component
+public class ChannelNotificationSender implements NotificationSender {
+
+    private static final long GRACE_MILLIS = 100;
+
+    private final Map<NotificationChannelType, NotificationChannelClient> clients = new EnumMap<>(NotificationChannelType.class);
+    private final Map<NotificationChannelType, Semaphore> permits = new EnumMap<>(NotificationChannelType.class);
+    private final NotificationChannelProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChannelNotificationSender(List<NotificationChannelClient> clients, NotificationChannelProperties properties) {
+        this.properties = properties;
+        for (NotificationChannelClient client : clients) {
+            if (this.clients.put(client.channel(), client) != null) {
+                throw new IllegalStateException("duplicate channel client: " + client.channel());
+            }
+        }
+        for (NotificationChannelType channel : NotificationChannelType.values()) {
+            permits.put(channel, new Semaphore(properties.limitsOf(channel).maxInFlight()));
+        }
+    }
+
+    @Override
+    public List<DeliveryResult> sendAll(List<NotificationDigest> digests) {
+        if (digests.isEmpty()) return List.of();
+
+        long startedAt = System.nanoTime();
+        List<Future<Outcome>> futures = new ArrayList<>(digests.size());
+        for (NotificationDigest digest : digests) {
+            futures.add(executor.submit(() -> deliver(digest, startedAt)));
+        }
+
+        List<DeliveryResult> results = new ArrayList<>();
+        for (int i = 0; i < digests.size(); i++) {
+            NotificationDigest digest = digests.get(i);
+            Outcome outcome = await(digest, futures.get(i), startedAt);
+            for (PendingNotification item : digest.items()) {
+                results.add(outcome.error() == null
+                        ? DeliveryResult.delivered(item.notificationId())
+                        : DeliveryResult.failed(item.notificationId(), outcome.error()));
+            }
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private Outcome deliver(NotificationDigest digest, long startedAt) {
+        NotificationChannelClient client = clients.get(digest.channel());
+        if (client == null) return Outcome.failed("no client for " + digest.channel());
+
+        Semaphore semaphore = permits.get(digest.channel());
+        try {
+            if (!semaphore.tryAcquire(remainingNanos(digest, startedAt), TimeUnit.NANOSECONDS)) {
+                return Outcome.failed("in-flight limit wait timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.failed("interrupted");
+        }
+
+        try {
+            long remaining = remainingNanos(digest, startedAt);
+            if (remaining <= 0) return Outcome.failed("timed out");
+            client.deliver(digest, Duration.ofNanos(remaining));
+            return Outcome.DELIVERED;
+        } catch (HttpTimeoutException e) {
+            return Outcome.failed("timed out");
+        } catch (IOException | RuntimeException e) {
+            return Outcome.failed(String.valueOf(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.failed("interrupted");
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private Outcome await(NotificationDigest digest, Future<Outcome> future, long startedAt) {
+        long waitNanos = remainingNanos(digest, startedAt) + TimeUnit.MILLISECONDS.toNanos(GRACE_MILLIS);
+        try {
+            return future.get(Math.max(waitNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return Outcome.failed("timed out");
+        } catch (ExecutionException e) {
+            return Outcome.failed(String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Outcome.failed("interrupted");
+        }
+    }
+
+    private long remainingNanos(NotificationDigest digest, long startedAt) {
+        long timeout = properties.limitsOf(digest.channel()).timeout().toNanos();
+        return timeout - (System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 다이제스트 1건의 결과 (error == null 이면 성공)
+     */
+    private record Outcome(String error) {
+        private static final Outcome DELIVERED = new Outcome(null);
+
+        private static Outcome failed(String error) {
+            return new Outcome(error);
+        }
+    }
+}
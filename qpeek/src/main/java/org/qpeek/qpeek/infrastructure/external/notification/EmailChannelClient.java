@@ -0,0 +1,53 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 메일 발송 HTTP API (address = 수신 이메일)
+ * - emailEndpoint 미설정 환경(로컬/개발)에서는 발송 대신 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class EmailChannelClient extends HttpNotificationChannelClient {
+
+    private final NotificationChannelProperties properties;
+
+    public EmailChannelClient(HttpClient notificationHttpClient, ObjectMapper objectMapper, NotificationChannelProperties properties) {
+        super(notificationHttpClient, objectMapper);
+        this.properties = properties;
+    }
+
+    @Override
+    public NotificationChannelType channel() {
+        return NotificationChannelType.EMAIL;
+    }
+
+    @Override
+    public void deliver(NotificationDigest digest, Duration timeout) throws IOException, InterruptedException {
+        if (properties.emailEndpoint() == null) {
+            log.info("email endpoint not configured, skipped. memberId={}, items={}", digest.memberId(), digest.items().size());
+            return;
+        }
+        super.deliver(digest, timeout);
+    }
+
+    @Override
+    protected HttpRequest.Builder request(NotificationDigest digest) throws IOException {
+        return HttpRequest.newBuilder(properties.emailEndpoint())
+                .header("Content-Type", "application/json")
+                .POST(jsonBody(Map.of(
+                        "to", digest.address(),
+                        "subject", NotificationMessages.subject(digest),
+                        "text", NotificationMessages.text(digest))));
+    }
+}
@@ -0,0 +1,41 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HTTP 기반 채널 공통 처리 (요청 생성만 채널별로 구현)
+ */
+public abstract class HttpNotificationChannelClient implements NotificationChannelClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    protected HttpNotificationChannelClient(HttpClient httpClient, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(NotificationDigest digest, Duration timeout) throws IOException, InterruptedException {
+        HttpRequest request = request(digest).timeout(timeout).build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(channel() + " responded " + response.statusCode());
+        }
+    }
+
+    protected abstract HttpRequest.Builder request(NotificationDigest digest) throws IOException;
+
+    protected HttpRequest.BodyPublisher jsonBody(Map<String, ?> body) throws JsonProcessingException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+}
@@ -0,0 +1,46 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 카카오톡 나에게 보내기 (address = 사용자 액세스 토큰)
+ */
+@Component
+public class KakaoChannelClient extends HttpNotificationChannelClient {
+
+    private final ObjectMapper objectMapper;
+    private final NotificationChannelProperties properties;
+
+    public KakaoChannelClient(HttpClient notificationHttpClient, ObjectMapper objectMapper, NotificationChannelProperties properties) {
+        super(notificationHttpClient, objectMapper);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public NotificationChannelType channel() {
+        return NotificationChannelType.KAKAO;
+    }
+
+    @Override
+    protected HttpRequest.Builder request(NotificationDigest digest) throws IOException {
+        String template = objectMapper.writeValueAsString(Map.of(
+                "object_type", "text",
+                "text", NotificationMessages.text(digest),
+                "link", Map.of()));
+        return HttpRequest.newBuilder(properties.kakaoEndpoint())
+                .header("Authorization", "Bearer " + digest.address())
+                .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString("template_object=" + URLEncoder.encode(template, StandardCharsets.UTF_8)));
+    }
+}
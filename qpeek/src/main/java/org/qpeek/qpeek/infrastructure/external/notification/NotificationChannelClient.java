@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 채널 1종에 대한 발송 클라이언트 (블로킹 호출, 가상 스레드에서 실행됨)
+ * - 다이제스트 1개를 외부 호출 1회로 보낸다.
+ */
+public interface NotificationChannelClient {
+
+    NotificationChannelType channel();
+
+    /**
+     * @throws IOException 전송 실패 또는 2xx 이외 응답
+     */
+    void deliver(NotificationDigest digest, Duration timeout) throws IOException, InterruptedException;
+}
@@ -0,0 +1,34 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param defaults      채널별 설정이 없을 때의 동시 발송 수/시간 제한
+ * @param limits        채널별 동시 발송 수/시간 제한 (예: qpeek.notification.channels.limits.slack.max-in-flight=16)
+ * @param kakaoEndpoint 카카오 메시지 API
+ * @param emailEndpoint 메일 발송 HTTP API (미설정이면 로그만 남김)
+ */
+@ConfigurationProperties(prefix = "qpeek.notification.channels")
+public record NotificationChannelProperties(@DefaultValue Limits defaults,
+                                            Map<NotificationChannelType, Limits> limits,
+                                            @DefaultValue("https://kapi.kakao.com/v2/api/talk/memo/default/send") URI kakaoEndpoint,
+                                            URI emailEndpoint) {
+
+    public Limits limitsOf(NotificationChannelType channel) {
+        return limits == null ? defaults : limits.getOrDefault(channel, defaults);
+    }
+
+    /**
+     * @param maxInFlight 동시에 진행할 수 있는 발송 수 (채널 단위 세마포어)
+     * @param timeout     발송 1건 제한 시간 (세마포어 대기 + 요청/응답)
+     */
+    public record Limits(@DefaultValue("64") int maxInFlight,
+                         @DefaultValue("5s") Duration timeout) {
+    }
+}
@@ -0,0 +1,45 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.util.stream.Collectors;
+
+/**
+ * 알림 문구 (채널 공통). 다이제스트는 제목 1줄 + 알림마다 1줄.
+ */
+final class NotificationMessages {
+
+    private NotificationMessages() {
+    }
+
+    static String subject(NotificationDigest digest) {
+        if (digest.single()) return subject(digest.first().type());
+        return "[Qpeek] 알림 " + digest.items().size() + "건";
+    }
+
+    static String text(NotificationDigest digest) {
+        if (digest.single()) return line(digest.first());
+        return subject(digest) + "\n" + digest.items().stream()
+                .map(item -> "- " + line(item))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String subject(NotificationType type) {
+        return switch (type) {
+            case BEFORE_DAY -> "[Qpeek] 내일 마감";
+            case DUE -> "[Qpeek] 오늘 마감";
+            case IMMINENT -> "[Qpeek] 마감 임박";
+            case OVERDUE -> "[Qpeek] 마감 초과";
+            case REPORT -> "[Qpeek] 데일리 리포트";
+        };
+    }
+
+    private static String line(PendingNotification notification) {
+        String subject = subject(notification.type());
+        if (notification.taskTitle() == null) return subject;
+        String due = notification.dueAt() == null ? "" : " (마감 " + notification.dueAt() + ")";
+        return subject + " - " + notification.taskTitle() + due;
+    }
+}
@@ -0,0 +1,35 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.Map;
+
+/**
+ * Slack Incoming Webhook (address = 웹훅 URL)
+ */
+@Component
+public class SlackChannelClient extends HttpNotificationChannelClient {
+
+    public SlackChannelClient(HttpClient notificationHttpClient, ObjectMapper objectMapper) {
+        super(notificationHttpClient, objectMapper);
+    }
+
+    @Override
+    public NotificationChannelType channel() {
+        return NotificationChannelType.SLACK;
+    }
+
+    @Override
+    protected HttpRequest.Builder request(NotificationDigest digest) throws IOException {
+        return HttpRequest.newBuilder(URI.create(digest.address()))
+                .header("Content-Type", "application/json")
+                .POST(jsonBody(Map.of("text", NotificationMessages.text(digest))));
+    }
+}
@@ -0,0 +1,46 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Web Push (address = 구독 endpoint)
+ * - 페이로드 암호화/VAPID 서명은 push 게이트웨이 측 책임으로 두고 평문 JSON 을 전달한다.
+ */
+@Component
+public class WebPushChannelClient extends HttpNotificationChannelClient {
+
+    private static final String TTL_SECONDS = "3600";
+
+    public WebPushChannelClient(HttpClient notificationHttpClient, ObjectMapper objectMapper) {
+        super(notificationHttpClient, objectMapper);
+    }
+
+    @Override
+    public NotificationChannelType channel() {
+        return NotificationChannelType.WEBPUSH;
+    }
+
+    @Override
+    protected HttpRequest.Builder request(NotificationDigest digest) throws IOException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("title", NotificationMessages.subject(digest));
+        body.put("body", NotificationMessages.text(digest));
+        body.put("taskIds", digest.items().stream().map(PendingNotification::taskId).filter(Objects::nonNull).toList());
+        return HttpRequest.newBuilder(URI.create(digest.address()))
+                .header("Content-Type", "application/json")
+                .header("TTL", TTL_SECONDS)
+                .POST(jsonBody(body));
+    }
+}
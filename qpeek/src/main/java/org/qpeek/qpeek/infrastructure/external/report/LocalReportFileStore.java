@@ -0,0 +1,74 @@
+package org.qpeek.qpeek.infrastructure.external.report;
+
+import org.qpeek.qpeek.application.report.client.ReportFileStore;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * 로컬 디렉터리 파일 저장소
+ * <p>
+ * <정책>
+ * - key 는 root 아래 상대 경로. root 밖을 가리키면 거부.
+ * - 같은 디렉터리의 임시 파일에 쓴 뒤 원자적 이동으로 게시 → 읽는 쪽은 완성된 파일만 본다. 실패하면 임시 파일 삭제.
+ * <p>
+ * <설계 메모>
+ * - 고정 크기 버퍼로 흘려 쓰므로 파일 크기와 무관하게 메모리 사용량 일정.
+ */
+@Component
+public class LocalReportFileStore implements ReportFileStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalReportFileStore(ReportOutputProperties properties) {
+        this.root = properties.root().toAbsolutePath().normalize();
+        this.baseUrl = properties.baseUrl().endsWith("/") ? properties.baseUrl() : properties.baseUrl() + "/";
+    }
+
+    @Override
+    public String store(String key, ContentWriter writer) {
+        Path target = resolve(key);
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+                writer.writeTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return baseUrl + key;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to store " + key, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private Path resolve(String key) {
+        if (key == null || key.isBlank()) throw new IllegalArgumentException("key is blank");
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root) || target.equals(root)) throw new IllegalArgumentException("key escapes root: " + key);
+        return target;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 남은 임시 파일(.part)은 게시 대상이 아니므로 무해
+        }
+    }
+}
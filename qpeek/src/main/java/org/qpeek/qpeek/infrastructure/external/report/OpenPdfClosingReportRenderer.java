@@ -0,0 +1,86 @@
+package org.qpeek.qpeek.infrastructure.external.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfWriter;
+import org.qpeek.qpeek.application.report.client.ClosingReportRenderer;
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * OpenPDF 기반 리포트 렌더러
+ * <p>
+ * <정책>
+ * - 1페이지 상단: 날짜(회원 시간대), 완료/미완료 수. 이후 완료 내역 1행 = 1줄 (현지 시각, 큐, 제목, 진행률).
+ * <p>
+ * <설계 메모>
+ * - 표(PdfPTable)는 행 전체를 모아 배치하므로 쓰지 않고 단락을 1줄씩 추가한다. 페이지가 차면 PdfWriter 가 즉시 기록.
+ * - 글꼴은 기동 시 1회 적재해 모든 문서가 공유(임베드 시 문서마다 사용 글리프만 서브셋).
+ * - 내장 글꼴(Helvetica/WINANSI)은 한글 글리프가 없어 제목/본문이 빠진 PDF 가 만들어지므로, 글꼴 미설정이면 기동을 실패시킨다.
+ *   PDF 생성이 꺼져 있으면(qpeek.report.pdf.enabled=false) 빈을 만들지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "qpeek.report.pdf", name = "enabled", matchIfMissing = true)
+public class OpenPdfClosingReportRenderer implements ClosingReportRenderer {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Font titleFont;
+    private final Font bodyFont;
+
+    public OpenPdfClosingReportRenderer(ReportOutputProperties properties) {
+        this(loadFont(properties));
+    }
+
+    OpenPdfClosingReportRenderer(BaseFont baseFont) {
+        this.titleFont = new Font(baseFont, 16, Font.BOLD);
+        this.bodyFont = new Font(baseFont, 10, Font.NORMAL);
+    }
+
+    @Override
+    public ReportDocument open(PendingReportPdf report, OutputStream out) {
+        Document document = new Document(PageSize.A4, 48, 48, 48, 48);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.addTitle("Qpeek " + report.reportDate());
+        document.open();
+
+        document.add(new Paragraph("[Qpeek] 데일리 리포트 " + report.reportDate() + " (" + report.zoneId() + ")", titleFont));
+        document.add(new Paragraph("완료 " + report.completedCount() + "건 / 미완료 " + report.incompleteCount() + "건", bodyFont));
+        document.add(new Paragraph(" ", bodyFont));
+
+        return new ReportDocument() {
+            @Override
+            public void add(CompletionLine line) {
+                String time = line.completedAt().atZoneSameInstant(report.zoneId()).format(TIME);
+                document.add(new Paragraph("%s  [%s] %s (%d%%)".formatted(time, line.queueName(), line.title(), line.progress()), bodyFont));
+            }
+
+            @Override
+            public void close() {
+                document.close();
+            }
+        };
+    }
+
+    private static BaseFont loadFont(ReportOutputProperties properties) {
+        if (properties.fontPath() == null) {
+            throw new IllegalStateException("qpeek.report.output.font-path is required for report pdf (Hangul glyphs)");
+        }
+        try {
+            return BaseFont.createFont(properties.fontPath().toAbsolutePath().toString(), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to load report font " + properties.fontPath(), e);
+        }
+    }
+}
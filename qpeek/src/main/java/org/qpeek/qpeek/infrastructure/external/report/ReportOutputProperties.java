@@ -0,0 +1,17 @@
+package org.qpeek.qpeek.infrastructure.external.report;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * @param root     리포트 파일 저장 디렉터리 (정적 파일 서버/CDN 원본)
+ * @param baseUrl  root 를 서비스하는 URL (게시 URL = baseUrl + key)
+ * @param fontPath PDF 본문 TrueType/OpenType 한글 글꼴 (예: NanumGothic.ttf). PDF 생성이 켜져 있으면 필수(미설정이면 기동 실패).
+ */
+@ConfigurationProperties(prefix = "qpeek.report.output")
+public record ReportOutputProperties(@DefaultValue("./data/reports") Path root,
+                                     @DefaultValue("/files/reports/") String baseUrl,
+                                     Path fontPath) {
+}
@@ -0,0 +1,54 @@
+package org.qpeek.qpeek.infrastructure.persistence.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JDBC 일괄 INSERT 용 global_sequence 식별자 할당기
+ * <p>
+ * <설계 메모>
+ * - global_seq_gen(GlobalSequenceGenerators)은 allocationSize = 50 인 pooled 옵티마이저: nextval 값 V 가 (V-49 .. V) 블록을 뜻한다.
+ *   같은 규칙으로 블록을 받아 펼치므로 Hibernate 가 발급하는 식별자와 겹치지 않는다.
+ * - 새 시퀀스의 첫 값(1 = 시작 값)은 Hibernate 와 같이 {1} 한 개짜리 블록으로 본다(0 이하 식별자를 만들지 않음).
+ * - 행마다 nextval 을 호출하면 블록 하나(50개)를 1개만 쓰고 버리게 되므로, 필요한 블록 수만큼만 한 번에 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GlobalIdAllocator {
+
+    public static final int BLOCK_SIZE = 50;
+
+    private static final String NEXT_BLOCKS = """
+            SELECT nextval('global_sequence')
+              FROM generate_series(1, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long[] allocate(int count) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        if (count == 0) return new long[0];
+        List<Long> blocks = jdbcTemplate.queryForList(NEXT_BLOCKS, Long.class, blocksFor(count));
+
+        long[] ids = new long[count];
+        int i = 0;
+        while (true) {
+            for (long hi : blocks) {
+                for (long id = Math.max(1, hi - BLOCK_SIZE + 1); id <= hi && i < count; id++) ids[i++] = id;
+            }
+            if (i == count) return ids;
+            blocks = jdbcTemplate.queryForList(NEXT_BLOCKS, Long.class, blocksFor(count - i)); // 첫 블록이 {1} 이었던 경우
+        }
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private static int blocksFor(int count) {
+        return (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+}
@@ -0,0 +1,15 @@
+package org.qpeek.qpeek.infrastructure.persistence.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param ttl           노드 번호 임대 기간. 연장하지 못한 채 지나면 발급을 멈추고, 다른 노드가 번호를 이어받을 수 있다
+ * @param renewInterval 임대 연장 주기 (ttl 보다 충분히 짧아야 일시적인 DB 장애를 견딘다)
+ */
+@ConfigurationProperties(prefix = "qpeek.id.node-lease")
+public record IdNodeLeaseProperties(@DefaultValue("10m") Duration ttl,
+                                    @DefaultValue("1m") Duration renewInterval) {
+}
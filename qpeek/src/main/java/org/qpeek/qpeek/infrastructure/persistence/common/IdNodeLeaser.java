@@ -0,0 +1,167 @@
+package org.qpeek.qpeek.infrastructure.persistence.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qpeek.qpeek.common.persistence.TimeOrderedIdGenerator;
+import org.qpeek.qpeek.common.persistence.TimeOrderedIds;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 순 식별자(@TimeOrderedId) 노드 번호 임대
+ * <p>
+ * <정책>
+ * - 기동 시 id_node_leases 에서 만료된 번호 중 가장 오래전에 만료된 것을 임대하고 TimeOrderedIdGenerator 를 활성화.
+ *   이전 보유자의 만료 시각을 발급 하한(floor)으로 넘겨 같은 번호로 이미 발급된 값과 겹치지 않게 한다.
+ * - renewInterval 마다 연장. 연장 요청을 보낸 시점 + ttl 까지만 발급(로컬 기준이 DB 만료 시각보다 항상 이르다).
+ * - 임대를 잃었으면(만료 후 다른 노드가 이어받음) 발급을 멈추고 새 번호를 임대한다. 종료 시 반납.
+ * <p>
+ * <설계 메모>
+ * - 웹 서버/스케줄러보다 먼저 시작하고 나중에 멈추도록 SmartLifecycle 단계 0. 스키마 확장(010)은 그 전에 적용된다.
+ * - 연장은 전용 스레드에서 실행: 공용 스케줄러 스레드가 긴 작업에 묶여도 임대가 만료되지 않게 한다.
+ * - 노드 사이 벽시계 차이는 임대 만료 시각 기준 하한으로만 보정하므로 NTP 동기화를 전제로 한다.
+ */
+@Slf4j
+@Component
+public class IdNodeLeaser implements SmartLifecycle {
+
+    // 만료된 번호 중 가장 오래전에 만료된 것(= 마지막 발급에서 가장 먼 것)을 점유. 동시 기동한 노드는 SKIP LOCKED 로 서로 다른 번호를 받는다.
+    private static final String ACQUIRE = """
+            WITH candidate AS (
+                SELECT node_id, leased_until
+                  FROM id_node_leases
+                 WHERE leased_until < now()
+                 ORDER BY leased_until, node_id
+                 LIMIT 1
+                   FOR UPDATE SKIP LOCKED
+            )
+            UPDATE id_node_leases l
+               SET owner = ?, leased_until = now() + make_interval(secs => ?)
+              FROM candidate c
+             WHERE l.node_id = c.node_id
+            RETURNING l.node_id, (extract(epoch FROM c.leased_until) * 1000)::bigint AS floor_millis
+            """;
+
+    // 아직 유효한 내 임대만 연장 (만료 후 다른 노드가 가져갔으면 0행)
+    private static final String RENEW = """
+            UPDATE id_node_leases
+               SET leased_until = now() + make_interval(secs => ?)
+             WHERE node_id = ? AND owner = ? AND leased_until > now()
+            """;
+
+    // 반납 시각(now)이 다음 보유자의 발급 하한이 된다.
+    private static final String RELEASE = """
+            UPDATE id_node_leases
+               SET owner = NULL, leased_until = least(leased_until, now())
+             WHERE node_id = ? AND owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdNodeLeaseProperties properties;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    private volatile Integer nodeId;
+    private volatile ScheduledExecutorService executor;
+
+    public IdNodeLeaser(JdbcTemplate jdbcTemplate, IdNodeLeaseProperties properties) {
+        if (!properties.ttl().isPositive()) throw new IllegalArgumentException("ttl must be > 0");
+        if (!properties.renewInterval().isPositive() || properties.renewInterval().compareTo(properties.ttl()) >= 0) {
+            throw new IllegalArgumentException("renewInterval must be > 0 and < ttl");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        acquire();
+        long interval = properties.renewInterval().toMillis();
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("id-node-lease").daemon(true).factory());
+        executor.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = executor;
+        executor = null;
+        if (current != null) {
+            current.shutdownNow();
+            try {
+                current.awaitTermination(10, TimeUnit.SECONDS); // 진행 중이던 연장/재임대가 끝난 뒤 반납
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        TimeOrderedIdGenerator.deactivate();
+        Integer leased = nodeId;
+        nodeId = null;
+        if (leased == null) return;
+        try {
+            jdbcTemplate.update(RELEASE, leased, owner);
+            log.info("id node released. nodeId={}", leased);
+        } catch (RuntimeException e) {
+            log.warn("id node release failed. lease expires after ttl. nodeId={}", leased, e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private void acquire() {
+        long requestedNanos = System.nanoTime();
+        List<long[]> leased = jdbcTemplate.query(ACQUIRE,
+                (rs, rowNum) -> new long[]{rs.getInt("node_id"), rs.getLong("floor_millis")},
+                owner, ttlSeconds());
+        if (leased.isEmpty()) throw new IllegalStateException("no id node available (all " + (TimeOrderedIds.MAX_NODE_ID + 1) + " leased)");
+
+        int leasedNodeId = (int) leased.getFirst()[0];
+        long floorMillis = leased.getFirst()[1];
+        TimeOrderedIdGenerator.activate(new TimeOrderedIds(leasedNodeId, floorMillis, System::currentTimeMillis),
+                requestedNanos + properties.ttl().toNanos());
+        nodeId = leasedNodeId;
+        log.info("id node leased. nodeId={}, owner={}", leasedNodeId, owner);
+    }
+
+    private void renew() {
+        try {
+            Integer leased = nodeId;
+            if (leased == null) {
+                acquire();
+                return;
+            }
+            long requestedNanos = System.nanoTime();
+            if (jdbcTemplate.update(RENEW, ttlSeconds(), leased, owner) == 1) {
+                TimeOrderedIdGenerator.extend(leased, requestedNanos + properties.ttl().toNanos());
+                return;
+            }
+            log.warn("id node lease lost. nodeId={}", leased);
+            TimeOrderedIdGenerator.deactivate();
+            nodeId = null;
+            acquire();
+        } catch (RuntimeException e) {
+            log.warn("id node lease renewal failed. retry on next interval", e); // 유효 시각까지는 계속 발급
+        }
+    }
+
+    private double ttlSeconds() {
+        return properties.ttl().toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,61 @@
+package org.qpeek.qpeek.infrastructure.persistence.common;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * JPA 매핑으로 표현할 수 없는 PostgreSQL 스키마 확장 적용
+ * <p>
+ * <설계 메모>
+ * - classpath:db/extension/*.sql 을 파일명 순서대로 실행. 모든 스크립트는 재실행 가능(IF NOT EXISTS 등)해야 한다.
+ * - EntityManagerFactory 에 의존하여 Hibernate 스키마 생성 이후, 스케줄러 기동 이전(SmartInitializingSingleton)에 실행.
+ * - 스크립트 1개 = Statement 1회(EOF 구분자). 문장 분리는 PostgreSQL 드라이버가 처리하므로 DO $$ 블록 사용 가능.
+ * - qpeek.schema.extensions.enabled=false 로 비활성화 가능(마이그레이션 도구로 이관 시).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "qpeek.schema.extensions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaExtensionInitializer implements SmartInitializingSingleton {
+
+    private static final String LOCATION = "classpath*:db/extension/*.sql";
+
+    private final DataSource dataSource;
+
+    public SchemaExtensionInitializer(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource; // entityManagerFactory: 실행 순서 보장용 의존성
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Resource[] scripts = loadScripts();
+        if (scripts.length == 0) return;
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(scripts);
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.execute(dataSource);
+        log.info("schema extensions applied. scripts={}", scripts.length);
+    }
+
+    private static Resource[] loadScripts() {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(LOCATION);
+            Arrays.sort(scripts, Comparator.comparing(Resource::getFilename, Comparator.nullsLast(Comparator.naturalOrder())));
+            return scripts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to load schema extension scripts", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.qpeek.qpeek.infrastructure.persistence.database;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.database.repository.DatabasePurgeRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DatabasePurgeRepositoryAdapter implements DatabasePurgeRepository {
+
+    // idx_databases_deleted_at 을 삭제 순으로 읽는다. 행 잠금은 청크 트랜잭션이 끝나면 풀리므로
+    // 노드가 중단되어도 다음 점유에서 남은 행부터 이어서 정리된다(진행 상태를 따로 저장하지 않음).
+    private static final String CLAIM_DELETED = """
+            SELECT database_id
+              FROM databases
+             WHERE deleted_at IS NOT NULL
+             ORDER BY deleted_at
+             LIMIT 1
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    // 큐별 idx_tasks_queue 로 limit 개만 골라 종속 행과 함께 한 문장으로 삭제.
+    // FK 는 NO ACTION 이라 문장 끝에 검사되므로 형제 CTE 로 자식 행을 먼저 지워도 된다.
+    private static final String PURGE_TASKS = """
+            WITH target AS (
+                SELECT t.task_id
+                  FROM queues q
+                  JOIN tasks t ON t.queue_id = q.queue_id
+                 WHERE q.database_id = ?
+                 LIMIT ?
+            ), notifications_deleted AS (
+                DELETE FROM notifications n
+                 USING target t
+                 WHERE n.task_id = t.task_id
+            ), completions_deleted AS (
+                DELETE FROM completion_logs l
+                 USING target t
+                 WHERE l.task_id = t.task_id
+            ), items_deleted AS (
+                DELETE FROM trash_items i
+                 USING target t
+                 WHERE i.task_id = t.task_id
+            )
+            DELETE FROM tasks k
+             USING target t
+             WHERE k.task_id = t.task_id
+            """;
+
+    private static final String PURGE_QUEUES = """
+            DELETE FROM queues
+             WHERE queue_id IN (SELECT q.queue_id
+                                  FROM queues q
+                                 WHERE q.database_id = ?
+                                   AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.queue_id = q.queue_id)
+                                 LIMIT ?)
+            """;
+
+    private static final String PURGE_DATABASE = """
+            DELETE FROM databases d
+             WHERE d.database_id = ?
+               AND d.deleted_at IS NOT NULL
+               AND NOT EXISTS (SELECT 1 FROM queues q WHERE q.database_id = d.database_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> claimDeleted() {
+        return jdbcTemplate.queryForList(CLAIM_DELETED, Long.class).stream().findFirst();
+    }
+
+    @Override
+    public int purgeTasks(Long databaseId, int limit) {
+        return jdbcTemplate.update(PURGE_TASKS, databaseId, limit);
+    }
+
+    @Override
+    public int purgeQueues(Long databaseId, int limit) {
+        return jdbcTemplate.update(PURGE_QUEUES, databaseId, limit);
+    }
+
+    @Override
+    public boolean purgeDatabase(Long databaseId) {
+        return jdbcTemplate.update(PURGE_DATABASE, databaseId) > 0;
+    }
+}
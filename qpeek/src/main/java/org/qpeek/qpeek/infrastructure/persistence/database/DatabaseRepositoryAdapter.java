@@ -0,0 +1,50 @@
+package org.qpeek.qpeek.infrastructure.persistence.database;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.database.dto.DatabaseListView;
+import org.qpeek.qpeek.application.database.repository.DatabaseRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DatabaseRepositoryAdapter implements DatabaseRepository {
+
+    // idx_databases_member_created_at (member_id, created_at) 범위 스캔.
+    private static final String SELECT_PAGE_FIRST = """
+            SELECT database_id, name, description, created_at
+              FROM databases
+             WHERE member_id = ?
+               AND deleted_at IS NULL
+             ORDER BY created_at, database_id
+             LIMIT ?
+            """;
+
+    private static final String SELECT_PAGE_AFTER = """
+            SELECT database_id, name, description, created_at
+              FROM databases
+             WHERE member_id = ?
+               AND deleted_at IS NULL
+               AND (created_at, database_id) > (?, ?)
+             ORDER BY created_at, database_id
+             LIMIT ?
+            """;
+
+    private static final RowMapper<DatabaseListView> LIST_VIEW_MAPPER = (rs, rowNum) -> new DatabaseListView(
+            rs.getLong("database_id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getObject("created_at", OffsetDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DatabaseListView> findPageByMember(Long memberId, OffsetDateTime afterCreatedAt, Long afterDatabaseId, int limit) {
+        if (afterCreatedAt == null) return jdbcTemplate.query(SELECT_PAGE_FIRST, LIST_VIEW_MAPPER, memberId, limit);
+        return jdbcTemplate.query(SELECT_PAGE_AFTER, LIST_VIEW_MAPPER, memberId, afterCreatedAt, afterDatabaseId, limit);
+    }
+}
@@ -0,0 +1,104 @@
+package org.qpeek.qpeek.infrastructure.persistence.log;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.log.dto.PartitionChanges;
+import org.qpeek.qpeek.application.log.repository.CompletionLogPartitionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class CompletionLogPartitionRepositoryAdapter implements CompletionLogPartitionRepository {
+
+    // 세션 advisory lock 키 ("QCLP"). DETACH CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없어 세션 잠금을 쓴다.
+    private static final long LOCK_KEY = 0x51_43_4C_50L;
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(?)";
+
+    private static final String ATTACHED = """
+            SELECT c.relname
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+             WHERE i.inhparent = to_regclass(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<PartitionChanges> maintain(YearMonth current, int premadeMonths, int retainedMonths) {
+        return Optional.ofNullable(jdbcTemplate.execute((Connection con) -> {
+            if (!lock(con, TRY_LOCK)) return null;
+            try {
+                Set<YearMonth> attached = attachedMonths(con);
+                List<YearMonth> created = new ArrayList<>();
+                for (YearMonth month : CompletionLogPartitions.toCreate(current, premadeMonths, attached)) {
+                    create(con, month);
+                    created.add(month);
+                }
+                List<YearMonth> detached = new ArrayList<>();
+                for (YearMonth month : CompletionLogPartitions.toDetach(current, retainedMonths, attached)) {
+                    detach(con, month);
+                    detached.add(month);
+                }
+                return new PartitionChanges(created, detached);
+            } finally {
+                lock(con, UNLOCK);
+            }
+        }));
+    }
+
+
+    // 내부 로직 ----------------------------------------------------------------
+
+
+    private static boolean lock(Connection con, String sql) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setLong(1, LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static Set<YearMonth> attachedMonths(Connection con) throws SQLException {
+        Set<YearMonth> months = new HashSet<>();
+        try (PreparedStatement ps = con.prepareStatement(ATTACHED)) {
+            ps.setString(1, CompletionLogPartitions.PARENT);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    YearMonth month = CompletionLogPartitions.monthOf(rs.getString(1));
+                    if (month != null) months.add(month);
+                }
+            }
+        }
+        return months;
+    }
+
+    // 파티션 이름/경계는 YearMonth 로만 만들어지므로 DDL 문자열 조립이 안전하다.
+    private static void create(Connection con, YearMonth month) throws SQLException {
+        execute(con, "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')".formatted(
+                CompletionLogPartitions.partitionName(month), CompletionLogPartitions.PARENT,
+                CompletionLogPartitions.lowerBound(month), CompletionLogPartitions.lowerBound(month.plusMonths(1))));
+    }
+
+    private static void detach(Connection con, YearMonth month) throws SQLException {
+        String partition = CompletionLogPartitions.partitionName(month);
+        execute(con, "ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY".formatted(CompletionLogPartitions.PARENT, partition));
+        execute(con, "ALTER TABLE %s RENAME TO %s".formatted(partition, CompletionLogPartitions.archiveName(month)));
+    }
+
+    private static void execute(Connection con, String sql) throws SQLException {
+        try (Statement statement = con.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
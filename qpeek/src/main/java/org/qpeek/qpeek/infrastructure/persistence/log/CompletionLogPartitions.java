@@ -0,0 +1,70 @@
+package org.qpeek.qpeek.infrastructure.persistence.log;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * completion_logs 월 파티션 이름/경계/유지보수 계획 (순수 계산)
+ * - 파티션: completion_logs_pYYYYMM, 범위 [UTC 월 1일 00:00, 다음 달 1일 00:00)
+ * - 분리된 파티션: completion_logs_archive_YYYYMM
+ */
+final class CompletionLogPartitions {
+
+    static final String PARENT = "completion_logs";
+
+    private static final String PARTITION_PREFIX = PARENT + "_p";
+    private static final String ARCHIVE_PREFIX = PARENT + "_archive_";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private CompletionLogPartitions() {
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static String archiveName(YearMonth month) {
+        return ARCHIVE_PREFIX + month.format(SUFFIX);
+    }
+
+    /**
+     * @return 파티션 이름의 월 (규칙에 맞지 않는 이름이면 null)
+     */
+    static YearMonth monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PARTITION_PREFIX)) return null;
+        String suffix = partitionName.substring(PARTITION_PREFIX.length());
+        if (!suffix.matches("\\d{6}")) return null;
+        return YearMonth.parse(suffix, SUFFIX);
+    }
+
+    static OffsetDateTime lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * current ~ current + premadeMonths 중 아직 없는 월 (오름차순)
+     */
+    static List<YearMonth> toCreate(YearMonth current, int premadeMonths, Collection<YearMonth> attached) {
+        return Stream.iterate(current, month -> month.plusMonths(1))
+                .limit(premadeMonths + 1L)
+                .filter(month -> !attached.contains(month))
+                .toList();
+    }
+
+    /**
+     * retainedMonths > 0 일 때 current - retainedMonths 보다 이전 월 (오름차순)
+     */
+    static List<YearMonth> toDetach(YearMonth current, int retainedMonths, Collection<YearMonth> attached) {
+        if (retainedMonths <= 0) return List.of();
+        YearMonth oldestKept = current.minusMonths(retainedMonths);
+        return attached.stream()
+                .filter(month -> month.isBefore(oldestKept))
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+package org.qpeek.qpeek.infrastructure.persistence.log;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.log.repository.CompletionLogRepository;
+import org.qpeek.qpeek.domain.log.entity.CompletionLog;
+import org.qpeek.qpeek.infrastructure.persistence.common.GlobalIdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CompletionLogRepositoryAdapter implements CompletionLogRepository {
+
+    // 묶음 전체를 배열 파라미터로 1회 왕복. 행마다 완료 시각의 월 파티션으로 라우팅된다.
+    // 일 롤업 날짜(local_date)는 기록 시점 회원 시간대로 한 번만 변환해 로그에 남긴다 → 차감(DELETE)도 같은 날짜에서 뺀다.
+    // 같은 문장에서 삽입한 행을 시간/일 단위로 합쳐 큐별 롤업에 더한다(같은 행을 두 번 갱신하지 않도록 GROUP BY 먼저).
+    private static final String INSERT_ALL = """
+            WITH inserted AS (
+                INSERT INTO completion_logs (completion_id, completed_at, local_date, title_snapshot, progress, queue_id, task_id,
+                                             created_at, updated_at)
+                SELECT v.completion_id, v.completed_at, (v.completed_at AT TIME ZONE coalesce(m.time_zone, 'UTC'))::date,
+                       v.title_snapshot, v.progress, v.queue_id, v.task_id, now(), now()
+                  FROM unnest(?::bigint[], ?::timestamptz[], ?::varchar[], ?::int[], ?::bigint[], ?::bigint[])
+                       AS v(completion_id, completed_at, title_snapshot, progress, queue_id, task_id)
+                  LEFT JOIN queues q ON q.queue_id = v.queue_id
+                  LEFT JOIN databases d ON d.database_id = q.database_id
+                  LEFT JOIN members m ON m.member_id = d.member_id
+                RETURNING queue_id, completed_at, local_date, progress
+            ), hourly AS (
+                INSERT INTO completion_rollup_hourly AS r (queue_id, bucket_start, completed_count, progress_sum)
+                SELECT i.queue_id, date_trunc('hour', i.completed_at, 'UTC'), count(*), sum(i.progress)
+                  FROM inserted i
+                 GROUP BY i.queue_id, date_trunc('hour', i.completed_at, 'UTC')
+                ON CONFLICT (queue_id, bucket_start) DO UPDATE
+                   SET completed_count = r.completed_count + EXCLUDED.completed_count,
+                       progress_sum    = r.progress_sum + EXCLUDED.progress_sum
+            )
+            INSERT INTO completion_rollup_daily AS r (queue_id, local_date, completed_count, progress_sum)
+            SELECT i.queue_id, i.local_date, count(*), sum(i.progress)
+              FROM inserted i
+             GROUP BY i.queue_id, i.local_date
+            ON CONFLICT (queue_id, local_date) DO UPDATE
+               SET completed_count = r.completed_count + EXCLUDED.completed_count,
+                   progress_sum    = r.progress_sum + EXCLUDED.progress_sum
+            """;
+
+    // 삭제한 로그만큼 롤업에서 뺀다(행은 0 으로 남겨 둠). 일 롤업은 로그에 남긴 local_date 기준(회원 시간대가 바뀌어도 같은 행).
+    private static final String DELETE = """
+            WITH deleted AS (
+                DELETE FROM completion_logs
+                 WHERE task_id = ?
+                   AND completed_at = ?
+                RETURNING queue_id, completed_at, local_date, progress
+            ), hourly AS (
+                UPDATE completion_rollup_hourly r
+                   SET completed_count = r.completed_count - 1,
+                       progress_sum    = r.progress_sum - d.progress
+                  FROM deleted d
+                 WHERE r.queue_id = d.queue_id
+                   AND r.bucket_start = date_trunc('hour', d.completed_at, 'UTC')
+            ), daily AS (
+                UPDATE completion_rollup_daily r
+                   SET completed_count = r.completed_count - 1,
+                       progress_sum    = r.progress_sum - d.progress
+                  FROM deleted d
+                 WHERE r.queue_id = d.queue_id
+                   AND r.local_date = d.local_date
+            )
+            SELECT count(*) FROM deleted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GlobalIdAllocator globalIdAllocator;
+
+    @Override
+    public void insertAll(List<CompletionLog> logs) {
+        if (logs.isEmpty()) return;
+        Long[] ids = Arrays.stream(globalIdAllocator.allocate(logs.size())).boxed().toArray(Long[]::new);
+        Object[] completedAt = logs.stream().map(CompletionLog::getCompletedAt).toArray();
+        String[] titles = logs.stream().map(CompletionLog::getTitleSnapshot).toArray(String[]::new);
+        Integer[] progress = logs.stream().map(CompletionLog::getProgress).toArray(Integer[]::new);
+        Long[] queueIds = logs.stream().map(CompletionLog::getQueueId).toArray(Long[]::new);
+        Long[] taskIds = logs.stream().map(log -> log.getTask().getId()).toArray(Long[]::new);
+
+        jdbcTemplate.update(INSERT_ALL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("timestamptz", completedAt));
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", titles));
+            ps.setArray(4, ps.getConnection().createArrayOf("integer", progress));
+            ps.setArray(5, ps.getConnection().createArrayOf("bigint", queueIds));
+            ps.setArray(6, ps.getConnection().createArrayOf("bigint", taskIds));
+        });
+    }
+
+    @Override
+    public int delete(Long taskId, OffsetDateTime completedAt) {
+        Integer deleted = jdbcTemplate.queryForObject(DELETE, Integer.class, taskId, completedAt);
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -0,0 +1,48 @@
+package org.qpeek.qpeek.infrastructure.persistence.log;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+import org.qpeek.qpeek.application.log.repository.TaskHardDeleteLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskHardDeleteLogRepositoryAdapter implements TaskHardDeleteLogRepository {
+
+    // idx_delete_log_hard_deleted_at 을 오래된 순으로 읽어 limit 개에서 멈춘다.
+    private static final String CLAIM_OLDER_THAN = """
+            SELECT task_hard_delete_log_id, task_id, trashed_at, hard_deleted_at
+              FROM task_hard_delete_logs
+             WHERE hard_deleted_at < ?
+             ORDER BY hard_deleted_at, task_hard_delete_log_id
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_ALL = """
+            DELETE FROM task_hard_delete_logs
+             WHERE task_hard_delete_log_id = ANY (?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ArchivedHardDeleteLog> claimOlderThan(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.query(CLAIM_OLDER_THAN, (rs, rowNum) -> new ArchivedHardDeleteLog(
+                rs.getLong("task_hard_delete_log_id"),
+                rs.getLong("task_id"),
+                rs.getObject("trashed_at", OffsetDateTime.class),
+                rs.getObject("hard_deleted_at", OffsetDateTime.class)), cutoff, limit);
+    }
+
+    @Override
+    public int deleteAll(Collection<Long> logIds) {
+        if (logIds.isEmpty()) return 0;
+        return jdbcTemplate.update(DELETE_ALL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", logIds.toArray())));
+    }
+}
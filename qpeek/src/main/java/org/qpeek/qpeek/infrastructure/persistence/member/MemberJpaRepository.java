@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.infrastructure.persistence.member;
+
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MemberJpaRepository extends JpaRepository<Member, Long> {
+}
@@ -0,0 +1,18 @@
+package org.qpeek.qpeek.infrastructure.persistence.member;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.member.repository.MemberRepository;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberRepositoryAdapter implements MemberRepository {
+
+    private final MemberJpaRepository memberJpaRepository;
+
+    @Override
+    public Member getReference(Long memberId) {
+        return memberJpaRepository.getReferenceById(memberId);
+    }
+}
@@ -0,0 +1,78 @@
+package org.qpeek.qpeek.infrastructure.persistence.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountKey;
+import org.qpeek.qpeek.application.notification.service.ChannelAccountCache;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderChannelAccount;
+import org.springframework.stereotype.Component;
+
+/**
+ * ReminderChannelAccount 변경 커밋 시 채널 계정 캐시 무효화
+ * <p>
+ * <설계 메모>
+ * - enable/disable/updateAddressOrToken/setVerifiedAt 은 모두 엔티티 갱신이므로 post-commit update 로 한 번에 처리.
+ * - 커밋된 뒤에만 무효화하여 커밋 전 상태가 다시 캐시에 올라가지 않도록 한다(TaskPeekCacheInvalidator 와 동일).
+ */
+@Component
+@RequiredArgsConstructor
+public class ChannelAccountCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChannelAccountCache channelAccountCache;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return ReminderChannelAccount.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private void evict(Object entity) {
+        if (entity instanceof ReminderChannelAccount account && account.getMember() != null) {
+            channelAccountCache.evict(new ChannelAccountKey(
+                    account.getMember().getId(), NotificationChannelType.valueOf(account.getChannelType().name())));
+        }
+    }
+}
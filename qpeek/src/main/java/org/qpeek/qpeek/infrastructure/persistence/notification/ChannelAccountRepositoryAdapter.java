@@ -0,0 +1,50 @@
+package org.qpeek.qpeek.infrastructure.persistence.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountKey;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountState;
+import org.qpeek.qpeek.application.notification.repository.ChannelAccountRepository;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ChannelAccountRepositoryAdapter implements ChannelAccountRepository {
+
+    // (member_id, channel_type) 쌍을 unnest 로 펼쳐 uk_channel_member_type 인덱스로 조회.
+    private static final String SELECT_STATES = """
+            SELECT a.member_id, a.channel_type, a.channel_account_id, a.address_or_token,
+                   a.channel_enabled AND a.verified_at IS NOT NULL AS deliverable
+              FROM unnest(?::bigint[], ?::varchar[]) AS k(member_id, channel_type)
+              JOIN reminder_channel_account a
+                ON a.member_id = k.member_id
+               AND a.channel_type = k.channel_type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<ChannelAccountKey, ChannelAccountState> findStates(Collection<ChannelAccountKey> keys) {
+        if (keys.isEmpty()) return Map.of();
+        Object[] memberIds = keys.stream().map(ChannelAccountKey::memberId).toArray();
+        Object[] channels = keys.stream().map(key -> key.channel().name()).toArray();
+
+        Map<ChannelAccountKey, ChannelAccountState> states = new HashMap<>(keys.size() * 2);
+        jdbcTemplate.query(SELECT_STATES,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", memberIds));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", channels));
+                },
+                rs -> {
+                    states.put(
+                            new ChannelAccountKey(rs.getLong("member_id"), NotificationChannelType.valueOf(rs.getString("channel_type"))),
+                            new ChannelAccountState(rs.getLong("channel_account_id"), rs.getString("address_or_token"), rs.getBoolean("deliverable")));
+                });
+        return states;
+    }
+}
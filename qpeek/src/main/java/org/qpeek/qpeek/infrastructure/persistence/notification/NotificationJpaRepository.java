@@ -0,0 +1,22 @@
+package org.qpeek.qpeek.infrastructure.persistence.notification;
+
+import org.qpeek.qpeek.domain.notification.entity.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationJpaRepository extends JpaRepository<Notification, Long> {
+
+    List<Notification> findByTaskId(Long taskId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = false)
+    @Query("delete from Notification n where n.task.id = :taskId and n.sentAt is null and n.deadLetteredAt is null")
+    int deleteUnsentByTaskId(Long taskId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = false)
+    @Query("delete from Notification n where n.task.id in :taskIds and n.sentAt is null and n.deadLetteredAt is null")
+    int deleteUnsentByTaskIdIn(Collection<Long> taskIds);
+}
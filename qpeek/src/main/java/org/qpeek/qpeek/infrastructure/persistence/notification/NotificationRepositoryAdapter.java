@@ -0,0 +1,210 @@
+package org.qpeek.qpeek.infrastructure.persistence.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.application.notification.repository.NotificationRepository;
+import org.qpeek.qpeek.common.persistence.TimeOrderedIdGenerator;
+import org.qpeek.qpeek.domain.notification.entity.Notification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryAdapter implements NotificationRepository {
+
+    // 채널 계정(주소/발송 가능 여부)은 조인하지 않고 ChannelAccountCache 가 배치 단위로 해석한다.
+    private static final String PENDING_FROM = """
+            SELECT n.notification_id, n.member_id, n.task_id, n.type, n.channel, n.scheduled_at,
+                   t.title, t.due_at
+              FROM notifications n
+              LEFT JOIN tasks t ON t.task_id = n.task_id
+            """;
+
+    // idx_notifications_dispatch_due (next_attempt_at) 범위 스캔(dead letter 제외). 알림 행만 잠그고(OF n) 이미 잠긴 행은 건너뛰어 노드 간 분배.
+    // 같은 시각의 알림은 회원/채널 순으로 모아 다이제스트가 배치 경계에서 덜 쪼개지도록 한다.
+    private static final String CLAIM_DUE = PENDING_FROM + """
+             WHERE n.sent_at IS NULL
+               AND n.dead_lettered_at IS NULL
+               AND n.next_attempt_at <= ?
+             ORDER BY n.next_attempt_at, n.member_id, n.channel
+             LIMIT ?
+               FOR UPDATE OF n SKIP LOCKED
+            """;
+
+    // idx_notifications_member_dispatch (member_id, next_attempt_at) 범위 스캔.
+    private static final String CLAIM_SCHEDULED_BETWEEN = PENDING_FROM + """
+             WHERE n.member_id = ANY (?)
+               AND n.sent_at IS NULL
+               AND n.dead_lettered_at IS NULL
+               AND n.next_attempt_at > ?
+               AND n.next_attempt_at <= ?
+             ORDER BY n.next_attempt_at
+             LIMIT ?
+               FOR UPDATE OF n SKIP LOCKED
+            """;
+
+    // scheduled_at 은 계획 슬롯으로 남긴다(ReminderMaterializer 중복 판단 키). 조기 발송은 sent_at < scheduled_at 으로 드러난다.
+    private static final String MARK_SENT = """
+            UPDATE notifications
+               SET sent_at = ?, updated_at = ?
+             WHERE notification_id = ANY (?)
+            """;
+
+    // 다음 회차: 직전 예정 시각 + 주기 (밀린 경우 now). 같은 작업/채널의 미발송 OVERDUE 가 이미 있으면 생략.
+    // 식별자는 발송 알림 수만큼 TimeOrderedIdGenerator 로 미리 받아 원본 알림과 짝지어 전달 (엔티티 INSERT 와 같은 시간 순 체계).
+    private static final String INSERT_OVERDUE_REPEATS = """
+            INSERT INTO notifications (notification_id, type, channel, scheduled_at, next_attempt_at, member_id, task_id, created_at, updated_at)
+            SELECT v.new_id, n.type, n.channel, s.at, s.at, n.member_id, n.task_id, ?, ?
+              FROM unnest(?::bigint[], ?::bigint[]) AS v(notification_id, new_id)
+              JOIN notifications n ON n.notification_id = v.notification_id
+              JOIN tasks t ON t.task_id = n.task_id AND t.status IN ('ACTIVE', 'OVERDUE')
+              LEFT JOIN reminder_setting rs ON rs.member_id = n.member_id
+             CROSS JOIN LATERAL (
+                   SELECT GREATEST(n.scheduled_at + make_interval(hours => COALESCE(rs.overdue_interval_hours, ?)), ?) AS at
+                   ) s
+             WHERE n.type = 'OVERDUE'
+               AND COALESCE(rs.overdue_interval_hours, ?) > 0
+               AND NOT EXISTS (SELECT 1
+                                 FROM notifications p
+                                WHERE p.task_id = n.task_id
+                                  AND p.channel = n.channel
+                                  AND p.type = 'OVERDUE'
+                                  AND p.sent_at IS NULL
+                                  AND p.dead_lettered_at IS NULL)
+            """;
+
+    // 다음 시도 시각만 미룬다(scheduled_at 은 계획 슬롯으로 유지).
+    private static final String DEFER_ALL = """
+            UPDATE notifications n
+               SET next_attempt_at = v.next_attempt_at, updated_at = ?
+              FROM unnest(?::bigint[], ?::timestamptz[]) AS v(notification_id, next_attempt_at)
+             WHERE n.notification_id = v.notification_id
+               AND n.sent_at IS NULL
+               AND n.dead_lettered_at IS NULL
+            """;
+
+    private static final String DELETE_BY_IDS = """
+            DELETE FROM notifications
+             WHERE notification_id = ANY (?)
+            """;
+
+    private static final RowMapper<PendingNotification> PENDING_MAPPER = (rs, rowNum) -> new PendingNotification(
+            rs.getLong("notification_id"),
+            rs.getLong("member_id"),
+            rs.getObject("task_id", Long.class),
+            NotificationType.valueOf(rs.getString("type")),
+            NotificationChannelType.valueOf(rs.getString("channel")),
+            rs.getObject("scheduled_at", OffsetDateTime.class),
+            null,
+            null,
+            rs.getString("title"),
+            rs.getObject("due_at", OffsetDateTime.class));
+
+    private final NotificationJpaRepository notificationJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Notification> findByTask(Long taskId) {
+        return notificationJpaRepository.findByTaskId(taskId);
+    }
+
+    @Override
+    public void saveAll(Collection<Notification> notifications) {
+        notificationJpaRepository.saveAll(notifications);
+    }
+
+    @Override
+    public void deleteAll(Collection<Notification> notifications) {
+        notificationJpaRepository.deleteAll(notifications);
+    }
+
+    @Override
+    public List<Notification> findAllById(Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) return List.of();
+        return notificationJpaRepository.findAllById(notificationIds);
+    }
+
+    @Override
+    public int deleteUnsentByTask(Long taskId) {
+        return notificationJpaRepository.deleteUnsentByTaskId(taskId);
+    }
+
+    @Override
+    public int deleteUnsentByTasks(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) return 0;
+        return notificationJpaRepository.deleteUnsentByTaskIdIn(taskIds);
+    }
+
+    @Override
+    public List<PendingNotification> claimDue(OffsetDateTime now, int limit) {
+        return jdbcTemplate.query(CLAIM_DUE, PENDING_MAPPER, now, limit);
+    }
+
+    @Override
+    public List<PendingNotification> claimScheduledBetween(Collection<Long> memberIds, OffsetDateTime after, OffsetDateTime until, int limit) {
+        if (memberIds.isEmpty()) return List.of();
+        return jdbcTemplate.query(CLAIM_SCHEDULED_BETWEEN,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", memberIds.toArray()));
+                    ps.setObject(2, after);
+                    ps.setObject(3, until);
+                    ps.setInt(4, limit);
+                },
+                PENDING_MAPPER);
+    }
+
+    @Override
+    public int markSent(Collection<Long> notificationIds, OffsetDateTime sentAt) {
+        if (notificationIds.isEmpty()) return 0;
+        return jdbcTemplate.update(MARK_SENT, ps -> {
+            ps.setObject(1, sentAt);
+            ps.setObject(2, sentAt);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", notificationIds.toArray()));
+        });
+    }
+
+    @Override
+    public int scheduleOverdueRepeats(Collection<Long> sentNotificationIds, OffsetDateTime now) {
+        if (sentNotificationIds.isEmpty()) return 0;
+        Long[] ids = sentNotificationIds.toArray(Long[]::new);
+        Long[] newIds = Arrays.stream(TimeOrderedIdGenerator.nextIds(ids.length)).boxed().toArray(Long[]::new);
+        return jdbcTemplate.update(INSERT_OVERDUE_REPEATS, ps -> {
+            ps.setObject(1, now);
+            ps.setObject(2, now);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", newIds));
+            ps.setInt(5, ReminderSetting.DEFAULT_OVERDUE_INTERVAL_HRS);
+            ps.setObject(6, now);
+            ps.setInt(7, ReminderSetting.DEFAULT_OVERDUE_INTERVAL_HRS);
+        });
+    }
+
+    @Override
+    public int deferAll(Map<Long, OffsetDateTime> nextAttemptAtById, OffsetDateTime now) {
+        if (nextAttemptAtById.isEmpty()) return 0;
+        Long[] ids = nextAttemptAtById.keySet().toArray(Long[]::new);
+        Object[] times = Arrays.stream(ids).map(nextAttemptAtById::get).toArray();
+        return jdbcTemplate.update(DEFER_ALL, ps -> {
+            ps.setObject(1, now);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(3, ps.getConnection().createArrayOf("timestamptz", times));
+        });
+    }
+
+    @Override
+    public int deleteByIds(Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) return 0;
+        return jdbcTemplate.update(DELETE_BY_IDS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", notificationIds.toArray())));
+    }
+}
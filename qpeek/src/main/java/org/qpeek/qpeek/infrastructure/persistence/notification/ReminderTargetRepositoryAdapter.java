@@ -0,0 +1,70 @@
+package org.qpeek.qpeek.infrastructure.persistence.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.notification.dto.ReminderTarget;
+import org.qpeek.qpeek.application.notification.repository.ReminderTargetRepository;
+import org.qpeek.qpeek.application.reminder.repository.ReminderSettingRepository;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ReminderTargetRepositoryAdapter implements ReminderTargetRepository {
+
+    // 소유자와 발송 가능 채널을 한 번에 조회. 알림 설정은 2차 캐시(ReminderSetting.CACHE_REGION)에서 읽는다.
+    private static final String SELECT_BY_TASK = """
+            SELECT m.member_id,
+                   m.time_zone,
+                   ARRAY(SELECT a.channel_type
+                           FROM reminder_channel_account a
+                          WHERE a.member_id = m.member_id
+                            AND a.channel_enabled
+                            AND a.verified_at IS NOT NULL) AS channels
+              FROM tasks t
+              JOIN queues q ON q.queue_id = t.queue_id
+              JOIN databases d ON d.database_id = q.database_id
+              JOIN members m ON m.member_id = d.member_id
+             WHERE t.task_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReminderSettingRepository reminderSettingRepository;
+
+    @Override
+    public Optional<ReminderTarget> findByTask(Long taskId) {
+        return jdbcTemplate.query(SELECT_BY_TASK,
+                        (rs, rowNum) -> new Owner(
+                                rs.getLong("member_id"),
+                                ZoneId.of(rs.getString("time_zone")),
+                                channels((String[]) rs.getArray("channels").getArray())),
+                        taskId)
+                .stream()
+                .findFirst()
+                .map(this::withSetting);
+    }
+
+    private ReminderTarget withSetting(Owner owner) {
+        return reminderSettingRepository.findByMemberId(owner.memberId())
+                .map(setting -> new ReminderTarget(owner.memberId(), owner.zone(), setting.getImminentHours(),
+                        setting.isNotifyDayBefore(), setting.isNotifyOnDueDay(), owner.channels()))
+                .orElseGet(() -> new ReminderTarget(owner.memberId(), owner.zone(), ReminderSetting.DEFAULT_IMMINENT_HOURS,
+                        ReminderSetting.DEFAULT_NOTIFY_DAY_BEFORE, ReminderSetting.DEFAULT_NOTIFY_ON_DUE, owner.channels()));
+    }
+
+    private static Set<NotificationChannelType> channels(String[] names) {
+        Set<NotificationChannelType> channels = EnumSet.noneOf(NotificationChannelType.class);
+        Arrays.stream(names).map(NotificationChannelType::valueOf).forEach(channels::add);
+        return channels;
+    }
+
+    private record Owner(Long memberId, ZoneId zone, Set<NotificationChannelType> channels) {
+    }
+}
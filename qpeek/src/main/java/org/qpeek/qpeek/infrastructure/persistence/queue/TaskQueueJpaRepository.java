@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.infrastructure.persistence.queue;
+
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TaskQueueJpaRepository extends JpaRepository<TaskQueue, Long> {
+}
@@ -0,0 +1,110 @@
+package org.qpeek.qpeek.infrastructure.persistence.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.queue.dto.TaskQueueListView;
+import org.qpeek.qpeek.application.queue.repository.TaskQueueRepository;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskQueueRepositoryAdapter implements TaskQueueRepository {
+
+    // idx_queues_db_created_at (database_id, created_at) 범위 스캔.
+    private static final String SELECT_PAGE_FIRST = """
+            SELECT queue_id, name, description, max_tasks, created_at
+              FROM queues
+             WHERE database_id = ?
+             ORDER BY created_at, queue_id
+             LIMIT ?
+            """;
+
+    private static final String SELECT_PAGE_AFTER = """
+            SELECT queue_id, name, description, max_tasks, created_at
+              FROM queues
+             WHERE database_id = ?
+               AND (created_at, queue_id) > (?, ?)
+             ORDER BY created_at, queue_id
+             LIMIT ?
+            """;
+
+    private static final RowMapper<TaskQueueListView> LIST_VIEW_MAPPER = (rs, rowNum) -> new TaskQueueListView(
+            rs.getLong("queue_id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getInt("max_tasks"),
+            rs.getObject("created_at", OffsetDateTime.class));
+
+    // 단일 조건부 UPDATE 로 용량 예약. 행 잠금으로 노드 간 경쟁에도 max_tasks 초과 불가, version 미증가.
+    private static final String RESERVE_SLOT = """
+            UPDATE queues
+               SET active_task_count = active_task_count + 1
+             WHERE queue_id = ?
+               AND active_task_count < max_tasks
+            """;
+
+    private static final String RELEASE_SLOT = """
+            UPDATE queues
+               SET active_task_count = active_task_count - 1
+             WHERE queue_id = ?
+               AND active_task_count > 0
+            """;
+
+    private static final String RESERVE_SLOTS = """
+            UPDATE queues
+               SET active_task_count = active_task_count + ?
+             WHERE queue_id = ?
+               AND active_task_count + ? <= max_tasks
+            """;
+
+    private static final String RELEASE_SLOTS = """
+            UPDATE queues
+               SET active_task_count = GREATEST(active_task_count - ?, 0)
+             WHERE queue_id = ?
+               AND active_task_count > 0
+            """;
+
+    private final TaskQueueJpaRepository taskQueueJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean existsById(Long queueId) {
+        return taskQueueJpaRepository.existsById(queueId);
+    }
+
+    @Override
+    public TaskQueue getReference(Long queueId) {
+        return taskQueueJpaRepository.getReferenceById(queueId);
+    }
+
+    @Override
+    public boolean tryReserveSlot(Long queueId) {
+        return jdbcTemplate.update(RESERVE_SLOT, queueId) == 1;
+    }
+
+    @Override
+    public void releaseSlot(Long queueId) {
+        jdbcTemplate.update(RELEASE_SLOT, queueId);
+    }
+
+    @Override
+    public boolean tryReserveSlots(Long queueId, int count) {
+        return jdbcTemplate.update(RESERVE_SLOTS, count, queueId, count) == 1;
+    }
+
+    @Override
+    public void releaseSlots(Long queueId, int count) {
+        jdbcTemplate.update(RELEASE_SLOTS, count, queueId);
+    }
+
+    @Override
+    public List<TaskQueueListView> findPageByDatabase(Long databaseId, OffsetDateTime afterCreatedAt, Long afterQueueId, int limit) {
+        if (afterCreatedAt == null) return jdbcTemplate.query(SELECT_PAGE_FIRST, LIST_VIEW_MAPPER, databaseId, limit);
+        return jdbcTemplate.query(SELECT_PAGE_AFTER, LIST_VIEW_MAPPER, databaseId, afterCreatedAt, afterQueueId, limit);
+    }
+}
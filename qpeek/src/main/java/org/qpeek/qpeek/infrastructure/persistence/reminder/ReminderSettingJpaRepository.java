@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.infrastructure.persistence.reminder;
+
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReminderSettingJpaRepository extends JpaRepository<ReminderSetting, Long> {
+}
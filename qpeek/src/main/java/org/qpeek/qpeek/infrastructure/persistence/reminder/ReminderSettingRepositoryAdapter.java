@@ -0,0 +1,37 @@
+package org.qpeek.qpeek.infrastructure.persistence.reminder;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.qpeek.qpeek.application.reminder.dto.CacheRegionStats;
+import org.qpeek.qpeek.application.reminder.repository.ReminderSettingRepository;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReminderSettingRepositoryAdapter implements ReminderSettingRepository {
+
+    private final ReminderSettingJpaRepository reminderSettingJpaRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public Optional<ReminderSetting> findByMemberId(Long memberId) {
+        return reminderSettingJpaRepository.findById(memberId); // EntityManager.find → 2차 캐시 조회 후 미스일 때만 DB
+    }
+
+    @Override
+    public CacheRegionStats cacheStatistics() {
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(ReminderSetting.CACHE_REGION);
+        return CacheRegionStats.of(ReminderSetting.CACHE_REGION,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory());
+    }
+}
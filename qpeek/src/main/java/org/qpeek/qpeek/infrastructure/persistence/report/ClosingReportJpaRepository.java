@@ -0,0 +1,7 @@
+package org.qpeek.qpeek.infrastructure.persistence.report;
+
+import org.qpeek.qpeek.domain.report.entity.ClosingReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ClosingReportJpaRepository extends JpaRepository<ClosingReport, Long> {
+}
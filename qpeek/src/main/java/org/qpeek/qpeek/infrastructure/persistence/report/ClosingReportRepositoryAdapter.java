@@ -0,0 +1,198 @@
+package org.qpeek.qpeek.infrastructure.persistence.report;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+import org.qpeek.qpeek.application.report.repository.ClosingReportRepository;
+import org.qpeek.qpeek.domain.report.entity.ClosingReport;
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+import org.qpeek.qpeek.infrastructure.persistence.common.GlobalIdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class ClosingReportRepositoryAdapter implements ClosingReportRepository {
+
+    // advisory lock 네임스페이스(첫 번째 키). 두 번째 키는 묶음(끝 경계, 하루 길이)으로 유일하게 정해진다.
+    private static final int LOCK_NAMESPACE = 0x51_43_4C_53; // "QCLS"
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_xact_lock(?, ?)";
+
+    // 처리 기록. 이미 있으면(다른 노드/이전 실행이 커밋) 0행.
+    private static final String MARK_CLOSED = """
+            INSERT INTO closing_bucket_runs (bucket_end, bucket_start, report_date, closed_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (bucket_end, bucket_start) DO NOTHING
+            """;
+
+    // 묶음 회원 전체의 그 날 카운터 행을 그대로 읽는다(재집계 없음). 카운터가 없는 회원은 0 건 리포트.
+    // idx_members_time_zone_active 범위 스캔 + daily_task_counters 기본키 조회.
+    private static final String SNAPSHOT = """
+            SELECT m.member_id,
+                   COALESCE(c.completed_count, 0) AS completed_count,
+                   COALESCE(c.due_open_count, 0)  AS incomplete_count
+              FROM members m
+              LEFT JOIN daily_task_counters c
+                     ON c.member_id = m.member_id
+                    AND c.local_date = ?
+             WHERE m.time_zone = ANY (?)
+               AND m.member_status = 'ACTIVE'
+            """;
+
+    // batchSize 행을 배열로 묶어 1회 왕복. 재실행 시에는 같은 (회원, 날짜) 리포트를 현재 카운터 값으로 갱신.
+    // 수치가 바뀐 리포트는 PDF URL 을 비워 PDF 파이프라인이 다시 생성하게 한다.
+    private static final String UPSERT = """
+            INSERT INTO closing_report (closing_report_id, version, report_date, completed_count, incomplete_count,
+                                        member_id, created_at, updated_at)
+            SELECT v.closing_report_id, 0, ?, v.completed_count, v.incomplete_count, v.member_id, ?, ?
+              FROM unnest(?::bigint[], ?::bigint[], ?::int[], ?::int[])
+                   AS v(closing_report_id, member_id, completed_count, incomplete_count)
+            ON CONFLICT ON CONSTRAINT uk_closing_member_date DO UPDATE
+               SET completed_count   = EXCLUDED.completed_count,
+                   incomplete_count  = EXCLUDED.incomplete_count,
+                   generated_pdf_url = CASE WHEN closing_report.completed_count = EXCLUDED.completed_count
+                                             AND closing_report.incomplete_count = EXCLUDED.incomplete_count
+                                            THEN closing_report.generated_pdf_url END,
+                   version           = closing_report.version + 1,
+                   updated_at        = EXCLUDED.updated_at
+            """;
+
+    // idx_closing_report_pdf_pending(부분 인덱스) 순서대로 점유. 점유 표시는 pdf_lease_until 만 바꾸므로 version 은 그대로.
+    private static final String CLAIM_PDF_PENDING = """
+            UPDATE closing_report r
+               SET pdf_lease_until = ?
+              FROM members m
+             WHERE r.closing_report_id IN (SELECT p.closing_report_id
+                                             FROM closing_report p
+                                            WHERE p.generated_pdf_url IS NULL
+                                              AND (p.pdf_lease_until IS NULL OR p.pdf_lease_until < ?)
+                                            ORDER BY p.report_date, p.closing_report_id
+                                            LIMIT ?
+                                              FOR UPDATE SKIP LOCKED)
+               AND m.member_id = r.member_id
+            RETURNING r.closing_report_id, r.version, r.member_id, r.report_date,
+                      r.completed_count, r.incomplete_count, m.time_zone
+            """;
+
+    // 회원의 큐별 idx_completion_queue_date 범위 스캔을 완료 시각 순으로 병합.
+    private static final String COMPLETIONS = """
+            SELECT c.completed_at, q.name AS queue_name, c.title_snapshot, c.progress
+              FROM databases d
+              JOIN queues q ON q.database_id = d.database_id
+              JOIN completion_logs c ON c.queue_id = q.queue_id
+             WHERE d.member_id = ?
+               AND c.completed_at >= ?
+               AND c.completed_at < ?
+             ORDER BY c.completed_at, c.completion_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GlobalIdAllocator globalIdAllocator;
+    private final ClosingReportJpaRepository closingReportJpaRepository;
+
+    @Override
+    public Optional<ClosingReport> findById(Long reportId) {
+        return closingReportJpaRepository.findById(reportId);
+    }
+
+    @Override
+    public boolean tryLockBucket(ClosingBucket bucket) {
+        int quarter = (int) (bucket.end().getEpochSecond() / 900);
+        int lengthInQuarters = (int) (bucket.length().toSeconds() / 900);
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK, Boolean.class,
+                LOCK_NAMESPACE, quarter * 200 + lengthInQuarters));
+    }
+
+    @Override
+    public boolean markBucketClosed(ClosingBucket bucket, OffsetDateTime now) {
+        return jdbcTemplate.update(MARK_CLOSED,
+                bucket.end().atOffset(ZoneOffset.UTC), bucket.start().atOffset(ZoneOffset.UTC), bucket.reportDate(), now) == 1;
+    }
+
+    @Override
+    public int upsertBucket(ClosingBucket bucket, int batchSize, OffsetDateTime now) {
+        List<long[]> pending = new ArrayList<>(batchSize);
+        int[] upserted = {0};
+        jdbcTemplate.query(
+                (Connection con) -> {
+                    PreparedStatement ps = con.prepareStatement(SNAPSHOT);
+                    ps.setFetchSize(batchSize); // 트랜잭션 안에서 커서로 나눠 읽는다
+                    ps.setObject(1, bucket.reportDate());
+                    ps.setArray(2, con.createArrayOf("varchar", bucket.zoneIds().toArray()));
+                    return ps;
+                },
+                (ResultSet rs) -> {
+                    pending.add(new long[]{rs.getLong("member_id"), rs.getInt("completed_count"), rs.getInt("incomplete_count")});
+                    if (pending.size() >= batchSize) upserted[0] += flush(bucket, pending, now);
+                });
+        upserted[0] += flush(bucket, pending, now);
+        return upserted[0];
+    }
+
+    private int flush(ClosingBucket bucket, List<long[]> rows, OffsetDateTime now) {
+        if (rows.isEmpty()) return 0;
+        long[] ids = globalIdAllocator.allocate(rows.size());
+        Long[] reportIds = Arrays.stream(ids).boxed().toArray(Long[]::new);
+        Long[] memberIds = rows.stream().map(row -> row[0]).toArray(Long[]::new);
+        Integer[] completed = rows.stream().map(row -> (int) row[1]).toArray(Integer[]::new);
+        Integer[] incomplete = rows.stream().map(row -> (int) row[2]).toArray(Integer[]::new);
+        rows.clear();
+
+        return jdbcTemplate.update(UPSERT, ps -> {
+            ps.setObject(1, bucket.reportDate());
+            ps.setObject(2, now);
+            ps.setObject(3, now);
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", reportIds));
+            ps.setArray(5, ps.getConnection().createArrayOf("bigint", memberIds));
+            ps.setArray(6, ps.getConnection().createArrayOf("integer", completed));
+            ps.setArray(7, ps.getConnection().createArrayOf("integer", incomplete));
+        });
+    }
+
+    @Override
+    public List<PendingReportPdf> claimPdfPending(int limit, OffsetDateTime leaseUntil, OffsetDateTime now) {
+        if (limit <= 0) return List.of();
+        return jdbcTemplate.query(CLAIM_PDF_PENDING,
+                (rs, rowNum) -> new PendingReportPdf(
+                        rs.getLong("closing_report_id"),
+                        rs.getLong("version"),
+                        rs.getLong("member_id"),
+                        rs.getObject("report_date", LocalDate.class),
+                        ZoneId.of(rs.getString("time_zone")),
+                        rs.getInt("completed_count"),
+                        rs.getInt("incomplete_count")),
+                leaseUntil, now, limit);
+    }
+
+    @Override
+    public void streamCompletions(PendingReportPdf report, int fetchSize, Consumer<CompletionLine> consumer) {
+        jdbcTemplate.query(
+                (Connection con) -> {
+                    PreparedStatement ps = con.prepareStatement(COMPLETIONS);
+                    ps.setFetchSize(fetchSize); // 트랜잭션 안에서 커서로 나눠 읽는다
+                    ps.setLong(1, report.memberId());
+                    ps.setObject(2, report.dayStart());
+                    ps.setObject(3, report.dayEnd());
+                    return ps;
+                },
+                (ResultSet rs) -> consumer.accept(new CompletionLine(
+                        rs.getObject("completed_at", OffsetDateTime.class),
+                        rs.getString("queue_name"),
+                        rs.getString("title_snapshot"),
+                        rs.getInt("progress"))));
+    }
+}
@@ -0,0 +1,110 @@
+package org.qpeek.qpeek.infrastructure.persistence.report;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.report.dto.CompletionRollup;
+import org.qpeek.qpeek.application.report.repository.CompletionRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CompletionRollupRepositoryAdapter implements CompletionRollupRepository {
+
+    private static final String ZONE = """
+            SELECT m.time_zone
+              FROM queues q
+              JOIN databases d ON d.database_id = q.database_id
+              JOIN members m ON m.member_id = d.member_id
+             WHERE q.queue_id = ?
+            """;
+
+    // 모두 (queue_id, 시각/날짜) 기본키 범위 스캔. 재개로 0 이 된 버킷은 제외.
+    private static final String HOURLY = """
+            SELECT bucket_start, completed_count, progress_sum
+              FROM completion_rollup_hourly
+             WHERE queue_id = ?
+               AND bucket_start >= ?
+               AND bucket_start < ?
+               AND completed_count > 0
+             ORDER BY bucket_start
+            """;
+
+    private static final String DAILY = """
+            SELECT local_date, completed_count, progress_sum
+              FROM completion_rollup_daily
+             WHERE queue_id = ?
+               AND local_date BETWEEN ? AND ?
+               AND completed_count > 0
+             ORDER BY local_date
+            """;
+
+    private static final String WEEKLY = """
+            SELECT date_trunc('week', local_date::timestamp)::date AS week_start,
+                   sum(completed_count)::int                       AS completed_count,
+                   sum(progress_sum)                               AS progress_sum
+              FROM completion_rollup_daily
+             WHERE queue_id = ?
+               AND local_date BETWEEN ? AND ?
+               AND completed_count > 0
+             GROUP BY week_start
+             ORDER BY week_start
+            """;
+
+    private static final String ACTIVE_DATES = """
+            SELECT local_date
+              FROM completion_rollup_daily
+             WHERE queue_id = ?
+               AND local_date BETWEEN ? AND ?
+               AND completed_count > 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<ZoneId> findZone(Long queueId) {
+        return jdbcTemplate.query(ZONE, (rs, rowNum) -> ZoneId.of(rs.getString("time_zone")), queueId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<CompletionRollup> findHourly(Long queueId, OffsetDateTime from, OffsetDateTime to) {
+        return jdbcTemplate.query(HOURLY,
+                (rs, rowNum) -> new CompletionRollup(
+                        rs.getObject("bucket_start", OffsetDateTime.class),
+                        rs.getInt("completed_count"),
+                        rs.getLong("progress_sum")),
+                queueId, from, to);
+    }
+
+    @Override
+    public List<CompletionRollup> findDaily(Long queueId, LocalDate from, LocalDate to, ZoneId zoneId) {
+        return jdbcTemplate.query(DAILY,
+                (rs, rowNum) -> new CompletionRollup(
+                        rs.getObject("local_date", LocalDate.class).atStartOfDay(zoneId).toOffsetDateTime(),
+                        rs.getInt("completed_count"),
+                        rs.getLong("progress_sum")),
+                queueId, from, to);
+    }
+
+    @Override
+    public List<CompletionRollup> findWeekly(Long queueId, LocalDate from, LocalDate to, ZoneId zoneId) {
+        return jdbcTemplate.query(WEEKLY,
+                (rs, rowNum) -> new CompletionRollup(
+                        rs.getObject("week_start", LocalDate.class).atStartOfDay(zoneId).toOffsetDateTime(),
+                        rs.getInt("completed_count"),
+                        rs.getLong("progress_sum")),
+                queueId, from, to);
+    }
+
+    @Override
+    public List<LocalDate> findActiveDates(Long queueId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(ACTIVE_DATES, (rs, rowNum) -> rs.getObject("local_date", LocalDate.class), queueId, from, to);
+    }
+}
@@ -0,0 +1,73 @@
+package org.qpeek.qpeek.infrastructure.persistence.report;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.report.repository.DailyTaskCounterRepository;
+import org.qpeek.qpeek.domain.report.value.CounterDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DailyTaskCounterRepositoryAdapter implements DailyTaskCounterRepository {
+
+    // 증가는 시각을 회원 시간대의 현지 날짜로 바꾸고, 그 날짜를 작업별로 task_counter_dates 에 남긴다.
+    // 감소는 남겨 둔 날짜에 적용(기록이 없던 작업만 현재 시간대로 변환) → 시간대가 바뀌어도 증가한 행에서 빼므로 음수가 되지 않는다.
+    // 삭제(소프트)된 데이터베이스의 큐는 owner 가 비어 아무것도 하지 않는다.
+    // 같은 행을 한 문장에서 두 번 갱신할 수 없으므로 GROUP BY 로 먼저 합치고, 상쇄된(0, 0) 날짜는 건드리지 않는다.
+    private static final String APPLY = """
+            WITH owner AS (
+                SELECT d.member_id, m.time_zone
+                  FROM queues q
+                  JOIN databases d ON d.database_id = q.database_id
+                  JOIN members m ON m.member_id = d.member_id
+                 WHERE q.queue_id = ?
+                   AND d.deleted_at IS NULL
+            ), delta AS (
+                SELECT o.member_id, v.task_id, v.completed, v.due_open,
+                       CASE WHEN v.completed < 0 THEN coalesce(l.completed_date, (v.at AT TIME ZONE o.time_zone)::date)
+                            WHEN v.due_open < 0 THEN coalesce(l.due_date, (v.at AT TIME ZONE o.time_zone)::date)
+                            ELSE (v.at AT TIME ZONE o.time_zone)::date END AS local_date
+                  FROM unnest(?::bigint[], ?::timestamptz[], ?::int[], ?::int[]) AS v(task_id, at, completed, due_open)
+                 CROSS JOIN owner o
+                  LEFT JOIN task_counter_dates l ON l.task_id = v.task_id
+            ), counted AS (
+                INSERT INTO task_counter_dates AS l (task_id, completed_date, due_date)
+                SELECT task_id, max(local_date) FILTER (WHERE completed > 0), max(local_date) FILTER (WHERE due_open > 0)
+                  FROM delta
+                 WHERE completed > 0 OR due_open > 0
+                 GROUP BY task_id
+                ON CONFLICT (task_id) DO UPDATE
+                   SET completed_date = coalesce(EXCLUDED.completed_date, l.completed_date),
+                       due_date       = coalesce(EXCLUDED.due_date, l.due_date)
+            )
+            INSERT INTO daily_task_counters AS c (member_id, local_date, completed_count, due_open_count, updated_at)
+            SELECT member_id, local_date, sum(completed), sum(due_open), now()
+              FROM delta
+             GROUP BY member_id, local_date
+            HAVING sum(completed) <> 0 OR sum(due_open) <> 0
+            ON CONFLICT (member_id, local_date) DO UPDATE
+               SET completed_count = c.completed_count + EXCLUDED.completed_count,
+                   due_open_count  = c.due_open_count + EXCLUDED.due_open_count,
+                   updated_at      = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void apply(Long queueId, List<CounterDelta> deltas) {
+        if (deltas.isEmpty()) return;
+        Long[] taskIds = deltas.stream().map(CounterDelta::taskId).toArray(Long[]::new);
+        Object[] at = deltas.stream().map(CounterDelta::at).toArray();
+        Integer[] completed = deltas.stream().map(CounterDelta::completed).toArray(Integer[]::new);
+        Integer[] dueOpen = deltas.stream().map(CounterDelta::dueOpen).toArray(Integer[]::new);
+        jdbcTemplate.update(APPLY, ps -> {
+            ps.setLong(1, queueId);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", taskIds));
+            ps.setArray(3, ps.getConnection().createArrayOf("timestamptz", at));
+            ps.setArray(4, ps.getConnection().createArrayOf("integer", completed));
+            ps.setArray(5, ps.getConnection().createArrayOf("integer", dueOpen));
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package org.qpeek.qpeek.infrastructure.persistence.task;
+
+import jakarta.persistence.LockModeType;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskJpaRepository extends JpaRepository<Task, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :taskId")
+    Optional<Task> findByIdForUpdate(Long taskId);
+
+    // 여러 트랜잭션이 겹치는 작업을 잠가도 교착되지 않도록 식별자 순으로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :taskIds order by t.id")
+    List<Task> findAllByIdForUpdate(Collection<Long> taskIds);
+}
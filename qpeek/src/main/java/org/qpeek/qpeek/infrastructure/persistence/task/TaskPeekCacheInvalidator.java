@@ -0,0 +1,75 @@
+package org.qpeek.qpeek.infrastructure.persistence.task;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.qpeek.qpeek.application.task.service.TaskPeekCache;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task 변경 커밋 시 해당 큐의 peek 캐시 무효화
+ * <p>
+ * <설계 메모>
+ * - Hibernate post-commit 리스너로 등록하여 엔티티 변경(더티 체킹 포함)이 커밋된 뒤에만 무효화.
+ * - JDBC 일괄 갱신(재정렬 등)은 Hibernate 를 거치지 않으므로 서비스에서 TaskPeekCache.evictAfterCommit 을 직접 호출.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskPeekCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskPeekCache taskPeekCache;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Task.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private void evict(Object entity) {
+        if (entity instanceof Task task && task.getQueue() != null) {
+            taskPeekCache.evict(task.getQueue().getId());
+        }
+    }
+}
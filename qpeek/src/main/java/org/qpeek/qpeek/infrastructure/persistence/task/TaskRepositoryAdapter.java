@@ -0,0 +1,345 @@
+package org.qpeek.qpeek.infrastructure.persistence.task;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.QueueReorderResult;
+import org.qpeek.qpeek.application.task.dto.TaskDueSchedule;
+import org.qpeek.qpeek.application.task.dto.TaskListView;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.qpeek.qpeek.application.task.dto.TaskRank;
+import org.qpeek.qpeek.application.task.dto.TaskTransition;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskRepositoryAdapter implements TaskRepository {
+
+    // 순서 변경 직렬화. FOR NO KEY UPDATE 는 작업 INSERT 의 외래 키 잠금(KEY SHARE)과 충돌하지 않는다.
+    private static final String LOCK_QUEUE = """
+            SELECT queue_id
+              FROM queues
+             WHERE queue_id = ?
+               FOR NO KEY UPDATE
+            """;
+
+    private static final String LOCK_QUEUE_OF_TASK = """
+            SELECT q.queue_id
+              FROM tasks t
+              JOIN queues q ON q.queue_id = t.queue_id
+             WHERE t.task_id = ?
+               FOR NO KEY UPDATE OF q
+            """;
+
+    private static final String SELECT_RANKS_FOR_SHARE = """
+            SELECT task_id, priority_index
+              FROM tasks
+             WHERE queue_id = ?
+               AND task_id = ANY (?)
+               FOR SHARE
+            """;
+
+    // 한 번의 UPDATE 로 큐 전체를 (priority_index NULLS LAST, task_id) 순서대로 재부여. 변경 없는 행은 건너뜀.
+    // version 을 올려, 재정렬 전에 읽어 둔 작업 엔티티의 flush 가 새 키를 덮어쓰지 못하게 한다.
+    private static final String REBALANCE = """
+            UPDATE tasks t
+               SET priority_index = r.rn * ?, version = t.version + 1
+              FROM (SELECT task_id, row_number() OVER (ORDER BY priority_index NULLS LAST, task_id) AS rn
+                      FROM tasks
+                     WHERE queue_id = ?
+                       AND task_id IS DISTINCT FROM ?) r
+             WHERE t.task_id = r.task_id
+               AND t.priority_index IS DISTINCT FROM r.rn * ?
+            """;
+
+    // 큐 버전 확인/증가 + 작업 키 재부여를 단일 문장(데이터 변경 CTE)으로 처리.
+    // 목록 순서(ordinality)가 우선, 목록에 없는 작업은 기존 순서대로 뒤에 배치.
+    private static final String REORDER = """
+            WITH bump AS (
+                UPDATE queues
+                   SET version = version + 1
+                 WHERE queue_id = ?
+                   AND version = ?
+             RETURNING version
+            ), listed AS (
+                SELECT v.task_id, v.ord
+                  FROM unnest(?::bigint[]) WITH ORDINALITY AS v(task_id, ord)
+                  JOIN tasks tk ON tk.task_id = v.task_id AND tk.queue_id = ?
+            ), ranked AS (
+                SELECT tk.task_id,
+                       row_number() OVER (ORDER BY l.ord NULLS LAST, tk.priority_index NULLS LAST, tk.task_id) AS rn
+                  FROM tasks tk
+                  LEFT JOIN listed l ON l.task_id = tk.task_id
+                 WHERE tk.queue_id = ?
+            ), updated AS (
+                UPDATE tasks t
+                   SET priority_index = r.rn * ?, version = t.version + 1
+                  FROM ranked r
+                 WHERE t.task_id = r.task_id
+                   AND t.priority_index IS DISTINCT FROM r.rn * ?
+                   AND EXISTS (SELECT 1 FROM bump)
+             RETURNING t.task_id
+            )
+            SELECT (SELECT version FROM bump)  AS new_version,
+                   (SELECT count(*) FROM listed) AS matched
+            """;
+
+    // 열린 작업(마감 지난 OVERDUE 포함). idx_tasks_queue_open_priority_peek 부분 커버링 인덱스로 Index Only Scan.
+    private static final String SELECT_PEEK = """
+            SELECT task_id, title, due_at, priority_index
+              FROM tasks
+             WHERE queue_id = ?
+               AND status IN ('ACTIVE', 'OVERDUE')
+             ORDER BY priority_index, task_id
+             LIMIT ?
+            """;
+
+    // keyset 페이지: 순위 지정 구간과 미지정(NULL) 구간을 각각 인덱스 범위 스캔으로 읽는다.
+    private static final String SELECT_PAGE_RANKED_FIRST = """
+            SELECT task_id, title, status, due_at, progress, priority_index
+              FROM tasks
+             WHERE queue_id = ?
+               AND status = ?
+               AND priority_index IS NOT NULL
+             ORDER BY priority_index, task_id
+             LIMIT ?
+            """;
+
+    private static final String SELECT_PAGE_RANKED_AFTER = """
+            SELECT task_id, title, status, due_at, progress, priority_index
+              FROM tasks
+             WHERE queue_id = ?
+               AND status = ?
+               AND (priority_index, task_id) > (?, ?)
+             ORDER BY priority_index, task_id
+             LIMIT ?
+            """;
+
+    private static final String SELECT_PAGE_UNRANKED_AFTER = """
+            SELECT task_id, title, status, due_at, progress, priority_index
+              FROM tasks
+             WHERE queue_id = ?
+               AND status = ?
+               AND priority_index IS NULL
+               AND task_id > ?
+             ORDER BY task_id
+             LIMIT ?
+            """;
+
+    // 큐마다 idx_tasks_queue_due (queue_id, due_at) 범위 스캔.
+    private static final String SELECT_DUE_SCHEDULES = """
+            SELECT t.task_id, t.due_at
+              FROM queues q
+             CROSS JOIN LATERAL (
+                   SELECT tk.task_id, tk.due_at
+                     FROM tasks tk
+                    WHERE tk.queue_id = q.queue_id
+                      AND tk.due_at > ?
+                      AND tk.due_at <= ?
+                      AND tk.status = 'ACTIVE'
+                   ) t
+            """;
+
+    private static final String SELECT_DUE_SCHEDULE = """
+            SELECT tk.task_id, tk.due_at
+              FROM tasks tk
+             WHERE tk.task_id = ?
+               AND tk.status = 'ACTIVE'
+               AND tk.due_at IS NOT NULL
+            """;
+
+    // 엔티티 @Version 을 함께 올려, 같은 작업을 읽어 둔 트랜잭션의 flush 가 전이를 덮어쓰지 못하게 한다(낙관적 잠금 실패).
+    private static final String MARK_OVERDUE = """
+            UPDATE tasks
+               SET status = 'OVERDUE', updated_at = ?, version = version + 1
+             WHERE task_id = ANY (?)
+               AND status = 'ACTIVE'
+               AND due_at < ?
+            RETURNING task_id, queue_id
+            """;
+
+    private static final String MARK_ACTIVE = """
+            UPDATE tasks
+               SET status = 'ACTIVE', updated_at = ?, version = version + 1
+             WHERE task_id = ANY (?)
+               AND status = 'OVERDUE'
+               AND (due_at IS NULL OR due_at >= ?)
+            RETURNING task_id, queue_id
+            """;
+
+    // 지난 마감 전체 적재 시 하한으로 사용 (timestamptz 최소 범위 안쪽)
+    private static final OffsetDateTime DUE_LOWER_BOUND = OffsetDateTime.parse("1970-01-01T00:00:00Z");
+
+    private static final RowMapper<TaskDueSchedule> DUE_SCHEDULE_MAPPER = (rs, rowNum) -> new TaskDueSchedule(
+            rs.getLong("task_id"),
+            rs.getObject("due_at", OffsetDateTime.class));
+
+    private static final RowMapper<TaskTransition> TRANSITION_MAPPER = (rs, rowNum) -> new TaskTransition(
+            rs.getLong("task_id"),
+            rs.getLong("queue_id"));
+
+    private static final RowMapper<TaskListView> LIST_VIEW_MAPPER = (rs, rowNum) -> new TaskListView(
+            rs.getLong("task_id"),
+            rs.getString("title"),
+            TaskStatus.valueOf(rs.getString("status")),
+            rs.getObject("due_at", OffsetDateTime.class),
+            rs.getInt("progress"),
+            rs.getObject("priority_index", Long.class));
+
+    private final TaskJpaRepository taskJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Task> findById(Long taskId) {
+        return taskJpaRepository.findById(taskId);
+    }
+
+    @Override
+    public Task getReference(Long taskId) {
+        return taskJpaRepository.getReferenceById(taskId);
+    }
+
+    @Override
+    public Task save(Task task) {
+        return taskJpaRepository.save(task);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) return List.of();
+        return taskJpaRepository.findAllById(taskIds);
+    }
+
+    @Override
+    public Optional<Task> findByIdForUpdate(Long taskId) {
+        return taskJpaRepository.findByIdForUpdate(taskId);
+    }
+
+    @Override
+    public List<Task> findAllByIdForUpdate(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) return List.of();
+        return taskJpaRepository.findAllByIdForUpdate(taskIds);
+    }
+
+    @Override
+    public List<Task> saveAll(Collection<Task> tasks) {
+        return taskJpaRepository.saveAll(tasks);
+    }
+
+    @Override
+    public boolean lockQueue(Long queueId) {
+        return !jdbcTemplate.queryForList(LOCK_QUEUE, Long.class, queueId).isEmpty();
+    }
+
+    @Override
+    public Optional<Long> lockQueueOfTask(Long taskId) {
+        return jdbcTemplate.queryForList(LOCK_QUEUE_OF_TASK, Long.class, taskId).stream().findFirst();
+    }
+
+    @Override
+    public List<TaskRank> findRanksForShare(Long queueId, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) return List.of();
+        return jdbcTemplate.query(SELECT_RANKS_FOR_SHARE,
+                ps -> {
+                    ps.setLong(1, queueId);
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+                },
+                (rs, rowNum) -> new TaskRank(rs.getLong("task_id"), rs.getObject("priority_index", Long.class)));
+    }
+
+    @Override
+    public int rebalance(Long queueId, Long excludedTaskId) {
+        return jdbcTemplate.update(REBALANCE, PriorityRank.GAP, queueId, excludedTaskId, PriorityRank.GAP);
+    }
+
+    @Override
+    public QueueReorderResult reorder(Long queueId, Long expectedVersion, List<Long> orderedTaskIds) {
+        return jdbcTemplate.query(REORDER,
+                ps -> {
+                    ps.setLong(1, queueId);
+                    ps.setLong(2, expectedVersion);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", orderedTaskIds.toArray()));
+                    ps.setLong(4, queueId);
+                    ps.setLong(5, queueId);
+                    ps.setLong(6, PriorityRank.GAP);
+                    ps.setLong(7, PriorityRank.GAP);
+                },
+                rs -> {
+                    rs.next();
+                    Long newVersion = rs.getObject("new_version", Long.class);
+                    return new QueueReorderResult(newVersion != null, rs.getInt("matched"), newVersion);
+                });
+    }
+
+    @Override
+    public List<TaskPeekView> findPeek(Long queueId, int limit) {
+        return jdbcTemplate.query(SELECT_PEEK,
+                (rs, rowNum) -> new TaskPeekView(
+                        rs.getLong("task_id"),
+                        rs.getString("title"),
+                        rs.getObject("due_at", OffsetDateTime.class),
+                        rs.getObject("priority_index", Long.class)),
+                queueId, limit);
+    }
+
+    @Override
+    public List<TaskListView> findPageByQueue(Long queueId, TaskStatus status,
+                                              boolean afterRanked, Long afterPriority, Long afterTaskId, int limit) {
+        String statusName = status.name();
+        if (afterTaskId != null && !afterRanked) {
+            return jdbcTemplate.query(SELECT_PAGE_UNRANKED_AFTER, LIST_VIEW_MAPPER, queueId, statusName, afterTaskId, limit);
+        }
+
+        List<TaskListView> page = new ArrayList<>(afterTaskId == null
+                ? jdbcTemplate.query(SELECT_PAGE_RANKED_FIRST, LIST_VIEW_MAPPER, queueId, statusName, limit)
+                : jdbcTemplate.query(SELECT_PAGE_RANKED_AFTER, LIST_VIEW_MAPPER, queueId, statusName, afterPriority, afterTaskId, limit));
+
+        if (page.size() < limit) { // 순위 지정 구간 소진 → 미지정 구간 이어서
+            page.addAll(jdbcTemplate.query(SELECT_PAGE_UNRANKED_AFTER, LIST_VIEW_MAPPER, queueId, statusName, 0L, limit - page.size()));
+        }
+        return page;
+    }
+
+    @Override
+    public List<TaskDueSchedule> findDueSchedules(OffsetDateTime dueAfter, OffsetDateTime dueUntil) {
+        OffsetDateTime lower = dueAfter == null ? DUE_LOWER_BOUND : dueAfter;
+        return jdbcTemplate.query(SELECT_DUE_SCHEDULES, DUE_SCHEDULE_MAPPER, lower, dueUntil);
+    }
+
+    @Override
+    public Optional<TaskDueSchedule> findDueSchedule(Long taskId) {
+        return jdbcTemplate.query(SELECT_DUE_SCHEDULE, DUE_SCHEDULE_MAPPER, taskId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<TaskTransition> markOverdue(Collection<Long> taskIds, OffsetDateTime now) {
+        return transition(MARK_OVERDUE, taskIds, now);
+    }
+
+    @Override
+    public List<TaskTransition> markActive(Collection<Long> taskIds, OffsetDateTime now) {
+        return transition(MARK_ACTIVE, taskIds, now);
+    }
+
+    private List<TaskTransition> transition(String sql, Collection<Long> taskIds, OffsetDateTime now) {
+        if (taskIds.isEmpty()) return List.of();
+        return jdbcTemplate.query(sql,
+                ps -> {
+                    ps.setObject(1, now);
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+                    ps.setObject(3, now);
+                },
+                TRANSITION_MAPPER);
+    }
+}
@@ -0,0 +1,13 @@
+package org.qpeek.qpeek.infrastructure.persistence.trash;
+
+import org.qpeek.qpeek.domain.trash.entity.TrashItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TrashItemJpaRepository extends JpaRepository<TrashItem, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = false)
+    @Query("delete from TrashItem i where i.task.id = :taskId")
+    int deleteByTaskId(Long taskId);
+}
@@ -0,0 +1,138 @@
+package org.qpeek.qpeek.infrastructure.persistence.trash;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.trash.repository.TrashItemRepository;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.trash.entity.TrashItem;
+import org.qpeek.qpeek.infrastructure.persistence.common.GlobalIdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TrashItemRepositoryAdapter implements TrashItemRepository {
+
+    // 대상 작업을 task_id 순으로 잠가(동시 일괄 요청 간 교착 방지) 전이 전 상태를 확보한 뒤,
+    // 작업 UPDATE 1회 + 휴지통 항목 INSERT 1회를 한 문장으로 수행.
+    // uk_trash_item_task 충돌(이전에 남은 항목)은 새 보관 기간으로 덮어쓴다.
+    // 엔티티를 거치지 않으므로 version 을 올려, 이 전이 전에 작업을 읽은 트랜잭션의 엔티티 저장이 낙관적 잠금으로 실패하게 한다.
+    private static final String TRASH_ALL = """
+            WITH target AS (
+                SELECT t.task_id, t.status AS from_status
+                  FROM tasks t
+                 WHERE t.task_id = ANY (?)
+                   AND t.status <> 'TRASHED'
+                 ORDER BY t.task_id
+                   FOR UPDATE
+            ), trashed AS (
+                UPDATE tasks t
+                   SET status = 'TRASHED', trashed_at = ?, updated_at = ?, version = t.version + 1
+                  FROM target g
+                 WHERE t.task_id = g.task_id
+                RETURNING t.task_id, t.queue_id, g.from_status, t.status AS to_status, t.due_at, t.completed_at
+            ), items AS (
+                INSERT INTO trash_items (trash_item_id, trashed_at, retention_until, task_id, created_at, updated_at)
+                SELECT v.trash_item_id, ?, ?, d.task_id, now(), now()
+                  FROM trashed d
+                  JOIN unnest(?::bigint[], ?::bigint[]) AS v(task_id, trash_item_id) ON v.task_id = d.task_id
+                ON CONFLICT ON CONSTRAINT uk_trash_item_task DO UPDATE
+                   SET trashed_at      = EXCLUDED.trashed_at,
+                       retention_until = EXCLUDED.retention_until,
+                       updated_at      = EXCLUDED.updated_at
+            )
+            SELECT task_id, queue_id, from_status, to_status, due_at, completed_at
+              FROM trashed
+            """;
+
+    // Task.restore 와 같은 규칙: 완료 시각이 있으면 COMPLETED, 마감이 지났으면 OVERDUE, 그 외 ACTIVE. version 은 TRASH_ALL 과 같이 올린다.
+    private static final String RESTORE_ALL = """
+            WITH target AS (
+                SELECT t.task_id
+                  FROM tasks t
+                 WHERE t.task_id = ANY (?)
+                   AND t.status = 'TRASHED'
+                 ORDER BY t.task_id
+                   FOR UPDATE
+            ), items_deleted AS (
+                DELETE FROM trash_items i
+                 USING target g
+                 WHERE i.task_id = g.task_id
+            )
+            UPDATE tasks t
+               SET status     = CASE
+                                    WHEN t.completed_at IS NOT NULL THEN 'COMPLETED'
+                                    WHEN t.due_at < ? THEN 'OVERDUE'
+                                    ELSE 'ACTIVE'
+                                END,
+                   trashed_at = NULL,
+                   updated_at = ?,
+                   version    = t.version + 1
+              FROM target g
+             WHERE t.task_id = g.task_id
+            RETURNING t.task_id, t.queue_id, 'TRASHED' AS from_status, t.status AS to_status, t.due_at, t.completed_at
+            """;
+
+    // 휴지통 이동/복구는 완료 시각을 바꾸지 않는다 (previousCompletedAt = completedAt)
+    private static final RowMapper<TaskStatusChanged> STATUS_CHANGED_MAPPER = (rs, rowNum) -> {
+        OffsetDateTime completedAt = rs.getObject("completed_at", OffsetDateTime.class);
+        return new TaskStatusChanged(
+                rs.getLong("task_id"),
+                rs.getLong("queue_id"),
+                TaskStatus.valueOf(rs.getString("from_status")),
+                TaskStatus.valueOf(rs.getString("to_status")),
+                rs.getObject("due_at", OffsetDateTime.class),
+                completedAt,
+                completedAt);
+    };
+
+    private final TrashItemJpaRepository trashItemJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final GlobalIdAllocator globalIdAllocator;
+
+    @Override
+    public TrashItem save(TrashItem trashItem) {
+        return trashItemJpaRepository.save(trashItem);
+    }
+
+    @Override
+    public void deleteByTaskId(Long taskId) {
+        trashItemJpaRepository.deleteByTaskId(taskId);
+    }
+
+    @Override
+    public List<TaskStatusChanged> trashAll(Collection<Long> taskIds, OffsetDateTime trashedAt, OffsetDateTime retentionUntil) {
+        if (taskIds.isEmpty()) return List.of();
+        Long[] ids = taskIds.toArray(Long[]::new);
+        Long[] itemIds = Arrays.stream(globalIdAllocator.allocate(ids.length)).boxed().toArray(Long[]::new);
+        return jdbcTemplate.query(TRASH_ALL,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+                    ps.setObject(2, trashedAt);
+                    ps.setObject(3, trashedAt);
+                    ps.setObject(4, trashedAt);
+                    ps.setObject(5, retentionUntil);
+                    ps.setArray(6, ps.getConnection().createArrayOf("bigint", ids));
+                    ps.setArray(7, ps.getConnection().createArrayOf("bigint", itemIds));
+                },
+                STATUS_CHANGED_MAPPER);
+    }
+
+    @Override
+    public List<TaskStatusChanged> restoreAll(Collection<Long> taskIds, OffsetDateTime now) {
+        if (taskIds.isEmpty()) return List.of();
+        return jdbcTemplate.query(RESTORE_ALL,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+                    ps.setObject(2, now);
+                    ps.setObject(3, now);
+                },
+                STATUS_CHANGED_MAPPER);
+    }
+}
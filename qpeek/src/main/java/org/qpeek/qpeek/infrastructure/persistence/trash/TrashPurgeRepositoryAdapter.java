@@ -0,0 +1,91 @@
+package org.qpeek.qpeek.infrastructure.persistence.trash;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.trash.dto.ExpiredTrash;
+import org.qpeek.qpeek.application.trash.repository.TrashPurgeRepository;
+import org.qpeek.qpeek.infrastructure.persistence.common.GlobalIdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TrashPurgeRepositoryAdapter implements TrashPurgeRepository {
+
+    // idx_trash_retention_until 을 만료 순으로 읽어 limit 개에서 멈춘다.
+    // 작업 행도 함께 잠가 복구 등 동시 변경과 직렬화하고, 다른 노드가 잡은 항목은 건너뛴다.
+    private static final String CLAIM_EXPIRED = """
+            SELECT ti.trash_item_id, ti.task_id, ti.trashed_at
+              FROM trash_items ti
+              JOIN tasks t ON t.task_id = ti.task_id
+             WHERE ti.retention_until <= ?
+               AND t.status = 'TRASHED'
+             ORDER BY ti.retention_until
+             LIMIT ?
+               FOR UPDATE OF ti, t SKIP LOCKED
+            """;
+
+    // 점유 묶음 전체를 한 문장으로 삭제: 종속 행(알림/완료 로그/휴지통 항목) → 작업 → 이력 일괄 INSERT.
+    // FK 는 NO ACTION 이라 문장 끝에 검사되므로 같은 문장 안의 형제 CTE 로 자식 행을 먼저 지워도 된다.
+    // 완료 롤업/일별 카운터는 집계 이력이므로 그대로 둔다(휴지통 이동 때도 완료 수는 유지).
+    private static final String PURGE = """
+            WITH target AS (
+                SELECT *
+                  FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::timestamptz[])
+                       AS v(log_id, trash_item_id, task_id, trashed_at)
+            ), notifications_deleted AS (
+                DELETE FROM notifications n
+                 USING target t
+                 WHERE n.task_id = t.task_id
+            ), completions_deleted AS (
+                DELETE FROM completion_logs l
+                 USING target t
+                 WHERE l.task_id = t.task_id
+            ), items_deleted AS (
+                DELETE FROM trash_items i
+                 USING target t
+                 WHERE i.trash_item_id = t.trash_item_id
+            ), tasks_deleted AS (
+                DELETE FROM tasks k
+                 USING target t
+                 WHERE k.task_id = t.task_id
+                RETURNING k.task_id
+            )
+            INSERT INTO task_hard_delete_logs (task_hard_delete_log_id, task_id, trashed_at, hard_deleted_at,
+                                               created_at, updated_at)
+            SELECT t.log_id, t.task_id, t.trashed_at, ?, now(), now()
+              FROM target t
+              JOIN tasks_deleted d ON d.task_id = t.task_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GlobalIdAllocator globalIdAllocator;
+
+    @Override
+    public List<ExpiredTrash> claimExpired(OffsetDateTime now, int limit) {
+        return jdbcTemplate.query(CLAIM_EXPIRED, (rs, rowNum) -> new ExpiredTrash(
+                rs.getLong("trash_item_id"),
+                rs.getLong("task_id"),
+                rs.getObject("trashed_at", OffsetDateTime.class)), now, limit);
+    }
+
+    @Override
+    public int purge(List<ExpiredTrash> claimed, OffsetDateTime hardDeletedAt) {
+        if (claimed.isEmpty()) return 0;
+        Long[] logIds = Arrays.stream(globalIdAllocator.allocate(claimed.size())).boxed().toArray(Long[]::new);
+        Long[] trashItemIds = claimed.stream().map(ExpiredTrash::trashItemId).toArray(Long[]::new);
+        Long[] taskIds = claimed.stream().map(ExpiredTrash::taskId).toArray(Long[]::new);
+        Object[] trashedAt = claimed.stream().map(ExpiredTrash::trashedAt).toArray();
+
+        return jdbcTemplate.update(PURGE, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", logIds));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", trashItemIds));
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", taskIds));
+            ps.setArray(4, ps.getConnection().createArrayOf("timestamptz", trashedAt));
+            ps.setObject(5, hardDeletedAt);
+        });
+    }
+}
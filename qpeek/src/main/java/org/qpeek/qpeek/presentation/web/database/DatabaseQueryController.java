@@ -0,0 +1,22 @@
+package org.qpeek.qpeek.presentation.web.database;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.database.dto.DatabaseListView;
+import org.qpeek.qpeek.application.database.service.DatabaseQueryService;
+import org.qpeek.qpeek.common.pagination.CursorPage;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/{memberId}/databases")
+public class DatabaseQueryController {
+
+    private final DatabaseQueryService databaseQueryService;
+
+    @GetMapping
+    public CursorPage<DatabaseListView> list(@PathVariable Long memberId,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size) {
+        return databaseQueryService.listDatabases(memberId, cursor, size);
+    }
+}
@@ -0,0 +1,22 @@
+package org.qpeek.qpeek.presentation.web.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.queue.dto.TaskQueueListView;
+import org.qpeek.qpeek.application.queue.service.TaskQueueQueryService;
+import org.qpeek.qpeek.common.pagination.CursorPage;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/databases/{databaseId}/queues")
+public class TaskQueueQueryController {
+
+    private final TaskQueueQueryService taskQueueQueryService;
+
+    @GetMapping
+    public CursorPage<TaskQueueListView> list(@PathVariable Long databaseId,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        return taskQueueQueryService.listQueues(databaseId, cursor, size);
+    }
+}
@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.presentation.web.reminder;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.reminder.dto.CacheRegionStats;
+import org.qpeek.qpeek.application.reminder.service.ReminderSettingQueryService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/reminder-settings/cache")
+public class ReminderSettingCacheController {
+
+    private final ReminderSettingQueryService reminderSettingQueryService;
+
+    @GetMapping("/statistics")
+    public CacheRegionStats statistics() {
+        return reminderSettingQueryService.cacheStatistics();
+    }
+}
@@ -0,0 +1,26 @@
+package org.qpeek.qpeek.presentation.web.report;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.report.dto.AnalyticsGranularity;
+import org.qpeek.qpeek.application.report.dto.QueueCompletionAnalytics;
+import org.qpeek.qpeek.application.report.service.CompletionAnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/queues/{queueId}/analytics")
+public class CompletionAnalyticsController {
+
+    private final CompletionAnalyticsService completionAnalyticsService;
+
+    @GetMapping("/completions")
+    public QueueCompletionAnalytics completions(@PathVariable Long queueId,
+                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                @RequestParam(defaultValue = "DAY") AnalyticsGranularity granularity) {
+        return completionAnalyticsService.analyze(queueId, from, to, granularity);
+    }
+}
@@ -0,0 +1,101 @@
+package org.qpeek.qpeek.presentation.web.task;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.AddTaskCommand;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class TaskCommandController {
+
+    private final TaskCommandService taskCommandService;
+
+    @PostMapping("/queues/{queueId}/tasks")
+    public AddTaskResponse add(@PathVariable Long queueId, @RequestBody AddTaskRequest request) {
+        return new AddTaskResponse(taskCommandService.addTask(new AddTaskCommand(queueId, request.title())));
+    }
+
+    @PostMapping("/tasks/{taskId}/complete")
+    public ResponseEntity<Void> complete(@PathVariable Long taskId) {
+        taskCommandService.complete(taskId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/tasks/complete")
+    public CompleteAllResponse completeAll(@RequestBody CompleteAllRequest request) {
+        return new CompleteAllResponse(taskCommandService.completeAll(request.taskIds()));
+    }
+
+    @PostMapping("/tasks/{taskId}/reopen")
+    public ResponseEntity<Void> reopen(@PathVariable Long taskId) {
+        taskCommandService.reopen(taskId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/tasks/{taskId}/due")
+    public ResponseEntity<Void> changeDue(@PathVariable Long taskId, @RequestBody ChangeDueRequest request) {
+        taskCommandService.changeDue(taskId, request.dueAt());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/tasks/{taskId}/defer")
+    public ResponseEntity<Void> defer(@PathVariable Long taskId, @RequestBody DeferRequest request) {
+        taskCommandService.deferDays(taskId, request.days());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/tasks/{taskId}")
+    public ResponseEntity<Void> trash(@PathVariable Long taskId) {
+        taskCommandService.trash(taskId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/tasks/{taskId}/restore")
+    public ResponseEntity<Void> restore(@PathVariable Long taskId) {
+        taskCommandService.restore(taskId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/tasks/trash")
+    public TrashAllResponse trashAll(@RequestBody TaskIdsRequest request) {
+        return new TrashAllResponse(taskCommandService.trashAll(request.taskIds()));
+    }
+
+    @PostMapping("/tasks/restore")
+    public RestoreAllResponse restoreAll(@RequestBody TaskIdsRequest request) {
+        return new RestoreAllResponse(taskCommandService.restoreAll(request.taskIds()));
+    }
+
+    public record AddTaskRequest(String title) {
+    }
+
+    public record AddTaskResponse(Long taskId) {
+    }
+
+    public record CompleteAllRequest(List<Long> taskIds) {
+    }
+
+    public record CompleteAllResponse(int completed) {
+    }
+
+    public record TaskIdsRequest(List<Long> taskIds) {
+    }
+
+    public record TrashAllResponse(int trashed) {
+    }
+
+    public record RestoreAllResponse(int restored) {
+    }
+
+    public record ChangeDueRequest(OffsetDateTime dueAt) {
+    }
+
+    public record DeferRequest(int days) {
+    }
+}
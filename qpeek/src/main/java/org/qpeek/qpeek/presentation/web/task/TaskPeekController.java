@@ -0,0 +1,21 @@
+package org.qpeek.qpeek.presentation.web.task;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.qpeek.qpeek.application.task.service.TaskPeekService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/queues/{queueId}/peek")
+public class TaskPeekController {
+
+    private final TaskPeekService taskPeekService;
+
+    @GetMapping
+    public List<TaskPeekView> peek(@PathVariable Long queueId, @RequestParam(defaultValue = "5") int limit) {
+        return taskPeekService.peek(queueId, limit);
+    }
+}
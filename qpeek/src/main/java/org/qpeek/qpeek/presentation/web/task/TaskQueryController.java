@@ -0,0 +1,24 @@
+package org.qpeek.qpeek.presentation.web.task;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.TaskListView;
+import org.qpeek.qpeek.application.task.service.TaskQueryService;
+import org.qpeek.qpeek.common.pagination.CursorPage;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/queues/{queueId}/tasks")
+public class TaskQueryController {
+
+    private final TaskQueryService taskQueryService;
+
+    @GetMapping
+    public CursorPage<TaskListView> list(@PathVariable Long queueId,
+                                         @RequestParam(defaultValue = "ACTIVE") TaskStatus status,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size) {
+        return taskQueryService.listTasks(queueId, status, cursor, size);
+    }
+}
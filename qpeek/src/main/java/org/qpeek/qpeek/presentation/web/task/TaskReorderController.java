@@ -0,0 +1,38 @@
+package org.qpeek.qpeek.presentation.web.task;
+
+import lombok.RequiredArgsConstructor;
+import org.qpeek.qpeek.application.task.dto.QueueReorderCommand;
+import org.qpeek.qpeek.application.task.service.TaskReorderService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class TaskReorderController {
+
+    private final TaskReorderService taskReorderService;
+
+    @PatchMapping("/tasks/{taskId}/position")
+    public ResponseEntity<Void> move(@PathVariable Long taskId, @RequestBody MoveRequest request) {
+        taskReorderService.moveBetween(taskId, request.prevTaskId(), request.nextTaskId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/queues/{queueId}/tasks/order")
+    public ReorderResponse reorder(@PathVariable Long queueId, @RequestBody ReorderRequest request) {
+        Long version = taskReorderService.reorderAll(new QueueReorderCommand(queueId, request.version(), request.taskIds()));
+        return new ReorderResponse(version);
+    }
+
+    public record MoveRequest(Long prevTaskId, Long nextTaskId) {
+    }
+
+    public record ReorderRequest(Long version, List<Long> taskIds) {
+    }
+
+    public record ReorderResponse(Long version) {
+    }
+}
@@ -0,0 +1,9 @@
+-- 큐 head peek 전용 커버링 부분 인덱스.
+-- 열린 작업(ACTIVE, OVERDUE)만 (queue_id, priority_index, task_id) 순서로 담아 상위 K개를 정렬 없이 Index Only Scan 으로 읽는다.
+-- 상태를 키 컬럼에 두면 두 상태를 합쳐 다시 정렬해야 하므로 부분 인덱스 조건으로 옮겼다(이전 인덱스는 정리).
+-- task_id 는 동순위 정렬 보장을 위해 키 컬럼에 포함, title / due_at 은 INCLUDE(리프 페이로드).
+DROP INDEX IF EXISTS idx_tasks_queue_status_priority_peek;
+CREATE INDEX IF NOT EXISTS idx_tasks_queue_open_priority_peek
+    ON tasks (queue_id, priority_index, task_id)
+    INCLUDE (title, due_at)
+    WHERE status IN ('ACTIVE', 'OVERDUE');
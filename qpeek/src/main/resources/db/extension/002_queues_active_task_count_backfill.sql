@@ -0,0 +1,20 @@
+-- queues.active_task_count 를 실제 열린 작업 수로 맞추기.
+-- 매 기동마다 실행되므로 어긋난 큐만 갱신한다(맞는 큐는 쓰지 않음).
+-- 열린 작업이 있는 큐: 열린 작업 수로 재계산.
+UPDATE queues q
+   SET active_task_count = c.open_count
+  FROM (SELECT queue_id, count(*) AS open_count
+          FROM tasks
+         WHERE status IN ('ACTIVE', 'OVERDUE')
+         GROUP BY queue_id) c
+ WHERE q.queue_id = c.queue_id
+   AND q.active_task_count <> c.open_count;
+
+-- 열린 작업이 없는 큐: 0 으로 초기화 (위 집계에 나타나지 않으므로 따로 처리).
+UPDATE queues q
+   SET active_task_count = 0
+ WHERE q.active_task_count <> 0
+   AND NOT EXISTS (SELECT 1
+                     FROM tasks t
+                    WHERE t.queue_id = q.queue_id
+                      AND t.status IN ('ACTIVE', 'OVERDUE'));
@@ -0,0 +1,3 @@
+-- 이전 조건(sent_at IS NULL)의 발송 대기 인덱스 정리.
+-- 발송 대기 부분 인덱스는 다음 시도 시각(next_attempt_at) 기준으로 013 에서 만든다.
+DROP INDEX IF EXISTS idx_notifications_pending;
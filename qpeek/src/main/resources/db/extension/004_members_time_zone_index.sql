@@ -0,0 +1,5 @@
+-- 데일리 클로징 묶음(같은 시각에 하루가 끝나는 시간대들)의 회원 조회용.
+-- time_zone = ANY (묶음 시간대) 조건을 활성 회원만 담은 부분 인덱스로 범위 스캔한다.
+CREATE INDEX IF NOT EXISTS idx_members_time_zone_active
+    ON members (time_zone, member_id)
+    WHERE member_status = 'ACTIVE';
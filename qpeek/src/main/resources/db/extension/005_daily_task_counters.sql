@@ -0,0 +1,31 @@
+-- 회원 × 현지 날짜별 작업 카운터 (DailyTaskCounterListener 가 작업 변경 트랜잭션 안에서 증감).
+-- completed_count: 그 날 완료 수, due_open_count: 그 날 마감인 열린 작업 수. 데일리 클로징은 이 행을 그대로 옮겨 적는다.
+CREATE TABLE IF NOT EXISTS daily_task_counters
+(
+    member_id       bigint      NOT NULL REFERENCES members (member_id) ON DELETE CASCADE,
+    local_date      date        NOT NULL,
+    completed_count integer     NOT NULL DEFAULT 0,
+    due_open_count  integer     NOT NULL DEFAULT 0,
+    updated_at      timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (member_id, local_date)
+);
+
+-- 최초 1회 기존 작업으로 채우기. 카운터가 하나라도 있으면 이후 재실행 시 건너뛴다.
+INSERT INTO daily_task_counters (member_id, local_date, completed_count, due_open_count)
+SELECT s.member_id, s.local_date, sum(s.completed), sum(s.due_open)
+  FROM (SELECT d.member_id, (t.completed_at AT TIME ZONE m.time_zone)::date AS local_date, 1 AS completed, 0 AS due_open
+          FROM tasks t
+          JOIN queues q ON q.queue_id = t.queue_id
+          JOIN databases d ON d.database_id = q.database_id AND d.deleted_at IS NULL
+          JOIN members m ON m.member_id = d.member_id
+         WHERE t.completed_at IS NOT NULL
+         UNION ALL
+        SELECT d.member_id, (t.due_at AT TIME ZONE m.time_zone)::date, 0, 1
+          FROM tasks t
+          JOIN queues q ON q.queue_id = t.queue_id
+          JOIN databases d ON d.database_id = q.database_id AND d.deleted_at IS NULL
+          JOIN members m ON m.member_id = d.member_id
+         WHERE t.due_at IS NOT NULL
+           AND t.status IN ('ACTIVE', 'OVERDUE')) s
+ WHERE NOT EXISTS (SELECT 1 FROM daily_task_counters)
+ GROUP BY s.member_id, s.local_date;
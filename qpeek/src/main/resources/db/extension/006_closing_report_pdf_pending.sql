@@ -0,0 +1,8 @@
+-- 리포트 PDF 생성 점유 만료 시각 (엔티티에 매핑하지 않는 파이프라인 전용 컬럼).
+-- 점유한 노드가 만료 전에 URL 을 붙이지 못하면(중단 등) 다른 노드가 다시 점유한다.
+ALTER TABLE closing_report ADD COLUMN IF NOT EXISTS pdf_lease_until timestamptz;
+
+-- PDF 가 아직 없는 리포트 전용 부분 인덱스. 생성이 끝난 리포트가 쌓여도 점유 쿼리는 대기 행만 범위 스캔한다.
+CREATE INDEX IF NOT EXISTS idx_closing_report_pdf_pending
+    ON closing_report (report_date, closing_report_id)
+    WHERE generated_pdf_url IS NULL;
@@ -0,0 +1,81 @@
+-- completion_logs 를 completed_at(UTC) 월 단위 범위 분할 테이블로 전환 (최초 1회).
+-- 기존 행은 옮겨 담고, 기존 최소 월 ~ (현재 월 + 3) 파티션을 미리 만든다. 이후 월은 CompletionLogPartitionManager 가 만든다.
+-- 분할 테이블의 유일 제약은 분할 키를 포함해야 하므로 PK = (completion_id, completed_at), uk_completion_task = (task_id, completed_at).
+--  (이 제약은 같은 (task_id, completed_at) 중복만 막는다. 작업당 완료 로그 1건은 완료/재개 시 작업 행 잠금(PESSIMISTIC_WRITE)
+--   + CompletionLogWriter 의 retract/append 가 보장한다. CompletionLog 참고)
+-- ACCESS EXCLUSIVE 아래에서 전체를 복사하므로 schema_extension_runs 에 적용 기록을 남기고, 기록이 있으면 테이블을 보지도 않는다.
+CREATE TABLE IF NOT EXISTS schema_extension_runs
+(
+    name       text PRIMARY KEY,
+    applied_at timestamptz NOT NULL DEFAULT now()
+);
+
+DO
+$$
+DECLARE
+    first_month date;
+    last_month  date;
+    m           date;
+    fk_names    text[];
+    fk_defs     text[];
+BEGIN
+    IF EXISTS (SELECT 1 FROM schema_extension_runs WHERE name = 'completion_logs_partitioning') THEN
+        RETURN;
+    END IF;
+    IF (SELECT c.relkind FROM pg_class c WHERE c.oid = to_regclass('completion_logs')) IS DISTINCT FROM 'r' THEN
+        -- 이미 분할됨(기록 도입 전 전환) → 기록만 남긴다. 테이블이 아직 없으면 다음 기동에 다시 본다.
+        IF to_regclass('completion_logs') IS NOT NULL THEN
+            INSERT INTO schema_extension_runs (name) VALUES ('completion_logs_partitioning');
+        END IF;
+        RETURN;
+    END IF;
+
+    LOCK TABLE completion_logs IN ACCESS EXCLUSIVE MODE;
+    ALTER TABLE completion_logs RENAME TO completion_logs_legacy;
+    ALTER TABLE completion_logs_legacy RENAME CONSTRAINT completion_logs_pkey TO completion_logs_legacy_pkey;
+    ALTER TABLE completion_logs_legacy DROP CONSTRAINT IF EXISTS uk_completion_task;
+    DROP INDEX IF EXISTS idx_completion_queue_date;
+    DROP INDEX IF EXISTS idx_completion_completed_at;
+    -- 외래 키는 이름과 정의(참조 테이블/컬럼/ON DELETE 등) 그대로 다시 건다.
+    SELECT array_agg(conname::text ORDER BY conname), array_agg(pg_get_constraintdef(oid) ORDER BY conname)
+      INTO fk_names, fk_defs
+      FROM pg_constraint
+     WHERE conrelid = 'completion_logs_legacy'::regclass AND contype = 'f';
+
+    CREATE TABLE completion_logs (LIKE completion_logs_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+        PARTITION BY RANGE (completed_at);
+
+    SELECT date_trunc('month', coalesce(min(completed_at), now()) AT TIME ZONE 'UTC')::date,
+           greatest(date_trunc('month', coalesce(max(completed_at), now()) AT TIME ZONE 'UTC'),
+                    date_trunc('month', now() AT TIME ZONE 'UTC') + interval '3 months')::date
+      INTO first_month, last_month
+      FROM completion_logs_legacy;
+
+    m := first_month;
+    WHILE m <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF completion_logs FOR VALUES FROM (%L) TO (%L)',
+                       'completion_logs_p' || to_char(m, 'YYYYMM'),
+                       m::timestamp AT TIME ZONE 'UTC',
+                       (m + interval '1 month')::timestamp AT TIME ZONE 'UTC');
+        m := (m + interval '1 month')::date;
+    END LOOP;
+
+    INSERT INTO completion_logs SELECT * FROM completion_logs_legacy;
+    DROP TABLE completion_logs_legacy;
+
+    ALTER TABLE completion_logs ADD CONSTRAINT completion_logs_pkey PRIMARY KEY (completion_id, completed_at);
+    ALTER TABLE completion_logs ADD CONSTRAINT uk_completion_task UNIQUE (task_id, completed_at);
+    FOR i IN 1 .. coalesce(array_length(fk_names, 1), 0) LOOP
+        EXECUTE format('ALTER TABLE completion_logs ADD CONSTRAINT %I %s', fk_names[i], fk_defs[i]);
+    END LOOP;
+
+    INSERT INTO schema_extension_runs (name) VALUES ('completion_logs_partitioning');
+END
+$$;
+
+-- 분할 인덱스(파티션마다 생성, 이후 만드는 파티션에도 자동 적용).
+-- 큐별 기간 조회는 큐 식별자로 좁혀야 하므로 B-tree 유지 — 파티션 단위라 지난 달 인덱스는 더 자라지 않는다.
+CREATE INDEX IF NOT EXISTS idx_completion_queue_date ON completion_logs (queue_id, completed_at);
+
+-- 삽입 전용 + 완료 시각 순으로 쌓이므로 시간 조건은 BRIN(블록 범위 최소/최대)으로 충분. B-tree 대비 수백 분의 1 크기.
+CREATE INDEX IF NOT EXISTS idx_completion_completed_at_brin ON completion_logs USING brin (completed_at) WITH (pages_per_range = 32);
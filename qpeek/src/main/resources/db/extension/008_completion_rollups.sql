@@ -0,0 +1,36 @@
+-- 큐별 완료 롤업. CompletionLogRepositoryAdapter 가 완료 로그 INSERT/DELETE 와 같은 문장에서 증감한다.
+-- 시간 단위: UTC 시각 경계. 일 단위: 회원 시간대의 현지 날짜(기록 시점 기준).
+-- 분석 API 는 롤업만 읽으므로 조회 비용은 완료 이력 길이와 무관하고 조회 구간의 버킷 수에만 비례한다.
+CREATE TABLE IF NOT EXISTS completion_rollup_hourly
+(
+    queue_id        bigint      NOT NULL REFERENCES queues (queue_id) ON DELETE CASCADE,
+    bucket_start    timestamptz NOT NULL,
+    completed_count integer     NOT NULL DEFAULT 0,
+    progress_sum    bigint      NOT NULL DEFAULT 0,
+    PRIMARY KEY (queue_id, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS completion_rollup_daily
+(
+    queue_id        bigint  NOT NULL REFERENCES queues (queue_id) ON DELETE CASCADE,
+    local_date      date    NOT NULL,
+    completed_count integer NOT NULL DEFAULT 0,
+    progress_sum    bigint  NOT NULL DEFAULT 0,
+    PRIMARY KEY (queue_id, local_date)
+);
+
+-- 최초 1회 기존 완료 로그로 채우기 (큐 순서 idx_completion_queue_date 로 그룹 집계). 롤업이 있으면 건너뛴다.
+INSERT INTO completion_rollup_hourly (queue_id, bucket_start, completed_count, progress_sum)
+SELECT c.queue_id, date_trunc('hour', c.completed_at, 'UTC'), count(*), sum(c.progress)
+  FROM completion_logs c
+ WHERE NOT EXISTS (SELECT 1 FROM completion_rollup_hourly)
+ GROUP BY c.queue_id, date_trunc('hour', c.completed_at, 'UTC');
+
+INSERT INTO completion_rollup_daily (queue_id, local_date, completed_count, progress_sum)
+SELECT c.queue_id, (c.completed_at AT TIME ZONE m.time_zone)::date, count(*), sum(c.progress)
+  FROM completion_logs c
+  JOIN queues q ON q.queue_id = c.queue_id
+  JOIN databases d ON d.database_id = q.database_id
+  JOIN members m ON m.member_id = d.member_id
+ WHERE NOT EXISTS (SELECT 1 FROM completion_rollup_daily)
+ GROUP BY c.queue_id, (c.completed_at AT TIME ZONE m.time_zone)::date;
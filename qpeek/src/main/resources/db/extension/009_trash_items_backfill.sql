@@ -0,0 +1,14 @@
+-- 휴지통 항목 없이 TRASHED 상태인 작업(휴지통 이동이 항목을 만들기 전의 데이터)에 항목을 채워 만료 하드 삭제 대상에 포함시킨다.
+-- 보관 기간은 기본값(qpeek.trash.retention = 30d)과 같게 trashed_at + 30일.
+-- 식별자는 행마다 nextval 값 자체를 사용: 해당 값의 pooled 블록은 Hibernate 가 받지 않으므로 겹치지 않는다(일회성이라 블록 낭비 허용).
+-- 항목이 없는 작업만 대상이므로 재실행 시에는 삽입 대상이 없다.
+INSERT INTO trash_items (trash_item_id, trashed_at, retention_until, task_id, created_at, updated_at)
+SELECT nextval('global_sequence'),
+       COALESCE(t.trashed_at, t.updated_at),
+       COALESCE(t.trashed_at, t.updated_at) + interval '30 days',
+       t.task_id,
+       now(),
+       now()
+  FROM tasks t
+ WHERE t.status = 'TRASHED'
+   AND NOT EXISTS (SELECT 1 FROM trash_items i WHERE i.task_id = t.task_id);
@@ -0,0 +1,13 @@
+-- 시간 순 식별자(@TimeOrderedId) 노드 번호 임대. IdNodeLeaser 가 기동 시 만료된 번호 하나를 임대하고 주기적으로 연장한다.
+-- 번호는 0..1023(TimeOrderedIds.MAX_NODE_ID) 고정이므로 미리 채워 두고 UPDATE 로만 임대한다(행 잠금으로 경합 해소).
+CREATE TABLE IF NOT EXISTS id_node_leases
+(
+    node_id      integer PRIMARY KEY CHECK (node_id BETWEEN 0 AND 1023),
+    owner        text,
+    leased_until timestamptz NOT NULL
+);
+
+INSERT INTO id_node_leases (node_id, owner, leased_until)
+SELECT n, NULL, to_timestamp(0)
+  FROM generate_series(0, 1023) n
+    ON CONFLICT (node_id) DO NOTHING;
@@ -0,0 +1,19 @@
+-- tasks.version(@Version) 도입 전 행 채우기.
+-- 스키마 자동 갱신은 행이 있는 테이블에 NOT NULL 컬럼을 추가하지 못하므로 여기서 기본값 0 으로 추가한다(PG 11+ 재작성 없음).
+-- 이미 nullable 로 추가된 경우(빈 테이블 시절 자동 갱신)만 0 으로 채운 뒤 기본값/NOT NULL 을 건다. 적용 후 재실행 시에는 아무것도 하지 않는다.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+                 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                  AND table_name = 'tasks'
+                  AND column_name = 'version'
+                  AND is_nullable = 'YES') THEN
+        UPDATE tasks SET version = 0 WHERE version IS NULL;
+        ALTER TABLE tasks ALTER COLUMN version SET DEFAULT 0,
+                          ALTER COLUMN version SET NOT NULL;
+    END IF;
+END
+$$;
@@ -0,0 +1,18 @@
+-- 다이제스트 조기 발송은 scheduled_at(계획 슬롯)을 유지하고 sent_at 만 기록하므로 sent_at < scheduled_at 을 허용한다.
+-- 이전 @Check(sent_at >= scheduled_at 포함)로 만들어진 검사 제약을 현재 조건으로 교체. 대상이 없으면(적용 완료/신규 스키마) 아무것도 하지 않는다.
+DO $$
+DECLARE
+    ck record;
+BEGIN
+    FOR ck IN SELECT c.conname
+                FROM pg_constraint c
+               WHERE c.conrelid = to_regclass('notifications')
+                 AND c.contype = 'c'
+                 AND pg_get_constraintdef(c.oid) LIKE '%sent_at >= scheduled_at%'
+    LOOP
+        EXECUTE format('ALTER TABLE notifications DROP CONSTRAINT %I', ck.conname);
+        EXECUTE format('ALTER TABLE notifications ADD CONSTRAINT %I CHECK ((sent_at IS NULL OR dead_lettered_at IS NULL) AND attempt_count >= 0)',
+                       ck.conname);
+    END LOOP;
+END
+$$;
@@ -0,0 +1,32 @@
+-- notifications.next_attempt_at: 다음 발송 시도 시각. 재시도 백오프/속도 제한 대기는 이 값만 미루고 scheduled_at(계획 슬롯)은 유지한다.
+-- 스키마 자동 갱신은 행이 있는 테이블에 NOT NULL 컬럼을 추가하지 못하므로 여기서 추가 → scheduled_at 으로 채움 → NOT NULL.
+-- 이미 NOT NULL 이면(적용 완료) 전체 스캔 없이 건너뛴다.
+DO $$
+BEGIN
+    ALTER TABLE notifications ADD COLUMN IF NOT EXISTS next_attempt_at timestamptz;
+    IF EXISTS (SELECT 1
+                 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                  AND table_name = 'notifications'
+                  AND column_name = 'next_attempt_at'
+                  AND is_nullable = 'YES') THEN
+        UPDATE notifications SET next_attempt_at = scheduled_at WHERE next_attempt_at IS NULL;
+        ALTER TABLE notifications ALTER COLUMN next_attempt_at SET NOT NULL;
+    END IF;
+END
+$$;
+
+-- 발송 대기 알림 전용 부분 인덱스.
+-- 발송 완료/dead letter 행이 쌓여도 claim 쿼리(sent_at IS NULL AND dead_lettered_at IS NULL AND next_attempt_at <= now
+-- ORDER BY next_attempt_at)는 실제로 보낼 행만 범위 스캔한다. 재시도를 포기한 알림이 배치를 차지하지 않는다.
+CREATE INDEX IF NOT EXISTS idx_notifications_dispatch_due
+    ON notifications (next_attempt_at)
+    WHERE sent_at IS NULL AND dead_lettered_at IS NULL;
+
+-- 다이제스트 조기 점유(회원별 next_attempt_at 구간).
+CREATE INDEX IF NOT EXISTS idx_notifications_member_dispatch
+    ON notifications (member_id, next_attempt_at)
+    WHERE sent_at IS NULL AND dead_lettered_at IS NULL;
+
+-- scheduled_at 기준이던 이전 발송 대기 인덱스는 위 인덱스로 대체.
+DROP INDEX IF EXISTS idx_notifications_dispatchable;
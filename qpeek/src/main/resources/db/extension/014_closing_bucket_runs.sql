@@ -0,0 +1,10 @@
+-- 데일리 클로징 묶음 처리 기록. 묶음을 실제로 처리한 노드가 리포트 upsert 와 같은 트랜잭션에서 남긴다(롤백되면 함께 사라짐).
+-- 다른 노드는 advisory lock 을 얻은 뒤 이 행이 있으면 완료로 보고 건너뛴다.
+CREATE TABLE IF NOT EXISTS closing_bucket_runs
+(
+    bucket_end   timestamptz NOT NULL,
+    bucket_start timestamptz NOT NULL,
+    report_date  date        NOT NULL,
+    closed_at    timestamptz NOT NULL,
+    PRIMARY KEY (bucket_end, bucket_start)
+);
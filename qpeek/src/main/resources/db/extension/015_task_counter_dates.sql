@@ -0,0 +1,20 @@
+-- 작업별로 daily_task_counters 에 현재 귀속된 현지 날짜 (DailyTaskCounterRepositoryAdapter 가 증가 시 기록).
+-- 감소는 시각을 다시 변환하지 않고 이 날짜에 적용하므로 회원 시간대가 바뀌어도 카운터가 음수가 되지 않는다.
+CREATE TABLE IF NOT EXISTS task_counter_dates
+(
+    task_id        bigint PRIMARY KEY REFERENCES tasks (task_id) ON DELETE CASCADE,
+    completed_date date,
+    due_date       date
+);
+
+-- 최초 1회 기존 카운터(005 백필과 같은 변환)에 맞춰 채우기. 기록이 하나라도 있으면 이후 재실행 시 건너뛴다.
+INSERT INTO task_counter_dates (task_id, completed_date, due_date)
+SELECT t.task_id,
+       (t.completed_at AT TIME ZONE m.time_zone)::date,
+       CASE WHEN t.status IN ('ACTIVE', 'OVERDUE') THEN (t.due_at AT TIME ZONE m.time_zone)::date END
+  FROM tasks t
+  JOIN queues q ON q.queue_id = t.queue_id
+  JOIN databases d ON d.database_id = q.database_id AND d.deleted_at IS NULL
+  JOIN members m ON m.member_id = d.member_id
+ WHERE (t.completed_at IS NOT NULL OR (t.due_at IS NOT NULL AND t.status IN ('ACTIVE', 'OVERDUE')))
+   AND NOT EXISTS (SELECT 1 FROM task_counter_dates);
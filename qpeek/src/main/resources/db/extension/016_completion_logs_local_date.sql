@@ -0,0 +1,25 @@
+-- completion_logs.local_date: 일 롤업(completion_rollup_daily)에 더한 날짜. 기록 시점 회원 시간대로 한 번만 변환해 남기고,
+-- 로그 삭제 시 같은 날짜에서 뺀다 → 회원 시간대가 바뀌어도 롤업이 음수가 되지 않는다.
+-- 컬럼이 nullable 인 동안(최초 1회)만 기존 행을 채우고 NOT NULL 을 건다. 분할 테이블이므로 모든 파티션에 함께 적용된다.
+ALTER TABLE completion_logs ADD COLUMN IF NOT EXISTS local_date date;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+                 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                  AND table_name = 'completion_logs'
+                  AND column_name = 'local_date'
+                  AND is_nullable = 'YES') THEN
+        UPDATE completion_logs c
+           SET local_date = (c.completed_at AT TIME ZONE m.time_zone)::date
+          FROM queues q
+          JOIN databases d ON d.database_id = q.database_id
+          JOIN members m ON m.member_id = d.member_id
+         WHERE q.queue_id = c.queue_id
+           AND c.local_date IS NULL;
+        UPDATE completion_logs SET local_date = (completed_at AT TIME ZONE 'UTC')::date WHERE local_date IS NULL;
+        ALTER TABLE completion_logs ALTER COLUMN local_date SET NOT NULL;
+    END IF;
+END
+$$;
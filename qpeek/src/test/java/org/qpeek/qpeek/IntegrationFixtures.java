@@ -0,0 +1,77 @@
+package org.qpeek.qpeek;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.qpeek.qpeek.application.task.dto.AddTaskCommand;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.qpeek.qpeek.domain.database.entity.Database;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 통합 테스트 데이터 준비 (각 메서드가 자체 트랜잭션으로 커밋)
+ * - 테스트 클래스끼리 컨텍스트/스키마를 공유하므로 이름은 매번 새로 만든다.
+ */
+@TestComponent
+public class IntegrationFixtures {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final String RUN = Long.toString(System.nanoTime() % 1_000_000, 36);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final TaskCommandService taskCommandService;
+
+    public IntegrationFixtures(TransactionTemplate transactionTemplate, TaskCommandService taskCommandService) {
+        this.transactionTemplate = transactionTemplate;
+        this.taskCommandService = taskCommandService;
+    }
+
+    public Member member() {
+        String suffix = RUN + SEQUENCE.incrementAndGet();
+        return persist(Member.create("it" + suffix, "{noop}password", "it-" + suffix, ZoneId.of("Asia/Seoul")));
+    }
+
+    public ReminderSetting reminderSetting(Member member) {
+        return persist(ReminderSetting.createDefaultSetting(member));
+    }
+
+    public TaskQueue queue(int maxTasks) {
+        return transactionTemplate.execute(status -> queue(member(), maxTasks)); // 같은 트랜잭션에 참여
+    }
+
+    /**
+     * owner 소유 저장소에 큐 생성 (알림 대상 회원을 지정해야 할 때)
+     */
+    public TaskQueue queue(Member owner, int maxTasks) {
+        return transactionTemplate.execute(status -> {
+            Database database = Database.create("db-" + SEQUENCE.incrementAndGet(), null, entityManager.getReference(Member.class, owner.getId()));
+            entityManager.persist(database);
+            TaskQueue queue = TaskQueue.createWithLimit("queue-" + SEQUENCE.incrementAndGet(), null, maxTasks, database);
+            entityManager.persist(queue);
+            return queue;
+        });
+    }
+
+    /**
+     * 큐 용량 예약(active_task_count)까지 거치는 실제 추가 경로
+     */
+    public Long task(TaskQueue queue) {
+        return taskCommandService.addTask(new AddTaskCommand(queue.getId(), "task-" + SEQUENCE.incrementAndGet()));
+    }
+
+    public <T> T persist(T entity) {
+        return transactionTemplate.execute(status -> {
+            entityManager.persist(entity);
+            return entity;
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package org.qpeek.qpeek;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.*;
+
+/**
+ * PostgreSQL 통합 테스트 (기본 비활성)
+ * <p>
+ * 전용(비어 있는) 데이터베이스에 대해 실행: 스키마를 새로 만들고(create-drop) 스키마 확장(db/extension)을 적용한다.
+ * {@code ./gradlew test -Dqpeek.it.jdbc-url=jdbc:postgresql://localhost:5432/qpeek_it -Dqpeek.it.username=... -Dqpeek.it.password=...}
+ * <p>
+ * 주기 작업(발송/마감/퍼지/리포트/아카이브)은 꺼서 테스트 데이터에 끼어들지 않게 한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@EnabledIfSystemProperty(named = "qpeek.it.jdbc-url", matches = ".+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=${qpeek.it.jdbc-url}",
+        "spring.datasource.username=${qpeek.it.username:}",
+        "spring.datasource.password=${qpeek.it.password:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "qpeek.notification.dispatch.enabled=false",
+        "qpeek.task.due.enabled=false",
+        "qpeek.trash.purge.enabled=false",
+        "qpeek.database.purge.enabled=false",
+        "qpeek.report.closing.enabled=false",
+        "qpeek.report.pdf.enabled=false",
+        "qpeek.log.hard-delete-archive.enabled=false"
+})
+@Import(IntegrationFixtures.class)
+public @interface PostgresIntegrationTest {
+}
@@ -0,0 +1,207 @@
+package org.qpeek.qpeek.application.database.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.database.repository.DatabasePurgeRepository;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DatabasePurgerTest {
+
+    private static final Clock OFF_PEAK = Clock.fixed(Instant.parse("2025-08-09T18:00:00Z"), ZoneOffset.UTC); // 03:00 KST
+    private static final Clock PEAK = Clock.fixed(Instant.parse("2025-08-09T03:00:00Z"), ZoneOffset.UTC);     // 12:00 KST
+
+    private final List<DatabasePurger> purgers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        purgers.forEach(DatabasePurger::shutdown);
+    }
+
+    // ------------------------------------------------------------------
+    // poll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("poll() success test : purges tasks, then queues, then the database row in chunks")
+    void poll_success_order() {
+        //given (작업 5개, 큐 3개, chunkSize 2)
+        FakeRepository repository = new FakeRepository(7L, 5, 3);
+        DatabasePurger purger = purgerOf(repository, OFF_PEAK);
+
+        //when
+        pollUntil(purger, () -> repository.databaseDeleted);
+
+        //then
+        assertThat(repository.calls).containsExactly(
+                "tasks:2", "tasks:2", "tasks:1",
+                "tasks:0", "queues:2",
+                "tasks:0", "queues:1",
+                "tasks:0", "queues:0", "database:true");
+        assertThat(repository.tasks).isZero();
+        assertThat(repository.queues).isZero();
+    }
+
+    @Test
+    @DisplayName("poll() success test : resumes a partially purged database from its remaining rows")
+    void poll_success_resume_partial() {
+        //given (이전 노드가 작업을 모두 지우고 큐 하나를 지운 뒤 중단)
+        FakeRepository repository = new FakeRepository(7L, 0, 1);
+        DatabasePurger purger = purgerOf(repository, OFF_PEAK);
+
+        //when
+        pollUntil(purger, () -> repository.databaseDeleted);
+
+        //then
+        assertThat(repository.calls).containsExactly("tasks:0", "queues:1", "tasks:0", "queues:0", "database:true");
+    }
+
+    @Test
+    @DisplayName("poll() success test : failed chunk is retried on the next poll from where it stopped")
+    void poll_success_resume_after_failure() {
+        //given
+        FakeRepository repository = new FakeRepository(7L, 3, 1);
+        repository.failQueuesOnce = true;
+        DatabasePurger purger = purgerOf(repository, OFF_PEAK);
+
+        //when
+        pollUntil(purger, () -> repository.databaseDeleted);
+
+        //then (실패한 청크만 롤백 → 지운 작업은 다시 지우지 않음)
+        assertThat(repository.calls).containsExactly(
+                "tasks:2", "tasks:1", "tasks:0", "queues:failed",
+                "tasks:0", "queues:1", "tasks:0", "queues:0", "database:true");
+    }
+
+    @Test
+    @DisplayName("poll() success test : nothing is purged during a peak window with zero rate")
+    void poll_success_peak_paused() throws InterruptedException {
+        //given
+        FakeRepository repository = new FakeRepository(7L, 3, 1);
+        DatabasePurger purger = purgerOf(repository, PEAK);
+
+        //when
+        purger.poll();
+        Thread.sleep(100);
+
+        //then
+        assertThat(repository.calls).isEmpty();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private DatabasePurger purgerOf(FakeRepository repository, Clock clock) {
+        DatabasePurgeProperties properties = new DatabasePurgeProperties(true, Duration.ofMinutes(1), 2,
+                1_000_000, 0, 9, 23, "Asia/Seoul");
+        DatabasePurger purger = new DatabasePurger(repository, new FakeTransactionManager(), properties, clock);
+        purgers.add(purger);
+        return purger;
+    }
+
+    /**
+     * 주기 실행 흉내: 정리가 끝날 때까지 poll (실행 중이면 poll 은 아무것도 하지 않음)
+     */
+    private static void pollUntil(DatabasePurger purger, BooleanSupplier done) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!done.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("purge did not finish");
+            purger.poll();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+
+    /**
+     * 삭제된 저장소 1개 (작업/큐 개수만 추적)
+     */
+    private static class FakeRepository implements DatabasePurgeRepository {
+
+        private final Long databaseId;
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        private volatile int tasks;
+        private volatile int queues;
+        private volatile boolean databaseDeleted;
+        private volatile boolean failQueuesOnce;
+
+        FakeRepository(Long databaseId, int tasks, int queues) {
+            this.databaseId = databaseId;
+            this.tasks = tasks;
+            this.queues = queues;
+        }
+
+        @Override
+        public Optional<Long> claimDeleted() {
+            return databaseDeleted ? Optional.empty() : Optional.of(databaseId);
+        }
+
+        @Override
+        public int purgeTasks(Long databaseId, int limit) {
+            int purged = Math.min(limit, tasks);
+            tasks -= purged;
+            calls.add("tasks:" + purged);
+            return purged;
+        }
+
+        @Override
+        public int purgeQueues(Long databaseId, int limit) {
+            if (failQueuesOnce) {
+                failQueuesOnce = false;
+                calls.add("queues:failed");
+                throw new IllegalStateException("connection lost");
+            }
+            if (tasks > 0) throw new IllegalStateException("queues purged before tasks");
+            int purged = Math.min(limit, queues);
+            queues -= purged;
+            calls.add("queues:" + purged);
+            return purged;
+        }
+
+        @Override
+        public boolean purgeDatabase(Long databaseId) {
+            boolean deleted = queues == 0;
+            calls.add("database:" + deleted);
+            databaseDeleted = deleted;
+            return deleted;
+        }
+    }
+
+    private static class FakeTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
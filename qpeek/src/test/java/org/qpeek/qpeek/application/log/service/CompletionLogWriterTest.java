@@ -0,0 +1,161 @@
+package org.qpeek.qpeek.application.log.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.qpeek.qpeek.application.log.repository.CompletionLogRepository;
+import org.qpeek.qpeek.domain.log.entity.CompletionLog;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompletionLogWriterTest {
+
+    private static final OffsetDateTime AT = OffsetDateTime.parse("2025-08-09T10:00:00+09:00");
+
+    private final FakeRepository repository = new FakeRepository();
+    private final CompletionLogWriter writer = new CompletionLogWriter(repository, new CompletionLogWriterProperties(3));
+
+    @BeforeEach
+    void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    // ------------------------------------------------------------------
+    // append()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("append() success test : buffered logs are inserted once before commit")
+    void append_success_flush_before_commit() {
+        //given
+        writer.append(log(1L, AT));
+        writer.append(log(2L, AT));
+
+        //when
+        commit();
+
+        //then
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.batches.getFirst()).extracting(log -> log.getTask().getId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("append() success test : batchSize flushes inside the transaction")
+    void append_success_flush_on_size() {
+        //given & when
+        for (long taskId = 1; taskId <= 7; taskId++) writer.append(log(taskId, AT));
+
+        //then
+        assertThat(repository.batches).extracting(List::size).containsExactly(3, 3);
+        commit();
+        assertThat(repository.batches).extracting(List::size).containsExactly(3, 3, 1);
+    }
+
+    @Test
+    @DisplayName("append() success test : rollback discards the buffer")
+    void append_success_rollback() {
+        //given
+        writer.append(log(1L, AT));
+
+        //when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        assertThat(repository.batches).isEmpty();
+        assertThat(TransactionSynchronizationManager.getResource(writer)).isNull();
+    }
+
+    @Test
+    @DisplayName("append() fail test : no active transaction")
+    void append_fail_no_transaction() {
+        //given
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        //when & then
+        assertThatThrownBy(() -> writer.append(log(1L, AT)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("completion log requires an active transaction");
+    }
+
+    // ------------------------------------------------------------------
+    // retract()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("retract() success test : buffered log is dropped without touching the table")
+    void retract_success_buffered() {
+        //given
+        writer.append(log(1L, AT));
+
+        //when
+        writer.retract(1L, AT.withOffsetSameInstant(ZoneOffset.UTC));
+        commit();
+
+        //then
+        assertThat(repository.batches).isEmpty();
+        assertThat(repository.deleted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("retract() success test : already written log is deleted")
+    void retract_success_written() {
+        //when
+        writer.retract(1L, AT);
+
+        //then
+        assertThat(repository.deleted).containsExactly(1L);
+    }
+
+
+    // 테스트 도우미 ---
+
+    private static CompletionLog log(Long taskId, OffsetDateTime completedAt) {
+        Task task = Mockito.mock(Task.class);
+        Mockito.when(task.getId()).thenReturn(taskId);
+        return CompletionLog.create(task, 10L, completedAt, "task " + taskId, 100);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private static final class FakeRepository implements CompletionLogRepository {
+        private final List<List<CompletionLog>> batches = new ArrayList<>();
+        private final List<Long> deleted = new ArrayList<>();
+
+        @Override
+        public void insertAll(List<CompletionLog> logs) {
+            batches.add(logs);
+        }
+
+        @Override
+        public int delete(Long taskId, OffsetDateTime completedAt) {
+            deleted.add(taskId);
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountKey;
+import org.qpeek.qpeek.application.notification.dto.ChannelAccountState;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.application.notification.repository.ChannelAccountRepository;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelAccountCacheTest {
+
+    private static final OffsetDateTime AT = OffsetDateTime.parse("2025-08-08T00:00:00Z");
+
+    // ------------------------------------------------------------------
+    // resolve()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("resolve() success test : batch misses are loaded with one multi-key query")
+    void resolve_success_single_bulk_load() {
+        //given
+        FakeRepository repository = new FakeRepository();
+        repository.put(1L, NotificationChannelType.EMAIL, new ChannelAccountState(10L, "a@qpeek.org", true));
+        repository.put(2L, NotificationChannelType.SLACK, new ChannelAccountState(20L, "https://hooks.slack.com/services/x", true));
+        ChannelAccountCache cache = cacheOf(repository);
+
+        //when
+        List<PendingNotification> resolved = cache.resolve(List.of(
+                pending(100L, 1L, NotificationChannelType.EMAIL),
+                pending(101L, 1L, NotificationChannelType.EMAIL),
+                pending(102L, 2L, NotificationChannelType.SLACK)));
+
+        //then
+        assertThat(repository.calls).isEqualTo(1);
+        assertThat(repository.lastKeys).hasSize(2);
+        assertThat(resolved).extracting(PendingNotification::channelAccountId).containsExactly(10L, 10L, 20L);
+        assertThat(resolved.get(0).address()).isEqualTo("a@qpeek.org");
+    }
+
+    @Test
+    @DisplayName("resolve() success test : cached keys are not queried again")
+    void resolve_success_cache_hit() {
+        //given
+        FakeRepository repository = new FakeRepository();
+        repository.put(1L, NotificationChannelType.EMAIL, new ChannelAccountState(10L, "a@qpeek.org", true));
+        ChannelAccountCache cache = cacheOf(repository);
+        cache.resolve(List.of(pending(100L, 1L, NotificationChannelType.EMAIL)));
+
+        //when
+        cache.resolve(List.of(pending(101L, 1L, NotificationChannelType.EMAIL), pending(102L, 3L, NotificationChannelType.KAKAO)));
+
+        //then
+        assertThat(repository.calls).isEqualTo(2);
+        assertThat(repository.lastKeys).containsExactly(new ChannelAccountKey(3L, NotificationChannelType.KAKAO));
+    }
+
+    @Test
+    @DisplayName("resolve() success test : missing or undeliverable accounts resolve to no address")
+    void resolve_success_undeliverable() {
+        //given
+        FakeRepository repository = new FakeRepository();
+        repository.put(1L, NotificationChannelType.EMAIL, new ChannelAccountState(10L, "a@qpeek.org", false));
+        ChannelAccountCache cache = cacheOf(repository);
+
+        //when
+        List<PendingNotification> resolved = cache.resolve(List.of(
+                pending(100L, 1L, NotificationChannelType.EMAIL),
+                pending(101L, 2L, NotificationChannelType.EMAIL)));
+        cache.resolve(List.of(pending(102L, 2L, NotificationChannelType.EMAIL)));
+
+        //then
+        assertThat(resolved).extracting(PendingNotification::address).containsOnlyNulls();
+        assertThat(resolved).extracting(PendingNotification::channelAccountId).containsOnlyNulls();
+        assertThat(repository.calls).isEqualTo(1); // 계정 없음도 캐시
+    }
+
+    // ------------------------------------------------------------------
+    // resolveFresh()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("resolveFresh() success test : stale absent entry is re-read from the repository and cached")
+    void resolveFresh_success_stale_absent() {
+        //given (다른 노드에서 계정 생성 → 이 노드 캐시에는 absent 가 남아 있음)
+        FakeRepository repository = new FakeRepository();
+        ChannelAccountCache cache = cacheOf(repository);
+        assertThat(cache.resolve(List.of(pending(100L, 1L, NotificationChannelType.EMAIL))).getFirst().address()).isNull();
+        repository.put(1L, NotificationChannelType.EMAIL, new ChannelAccountState(10L, "a@qpeek.org", true));
+
+        //when
+        List<PendingNotification> fresh = cache.resolveFresh(List.of(pending(101L, 1L, NotificationChannelType.EMAIL)));
+        List<PendingNotification> cached = cache.resolve(List.of(pending(102L, 1L, NotificationChannelType.EMAIL)));
+
+        //then
+        assertThat(fresh.getFirst().address()).isEqualTo("a@qpeek.org");
+        assertThat(cached.getFirst().channelAccountId()).isEqualTo(10L);
+        assertThat(repository.calls).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("resolveFresh() success test : still missing accounts resolve to no address")
+    void resolveFresh_success_still_missing() {
+        //given
+        FakeRepository repository = new FakeRepository();
+        ChannelAccountCache cache = cacheOf(repository);
+
+        //when
+        List<PendingNotification> fresh = cache.resolveFresh(List.of(pending(100L, 1L, NotificationChannelType.EMAIL)));
+
+        //then
+        assertThat(fresh.getFirst().address()).isNull();
+        assertThat(cache.resolveFresh(List.of())).isEmpty();
+        assertThat(repository.calls).isEqualTo(1);
+    }
+
+    // ------------------------------------------------------------------
+    // evict()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("evict() success test : next lookup reloads the key")
+    void evict_success() {
+        //given
+        FakeRepository repository = new FakeRepository();
+        repository.put(1L, NotificationChannelType.EMAIL, new ChannelAccountState(10L, "a@qpeek.org", false));
+        ChannelAccountCache cache = cacheOf(repository);
+        cache.resolve(List.of(pending(100L, 1L, NotificationChannelType.EMAIL)));
+        repository.put(1L, NotificationChannelType.EMAIL, new ChannelAccountState(10L, "a@qpeek.org", true));
+
+        //when
+        cache.evict(new ChannelAccountKey(1L, NotificationChannelType.EMAIL));
+        List<PendingNotification> resolved = cache.resolve(List.of(pending(101L, 1L, NotificationChannelType.EMAIL)));
+
+        //then
+        assertThat(repository.calls).isEqualTo(2);
+        assertThat(resolved.getFirst().address()).isEqualTo("a@qpeek.org");
+    }
+
+
+    // 테스트 도우미 ---
+
+    private static ChannelAccountCache cacheOf(ChannelAccountRepository repository) {
+        return new ChannelAccountCache(repository, new ChannelAccountCacheProperties(100, Duration.ofMinutes(5)));
+    }
+
+    private static PendingNotification pending(Long id, Long memberId, NotificationChannelType channel) {
+        return new PendingNotification(id, memberId, null, NotificationType.DUE, channel, AT, null, null, null, null);
+    }
+
+    private static final class FakeRepository implements ChannelAccountRepository {
+        private final Map<ChannelAccountKey, ChannelAccountState> rows = new HashMap<>();
+        private int calls;
+        private Collection<ChannelAccountKey> lastKeys = List.of();
+
+        void put(Long memberId, NotificationChannelType channel, ChannelAccountState state) {
+            rows.put(new ChannelAccountKey(memberId, channel), state);
+        }
+
+        @Override
+        public Map<ChannelAccountKey, ChannelAccountState> findStates(Collection<ChannelAccountKey> keys) {
+            calls++;
+            lastKeys = new ArrayList<>(keys);
+            Map<ChannelAccountKey, ChannelAccountState> found = new HashMap<>();
+            keys.stream().filter(rows::containsKey).forEach(key -> found.put(key, rows.get(key)));
+            return found;
+        }
+    }
+}
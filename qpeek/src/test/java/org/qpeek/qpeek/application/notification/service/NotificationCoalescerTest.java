@@ -0,0 +1,79 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NotificationCoalescerTest {
+
+    private static final OffsetDateTime NINE = OffsetDateTime.parse("2025-08-10T09:00:00+09:00");
+
+    // ------------------------------------------------------------------
+    // coalesce()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("coalesce() success test : groups by member and channel in schedule order")
+    void coalesce_groups() {
+        //given
+        List<PendingNotification> notifications = List.of(
+                pending(1L, 100L, NotificationChannelType.SLACK, NINE.plusMinutes(2)),
+                pending(2L, 200L, NotificationChannelType.SLACK, NINE),
+                pending(3L, 100L, NotificationChannelType.SLACK, NINE),
+                pending(4L, 100L, NotificationChannelType.EMAIL, NINE.plusMinutes(1)));
+
+        //when
+        List<NotificationDigest> digests = NotificationCoalescer.coalesce(notifications, 50);
+
+        //then
+        assertThat(digests)
+                .extracting(NotificationDigest::memberId, NotificationDigest::channel)
+                .containsExactly(
+                        tuple(200L, NotificationChannelType.SLACK),
+                        tuple(100L, NotificationChannelType.SLACK),
+                        tuple(100L, NotificationChannelType.EMAIL));
+        assertThat(digests.get(1).items()).extracting(PendingNotification::notificationId).containsExactly(3L, 1L);
+        assertThat(digests.get(0).single()).isTrue();
+    }
+
+    @Test
+    @DisplayName("coalesce() success test : splits digests over maxItems")
+    void coalesce_split() {
+        //given
+        List<PendingNotification> notifications = List.of(
+                pending(1L, 100L, NotificationChannelType.SLACK, NINE),
+                pending(2L, 100L, NotificationChannelType.SLACK, NINE),
+                pending(3L, 100L, NotificationChannelType.SLACK, NINE));
+
+        //when
+        List<NotificationDigest> digests = NotificationCoalescer.coalesce(notifications, 2);
+
+        //then
+        assertThat(digests).extracting(digest -> digest.items().size()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("coalesce() fail test : maxItems < 1")
+    void coalesce_fail() {
+        assertThatThrownBy(() -> NotificationCoalescer.coalesce(List.of(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxItems must be >= 1");
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private static PendingNotification pending(Long id, Long memberId, NotificationChannelType channel, OffsetDateTime at) {
+        return new PendingNotification(id, memberId, id * 10, NotificationType.IMMINENT, channel, at,
+                memberId, "address-" + memberId, "Task " + id, at.plusHours(3));
+    }
+}
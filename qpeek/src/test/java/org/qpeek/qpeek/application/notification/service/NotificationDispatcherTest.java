@@ -0,0 +1,243 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.notification.client.NotificationSender;
+import org.qpeek.qpeek.application.notification.dto.DeliveryResult;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.application.notification.repository.NotificationRepository;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.qpeek.qpeek.domain.notification.entity.Notification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderChannelAccount;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class NotificationDispatcherTest {
+
+    // 다른 테스트가 남긴 알림을 점유하지 않도록 과거 시각으로 실행
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2000-01-03T00:00:00Z");
+
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    ChannelAccountCache channelAccountCache;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final FakeSender sender = new FakeSender();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private NotificationDispatcher dispatcher;
+    private Member member;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        member = fixtures.member();
+        ReminderChannelAccount account = ReminderChannelAccount.email("it" + member.getId() + "@example.com", member);
+        account.setVerifiedAt(Clock.systemUTC());
+        fixtures.persist(account);
+        task = taskRepository.findById(fixtures.task(fixtures.queue(10))).orElseThrow();
+        dispatcher = dispatcherOf();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // ------------------------------------------------------------------
+    // dispatch()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("dispatch() success test : due notifications of one member/channel go out as one digest and are marked sent")
+    void dispatch_success_marks_sent() {
+        //given
+        Long first = notification(NotificationType.DUE, NOW.minusMinutes(10));
+        Long second = notification(NotificationType.BEFORE_DAY, NOW.minusMinutes(5));
+        Long future = notification(NotificationType.DUE, NOW.plusHours(1));
+
+        //when
+        dispatcher.dispatch();
+
+        //then
+        assertThat(digests()).hasSize(1);
+        assertThat(digests().getFirst().items()).extracting(PendingNotification::notificationId).containsExactly(first, second);
+        assertThat(sentAt(first)).isAtSameInstantAs(NOW);
+        assertThat(sentAt(second)).isAtSameInstantAs(NOW);
+        assertThat(sentAt(future)).isNull();
+        assertThat(column("scheduled_at", first, OffsetDateTime.class)).isAtSameInstantAs(NOW.minusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("dispatch() success test : failed delivery records the attempt and backs off instead of marking sent")
+    void dispatch_success_failure_recorded() {
+        //given
+        Long id = notification(NotificationType.DUE, NOW.minusMinutes(1));
+        sender.fail = true;
+
+        //when
+        dispatcher.dispatch();
+
+        //then
+        assertThat(sentAt(id)).isNull();
+        assertThat(column("attempt_count", id, Integer.class)).isEqualTo(1);
+        assertThat(column("last_error", id, String.class)).isEqualTo("smtp down");
+        assertThat(column("next_attempt_at", id, OffsetDateTime.class).toInstant()).isAfterOrEqualTo(NOW.toInstant());
+        assertThat(column("scheduled_at", id, OffsetDateTime.class)).isAtSameInstantAs(NOW.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("dispatch() success test : rows locked by another node are skipped, not waited on")
+    void dispatch_success_skip_locked() throws Exception {
+        //given (다른 노드가 첫 알림을 점유 중)
+        Long locked = notification(NotificationType.DUE, NOW.minusMinutes(10));
+        Long free = notification(NotificationType.DUE, NOW.minusMinutes(5));
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> otherNode = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT notification_id FROM notifications WHERE notification_id = ? FOR UPDATE", Long.class, locked);
+            claimed.countDown();
+            await(release);
+        }));
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        dispatcher.dispatch();
+        release.countDown();
+        otherNode.get(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(digests()).flatExtracting(NotificationDigest::items).extracting(PendingNotification::notificationId).containsExactly(free);
+        assertThat(sentAt(free)).isAtSameInstantAs(NOW);
+        assertThat(sentAt(locked)).isNull();
+    }
+
+    @Test
+    @DisplayName("dispatch() success test : sent OVERDUE notification schedules the next repeat with a time-ordered id")
+    void dispatch_success_overdue_repeat() {
+        //given
+        Long id = notification(NotificationType.OVERDUE, NOW.minusMinutes(1));
+
+        //when
+        dispatcher.dispatch();
+
+        //then
+        List<Map<String, Object>> pending = pendingOverdue();
+        assertThat(pending).hasSize(1);
+        Long repeatId = (Long) pending.getFirst().get("notification_id");
+        assertThat(repeatId).isGreaterThan(id).isGreaterThan(1L << 57);
+        assertThat(column("scheduled_at", repeatId, OffsetDateTime.class))
+                .isAtSameInstantAs(NOW.minusMinutes(1).plusHours(ReminderSetting.DEFAULT_OVERDUE_INTERVAL_HRS));
+    }
+
+    @Test
+    @DisplayName("dispatch() success test : no repeat when an unsent OVERDUE notification already exists for the task/channel")
+    void dispatch_success_overdue_repeat_not_exists() {
+        //given (다음 회차가 이미 예약됨)
+        notification(NotificationType.OVERDUE, NOW.minusMinutes(1));
+        Long scheduled = notification(NotificationType.OVERDUE, NOW.plusHours(6));
+
+        //when
+        dispatcher.dispatch();
+
+        //then
+        assertThat(pendingOverdue()).extracting(row -> row.get("notification_id")).containsExactly(scheduled);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private NotificationDispatcher dispatcherOf() {
+        NotificationDispatchProperties properties = new NotificationDispatchProperties(true, 100, 1, Duration.ZERO, 50, 8,
+                Duration.ofSeconds(30), Duration.ofHours(1));
+        NotificationRateLimitProperties rateLimit = new NotificationRateLimitProperties(1_000, 1_000, null, 1_000, 1_000, null, 1_000, 10);
+        return new NotificationDispatcher(notificationRepository, sender, channelAccountCache, new NotificationRateLimiter(rateLimit),
+                properties, rateLimit, transactionTemplate, Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+    }
+
+    /**
+     * 이 테스트 회원의 다이제스트만 (다른 테스트가 남긴 알림 제외)
+     */
+    private List<NotificationDigest> digests() {
+        return sender.digests.stream().filter(digest -> digest.memberId().equals(member.getId())).toList();
+    }
+
+    private Long notification(NotificationType type, OffsetDateTime scheduledAt) {
+        return fixtures.persist(Notification.scheduleForTask(type, NotificationChannelType.EMAIL, scheduledAt, member, task)).getId();
+    }
+
+    private OffsetDateTime sentAt(Long id) {
+        return column("sent_at", id, OffsetDateTime.class);
+    }
+
+    private <T> T column(String column, Long id, Class<T> type) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM notifications WHERE notification_id = ?", type, id);
+    }
+
+    private List<Map<String, Object>> pendingOverdue() {
+        return jdbcTemplate.queryForList("""
+                SELECT notification_id
+                  FROM notifications
+                 WHERE task_id = ? AND type = 'OVERDUE' AND sent_at IS NULL
+                """, task.getId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("latch timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 다이제스트를 기록하고 모든 항목에 같은 결과를 돌려준다
+     */
+    private static class FakeSender implements NotificationSender {
+
+        private final List<NotificationDigest> digests = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean fail;
+
+        @Override
+        public List<DeliveryResult> sendAll(List<NotificationDigest> batch) {
+            digests.addAll(batch);
+            return batch.stream()
+                    .flatMap(digest -> digest.items().stream())
+                    .map(item -> fail ? DeliveryResult.failed(item.notificationId(), "smtp down") : DeliveryResult.delivered(item.notificationId()))
+                    .toList();
+        }
+    }
+}
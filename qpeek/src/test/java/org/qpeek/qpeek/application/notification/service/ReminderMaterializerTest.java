@@ -0,0 +1,229 @@
+package org.qpeek.qpeek.application.notification.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderChannelAccount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class ReminderMaterializerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul"); // IntegrationFixtures.member() 의 시간대
+
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+    private Long taskId;
+    private OffsetDateTime dueAt;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = fixtures.member();
+        ReminderChannelAccount account = ReminderChannelAccount.email("it" + owner.getId() + "@example.com", owner);
+        account.setVerifiedAt(Clock.systemUTC());
+        fixtures.persist(account);
+        queue = fixtures.queue(owner, 10);
+        taskId = fixtures.task(queue);
+        dueAt = LocalDate.now(ZONE).plusDays(3).atTime(18, 0).atZone(ZONE).toOffsetDateTime(); // 모든 알림 시각이 미래
+    }
+
+    // ------------------------------------------------------------------
+    // onDueChanged()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onDueChanged() success test : due date materializes one pending reminder per type")
+    void onDueChanged_success() {
+        //when
+        taskCommandService.changeDue(taskId, dueAt);
+
+        //then
+        assertThat(pending(taskId)).isEqualTo(planOf(dueAt));
+    }
+
+    @Test
+    @DisplayName("onDueChanged() success test : new due date replaces the pending reminders in place")
+    void onDueChanged_success_replaces_pending() {
+        //given
+        taskCommandService.changeDue(taskId, dueAt);
+        List<Long> before = pendingIds(taskId);
+
+        //when
+        taskCommandService.changeDue(taskId, dueAt.plusDays(1));
+
+        //then (같은 행을 재예약, 새 행 없음)
+        assertThat(pending(taskId)).isEqualTo(planOf(dueAt.plusDays(1)));
+        assertThat(pendingIds(taskId)).containsExactlyInAnyOrderElementsOf(before);
+    }
+
+    @Test
+    @DisplayName("onDueChanged() success test : cleared due date deletes the pending reminders")
+    void onDueChanged_success_cleared() {
+        //given
+        taskCommandService.changeDue(taskId, dueAt);
+
+        //when
+        taskCommandService.changeDue(taskId, null);
+
+        //then
+        assertThat(pending(taskId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onDueChanged() success test : sent reminders are neither rescheduled nor recreated")
+    void onDueChanged_success_sent_untouched() {
+        //given
+        taskCommandService.changeDue(taskId, dueAt);
+        Long sent = markSent(taskId, NotificationType.BEFORE_DAY);
+        OffsetDateTime sentScheduledAt = scheduledAt(sent);
+
+        //when
+        taskCommandService.changeDue(taskId, dueAt.plusDays(1));
+
+        //then
+        assertThat(scheduledAt(sent)).isAtSameInstantAs(sentScheduledAt);
+        assertThat(pending(taskId)).isEqualTo(planOf(dueAt.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("onDueChanged() success test : rolled back due change leaves no reminders behind")
+    void onDueChanged_success_rollback() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            taskCommandService.changeDue(taskId, dueAt);
+            assertThat(pending(taskId)).hasSize(4); // 같은 트랜잭션 안에서 생성됨
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(pending(taskId)).isEmpty();
+    }
+
+    // ------------------------------------------------------------------
+    // onStatusChanged()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onStatusChanged() success test : closed task loses its unsent reminders, sent ones stay")
+    void onStatusChanged_success_closed() {
+        //given
+        taskCommandService.changeDue(taskId, dueAt);
+        Long sent = markSent(taskId, NotificationType.BEFORE_DAY);
+
+        //when
+        taskCommandService.complete(taskId);
+
+        //then
+        assertThat(pending(taskId)).isEmpty();
+        assertThat(scheduledAt(sent)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("onStatusChanged() success test : reopened task materializes its reminders again")
+    void onStatusChanged_success_reopened() {
+        //given
+        taskCommandService.changeDue(taskId, dueAt);
+        taskCommandService.trash(taskId);
+
+        //when
+        taskCommandService.restore(taskId);
+
+        //then
+        assertThat(pending(taskId)).isEqualTo(planOf(dueAt));
+    }
+
+    // ------------------------------------------------------------------
+    // onStatusesChanged()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onStatusesChanged() success test : bulk trash deletes the unsent reminders of every closed task")
+    void onStatusesChanged_success_closed() {
+        //given
+        Long otherId = fixtures.task(queue);
+        taskCommandService.changeDue(taskId, dueAt);
+        taskCommandService.changeDue(otherId, dueAt);
+        Long sent = markSent(otherId, NotificationType.BEFORE_DAY);
+
+        //when
+        taskCommandService.trashAll(List.of(taskId, otherId));
+
+        //then
+        assertThat(pending(taskId)).isEmpty();
+        assertThat(pending(otherId)).isEmpty();
+        assertThat(scheduledAt(sent)).isNotNull();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    /**
+     * 기본 알림 설정(전날/당일 09:00, 마감 3시간 전, 마감 시각)으로 기대되는 예정 시각
+     */
+    private static Map<NotificationType, Instant> planOf(OffsetDateTime dueAt) {
+        LocalDate dueDay = dueAt.atZoneSameInstant(ZONE).toLocalDate();
+        Map<NotificationType, Instant> plan = new EnumMap<>(NotificationType.class);
+        plan.put(NotificationType.BEFORE_DAY, dueDay.minusDays(1).atTime(9, 0).atZone(ZONE).toInstant());
+        plan.put(NotificationType.DUE, dueDay.atTime(9, 0).atZone(ZONE).toInstant());
+        plan.put(NotificationType.IMMINENT, dueAt.minusHours(3).toInstant());
+        plan.put(NotificationType.OVERDUE, dueAt.toInstant());
+        return plan;
+    }
+
+    private Map<NotificationType, Instant> pending(Long taskId) {
+        return jdbcTemplate.query("SELECT type, scheduled_at FROM notifications WHERE task_id = ? AND sent_at IS NULL",
+                rs -> {
+                    Map<NotificationType, Instant> pending = new EnumMap<>(NotificationType.class);
+                    while (rs.next()) {
+                        NotificationType type = NotificationType.valueOf(rs.getString("type"));
+                        if (pending.put(type, rs.getObject("scheduled_at", OffsetDateTime.class).toInstant()) != null) {
+                            fail("duplicate pending reminder: " + type);
+                        }
+                    }
+                    return pending;
+                },
+                taskId);
+    }
+
+    private List<Long> pendingIds(Long taskId) {
+        return jdbcTemplate.queryForList("SELECT notification_id FROM notifications WHERE task_id = ? AND sent_at IS NULL",
+                Long.class, taskId);
+    }
+
+    private Long markSent(Long taskId, NotificationType type) {
+        return jdbcTemplate.queryForObject("""
+                UPDATE notifications SET sent_at = now()
+                 WHERE task_id = ? AND type = ? AND sent_at IS NULL
+                RETURNING notification_id
+                """, Long.class, taskId, type.name());
+    }
+
+    private OffsetDateTime scheduledAt(Long notificationId) {
+        return jdbcTemplate.queryForObject("SELECT scheduled_at FROM notifications WHERE notification_id = ?",
+                OffsetDateTime.class, notificationId);
+    }
+}
@@ -0,0 +1,214 @@
+package org.qpeek.qpeek.application.queue.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.dto.AddTaskCommand;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class QueueCapacityListenerTest {
+
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // ------------------------------------------------------------------
+    // addTask() (tryReserveSlot)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("addTask() success test : reserves one slot per task")
+    void addTask_success_reserves() {
+        //given
+        TaskQueue queue = fixtures.queue(2);
+
+        //when
+        fixtures.task(queue);
+        fixtures.task(queue);
+
+        //then
+        assertThat(activeCount(queue)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("addTask() fail test : full queue rejects the task without inserting it")
+    void addTask_fail_full() {
+        //given
+        TaskQueue queue = fixtures.queue(1);
+        fixtures.task(queue);
+
+        //when & then
+        assertThatThrownBy(() -> taskCommandService.addTask(new AddTaskCommand(queue.getId(), "overflow")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("policy: queue is full");
+        assertThat(activeCount(queue)).isEqualTo(1);
+        assertThat(taskCount(queue)).isEqualTo(1);
+    }
+
+    // ------------------------------------------------------------------
+    // onStatusChanged()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onStatusChanged() success test : complete and trash release their slots")
+    void onStatusChanged_success_release() {
+        //given
+        TaskQueue queue = fixtures.queue(2);
+        Long completed = fixtures.task(queue);
+        Long trashed = fixtures.task(queue);
+
+        //when
+        taskCommandService.complete(completed);
+        int afterComplete = activeCount(queue);
+        taskCommandService.trash(trashed);
+
+        //then
+        assertThat(afterComplete).isEqualTo(1);
+        assertThat(activeCount(queue)).isZero();
+    }
+
+    @Test
+    @DisplayName("onStatusChanged() success test : release never drives a drifted counter below zero")
+    void onStatusChanged_success_release_floor() {
+        //given (카운터가 실제보다 작게 어긋난 상태)
+        TaskQueue queue = fixtures.queue(2);
+        Long taskId = fixtures.task(queue);
+        jdbcTemplate.update("UPDATE queues SET active_task_count = 0 WHERE queue_id = ?", queue.getId());
+
+        //when
+        taskCommandService.complete(taskId);
+
+        //then
+        assertThat(activeCount(queue)).isZero();
+    }
+
+    @Test
+    @DisplayName("onStatusChanged() fail test : reopen into a full queue rolls back the reopen")
+    void onStatusChanged_fail_reopen_full() {
+        //given
+        TaskQueue queue = fixtures.queue(1);
+        Long completed = fixtures.task(queue);
+        taskCommandService.complete(completed);
+        fixtures.task(queue);
+
+        //when & then
+        assertThatThrownBy(() -> taskCommandService.reopen(completed))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("policy: queue is full");
+        assertThat(status(completed)).isEqualTo("COMPLETED");
+        assertThat(activeCount(queue)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onStatusChanged() fail test : restore into a full queue rolls back the restore")
+    void onStatusChanged_fail_restore_full() {
+        //given
+        TaskQueue queue = fixtures.queue(1);
+        Long trashed = fixtures.task(queue);
+        taskCommandService.trash(trashed);
+        fixtures.task(queue);
+
+        //when & then
+        assertThatThrownBy(() -> taskCommandService.restore(trashed))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("policy: queue is full");
+        assertThat(status(trashed)).isEqualTo("TRASHED");
+        assertThat(trashItemCount(trashed)).isEqualTo(1);
+        assertThat(activeCount(queue)).isEqualTo(1);
+    }
+
+    // ------------------------------------------------------------------
+    // onStatusesChanged() (tryReserveSlots / releaseSlots)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onStatusesChanged() success test : bulk trash releases the net count per queue")
+    void onStatusesChanged_success_release() {
+        //given
+        TaskQueue queue = fixtures.queue(3);
+        TaskQueue other = fixtures.queue(3);
+        Long a = fixtures.task(queue);
+        Long b = fixtures.task(queue);
+        fixtures.task(queue);
+        Long c = fixtures.task(other);
+
+        //when
+        taskCommandService.trashAll(List.of(a, b, c));
+
+        //then
+        assertThat(activeCount(queue)).isEqualTo(1);
+        assertThat(activeCount(other)).isZero();
+    }
+
+    @Test
+    @DisplayName("onStatusesChanged() success test : bulk restore reserves the net count when it fits")
+    void onStatusesChanged_success_reserve() {
+        //given
+        TaskQueue queue = fixtures.queue(2);
+        Long a = fixtures.task(queue);
+        Long b = fixtures.task(queue);
+        taskCommandService.trashAll(List.of(a, b));
+
+        //when
+        taskCommandService.restoreAll(List.of(a, b));
+
+        //then
+        assertThat(activeCount(queue)).isEqualTo(2);
+        assertThat(status(a)).isEqualTo("ACTIVE");
+        assertThat(status(b)).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("onStatusesChanged() fail test : bulk restore beyond the free slots rolls back every task")
+    void onStatusesChanged_fail_reserve_full() {
+        //given (빈 자리 1개에 2건 복구)
+        TaskQueue queue = fixtures.queue(2);
+        Long a = fixtures.task(queue);
+        Long b = fixtures.task(queue);
+        taskCommandService.trashAll(List.of(a, b));
+        fixtures.task(queue);
+
+        //when & then
+        assertThatThrownBy(() -> taskCommandService.restoreAll(List.of(a, b)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("policy: queue is full");
+        assertThat(status(a)).isEqualTo("TRASHED");
+        assertThat(status(b)).isEqualTo("TRASHED");
+        assertThat(activeCount(queue)).isEqualTo(1);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private int activeCount(TaskQueue queue) {
+        Integer count = jdbcTemplate.queryForObject("SELECT active_task_count FROM queues WHERE queue_id = ?", Integer.class, queue.getId());
+        return count == null ? 0 : count;
+    }
+
+    private int taskCount(TaskQueue queue) {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE queue_id = ?", Integer.class, queue.getId());
+        return count == null ? 0 : count;
+    }
+
+    private int trashItemCount(Long taskId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM trash_items WHERE task_id = ?", Integer.class, taskId);
+        return count == null ? 0 : count;
+    }
+
+    private String status(Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tasks WHERE task_id = ?", String.class, taskId);
+    }
+}
@@ -0,0 +1,300 @@
+package org.qpeek.qpeek.application.report.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.report.client.ClosingReportRenderer;
+import org.qpeek.qpeek.application.report.client.ReportFileStore;
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+import org.qpeek.qpeek.application.report.repository.ClosingReportRepository;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.qpeek.qpeek.domain.report.entity.ClosingReport;
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class ClosingReportPdfPipelineTest {
+
+    // 다른 테스트의 리포트보다 먼저 점유되도록(오래된 날짜 순) 과거 날짜 사용
+    private static final LocalDate DAY = LocalDate.of(1990, 1, 1);
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    ClosingReportRepository closingReportRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger maxOutstanding = new AtomicInteger();
+    private final List<Integer> claimLimits = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> storedKeys = Collections.synchronizedList(new ArrayList<>());
+    private RecordingRepository repository;
+    private ClosingReportPdfPipeline pipeline;
+    private Member member;
+    private LocalDate nextDay;
+
+    @BeforeEach
+    void setUp() {
+        member = fixtures.member();
+        nextDay = DAY;
+        repository = new RecordingRepository(closingReportRepository);
+        pipeline = new ClosingReportPdfPipeline(repository, new GatedRenderer(), new RecordingFileStore(), transactionManager,
+                new ClosingReportPdfProperties(true, 1, 1, Duration.ofSeconds(10), LEASE, 100), Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        pipeline.shutdown();
+    }
+
+    // ------------------------------------------------------------------
+    // poll() - 점유(claim)/만료(lease)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("poll() success test : claims the oldest pending reports with a lease and attaches their pdf urls")
+    void poll_success_claim_and_attach() {
+        //given
+        Long first = report();
+        Long second = report();
+
+        //when
+        OffsetDateTime before = OffsetDateTime.now();
+        pipeline.poll();
+
+        //then (점유 중에는 만료 시각이 기록되고 다른 노드가 다시 점유하지 않음)
+        assertThat(repository.claimedIds).containsExactly(first, second);
+        assertThat(leaseUntil(first).toInstant()).isAfterOrEqualTo(before.plus(LEASE).toInstant());
+        assertThat(closingReportRepository.claimPdfPending(100, OffsetDateTime.now().plus(LEASE), OffsetDateTime.now()))
+                .extracting(PendingReportPdf::reportId).doesNotContain(first, second);
+
+        gate.countDown();
+        awaitUntil(() -> pdfUrl(first) != null && pdfUrl(second) != null, "pdf urls were not attached");
+        assertThat(pdfUrl(first)).isEqualTo("/files/reports/closing-reports/%s/%d-%d-v0.pdf".formatted(DAY, member.getId(), first));
+    }
+
+    @Test
+    @DisplayName("poll() success test : expired lease makes the report claimable again")
+    void poll_success_expired_lease_reclaimed() {
+        //given (다른 노드가 점유한 채 중단됨)
+        Long reportId = report();
+        jdbcTemplate.update("UPDATE closing_report SET pdf_lease_until = now() - interval '1 second' WHERE closing_report_id = ?", reportId);
+
+        //when
+        pipeline.poll();
+
+        //then
+        assertThat(repository.claimedIds).contains(reportId);
+        gate.countDown();
+        awaitUntil(() -> pdfUrl(reportId) != null, "pdf url was not attached");
+    }
+
+    @Test
+    @DisplayName("poll() success test : report changed while rendering is published but not attached")
+    void poll_success_version_changed_skipped() throws InterruptedException {
+        //given
+        Long reportId = report();
+        pipeline.poll();
+        assertThat(repository.claimedIds).contains(reportId);
+
+        //when (렌더링 중 클로징이 수치를 다시 갱신)
+        jdbcTemplate.update("UPDATE closing_report SET completed_count = 2, version = version + 1 WHERE closing_report_id = ?", reportId);
+        gate.countDown();
+
+        //then
+        awaitUntil(() -> storedKeys.stream().anyMatch(key -> key.contains("-" + reportId + "-")), "report was not rendered");
+        awaitUntil(() -> outstanding.get() == 0, "render did not finish");
+        Thread.sleep(300); // 게시 후 버전 확인 트랜잭션까지 끝나도록
+        assertThat(pdfUrl(reportId)).isNull();
+    }
+
+    // ------------------------------------------------------------------
+    // poll() - 슬롯(workers + queueCapacity)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("poll() success test : claims only free slots and drains the backlog without another poll")
+    void poll_success_slot_accounting() {
+        //given (슬롯 2개, 리포트 3건)
+        Long first = report();
+        Long second = report();
+        Long third = report();
+
+        //when
+        pipeline.poll();
+        pipeline.poll(); // 슬롯이 모두 찼으므로 점유하지 않음
+        List<Integer> whileBusy = List.copyOf(claimLimits);
+        gate.countDown();
+
+        //then
+        awaitUntil(() -> pdfUrl(first) != null && pdfUrl(second) != null && pdfUrl(third) != null, "backlog was not drained");
+        assertThat(whileBusy).containsExactly(2);
+        assertThat(claimLimits).startsWith(2, 1);
+        assertThat(maxOutstanding).hasValueLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("poll() fail test : failed claim returns the slots for the next poll")
+    void poll_fail_claim_returns_slots() {
+        //given
+        report();
+        repository.failClaims = 1;
+
+        //when & then
+        assertThatThrownBy(pipeline::poll).isInstanceOf(DataAccessResourceFailureException.class);
+        pipeline.poll();
+        assertThat(claimLimits).containsExactly(2, 2);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private Long report() {
+        LocalDate day = nextDay;
+        nextDay = nextDay.plusDays(1);
+        return fixtures.persist(ClosingReport.create(day, 1, 0, member)).getId();
+    }
+
+    private String pdfUrl(Long reportId) {
+        return jdbcTemplate.queryForObject("SELECT generated_pdf_url FROM closing_report WHERE closing_report_id = ?", String.class, reportId);
+    }
+
+    private OffsetDateTime leaseUntil(Long reportId) {
+        return jdbcTemplate.queryForObject("SELECT pdf_lease_until FROM closing_report WHERE closing_report_id = ?", OffsetDateTime.class, reportId);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String message) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail(message);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+
+    /**
+     * 실제 저장소에 위임하면서 점유 요청(limit)/결과를 기록하고, 점유 실패를 흉내낸다
+     */
+    private class RecordingRepository implements ClosingReportRepository {
+
+        private final ClosingReportRepository delegate;
+        private final List<Long> claimedIds = Collections.synchronizedList(new ArrayList<>());
+        private volatile int failClaims;
+
+        RecordingRepository(ClosingReportRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<ClosingReport> findById(Long reportId) {
+            return delegate.findById(reportId);
+        }
+
+        @Override
+        public boolean tryLockBucket(ClosingBucket bucket) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean markBucketClosed(ClosingBucket bucket, OffsetDateTime now) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int upsertBucket(ClosingBucket bucket, int batchSize, OffsetDateTime now) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PendingReportPdf> claimPdfPending(int limit, OffsetDateTime leaseUntil, OffsetDateTime now) {
+            claimLimits.add(limit);
+            if (failClaims > 0) {
+                failClaims--;
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            List<PendingReportPdf> claimed = delegate.claimPdfPending(limit, leaseUntil, now);
+            claimed.forEach(report -> claimedIds.add(report.reportId()));
+            maxOutstanding.accumulateAndGet(outstanding.addAndGet(claimed.size()), Math::max);
+            return claimed;
+        }
+
+        @Override
+        public void streamCompletions(PendingReportPdf report, int fetchSize, Consumer<CompletionLine> consumer) {
+            delegate.streamCompletions(report, fetchSize, consumer);
+        }
+    }
+
+    /**
+     * gate 가 열릴 때까지 렌더링을 붙잡아 둔다 (점유한 리포트가 슬롯을 차지한 상태 유지)
+     */
+    private class GatedRenderer implements ClosingReportRenderer {
+
+        @Override
+        public ReportDocument open(PendingReportPdf report, OutputStream out) {
+            try {
+                if (!gate.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("gate timeout");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return new ReportDocument() {
+                @Override
+                public void add(CompletionLine line) {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+
+    private class RecordingFileStore implements ReportFileStore {
+
+        @Override
+        public String store(String key, ContentWriter writer) {
+            try {
+                writer.writeTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            storedKeys.add(key);
+            outstanding.decrementAndGet();
+            return "/files/reports/" + key;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.qpeek.qpeek.application.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+import org.qpeek.qpeek.application.report.repository.ClosingReportRepository;
+import org.qpeek.qpeek.domain.report.entity.ClosingReport;
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DailyClosingJobTest {
+
+    // 15:00Z = UTC+9 시간대(Asia/Seoul 등)의 2025-08-10 자정 → 2025-08-09 마감
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-08-09T15:05:00Z"), ZoneOffset.UTC);
+    private static final DailyClosingProperties PROPERTIES = new DailyClosingProperties(true, Duration.ofMinutes(1), Duration.ofMinutes(10), 1000);
+
+    private final FakeRepository repository = new FakeRepository();
+    private final DailyClosingJob job = new DailyClosingJob(repository, new TransactionTemplate(new FakeTransactionManager()), PROPERTIES, CLOCK);
+
+    // ------------------------------------------------------------------
+    // run()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("run() success test : closes each bucket once and records it")
+    void run_success_closes_buckets() {
+        //when
+        job.run();
+        job.run();
+
+        //then
+        assertThat(repository.upserted).isNotEmpty();
+        assertThat(repository.upserted).extracting(ClosingBucket::reportDate).containsOnly(LocalDate.of(2025, 8, 9));
+        assertThat(repository.upserted).anySatisfy(bucket -> assertThat(bucket.zoneIds()).contains("Asia/Seoul"));
+        assertThat(repository.closed).containsExactlyInAnyOrderElementsOf(repository.upserted);
+        assertThat(repository.upserted).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("run() success test : bucket locked by another node is not treated as closed")
+    void run_success_locked_by_other_node() {
+        //given (다른 노드가 잠금을 쥔 채 처리하다 롤백 → 처리 기록 없음)
+        repository.lockedByOtherNode = true;
+        job.run();
+
+        //when
+        repository.lockedByOtherNode = false;
+        job.run();
+
+        //then (다음 주기에 이 노드가 처리)
+        assertThat(repository.upserted).isNotEmpty();
+        assertThat(repository.closed).containsExactlyInAnyOrderElementsOf(repository.upserted);
+    }
+
+    @Test
+    @DisplayName("run() success test : bucket already closed by another node is skipped")
+    void run_success_already_closed() {
+        //given
+        repository.closedByOtherNode = true;
+
+        //when
+        job.run();
+
+        //then
+        assertThat(repository.markAttempts).isPositive();
+        assertThat(repository.upserted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("run() success test : failed bucket is retried on the next poll")
+    void run_success_retry_after_failure() {
+        //given
+        repository.failUpsert = true;
+        job.run();
+
+        //when
+        repository.failUpsert = false;
+        job.run();
+
+        //then
+        assertThat(repository.upserted).isNotEmpty();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private static class FakeRepository implements ClosingReportRepository {
+
+        private final List<ClosingBucket> closed = new ArrayList<>();
+        private final List<ClosingBucket> upserted = new ArrayList<>();
+        private boolean lockedByOtherNode;
+        private boolean closedByOtherNode;
+        private boolean failUpsert;
+        private int markAttempts;
+
+        @Override
+        public Optional<ClosingReport> findById(Long reportId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean tryLockBucket(ClosingBucket bucket) {
+            return !lockedByOtherNode;
+        }
+
+        @Override
+        public boolean markBucketClosed(ClosingBucket bucket, OffsetDateTime now) {
+            markAttempts++;
+            if (closedByOtherNode || closed.contains(bucket)) return false;
+            closed.add(bucket);
+            return true;
+        }
+
+        @Override
+        public int upsertBucket(ClosingBucket bucket, int batchSize, OffsetDateTime now) {
+            if (failUpsert) {
+                closed.remove(bucket); // 롤백: 처리 기록도 함께 사라진다
+                throw new IllegalStateException("upsert failed");
+            }
+            upserted.add(bucket);
+            return 1;
+        }
+
+        @Override
+        public List<PendingReportPdf> claimPdfPending(int limit, OffsetDateTime leaseUntil, OffsetDateTime now) {
+            return List.of();
+        }
+
+        @Override
+        public void streamCompletions(PendingReportPdf report, int fetchSize, Consumer<CompletionLine> consumer) {
+        }
+    }
+
+    private static class FakeTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.event.QueueRebalanceRequested;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class QueueRebalancerTest {
+
+    // QueueRebalancer 의 큐 행 잠금(lockQueue)에서 대기 중인 세션 수
+    private static final String LOCK_WAITERS = """
+            SELECT count(*)
+              FROM pg_stat_activity
+             WHERE datname = current_database()
+               AND wait_event_type = 'Lock'
+               AND query LIKE '%FROM queues%FOR NO KEY UPDATE%'
+            """;
+
+    @Autowired
+    QueueRebalancer queueRebalancer;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private TaskQueue queue;
+    private List<Long> tasks;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+        tasks = List.of(fixtures.task(queue), fixtures.task(queue), fixtures.task(queue));
+        for (int i = 0; i < tasks.size(); i++) rank(tasks.get(i), PriorityRank.GAP + i); // 간격 소진
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // ------------------------------------------------------------------
+    // onRebalanceRequested()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onRebalanceRequested() success test : spreads the queue keys asynchronously")
+    void onRebalanceRequested_success() {
+        //when
+        queueRebalancer.onRebalanceRequested(new QueueRebalanceRequested(queue.getId()));
+
+        //then
+        awaitUntil(this::spread, "queue was not rebalanced");
+    }
+
+    @Test
+    @DisplayName("onRebalanceRequested() success test : overlapping requests for the same queue run once")
+    void onRebalanceRequested_success_deduplicated() throws Exception {
+        //given (다른 트랜잭션이 큐 행을 잠근 상태)
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT queue_id FROM queues WHERE queue_id = ? FOR UPDATE", Long.class, queue.getId());
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        queueRebalancer.onRebalanceRequested(new QueueRebalanceRequested(queue.getId()));
+        queueRebalancer.onRebalanceRequested(new QueueRebalanceRequested(queue.getId()));
+
+        //then (진행 중인 1건만 잠금에서 대기, 나머지는 합쳐짐)
+        awaitUntil(() -> lockWaiters() >= 1, "rebalance did not reach the queue lock");
+        Thread.sleep(300);
+        assertThat(lockWaiters()).isEqualTo(1);
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        awaitUntil(this::spread, "queue was not rebalanced");
+
+        // 끝난 뒤에는 같은 큐를 다시 재정렬할 수 있음
+        rank(tasks.getFirst(), PriorityRank.GAP - 1);
+        queueRebalancer.onRebalanceRequested(new QueueRebalanceRequested(queue.getId()));
+        awaitUntil(this::spread, "queue was not rebalanced again");
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private void rank(Long taskId, long priorityIndex) {
+        jdbcTemplate.update("UPDATE tasks SET priority_index = ? WHERE task_id = ?", priorityIndex, taskId);
+    }
+
+    private boolean spread() {
+        List<Long> keys = jdbcTemplate.queryForList("SELECT priority_index FROM tasks WHERE queue_id = ? ORDER BY task_id",
+                Long.class, queue.getId());
+        return keys.equals(List.of(PriorityRank.spread(0), PriorityRank.spread(1), PriorityRank.spread(2)));
+    }
+
+    private int lockWaiters() {
+        Integer count = jdbcTemplate.queryForObject(LOCK_WAITERS, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String message) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail(message);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("latch timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
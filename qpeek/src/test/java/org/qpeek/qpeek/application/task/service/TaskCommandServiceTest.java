@@ -0,0 +1,188 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class TaskCommandServiceTest {
+
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = fixtures.task(fixtures.queue(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // ------------------------------------------------------------------
+    // complete()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("complete() success test : concurrent double completion waits on the task row and leaves one log")
+    void complete_success_concurrent_double() throws Exception {
+        //given (첫 완료가 작업 행을 잠근 채 커밋 전 대기)
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            taskCommandService.complete(taskId);
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        Future<?> second = executor.submit(() -> taskCommandService.complete(taskId));
+
+        //then (두 번째 완료는 잠금에서 기다렸다가 첫 완료 로그를 교체)
+        assertThatThrownBy(() -> second.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        assertThat(completionLogs()).hasSize(1);
+        assertThat(completionLogs().getFirst()).isEqualTo(taskCompletedAt());
+        assertThat(dailyRollupCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("complete() success test : completing twice replaces the log")
+    void complete_success_twice() {
+        //when
+        taskCommandService.complete(taskId);
+        taskCommandService.complete(taskId);
+
+        //then
+        assertThat(completionLogs()).containsExactly(taskCompletedAt());
+        assertThat(dailyRollupCount()).isEqualTo(1);
+    }
+
+    // ------------------------------------------------------------------
+    // completeAll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("completeAll() success test : racing complete() leaves one log")
+    void completeAll_success_concurrent_with_complete() throws Exception {
+        //given
+        Long other = fixtures.task(fixtures.queue(10));
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        Future<?> single = executor.submit(() -> {
+            await(start);
+            taskCommandService.complete(taskId);
+        });
+        Future<Integer> bulk = executor.submit(() -> {
+            await(start);
+            return taskCommandService.completeAll(List.of(other, taskId));
+        });
+        start.countDown();
+
+        //then
+        single.get(10, TimeUnit.SECONDS);
+        assertThat(bulk.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(completionLogs()).containsExactly(taskCompletedAt());
+    }
+
+    // ------------------------------------------------------------------
+    // reopen()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("reopen() success test : removes the completion log")
+    void reopen_success() {
+        //given
+        taskCommandService.complete(taskId);
+
+        //when
+        taskCommandService.reopen(taskId);
+
+        //then
+        assertThat(completionLogs()).isEmpty();
+        assertThat(dailyRollupCount()).isZero();
+    }
+
+    // ------------------------------------------------------------------
+    // restoreAll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("restoreAll() fail test : restoring over the queue capacity rolls back the whole batch")
+    void restoreAll_fail_capacity() {
+        //given (용량 2: 휴지통 2개 + 새 작업 2개)
+        TaskQueue queue = fixtures.queue(2);
+        List<Long> trashed = List.of(fixtures.task(queue), fixtures.task(queue));
+        taskCommandService.trashAll(trashed);
+        fixtures.task(queue);
+        fixtures.task(queue);
+
+        //when & then
+        assertThatThrownBy(() -> taskCommandService.restoreAll(trashed))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("policy: queue is full");
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM tasks WHERE task_id IN (?, ?)", String.class, trashed.get(0), trashed.get(1)))
+                .containsOnly("TRASHED");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM trash_items WHERE task_id IN (?, ?)", Integer.class, trashed.get(0), trashed.get(1)))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT active_task_count FROM queues WHERE queue_id = ?", Integer.class, queue.getId()))
+                .isEqualTo(2);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private List<Object> completionLogs() {
+        return jdbcTemplate.queryForList("SELECT completed_at FROM completion_logs WHERE task_id = ?", Object.class, taskId);
+    }
+
+    private Object taskCompletedAt() {
+        return jdbcTemplate.queryForObject("SELECT completed_at FROM tasks WHERE task_id = ?", Object.class, taskId);
+    }
+
+    private int dailyRollupCount() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT coalesce(sum(r.completed_count), 0)
+                  FROM completion_rollup_daily r
+                  JOIN tasks t ON t.queue_id = r.queue_id
+                 WHERE t.task_id = ?
+                """, Integer.class, taskId);
+        return count == null ? 0 : count;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("latch timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
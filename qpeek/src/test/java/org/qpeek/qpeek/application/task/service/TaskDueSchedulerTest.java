@@ -0,0 +1,372 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.task.dto.QueueReorderResult;
+import org.qpeek.qpeek.application.task.dto.TaskDueSchedule;
+import org.qpeek.qpeek.application.task.dto.TaskListView;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.qpeek.qpeek.application.task.dto.TaskRank;
+import org.qpeek.qpeek.application.task.dto.TaskTransition;
+import org.qpeek.qpeek.application.task.repository.TaskRepository;
+import org.qpeek.qpeek.domain.task.entity.Task;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusesChanged;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskDueSchedulerTest {
+
+    private static final Instant START = Instant.parse("2025-08-09T00:00:00Z");
+    private static final OffsetDateTime NOW = START.atOffset(ZoneOffset.UTC);
+    private static final Long QUEUE_ID = 1L;
+
+    private final MutableClock clock = new MutableClock(START);
+    private final FakeTaskRepository repository = new FakeTaskRepository();
+    private final TaskPeekCache peekCache = new TaskPeekCache(new TaskPeekProperties(20, 100, Duration.ofMinutes(5)));
+    private final AtomicInteger peekLoads = new AtomicInteger();
+
+    // ------------------------------------------------------------------
+    // rehydrate()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("rehydrate() success test : loads past and in-horizon due dates, leaves later ones to refill")
+    void rehydrate_success() {
+        //given
+        repository.active(10L, NOW.minusDays(1));  // 기동 전에 지난 마감
+        repository.active(11L, NOW.plusHours(1));
+        repository.active(12L, NOW.plusDays(30)); // horizon(8d) 밖
+        TaskDueScheduler scheduler = schedulerOf(500);
+
+        //when
+        scheduler.rehydrate();
+        scheduler.tick();
+        advance(Duration.ofHours(1).plusSeconds(2));
+        scheduler.tick();
+
+        //then
+        assertThat(repository.markOverdueCalls).containsExactly(List.of(10L), List.of(11L));
+        assertThat(repository.dueScheduleQueries).containsExactly("null.." + NOW.plusDays(8));
+    }
+
+    // ------------------------------------------------------------------
+    // tick()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("tick() success test : expired tasks are transitioned in batchSize chunks and evict the peek cache")
+    void tick_success_batches() {
+        //given
+        for (long taskId = 1; taskId <= 5; taskId++) repository.active(taskId, NOW.plusMinutes(1));
+        TaskDueScheduler scheduler = schedulerOf(2);
+        scheduler.rehydrate();
+        peek();
+
+        //when
+        advance(Duration.ofMinutes(1).plusSeconds(2));
+        scheduler.tick();
+
+        //then
+        assertThat(repository.markOverdueCalls).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(repository.markOverdueCalls.stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        peek();
+        assertThat(peekLoads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("tick() success test : failed chunk is re-armed after retryDelay")
+    void tick_success_retry_after_failure() {
+        //given
+        repository.active(1L, NOW.plusMinutes(1));
+        repository.failMarkOverdue = 1;
+        TaskDueScheduler scheduler = schedulerOf(500);
+        scheduler.rehydrate();
+        advance(Duration.ofMinutes(1).plusSeconds(2));
+        scheduler.tick();
+
+        //when (재시도 지연(30s) 전에는 다시 시도하지 않음)
+        advance(Duration.ofSeconds(10));
+        scheduler.tick();
+        int beforeRetry = repository.markOverdueCalls.size();
+        advance(Duration.ofSeconds(30));
+        scheduler.tick();
+
+        //then
+        assertThat(beforeRetry).isEqualTo(1);
+        assertThat(repository.markOverdueCalls).containsExactly(List.of(1L), List.of(1L));
+        assertThat(repository.overdue).containsExactly(1L);
+    }
+
+    // ------------------------------------------------------------------
+    // onDueChanged()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onDueChanged() success test : deferred due date moves the wheel entry")
+    void onDueChanged_success_reschedule() {
+        //given
+        repository.active(1L, NOW.plusMinutes(1));
+        TaskDueScheduler scheduler = schedulerOf(500);
+        scheduler.rehydrate();
+
+        //when
+        repository.active(1L, NOW.plusMinutes(10));
+        scheduler.onDueChanged(new TaskDueChanged(1L, QUEUE_ID, TaskStatus.ACTIVE, NOW.plusMinutes(1), NOW.plusMinutes(10)));
+        advance(Duration.ofMinutes(5));
+        scheduler.tick();
+        int beforeDue = repository.markOverdueCalls.size();
+        advance(Duration.ofMinutes(6));
+        scheduler.tick();
+
+        //then
+        assertThat(beforeDue).isZero();
+        assertThat(repository.markOverdueCalls).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("onDueChanged() success test : cleared due date cancels the entry and reactivates an OVERDUE task")
+    void onDueChanged_success_cleared_overdue() {
+        //given
+        repository.active(1L, NOW.plusMinutes(1));
+        TaskDueScheduler scheduler = schedulerOf(500);
+        scheduler.rehydrate();
+        peek();
+
+        //when
+        repository.schedules.remove(1L);
+        scheduler.onDueChanged(new TaskDueChanged(1L, QUEUE_ID, TaskStatus.OVERDUE, NOW.minusMinutes(1), null));
+        advance(Duration.ofMinutes(2));
+        scheduler.tick();
+
+        //then
+        assertThat(repository.markActiveCalls).containsExactly(List.of(1L));
+        assertThat(repository.markOverdueCalls).isEmpty();
+        peek();
+        assertThat(peekLoads).hasValue(2);
+    }
+
+    // ------------------------------------------------------------------
+    // onStatusChanged() / onStatusesChanged()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("onStatusChanged() success test : closing a task cancels its due entry")
+    void onStatusChanged_success_closed() {
+        //given
+        repository.active(1L, NOW.plusMinutes(1));
+        TaskDueScheduler scheduler = schedulerOf(500);
+        scheduler.rehydrate();
+
+        //when
+        scheduler.onStatusChanged(change(1L, TaskStatus.ACTIVE, TaskStatus.COMPLETED, NOW.plusMinutes(1)));
+        advance(Duration.ofMinutes(2));
+        scheduler.tick();
+
+        //then
+        assertThat(repository.markOverdueCalls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onStatusesChanged() success test : restored tasks are scheduled, trashed ones cancelled")
+    void onStatusesChanged_success() {
+        //given
+        repository.active(1L, NOW.plusMinutes(1));
+        TaskDueScheduler scheduler = schedulerOf(500);
+        scheduler.rehydrate();
+        repository.schedules.remove(1L);
+        repository.active(2L, NOW.plusMinutes(1)); // 휴지통에서 복구됨
+
+        //when
+        scheduler.onStatusesChanged(new TaskStatusesChanged(List.of(
+                change(1L, TaskStatus.ACTIVE, TaskStatus.TRASHED, NOW.plusMinutes(1)),
+                change(2L, TaskStatus.TRASHED, TaskStatus.ACTIVE, NOW.plusMinutes(1)))));
+        advance(Duration.ofMinutes(2));
+        scheduler.tick();
+
+        //then
+        assertThat(repository.markOverdueCalls).containsExactly(List.of(2L));
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private TaskDueScheduler schedulerOf(int batchSize) {
+        TaskDueSchedulerProperties properties = new TaskDueSchedulerProperties(true, Duration.ofSeconds(1), 64, 4,
+                Duration.ofDays(8), Duration.ofHours(1), batchSize, Duration.ofSeconds(30));
+        return new TaskDueScheduler(repository, peekCache, properties, clock);
+    }
+
+    private void advance(Duration duration) {
+        clock.instant = clock.instant.plus(duration);
+    }
+
+    private void peek() {
+        peekCache.get(QUEUE_ID, id -> {
+            peekLoads.incrementAndGet();
+            return List.of();
+        });
+    }
+
+    private static TaskStatusChanged change(Long taskId, TaskStatus from, TaskStatus to, OffsetDateTime dueAt) {
+        return new TaskStatusChanged(taskId, QUEUE_ID, from, to, dueAt, null, null);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * 마감 스케줄/전이 SQL 흉내 (ACTIVE 작업의 마감만 보관, 모두 QUEUE_ID 소속)
+     */
+    private static class FakeTaskRepository implements TaskRepository {
+
+        private final Map<Long, OffsetDateTime> schedules = new HashMap<>();
+        private final Set<Long> overdue = new TreeSet<>();
+        private final List<List<Long>> markOverdueCalls = new ArrayList<>();
+        private final List<List<Long>> markActiveCalls = new ArrayList<>();
+        private final List<String> dueScheduleQueries = new ArrayList<>();
+        private int failMarkOverdue;
+
+        void active(Long taskId, OffsetDateTime dueAt) {
+            schedules.put(taskId, dueAt);
+        }
+
+        @Override
+        public List<TaskDueSchedule> findDueSchedules(OffsetDateTime dueAfter, OffsetDateTime dueUntil) {
+            dueScheduleQueries.add(dueAfter + ".." + dueUntil);
+            return schedules.entrySet().stream()
+                    .filter(e -> (dueAfter == null || e.getValue().isAfter(dueAfter)) && !e.getValue().isAfter(dueUntil))
+                    .map(e -> new TaskDueSchedule(e.getKey(), e.getValue()))
+                    .toList();
+        }
+
+        @Override
+        public Optional<TaskDueSchedule> findDueSchedule(Long taskId) {
+            return Optional.ofNullable(schedules.get(taskId)).map(dueAt -> new TaskDueSchedule(taskId, dueAt));
+        }
+
+        @Override
+        public List<TaskTransition> markOverdue(Collection<Long> taskIds, OffsetDateTime now) {
+            markOverdueCalls.add(List.copyOf(taskIds));
+            if (failMarkOverdue > 0) {
+                failMarkOverdue--;
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+            List<TaskTransition> transitioned = new ArrayList<>();
+            for (Long taskId : taskIds) {
+                OffsetDateTime dueAt = schedules.get(taskId);
+                if (dueAt == null || !dueAt.isBefore(now)) continue;
+                schedules.remove(taskId);
+                overdue.add(taskId);
+                transitioned.add(new TaskTransition(taskId, QUEUE_ID));
+            }
+            return transitioned;
+        }
+
+        @Override
+        public List<TaskTransition> markActive(Collection<Long> taskIds, OffsetDateTime now) {
+            markActiveCalls.add(List.copyOf(taskIds));
+            return taskIds.stream().map(taskId -> new TaskTransition(taskId, QUEUE_ID)).toList();
+        }
+
+        @Override
+        public Optional<Task> findById(Long taskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Task getReference(Long taskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Task save(Task task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Task> findAllById(Collection<Long> taskIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Task> saveAll(Collection<Task> tasks) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Task> findByIdForUpdate(Long taskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Task> findAllByIdForUpdate(Collection<Long> taskIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean lockQueue(Long queueId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Long> lockQueueOfTask(Long taskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TaskRank> findRanksForShare(Long queueId, Collection<Long> taskIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int rebalance(Long queueId, Long excludedTaskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QueueReorderResult reorder(Long queueId, Long expectedVersion, List<Long> orderedTaskIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TaskPeekView> findPeek(Long queueId, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TaskListView> findPageByQueue(Long queueId, TaskStatus status,
+                                                  boolean afterRanked, Long afterPriority, Long afterTaskId, int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
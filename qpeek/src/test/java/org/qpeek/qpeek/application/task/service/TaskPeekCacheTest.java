@@ -0,0 +1,118 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskPeekCacheTest {
+
+    private static final Long QUEUE_ID = 1L;
+
+    private final TaskPeekCache cache = new TaskPeekCache(new TaskPeekProperties(20, 100, Duration.ofMinutes(5)));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // ------------------------------------------------------------------
+    // get()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("get() success test : loads once per queue until evicted")
+    void get_success_cached() {
+        //when
+        peek();
+        peek();
+        cache.evict(QUEUE_ID);
+        peek();
+
+        //then
+        assertThat(loads).hasValue(2);
+    }
+
+    // ------------------------------------------------------------------
+    // evictAfterCommit()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("evictAfterCommit() success test : outside a transaction evicts immediately")
+    void evictAfterCommit_success_no_transaction() {
+        //given
+        peek();
+
+        //when
+        cache.evictAfterCommit(QUEUE_ID);
+        peek();
+
+        //then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("evictAfterCommit() success test : inside a transaction evicts only after commit")
+    void evictAfterCommit_success_after_commit() {
+        //given
+        peek();
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        cache.evictAfterCommit(QUEUE_ID);
+        peek(); // 커밋 전: 캐시 유지
+        int beforeCommit = loads.get();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        peek();
+
+        //then
+        assertThat(beforeCommit).isEqualTo(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("evictAfterCommit() success test : rolled back transaction keeps the cached peek")
+    void evictAfterCommit_success_rollback() {
+        //given
+        peek();
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        cache.evictAfterCommit(QUEUE_ID);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        peek();
+
+        //then
+        assertThat(loads).hasValue(1);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private void peek() {
+        cache.get(QUEUE_ID, id -> {
+            loads.incrementAndGet();
+            return List.<TaskPeekView>of();
+        });
+    }
+
+    /**
+     * 트랜잭션 매니저의 완료 콜백 흉내
+     */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
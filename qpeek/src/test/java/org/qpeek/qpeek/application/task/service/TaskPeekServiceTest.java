@@ -0,0 +1,152 @@
+package org.qpeek.qpeek.application.task.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.dto.QueueReorderCommand;
+import org.qpeek.qpeek.application.task.dto.TaskPeekView;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class TaskPeekServiceTest {
+
+    @Autowired
+    TaskPeekService taskPeekService;
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    TaskReorderService taskReorderService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @PersistenceContext
+    EntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+    private Long first;
+    private Long second;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+        first = fixtures.task(queue);
+        second = fixtures.task(queue);
+        rank(first, PriorityRank.GAP);
+        rank(second, 2 * PriorityRank.GAP);
+    }
+
+    // ------------------------------------------------------------------
+    // peek()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("peek() success test : open tasks in priority order, OVERDUE included, closed ones excluded")
+    void peek_success_open_tasks() {
+        //given
+        Long completed = fixtures.task(queue);
+        taskCommandService.complete(completed);
+        jdbcTemplate.update("UPDATE tasks SET status = 'OVERDUE' WHERE task_id = ?", second);
+
+        //when
+        List<TaskPeekView> head = taskPeekService.peek(queue.getId(), 10);
+
+        //then
+        assertThat(head).extracting(TaskPeekView::taskId).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("peek() success test : committed Task change evicts the cached peek")
+    void peek_success_evicted_after_commit() {
+        //given
+        assertThat(peekIds()).containsExactly(first, second);
+
+        //when
+        taskCommandService.complete(first);
+
+        //then
+        assertThat(peekIds()).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("peek() success test : rolled back Task change keeps the cached peek")
+    void peek_success_rollback_keeps_cache() {
+        //given (캐시 적재 후 캐시를 거치지 않고 제목만 변경 → 무효화되면 새 제목이 보임)
+        assertThat(peekTitles()).hasSize(2);
+        jdbcTemplate.update("UPDATE tasks SET title = 'renamed' WHERE task_id = ?", second);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            taskCommandService.complete(first);
+            entityManager.flush(); // UPDATE 는 실행하되 커밋하지 않음
+            assertThat(peekIds()).containsExactly(first, second); // 커밋 전에는 무효화하지 않음
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(peekIds()).containsExactly(first, second);
+        assertThat(peekTitles()).doesNotContain("renamed");
+    }
+
+    @Test
+    @DisplayName("peek() success test : bulk JDBC trashAll evicts only the affected queues")
+    void peek_success_bulk_trash_evicts() {
+        //given
+        TaskQueue other = fixtures.queue(10);
+        Long otherTask = fixtures.task(other);
+        peekIds();
+        taskPeekService.peek(other.getId(), 10);
+        jdbcTemplate.update("UPDATE tasks SET title = 'renamed' WHERE task_id = ?", otherTask);
+
+        //when
+        taskCommandService.trashAll(List.of(first));
+
+        //then
+        assertThat(peekIds()).containsExactly(second);
+        assertThat(taskPeekService.peek(other.getId(), 10)).extracting(TaskPeekView::title).doesNotContain("renamed");
+    }
+
+    @Test
+    @DisplayName("peek() success test : bulk JDBC reorderAll evicts the queue")
+    void peek_success_bulk_reorder_evicts() {
+        //given
+        peekIds();
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM queues WHERE queue_id = ?", Long.class, queue.getId());
+
+        //when
+        taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), version, List.of(second, first)));
+
+        //then
+        assertThat(peekIds()).containsExactly(second, first);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private void rank(Long taskId, long priorityIndex) {
+        jdbcTemplate.update("UPDATE tasks SET priority_index = ? WHERE task_id = ?", priorityIndex, taskId);
+    }
+
+    private List<Long> peekIds() {
+        return taskPeekService.peek(queue.getId(), 10).stream().map(TaskPeekView::taskId).toList();
+    }
+
+    private List<String> peekTitles() {
+        return taskPeekService.peek(queue.getId(), 10).stream().map(TaskPeekView::title).toList();
+    }
+}
@@ -0,0 +1,231 @@
+package org.qpeek.qpeek.application.task.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.dto.QueueReorderCommand;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class TaskReorderServiceTest {
+
+    private static final Long MISSING_TASK_ID = Long.MAX_VALUE;
+
+    @Autowired
+    TaskReorderService taskReorderService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+    private Long a;
+    private Long b;
+    private Long c;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+        a = fixtures.task(queue);
+        b = fixtures.task(queue);
+        c = fixtures.task(queue);
+        rank(a, PriorityRank.GAP);
+        rank(b, 2 * PriorityRank.GAP);
+        rank(c, 3 * PriorityRank.GAP);
+    }
+
+    // ------------------------------------------------------------------
+    // moveBetween()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("moveBetween() success test : takes the midpoint of its neighbours without touching other rows")
+    void moveBetween_success_midpoint() {
+        //when
+        taskReorderService.moveBetween(c, a, b);
+
+        //then
+        assertThat(order()).containsExactly(a, c, b);
+        assertThat(ranks()).containsEntry(a, PriorityRank.GAP)
+                .containsEntry(b, 2 * PriorityRank.GAP)
+                .containsEntry(c, PriorityRank.GAP + PriorityRank.GAP / 2);
+    }
+
+    @Test
+    @DisplayName("moveBetween() success test : exhausted gap rebalances the queue inline, excluding the moving task")
+    void moveBetween_success_gap_exhausted() {
+        //given (a, b 사이에 중간값 없음)
+        rank(b, PriorityRank.GAP + 1);
+
+        //when
+        taskReorderService.moveBetween(c, a, b);
+
+        //then (a, b 만 재부여된 뒤 c 가 그 사이로)
+        assertThat(order()).containsExactly(a, c, b);
+        assertThat(ranks()).containsEntry(a, PriorityRank.spread(0))
+                .containsEntry(b, PriorityRank.spread(1))
+                .containsEntry(c, PriorityRank.spread(0) + PriorityRank.GAP / 2);
+    }
+
+    @Test
+    @DisplayName("moveBetween() success test : narrowed gap is rebalanced asynchronously after commit")
+    void moveBetween_success_async_rebalance() {
+        //given (중간값은 있지만 간격이 REBALANCE_THRESHOLD 보다 좁아짐)
+        rank(b, PriorityRank.GAP + PriorityRank.REBALANCE_THRESHOLD);
+
+        //when
+        taskReorderService.moveBetween(c, a, b);
+
+        //then
+        awaitRanks(Map.of(a, PriorityRank.spread(0), c, PriorityRank.spread(1), b, PriorityRank.spread(2)));
+        assertThat(order()).containsExactly(a, c, b);
+    }
+
+    @Test
+    @DisplayName("moveBetween() fail test : task cannot be its own neighbour")
+    void moveBetween_fail_self_neighbour() {
+        //given
+        Map<Long, Long> before = ranks();
+
+        //when & then
+        assertThatThrownBy(() -> taskReorderService.moveBetween(a, a, b))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("task cannot be its own neighbour");
+        assertThatThrownBy(() -> taskReorderService.moveBetween(b, a, b))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("task cannot be its own neighbour");
+        assertThat(ranks()).isEqualTo(before);
+    }
+
+    // ------------------------------------------------------------------
+    // reorderAll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("reorderAll() success test : applies the new order and bumps the queue version")
+    void reorderAll_success() {
+        //given
+        long version = queueVersion();
+
+        //when
+        Long newVersion = taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), version, List.of(c, a, b)));
+
+        //then
+        assertThat(newVersion).isEqualTo(version + 1);
+        assertThat(queueVersion()).isEqualTo(version + 1);
+        assertThat(order()).containsExactly(c, a, b);
+        assertThat(ranks()).containsEntry(c, PriorityRank.spread(0))
+                .containsEntry(a, PriorityRank.spread(1))
+                .containsEntry(b, PriorityRank.spread(2));
+    }
+
+    @Test
+    @DisplayName("reorderAll() success test : unlisted tasks follow the listed ones in their previous order")
+    void reorderAll_success_partial_list() {
+        //when
+        taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), queueVersion(), List.of(c)));
+
+        //then
+        assertThat(order()).containsExactly(c, a, b);
+    }
+
+    @Test
+    @DisplayName("reorderAll() fail test : stale expectedVersion leaves the order and version unchanged")
+    void reorderAll_fail_stale_version() {
+        //given
+        long version = queueVersion();
+        taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), version, List.of(b, a, c)));
+        Map<Long, Long> before = ranks();
+
+        //when & then
+        assertThatThrownBy(() -> taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), version, List.of(c, b, a))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("queue version mismatch");
+        assertThat(ranks()).isEqualTo(before);
+        assertThat(queueVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("reorderAll() fail test : a task of another queue rolls back the version bump and keys")
+    void reorderAll_fail_foreign_task() {
+        //given
+        Long foreign = fixtures.task(fixtures.queue(10));
+        long version = queueVersion();
+        Map<Long, Long> before = ranks();
+
+        //when & then
+        assertThatThrownBy(() -> taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), version, List.of(c, foreign, a))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("task not found in queue");
+        assertThat(ranks()).isEqualTo(before);
+        assertThat(queueVersion()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("reorderAll() fail test : a missing task id rolls back the version bump and keys")
+    void reorderAll_fail_missing_task() {
+        //given
+        long version = queueVersion();
+        Map<Long, Long> before = ranks();
+
+        //when & then
+        assertThatThrownBy(() -> taskReorderService.reorderAll(new QueueReorderCommand(queue.getId(), version, List.of(MISSING_TASK_ID, b))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("task not found in queue");
+        assertThat(ranks()).isEqualTo(before);
+        assertThat(queueVersion()).isEqualTo(version);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private void rank(Long taskId, long priorityIndex) {
+        jdbcTemplate.update("UPDATE tasks SET priority_index = ? WHERE task_id = ?", priorityIndex, taskId);
+    }
+
+    private long queueVersion() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM queues WHERE queue_id = ?", Long.class, queue.getId());
+        return version == null ? 0 : version;
+    }
+
+    private List<Long> order() {
+        return jdbcTemplate.queryForList("SELECT task_id FROM tasks WHERE queue_id = ? ORDER BY priority_index NULLS LAST, task_id",
+                Long.class, queue.getId());
+    }
+
+    private void awaitRanks(Map<Long, Long> expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!ranks().equals(expected)) {
+            if (System.nanoTime() > deadline) fail("queue was not rebalanced: " + ranks());
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+
+    private Map<Long, Long> ranks() {
+        return jdbcTemplate.query("SELECT task_id, priority_index FROM tasks WHERE queue_id = ?",
+                rs -> {
+                    Map<Long, Long> ranks = new HashMap<>();
+                    while (rs.next()) ranks.put(rs.getLong("task_id"), rs.getObject("priority_index", Long.class));
+                    return ranks;
+                },
+                queue.getId());
+    }
+}
@@ -0,0 +1,88 @@
+package org.qpeek.qpeek.common.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    // ------------------------------------------------------------------
+    // encode() / decode()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("encode() / decode() success test : round trip")
+    void round_trip_success() {
+        //given
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-08-08T00:00:00.123456Z");
+
+        //when
+        String cursor = KeysetCursor.encode(createdAt, 42L);
+        List<String> keys = KeysetCursor.decode(cursor, 2);
+
+        //then
+        assertThat(cursor).doesNotContain("|", "=", "+", "/"); // 불투명 + URL-safe
+        assertThat(keys).containsExactly(createdAt.toString(), "42");
+        assertThat(OffsetDateTime.parse(keys.get(0))).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("encode() / decode() success test : null key")
+    void round_trip_null_key() {
+        //when
+        List<String> keys = KeysetCursor.decode(KeysetCursor.encode(null, 7L), 2);
+
+        //then
+        assertThat(keys).containsExactly(null, "7");
+    }
+
+    @Test
+    @DisplayName("decode() success test : null or blank cursor means first page")
+    void decode_first_page() {
+        assertThat(KeysetCursor.decode(null, 2)).isNull();
+        assertThat(KeysetCursor.decode("  ", 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("decode() fail test : malformed or mismatched cursor")
+    void decode_fail() {
+        String twoKeys = KeysetCursor.encode(1L, 2L);
+
+        assertThatThrownBy(() -> KeysetCursor.decode(twoKeys, 3)) // 키 개수 불일치
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid cursor");
+
+        assertThatThrownBy(() -> KeysetCursor.decode("***", 2)) // Base64 아님
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid cursor");
+    }
+
+
+    // ------------------------------------------------------------------
+    // CursorPage.of()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("CursorPage.of() success test : next cursor from last item")
+    void cursorPage_of() {
+        //given
+        List<Long> fetched = Arrays.asList(1L, 2L, 3L); // size + 1 개 조회
+
+        //when
+        CursorPage<Long> page = CursorPage.of(fetched, 2, id -> KeysetCursor.encode(id));
+        CursorPage<Long> last = CursorPage.of(fetched, 3, id -> KeysetCursor.encode(id));
+
+        //then
+        assertThat(page.items()).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor(), 1)).containsExactly("2");
+
+        assertThat(last.items()).containsExactly(1L, 2L, 3L);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
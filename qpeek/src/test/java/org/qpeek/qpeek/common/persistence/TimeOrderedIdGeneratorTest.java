@@ -0,0 +1,66 @@
+package org.qpeek.qpeek.common.persistence;
+
+import org.hibernate.id.IdentifierGenerationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    @AfterEach
+    void tearDown() {
+        TimeOrderedIdGenerator.deactivate();
+    }
+
+    // ------------------------------------------------------------------
+    // nextIds()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("nextIds() success test : issues increasing ids from the leased node")
+    void nextIds_success() {
+        //given
+        TimeOrderedIdGenerator.activate(new TimeOrderedIds(7, 0, System::currentTimeMillis), validFor(60));
+
+        //when
+        long[] ids = TimeOrderedIdGenerator.nextIds(3);
+
+        //then
+        assertThat(ids).hasSize(3).isSorted().doesNotHaveDuplicates();
+        assertThat(Arrays.stream(ids).map(TimeOrderedIds::nodeIdOf)).containsOnly(7L);
+        assertThat(TimeOrderedIdGenerator.nextIds(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("nextIds() fail test : node is not leased")
+    void nextIds_fail_not_leased() {
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.nextIds(1))
+                .isInstanceOf(IdentifierGenerationException.class)
+                .hasMessage("time ordered id node is not leased");
+    }
+
+    @Test
+    @DisplayName("nextIds() fail test : lease expired")
+    void nextIds_fail_expired() {
+        //given
+        TimeOrderedIdGenerator.activate(new TimeOrderedIds(7, 0, System::currentTimeMillis), validFor(-1));
+
+        //when & then
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.nextIds(1))
+                .isInstanceOf(IdentifierGenerationException.class)
+                .hasMessage("time ordered id node lease expired. nodeId=7");
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private static long validFor(long seconds) {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    }
+}
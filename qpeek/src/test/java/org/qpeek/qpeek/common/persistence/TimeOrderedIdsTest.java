@@ -0,0 +1,148 @@
+package org.qpeek.qpeek.common.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeOrderedIdsTest {
+
+    private static final long NOW = Instant.parse("2026-10-16T09:00:00Z").toEpochMilli();
+
+    // ------------------------------------------------------------------
+    // next()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("next() success test : timestamp | node | counter layout")
+    void next_success_layout() {
+        //given
+        TimeOrderedIds ids = new TimeOrderedIds(37, 0, () -> NOW);
+
+        //when
+        long first = ids.next();
+        long second = ids.next();
+
+        //then
+        assertThat(first).isPositive();
+        assertThat(TimeOrderedIds.timestampOf(first)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(TimeOrderedIds.nodeIdOf(first)).isEqualTo(37);
+        assertThat(TimeOrderedIds.counterOf(first)).isZero();
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("next() success test : exhausted counter borrows the next millisecond")
+    void next_success_counter_overflow() {
+        //given
+        TimeOrderedIds ids = new TimeOrderedIds(1, 0, () -> NOW);
+
+        //when
+        long last = LongStream.range(0, TimeOrderedIds.MAX_COUNTER + 2).map(i -> ids.next()).max().orElseThrow();
+
+        //then
+        assertThat(TimeOrderedIds.timestampOf(last)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+        assertThat(TimeOrderedIds.counterOf(last)).isZero();
+    }
+
+    @Test
+    @DisplayName("next() success test : clock moving backwards keeps increasing")
+    void next_success_clock_backwards() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIds ids = new TimeOrderedIds(1, 0, clock::get);
+        long before = ids.next();
+
+        //when
+        clock.set(NOW - 5_000);
+        long after = ids.next();
+
+        //then
+        assertThat(after).isGreaterThan(before);
+        assertThat(TimeOrderedIds.timestampOf(after)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    @DisplayName("next() success test : never issues at or below the previous holder's floor")
+    void next_success_floor() {
+        //given (이전 보유자의 임대가 로컬 시계보다 2초 뒤에 만료)
+        TimeOrderedIds ids = new TimeOrderedIds(1, NOW + 2_000, () -> NOW);
+
+        //when
+        long id = ids.next();
+
+        //then
+        assertThat(TimeOrderedIds.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW + 2_001));
+    }
+
+    @Test
+    @DisplayName("next() success test : different nodes never collide in the same millisecond")
+    void next_success_nodes_disjoint() {
+        //given
+        TimeOrderedIds a = new TimeOrderedIds(1, 0, () -> NOW);
+        TimeOrderedIds b = new TimeOrderedIds(2, 0, () -> NOW);
+
+        //when & then
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(issued.add(a.next())).isTrue();
+            assertThat(issued.add(b.next())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("next() success test : unique under concurrent callers")
+    void next_success_concurrent() throws InterruptedException {
+        //given
+        TimeOrderedIds ids = new TimeOrderedIds(5, 0, System::currentTimeMillis);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 20_000; i++) issued.add(ids.next());
+            });
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(issued).hasSize(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("next() success test : time-ordered ids are above global_sequence values")
+    void next_success_above_sequence() {
+        assertThat(new TimeOrderedIds(0, 0, () -> NOW).next()).isGreaterThan(1L << 57);
+    }
+
+    @Test
+    @DisplayName("TimeOrderedIds() fail test : node id out of range")
+    void constructor_fail_node_id() {
+        assertThatThrownBy(() -> new TimeOrderedIds(TimeOrderedIds.MAX_NODE_ID + 1, 0, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("nodeId must be 0..1023");
+        assertThatThrownBy(() -> new TimeOrderedIds(-1, 0, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("next() success test : clock before the epoch starts at the epoch")
+    void next_success_before_epoch() {
+        //given
+        TimeOrderedIds ids = new TimeOrderedIds(1, 0, () -> TimeOrderedIds.EPOCH_MILLIS - 1);
+
+        //when & then (뒤로 간 시계와 같이 다음 밀리초를 당겨 씀)
+        assertThat(TimeOrderedIds.timestampOf(ids.next())).isEqualTo(Instant.ofEpochMilli(TimeOrderedIds.EPOCH_MILLIS));
+    }
+}
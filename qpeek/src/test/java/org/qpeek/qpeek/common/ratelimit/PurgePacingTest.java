@@ -0,0 +1,93 @@
+package org.qpeek.qpeek.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PurgePacingTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Instant OFF_PEAK = Instant.parse("2025-08-09T18:00:00Z"); // 03:00 KST
+    private static final Instant PEAK = Instant.parse("2025-08-09T03:00:00Z");     // 12:00 KST
+
+    // ------------------------------------------------------------------
+    // rateAt() / isPeak()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("rateAt() success test : peak rate inside the window, normal rate outside")
+    void rateAt_success() {
+        //given
+        PurgePacing pacing = new PurgePacing(2000, 200, 9, 23, SEOUL);
+
+        //when & then
+        assertThat(pacing.rateAt(PEAK)).isEqualTo(200);
+        assertThat(pacing.rateAt(OFF_PEAK)).isEqualTo(2000);
+        assertThat(pacing.isPeak(Instant.parse("2025-08-09T00:00:00Z"))).isTrue();  // 09:00 KST (포함)
+        assertThat(pacing.isPeak(Instant.parse("2025-08-09T14:00:00Z"))).isFalse(); // 23:00 KST (제외)
+    }
+
+    @Test
+    @DisplayName("isPeak() success test : window wrapping midnight and empty window")
+    void isPeak_success_wrapping_and_empty() {
+        //given
+        PurgePacing night = new PurgePacing(2000, 0, 22, 2, SEOUL);
+        PurgePacing none = new PurgePacing(2000, 0, 9, 9, SEOUL);
+
+        //when & then
+        assertThat(night.isPeak(OFF_PEAK.minus(Duration.ofHours(2)))).isTrue();  // 01:00 KST
+        assertThat(night.isPeak(OFF_PEAK)).isFalse();                             // 03:00 KST
+        assertThat(night.isPeak(Instant.parse("2025-08-09T13:00:00Z"))).isTrue(); // 22:00 KST
+        assertThat(none.isPeak(PEAK)).isFalse();
+    }
+
+    // ------------------------------------------------------------------
+    // pauseAfter()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("pauseAfter() success test : rate budget minus time spent on the chunk")
+    void pauseAfter_success() {
+        //given
+        PurgePacing pacing = new PurgePacing(1000, 100, 9, 23, SEOUL);
+
+        //when & then
+        assertThat(pacing.pauseAfter(500, Duration.ofMillis(200), OFF_PEAK)).isEqualTo(Duration.ofMillis(300));
+        assertThat(pacing.pauseAfter(500, Duration.ofMillis(200), PEAK)).isEqualTo(Duration.ofMillis(4800));
+    }
+
+    @Test
+    @DisplayName("pauseAfter() success test : no pause when the chunk was slower than the budget or nothing was purged")
+    void pauseAfter_success_zero() {
+        //given
+        PurgePacing pacing = new PurgePacing(1000, 0, 9, 23, SEOUL);
+
+        //when & then
+        assertThat(pacing.pauseAfter(500, Duration.ofSeconds(1), OFF_PEAK)).isZero();
+        assertThat(pacing.pauseAfter(0, Duration.ZERO, OFF_PEAK)).isZero();
+        assertThat(pacing.pauseAfter(500, Duration.ZERO, PEAK)).isZero(); // 피크 상한 0 → 다음 청크 전에 멈춤
+        assertThat(pacing.rateAt(PEAK)).isZero();
+    }
+
+    @Test
+    @DisplayName("PurgePacing() fail test : invalid arguments")
+    void constructor_fail_invalid_arguments() {
+        assertThatThrownBy(() -> new PurgePacing(0, 0, 9, 23, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("rowsPerSecond must be > 0");
+        assertThatThrownBy(() -> new PurgePacing(1000, -1, 9, 23, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("peakRowsPerSecond must be >= 0");
+        assertThatThrownBy(() -> new PurgePacing(1000, 0, 24, 23, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("peakStartHour must be in [0, 23]");
+        assertThatThrownBy(() -> new PurgePacing(1000, 0, 9, 25, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("peakEndHour must be in [0, 24]");
+    }
+}
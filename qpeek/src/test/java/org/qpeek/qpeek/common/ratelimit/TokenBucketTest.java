@@ -0,0 +1,88 @@
+package org.qpeek.qpeek.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // ------------------------------------------------------------------
+    // tryAcquire()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("tryAcquire() success test : burst then refill at rate")
+    void tryAcquire_burst_and_refill() {
+        //given
+        TokenBucket bucket = new TokenBucket(2, 3, 0); // 0.5초마다 1개, 최대 3개
+
+        //when //then
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(10 * SECOND)).isZero(); // 오래 쉬어도 burst 이상 쌓이지 않음
+        assertThat(bucket.tryAcquire(10 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("refund() success test : returned token can be acquired again")
+    void refund_success() {
+        //given
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+        bucket.tryAcquire(0);
+
+        //when
+        bucket.refund(0);
+
+        //then
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("tryAcquire() success test : concurrent callers never exceed burst")
+    void tryAcquire_concurrent() throws InterruptedException {
+        //given
+        TokenBucket bucket = new TokenBucket(0.001, 100, 0);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < 1_000; n++) {
+                        if (bucket.tryAcquire(0) == 0) acquired.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        //then
+        assertThat(acquired.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("constructor fail test : invalid rate or burst")
+    void constructor_fail() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
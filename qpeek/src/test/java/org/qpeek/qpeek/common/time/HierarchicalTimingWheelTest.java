@@ -0,0 +1,104 @@
+package org.qpeek.qpeek.common.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    // ------------------------------------------------------------------
+    // schedule() / advanceTo()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("advanceTo() success test : fires only after deadline, within one tick")
+    void advanceTo_fires_after_deadline() {
+        //given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 3, START);
+        wheel.schedule("a", START + 2_500);
+
+        //when //then
+        assertThat(wheel.advanceTo(START + 2_499)).isEmpty();
+        assertThat(wheel.advanceTo(START + 3_000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advanceTo() success test : cascades from upper levels and overflow")
+    void advanceTo_cascades() {
+        //given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 4, 2, START); // 휠 구간 160ms
+        Random random = new Random(7);
+        List<long[]> deadlines = new ArrayList<>();
+        for (long key = 0; key < 500; key++) {
+            long deadline = START + random.nextInt(2_000);
+            deadlines.add(new long[]{key, deadline});
+            wheel.schedule(key, deadline);
+        }
+
+        //when //then
+        for (long now = START; now <= START + 2_100; now += 7) {
+            long current = now;
+            List<Long> fired = wheel.advanceTo(current);
+            for (Long key : fired) {
+                long deadline = deadlines.get(key.intValue())[1];
+                assertThat(deadline).isLessThanOrEqualTo(current);
+                assertThat(current - deadline).isLessThan(10 + 7);
+            }
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("schedule() success test : past deadline fires on next advance")
+    void schedule_past_deadline() {
+        //given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+        wheel.advanceTo(START + 10_000);
+
+        //when
+        wheel.schedule("late", START);
+
+        //then
+        assertThat(wheel.advanceTo(START + 10_000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("schedule() success test : reschedule replaces and cancel removes")
+    void schedule_replace_and_cancel() {
+        //given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+        wheel.schedule("a", START + 1_000);
+        wheel.schedule("b", START + 1_000);
+
+        //when
+        wheel.schedule("a", START + 100_000); // overflow 로 이동
+        boolean cancelled = wheel.cancel("b");
+        boolean absentAdded = wheel.scheduleIfAbsent("a", START + 1_000);
+
+        //then
+        assertThat(cancelled).isTrue();
+        assertThat(absentAdded).isFalse();
+        assertThat(wheel.advanceTo(START + 50_000)).isEmpty();
+        assertThat(wheel.advanceTo(START + 101_000)).containsExactly("a");
+        assertThat(wheel.cancel("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("constructor fail test : invalid arguments")
+    void constructor_fail() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(0, 8, 2, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(1000, 1, 2, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(1000, 8, 0, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
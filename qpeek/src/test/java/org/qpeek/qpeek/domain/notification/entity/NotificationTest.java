@@ -6,12 +6,15 @@ import org.mockito.Mockito;
 import org.qpeek.qpeek.domain.member.entity.Member;
 import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
 import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+import org.qpeek.qpeek.domain.notification.service.DeliveryBackoff;
 import org.qpeek.qpeek.domain.task.entity.Task;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.SplittableRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -279,6 +282,7 @@ class NotificationTest {
 
         //then
         assertThat(notification.getScheduledAt()).isEqualTo(newTime);
+        assertThat(notification.getNextAttemptAt()).isEqualTo(newTime);
         assertThat(notification.getSentAt()).isNull();
     }
 
@@ -323,4 +327,95 @@ class NotificationTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("scheduledAt is null");
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------------
+    // recordFailure(error, now, backoff)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("recordFailure() success test : reschedule within backoff")
+    void recordFailure_success_reschedule() {
+        //given
+        Notification notification = Notification.schedule(NotificationType.DUE, NotificationChannelType.EMAIL, scheduledAt, memberWithId(1L));
+        DeliveryBackoff backoff = DeliveryBackoff.of(3, Duration.ofSeconds(30), Duration.ofHours(1), new SplittableRandom(7));
+
+        //when
+        boolean retrying = notification.recordFailure("503 Service Unavailable", afterScheduled, backoff);
+
+        //then
+        assertThat(retrying).isTrue();
+        assertThat(notification.getAttemptCount()).isEqualTo(1);
+        assertThat(notification.getLastError()).isEqualTo("503 Service Unavailable");
+        assertThat(notification.getScheduledAt()).isEqualTo(scheduledAt); // 계획 슬롯 유지
+        assertThat(notification.getNextAttemptAt()).isBetween(afterScheduled, afterScheduled.plusSeconds(30));
+        assertThat(notification.canSend(afterScheduled.plusSeconds(30))).isTrue();
+        assertThat(notification.isDeadLettered()).isFalse();
+    }
+
+    @Test
+    @DisplayName("canSend() fail test : waiting for the retry after a failure")
+    void canSend_fail_backoff() {
+        //given
+        Notification notification = Notification.schedule(NotificationType.DUE, NotificationChannelType.EMAIL, scheduledAt, memberWithId(1L));
+        DeliveryBackoff backoff = DeliveryBackoff.of(3, Duration.ofMinutes(10), Duration.ofHours(1), new SplittableRandom(7));
+
+        //when
+        notification.recordFailure("timeout", afterScheduled, backoff);
+
+        //then
+        assertThat(notification.getNextAttemptAt()).isAfter(afterScheduled);
+        assertThat(notification.canSend(afterScheduled)).isFalse();
+    }
+
+    @Test
+    @DisplayName("recordFailure() success test : dead-lettered at maxAttempts")
+    void recordFailure_success_dead_letter() {
+        //given
+        Notification notification = Notification.schedule(NotificationType.DUE, NotificationChannelType.EMAIL, scheduledAt, memberWithId(1L));
+        DeliveryBackoff backoff = DeliveryBackoff.of(2, Duration.ofSeconds(30), Duration.ofHours(1), new SplittableRandom(7));
+        notification.recordFailure("timeout", afterScheduled, backoff);
+        OffsetDateTime now = afterScheduled.plusMinutes(1);
+
+        //when
+        boolean retrying = notification.recordFailure("x".repeat(600), now, backoff);
+
+        //then
+        assertThat(retrying).isFalse();
+        assertThat(notification.getAttemptCount()).isEqualTo(2);
+        assertThat(notification.getLastError()).hasSize(Notification.LAST_ERROR_MAX_LENGTH);
+        assertThat(notification.getDeadLetteredAt()).isEqualTo(now);
+        assertThat(notification.getNextAttemptAt()).isNull();
+        assertThat(notification.canSend(now.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("recordFailure() fail test : already dead-lettered")
+    void recordFailure_fail_already_dead_lettered() {
+        //given
+        Notification notification = Notification.schedule(NotificationType.DUE, NotificationChannelType.EMAIL, scheduledAt, memberWithId(1L));
+        DeliveryBackoff backoff = DeliveryBackoff.of(1, Duration.ofSeconds(30), Duration.ofHours(1), new SplittableRandom(7));
+        notification.recordFailure("timeout", afterScheduled, backoff);
+
+        //when & then
+        assertThatThrownBy(() -> notification.recordFailure("timeout", afterScheduled, backoff))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("already dead-lettered");
+        assertThatThrownBy(() -> notification.reschedule(afterScheduled.plusHours(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("already dead-lettered");
+    }
+
+    @Test
+    @DisplayName("recordFailure() fail test : already sent")
+    void recordFailure_fail_already_sent() {
+        //given
+        Notification notification = Notification.schedule(NotificationType.DUE, NotificationChannelType.EMAIL, scheduledAt, memberWithId(1L));
+        notification.markSent(Clock.fixed(afterScheduled.toInstant(), ZoneOffset.UTC));
+        DeliveryBackoff backoff = DeliveryBackoff.of(3, Duration.ofSeconds(30), Duration.ofHours(1), new SplittableRandom(7));
+
+        //when & then
+        assertThatThrownBy(() -> notification.recordFailure("timeout", afterScheduled, backoff))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("already sent");
+    }
+}
@@ -0,0 +1,119 @@
+package org.qpeek.qpeek.domain.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DeliveryBackoffTest {
+
+    private static final Duration BASE = Duration.ofSeconds(30);
+    private static final Duration MAX = Duration.ofMinutes(10);
+
+    // ------------------------------------------------------------------
+    // delayAfter()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("delayAfter() success test : ceiling doubles per attempt")
+    void delayAfter_success_exponential_ceiling() {
+        //given
+        DeliveryBackoff backoff = DeliveryBackoff.of(8, BASE, MAX, maxRandom());
+
+        //when & then
+        assertThat(backoff.delayAfter(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(backoff.delayAfter(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(backoff.delayAfter(3)).isEqualTo(Duration.ofSeconds(120));
+    }
+
+    @Test
+    @DisplayName("delayAfter() success test : ceiling is capped by maxDelay")
+    void delayAfter_success_capped() {
+        //given
+        DeliveryBackoff backoff = DeliveryBackoff.of(100, BASE, MAX, maxRandom());
+
+        //when & then
+        assertThat(backoff.delayAfter(6)).isEqualTo(MAX);
+        assertThat(backoff.delayAfter(99)).isEqualTo(MAX);
+    }
+
+    @Test
+    @DisplayName("delayAfter() success test : full jitter stays within [0, ceiling]")
+    void delayAfter_success_full_jitter() {
+        //given
+        DeliveryBackoff backoff = DeliveryBackoff.of(8, BASE, MAX, new SplittableRandom(42));
+
+        //when & then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(backoff.delayAfter(3)).isBetween(Duration.ZERO, Duration.ofSeconds(120));
+        }
+    }
+
+    @Test
+    @DisplayName("delayAfter() fail test : attemptCount < 1")
+    void delayAfter_fail_attempt_count() {
+        //given
+        DeliveryBackoff backoff = DeliveryBackoff.of(8, BASE, MAX, maxRandom());
+
+        //when & then
+        assertThatThrownBy(() -> backoff.delayAfter(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("attemptCount must be >= 1");
+    }
+
+    // ------------------------------------------------------------------
+    // exhausted() / of()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("exhausted() success test : true from maxAttempts")
+    void exhausted_success() {
+        //given
+        DeliveryBackoff backoff = DeliveryBackoff.of(3, BASE, MAX, maxRandom());
+
+        //when & then
+        assertThat(backoff.exhausted(2)).isFalse();
+        assertThat(backoff.exhausted(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("of() fail test : invalid arguments")
+    void of_fail_invalid_arguments() {
+        assertThatThrownBy(() -> DeliveryBackoff.of(0, BASE, MAX, maxRandom()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxAttempts must be >= 1");
+        assertThatThrownBy(() -> DeliveryBackoff.of(3, Duration.ZERO, MAX, maxRandom()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("baseDelay must be positive");
+        assertThatThrownBy(() -> DeliveryBackoff.of(3, MAX, BASE, maxRandom()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxDelay must be >= baseDelay");
+        assertThatThrownBy(() -> DeliveryBackoff.of(3, BASE, MAX, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("random is null");
+    }
+
+
+    // 테스트 도우미 ---
+
+    /**
+     * 항상 구간의 최댓값을 돌려주는 난수원 (지연 상한 검증용)
+     */
+    private static RandomGenerator maxRandom() {
+        return new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public long nextLong(long bound) {
+                return bound - 1;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package org.qpeek.qpeek.domain.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReminderPlanTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-08-01T00:00:00Z");
+
+    // ------------------------------------------------------------------
+    // of()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("of() success test : all reminders in member time zone")
+    void of_success() {
+        //given
+        OffsetDateTime dueAt = OffsetDateTime.parse("2025-08-10T18:00:00+09:00");
+
+        //when
+        Map<NotificationType, OffsetDateTime> plan = ReminderPlan.of(dueAt, SEOUL, 3, true, true, NOW);
+
+        //then
+        assertThat(plan).containsOnlyKeys(NotificationType.BEFORE_DAY, NotificationType.DUE,
+                NotificationType.IMMINENT, NotificationType.OVERDUE);
+        assertThat(plan.get(NotificationType.BEFORE_DAY)).isEqualTo(OffsetDateTime.parse("2025-08-09T09:00:00+09:00"));
+        assertThat(plan.get(NotificationType.DUE)).isEqualTo(OffsetDateTime.parse("2025-08-10T09:00:00+09:00"));
+        assertThat(plan.get(NotificationType.IMMINENT)).isEqualTo(OffsetDateTime.parse("2025-08-10T15:00:00+09:00"));
+        assertThat(plan.get(NotificationType.OVERDUE)).isEqualTo(dueAt);
+    }
+
+    @Test
+    @DisplayName("of() success test : disabled, early-morning and past reminders are skipped")
+    void of_skips() {
+        //given
+        OffsetDateTime earlyDue = OffsetDateTime.parse("2025-08-10T08:00:00+09:00");
+        OffsetDateTime pastDue = NOW.minusHours(1);
+
+        //when
+        Map<NotificationType, OffsetDateTime> disabled = ReminderPlan.of(earlyDue, SEOUL, 0, false, true, NOW);
+        Map<NotificationType, OffsetDateTime> past = ReminderPlan.of(pastDue, SEOUL, 3, true, true, NOW);
+
+        //then
+        assertThat(disabled).containsOnlyKeys(NotificationType.OVERDUE); // 당일 09:00 이 마감 이후
+        assertThat(past).containsOnlyKeys(NotificationType.OVERDUE);
+    }
+
+    @Test
+    @DisplayName("of() fail test : null arguments")
+    void of_fail_null() {
+        assertThatThrownBy(() -> ReminderPlan.of(null, SEOUL, 3, true, true, NOW))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("dueAt is null");
+        assertThatThrownBy(() -> ReminderPlan.of(NOW, null, 3, true, true, NOW))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("zone is null");
+    }
+}
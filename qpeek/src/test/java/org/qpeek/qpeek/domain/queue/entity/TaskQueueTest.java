@@ -35,6 +35,8 @@ class TaskQueueTest {
         assertThat(taskQueue.getName()).isEqualTo(queueName); // name 은 trim() 하지 않고 원문 보존
         assertThat(taskQueue.getDescription()).isNull(); // desc 는 blank -> null 처리
         assertThat(taskQueue.getMaxTasks()).isEqualTo(50); // default queue size 50
+        assertThat(taskQueue.getActiveTaskCount()).isZero();
+        assertThat(taskQueue.hasCapacity()).isTrue();
         assertThat(taskQueue.getDatabase()).isEqualTo(database);
         assertThat(taskQueue.getTasks()).isNotNull();
         assertThat(taskQueue.getTasks()).isEmpty();
@@ -0,0 +1,136 @@
+package org.qpeek.qpeek.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.domain.report.value.ClosingBucket;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClosingScheduleTest {
+
+    private static final List<ZoneId> ZONES = Stream.of(
+                    "Asia/Seoul", "Asia/Tokyo", "Europe/London", "Pacific/Kiritimati", "Pacific/Honolulu",
+                    "America/New_York", "America/Toronto", "America/Puerto_Rico", "America/Havana", "Asia/Kathmandu")
+            .map(ZoneId::of)
+            .toList();
+
+    // ------------------------------------------------------------------
+    // bucketsAt()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("bucketsAt() success test : zones sharing the offset form one bucket")
+    void bucketsAt_success_same_offset() {
+        //given
+        Instant boundary = Instant.parse("2025-08-09T15:00:00Z");
+
+        //when
+        List<ClosingBucket> buckets = ClosingSchedule.bucketsAt(boundary, ZONES);
+
+        //then
+        assertThat(buckets).hasSize(1);
+        ClosingBucket bucket = buckets.getFirst();
+        assertThat(bucket.reportDate()).isEqualTo(LocalDate.of(2025, 8, 9));
+        assertThat(bucket.start()).isEqualTo(Instant.parse("2025-08-08T15:00:00Z"));
+        assertThat(bucket.end()).isEqualTo(boundary);
+        assertThat(bucket.zoneIds()).containsExactlyInAnyOrder("Asia/Seoul", "Asia/Tokyo");
+    }
+
+    @Test
+    @DisplayName("bucketsAt() success test : +14 and -10 close at the same instant for different dates")
+    void bucketsAt_success_date_line() {
+        //given
+        Instant boundary = Instant.parse("2025-08-09T10:00:00Z");
+
+        //when
+        List<ClosingBucket> buckets = ClosingSchedule.bucketsAt(boundary, ZONES);
+
+        //then
+        assertThat(buckets).extracting(ClosingBucket::reportDate)
+                .containsExactlyInAnyOrder(LocalDate.of(2025, 8, 9), LocalDate.of(2025, 8, 8));
+        assertThat(buckets).allSatisfy(bucket -> assertThat(bucket.length()).isEqualTo(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("bucketsAt() success test : DST day is split from the fixed offset with the same end")
+    void bucketsAt_success_dst_day() {
+        //given (2025-03-09 미국 동부 서머타임 시작: 23시간)
+        Instant boundary = Instant.parse("2025-03-10T04:00:00Z");
+
+        //when
+        List<ClosingBucket> buckets = ClosingSchedule.bucketsAt(boundary, ZONES);
+
+        //then
+        assertThat(buckets).hasSize(2);
+        ClosingBucket dst = buckets.stream().filter(bucket -> bucket.zoneIds().contains("America/New_York")).findFirst().orElseThrow();
+        assertThat(dst.zoneIds()).containsExactlyInAnyOrder("America/New_York", "America/Toronto", "America/Havana");
+        assertThat(dst.length()).isEqualTo(Duration.ofHours(23));
+        ClosingBucket fixed = buckets.stream().filter(bucket -> bucket.zoneIds().contains("America/Puerto_Rico")).findFirst().orElseThrow();
+        assertThat(fixed.length()).isEqualTo(Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("bucketsAt() success test : day starting after a midnight DST gap still closes")
+    void bucketsAt_success_midnight_gap() {
+        //given (쿠바는 3월 둘째 일요일 00:00 → 01:00, 그 날은 01:00 에 시작)
+        Instant boundary = Instant.parse("2025-03-10T04:00:00Z");
+
+        //when
+        List<ClosingBucket> buckets = ClosingSchedule.bucketsAt(boundary, ZONES);
+
+        //then
+        assertThat(buckets).anySatisfy(bucket -> {
+            assertThat(bucket.zoneIds()).contains("America/Havana");
+            assertThat(bucket.reportDate()).isEqualTo(LocalDate.of(2025, 3, 9));
+            assertThat(bucket.start()).isEqualTo(Instant.parse("2025-03-09T05:00:00Z"));
+        });
+    }
+
+    @Test
+    @DisplayName("bucketsAt() success test : quarter-hour offsets")
+    void bucketsAt_success_quarter_hour_offset() {
+        //given (Asia/Kathmandu +05:45)
+        Instant boundary = Instant.parse("2025-08-09T18:15:00Z");
+
+        //when
+        List<ClosingBucket> buckets = ClosingSchedule.bucketsAt(boundary, ZONES);
+
+        //then
+        assertThat(buckets).singleElement().satisfies(bucket -> assertThat(bucket.zoneIds()).containsExactly("Asia/Kathmandu"));
+    }
+
+    @Test
+    @DisplayName("bucketsAt() success test : no zone at local midnight")
+    void bucketsAt_success_empty() {
+        assertThat(ClosingSchedule.bucketsAt(Instant.parse("2025-08-09T15:30:00Z"), ZONES)).isEmpty();
+    }
+
+    // ------------------------------------------------------------------
+    // nextBoundary()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("nextBoundary() success test : strictly after the given instant")
+    void nextBoundary_success() {
+        assertThat(ClosingSchedule.nextBoundary(Instant.parse("2025-08-09T15:07:12Z"))).isEqualTo(Instant.parse("2025-08-09T15:15:00Z"));
+        assertThat(ClosingSchedule.nextBoundary(Instant.parse("2025-08-09T15:15:00Z"))).isEqualTo(Instant.parse("2025-08-09T15:30:00Z"));
+    }
+
+    @Test
+    @DisplayName("bucketsAt() fail test : null arguments")
+    void bucketsAt_fail_null_arguments() {
+        assertThatThrownBy(() -> ClosingSchedule.bucketsAt(null, ZONES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boundary is null");
+        assertThatThrownBy(() -> ClosingSchedule.bucketsAt(Instant.EPOCH, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("zones is null");
+    }
+}
@@ -0,0 +1,67 @@
+package org.qpeek.qpeek.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.domain.report.value.CompletionStreak;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompletionStreaksTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 8, 9);
+
+    // ------------------------------------------------------------------
+    // of()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("of() success test : current streak ends today, longest found earlier")
+    void of_success_current_and_longest() {
+        //given
+        List<LocalDate> dates = List.of(
+                TODAY.minusDays(10), TODAY.minusDays(9), TODAY.minusDays(8), TODAY.minusDays(7),
+                TODAY.minusDays(1), TODAY);
+
+        //when
+        CompletionStreak streak = CompletionStreaks.of(dates, TODAY);
+
+        //then
+        assertThat(streak).isEqualTo(new CompletionStreak(2, 4));
+    }
+
+    @Test
+    @DisplayName("of() success test : no completion yet today keeps yesterday's streak")
+    void of_success_today_not_done_yet() {
+        assertThat(CompletionStreaks.of(List.of(TODAY.minusDays(2), TODAY.minusDays(1)), TODAY))
+                .isEqualTo(new CompletionStreak(2, 2));
+    }
+
+    @Test
+    @DisplayName("of() success test : a missed day breaks the current streak")
+    void of_success_broken() {
+        assertThat(CompletionStreaks.of(List.of(TODAY.minusDays(3), TODAY.minusDays(2)), TODAY))
+                .isEqualTo(new CompletionStreak(0, 2));
+    }
+
+    @Test
+    @DisplayName("of() success test : duplicates, unordered input and future dates")
+    void of_success_unordered_input() {
+        assertThat(CompletionStreaks.of(List.of(TODAY, TODAY.plusDays(1), TODAY.minusDays(1), TODAY), TODAY))
+                .isEqualTo(new CompletionStreak(2, 2));
+        assertThat(CompletionStreaks.of(List.of(), TODAY)).isEqualTo(CompletionStreak.none());
+    }
+
+    @Test
+    @DisplayName("of() fail test : null arguments")
+    void of_fail_null_arguments() {
+        assertThatThrownBy(() -> CompletionStreaks.of(null, TODAY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("activeDates is null");
+        assertThatThrownBy(() -> CompletionStreaks.of(List.of(), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("today is null");
+    }
+}
@@ -0,0 +1,113 @@
+package org.qpeek.qpeek.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.domain.report.value.CounterDelta;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskDueChanged;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DailyCounterDeltasTest {
+
+    private static final OffsetDateTime DUE = OffsetDateTime.parse("2025-08-10T18:00:00+09:00");
+    private static final OffsetDateTime DONE = OffsetDateTime.parse("2025-08-09T21:00:00+09:00");
+
+    // ------------------------------------------------------------------
+    // of(TaskStatusChanged)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("of() success test : markCompleted counts completion and closes the due slot")
+    void of_success_completed() {
+        //given
+        TaskStatusChanged event = new TaskStatusChanged(1L, 10L, TaskStatus.ACTIVE, TaskStatus.COMPLETED, DUE, DONE, null);
+
+        //when & then
+        assertThat(DailyCounterDeltas.of(event))
+                .containsExactlyInAnyOrder(CounterDelta.completed(1L, DONE, 1), CounterDelta.dueOpen(1L, DUE, -1));
+    }
+
+    @Test
+    @DisplayName("of() success test : reopen cancels the previous completion and reopens the due slot")
+    void of_success_reopen() {
+        //given
+        TaskStatusChanged event = new TaskStatusChanged(1L, 10L, TaskStatus.COMPLETED, TaskStatus.ACTIVE, DUE, null, DONE);
+
+        //when & then
+        assertThat(DailyCounterDeltas.of(event))
+                .containsExactlyInAnyOrder(CounterDelta.completed(1L, DONE, -1), CounterDelta.dueOpen(1L, DUE, 1));
+    }
+
+    @Test
+    @DisplayName("of() success test : softDelete of an open task closes the due slot only")
+    void of_success_soft_delete_open() {
+        //given
+        TaskStatusChanged event = new TaskStatusChanged(1L, 10L, TaskStatus.OVERDUE, TaskStatus.TRASHED, DUE, null, null);
+
+        //when & then
+        assertThat(DailyCounterDeltas.of(event)).containsExactly(CounterDelta.dueOpen(1L, DUE, -1));
+    }
+
+    @Test
+    @DisplayName("of() success test : softDelete of a completed task keeps the completion")
+    void of_success_soft_delete_completed() {
+        //given
+        TaskStatusChanged event = new TaskStatusChanged(1L, 10L, TaskStatus.COMPLETED, TaskStatus.TRASHED, DUE, DONE, DONE);
+
+        //when & then
+        assertThat(DailyCounterDeltas.of(event)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of() success test : ACTIVE -> OVERDUE changes nothing")
+    void of_success_open_to_open() {
+        //given
+        TaskStatusChanged event = new TaskStatusChanged(1L, 10L, TaskStatus.ACTIVE, TaskStatus.OVERDUE, DUE, null, null);
+
+        //when & then
+        assertThat(DailyCounterDeltas.of(event)).isEmpty();
+    }
+
+    // ------------------------------------------------------------------
+    // of(TaskDueChanged)
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("of() success test : due moved on an open task")
+    void of_success_due_moved() {
+        //given
+        OffsetDateTime next = DUE.plusDays(2);
+        TaskDueChanged event = new TaskDueChanged(1L, 10L, TaskStatus.ACTIVE, DUE, next);
+
+        //when & then
+        assertThat(DailyCounterDeltas.of(event))
+                .containsExactly(CounterDelta.dueOpen(1L, DUE, -1), CounterDelta.dueOpen(1L, next, 1));
+    }
+
+    @Test
+    @DisplayName("of() success test : due set / cleared on an open task")
+    void of_success_due_set_and_cleared() {
+        assertThat(DailyCounterDeltas.of(new TaskDueChanged(1L, 10L, TaskStatus.ACTIVE, null, DUE)))
+                .containsExactly(CounterDelta.dueOpen(1L, DUE, 1));
+        assertThat(DailyCounterDeltas.of(new TaskDueChanged(1L, 10L, TaskStatus.ACTIVE, DUE, null)))
+                .containsExactly(CounterDelta.dueOpen(1L, DUE, -1));
+    }
+
+    @Test
+    @DisplayName("of() success test : due changes on a closed task are ignored")
+    void of_success_due_closed_task() {
+        assertThat(DailyCounterDeltas.of(new TaskDueChanged(1L, 10L, TaskStatus.COMPLETED, DUE, DUE.plusDays(1)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of() fail test : event is null")
+    void of_fail_null() {
+        assertThatThrownBy(() -> DailyCounterDeltas.of((TaskStatusChanged) null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("event is null");
+    }
+}
@@ -6,6 +6,8 @@ import org.mockito.Mockito;
 import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
 import org.qpeek.qpeek.domain.task.enums.DueStatus;
 import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.qpeek.qpeek.domain.task.service.PriorityRank;
 
 import java.time.*;
 
@@ -313,6 +315,65 @@ class TaskTest {
     }
 
 
+    @Test
+    @DisplayName("domainEvents() success test : status transitions register TaskStatusChanged")
+    void domainEvents_status_changed() {
+        //given
+        Task task = Task.create("Task Title", taskQueueWithId(1L));
+        task.setDue(OffsetDateTime.now(BASE_CLOCK).plusDays(1));
+        task.clearDomainEvents(); // 마감 변경 이벤트는 domainEvents_due_changed 에서 검증
+
+        //when
+        task.markCompleted(BASE_CLOCK);
+        task.markCompleted(BASE_CLOCK); // 같은 상태 재전이는 이벤트 없음
+        task.reopen();
+        task.softDelete(BASE_CLOCK);
+
+        //then
+        assertThat(task.domainEvents())
+                .extracting("from", "to", "queueId")
+                .containsExactly(
+                        tuple(TaskStatus.ACTIVE, TaskStatus.COMPLETED, 1L),
+                        tuple(TaskStatus.COMPLETED, TaskStatus.ACTIVE, 1L),
+                        tuple(TaskStatus.ACTIVE, TaskStatus.TRASHED, 1L));
+
+        TaskStatusChanged reopened = (TaskStatusChanged) task.domainEvents().toArray()[1];
+        assertThat(reopened.opened()).isTrue();
+        assertThat(reopened.previousCompletedAt()).isEqualTo(OffsetDateTime.now(BASE_CLOCK));
+        assertThat(reopened.dueAt()).isEqualTo(task.getDueAt());
+
+        //when
+        task.clearDomainEvents();
+
+        //then
+        assertThat(task.domainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("domainEvents() success test : due changes register TaskDueChanged")
+    void domainEvents_due_changed() {
+        //given
+        Task task = Task.create("Task Title", taskQueueWithId(1L));
+        OffsetDateTime due = OffsetDateTime.now(BASE_CLOCK).plusDays(1);
+
+        //when
+        task.setDue(due);
+        task.setDue(due); // 같은 값은 이벤트 없음
+        task.deferTo(due.plusHours(2));
+        task.deferDays(1, BASE_CLOCK);
+        task.setDue(null);
+
+        //then
+        assertThat(task.domainEvents())
+                .extracting("previousDueAt", "dueAt", "status", "queueId")
+                .containsExactly(
+                        tuple(null, due, TaskStatus.ACTIVE, 1L),
+                        tuple(due, due.plusHours(2), TaskStatus.ACTIVE, 1L),
+                        tuple(due.plusHours(2), due.plusDays(1).plusHours(2), TaskStatus.ACTIVE, 1L),
+                        tuple(due.plusDays(1).plusHours(2), null, TaskStatus.ACTIVE, 1L));
+    }
+
+
     // ------------------------------------------------------------------
     // moveTask()
     // ------------------------------------------------------------------
@@ -363,8 +424,52 @@ class TaskTest {
     }
 
 
+    @Test
+    @DisplayName("moveBetween() success test : midpoint of neighbours")
+    void moveBetween_success() {
+        //given
+        TaskQueue queue = taskQueueWithId(1L);
+        Task task = Task.create("Task Title", queue);
+
+        //when & then
+        assertThat(task.moveBetween(queue, 100L, 200L)).isTrue();
+        assertThat(task.getPriorityIndex()).isEqualTo(150L);
+
+        assertThat(task.moveBetween(queue, null, null)).isTrue(); // 빈 큐
+        assertThat(task.getPriorityIndex()).isEqualTo(PriorityRank.GAP);
+    }
+
+    @Test
+    @DisplayName("moveBetween() fail test : gap exhausted keeps previous index")
+    void moveBetween_gap_exhausted() {
+        //given
+        TaskQueue queue = taskQueueWithId(1L);
+        Task task = Task.create("Task Title", queue);
+        task.moveTask(queue, 7L);
+
+        //when
+        boolean moved = task.moveBetween(queue, 100L, 101L);
+
+        //then
+        assertThat(moved).isFalse();
+        assertThat(task.getPriorityIndex()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("moveBetween() fail test : cross-queue move")
+    void moveBetween_fail_cross_queue() {
+        //given
+        Task task = Task.create("Task Title", taskQueueWithId(1L));
+
+        //then
+        assertThatThrownBy(() -> task.moveBetween(taskQueueWithId(2L), 1L, 3L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("policy: cross-queue move limited");
+    }
+
+
     // ------------------------------------------------------------------
-    // softDelete() , canHardDelete()
+    // softDelete() , restore() , canHardDelete()
     // ------------------------------------------------------------------
 
     @Test
@@ -381,6 +486,58 @@ class TaskTest {
         assertThat(task.getTrashedAt()).isEqualTo(OffsetDateTime.now(BASE_CLOCK));
     }
 
+    @Test
+    @DisplayName("restore() success test : open task returns to ACTIVE, past due to OVERDUE")
+    void restore_success_open() {
+        //given
+        Task active = Task.create("Task Title", taskQueueWithId(1L));
+        active.setDue(OffsetDateTime.now(BASE_CLOCK).plusDays(1));
+        active.softDelete(BASE_CLOCK);
+        Task overdue = Task.create("Task Title", taskQueueWithId(1L));
+        overdue.setDue(OffsetDateTime.now(BASE_CLOCK).minusHours(1));
+        overdue.softDelete(BASE_CLOCK);
+        overdue.clearDomainEvents();
+
+        //when
+        active.restore(BASE_CLOCK);
+        overdue.restore(BASE_CLOCK);
+
+        //then
+        assertThat(active.getStatus()).isEqualTo(TaskStatus.ACTIVE);
+        assertThat(active.getTrashedAt()).isNull();
+        assertThat(overdue.getStatus()).isEqualTo(TaskStatus.OVERDUE);
+        assertThat(overdue.domainEvents()).singleElement()
+                .satisfies(event -> assertThat(((TaskStatusChanged) event).opened()).isTrue());
+    }
+
+    @Test
+    @DisplayName("restore() success test : completed task stays completed")
+    void restore_success_completed() {
+        //given
+        Task task = Task.create("Task Title", taskQueueWithId(1L));
+        task.markCompleted(BASE_CLOCK);
+        task.softDelete(BASE_CLOCK);
+
+        //when
+        task.restore(BASE_CLOCK);
+
+        //then
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(task.getCompletedAt()).isEqualTo(OffsetDateTime.now(BASE_CLOCK));
+    }
+
+    @Test
+    @DisplayName("restore() fail test : task is not trashed")
+    void restore_fail_not_trashed() {
+        //given
+        Task task = Task.create("Task Title", taskQueueWithId(1L));
+
+        //when & then
+        assertThatThrownBy(() -> task.restore(BASE_CLOCK))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("task is not trashed");
+    }
+
     @Test
     @DisplayName("canHardDelete(clock) success test")
     void canHardDelete_withoutRetention_success() {
@@ -0,0 +1,105 @@
+package org.qpeek.qpeek.domain.task.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PriorityRankTest {
+
+    // ------------------------------------------------------------------
+    // between()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("between() success test : empty queue, head, tail, middle")
+    void between_success() {
+        // 빈 큐 → GAP
+        assertThat(PriorityRank.between(null, null)).hasValue(PriorityRank.GAP);
+
+        // 맨 앞 / 맨 뒤 → GAP 만큼 떨어진 키
+        assertThat(PriorityRank.between(null, 100L)).hasValue(100L - PriorityRank.GAP);
+        assertThat(PriorityRank.between(100L, null)).hasValue(100L + PriorityRank.GAP);
+
+        // 중간값
+        assertThat(PriorityRank.between(10L, 20L)).hasValue(15L);
+        assertThat(PriorityRank.between(-11L, -1L)).hasValue(-6L);
+    }
+
+    @Test
+    @DisplayName("between() success test : gap exhausted → empty")
+    void between_gap_exhausted() {
+        assertThat(PriorityRank.between(10L, 11L)).isEmpty();
+        assertThat(PriorityRank.between(10L, 12L)).hasValue(11L);
+    }
+
+    @Test
+    @DisplayName("between() success test : no overflow at long boundaries")
+    void between_no_overflow() {
+        OptionalLong wide = PriorityRank.between(Long.MIN_VALUE + 1, Long.MAX_VALUE - 1);
+        assertThat(wide).isPresent();
+        assertThat(wide.getAsLong()).isBetween(Long.MIN_VALUE + 2, Long.MAX_VALUE - 2);
+
+        assertThat(PriorityRank.after(Long.MAX_VALUE - 1)).isEmpty();
+        assertThat(PriorityRank.after(Long.MAX_VALUE - 10)).isPresent();
+        assertThat(PriorityRank.before(Long.MIN_VALUE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("between() fail test : prev >= next")
+    void between_fail_order() {
+        assertThatThrownBy(() -> PriorityRank.between(20L, 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("prev must be < next");
+
+        assertThatThrownBy(() -> PriorityRank.between(10L, 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("prev must be < next");
+    }
+
+    @Test
+    @DisplayName("between() success test : repeated bisection exhausts after ~log2(GAP) moves")
+    void between_repeated_bisection() {
+        long prev = PriorityRank.spread(0);
+        long next = PriorityRank.spread(1);
+        int moves = 0;
+
+        OptionalLong key;
+        while ((key = PriorityRank.between(prev, next)).isPresent()) {
+            next = key.getAsLong(); // 항상 prev 바로 뒤에 삽입
+            moves++;
+        }
+
+        assertThat(moves).isEqualTo(16); // GAP = 2^16
+    }
+
+
+    // ------------------------------------------------------------------
+    // spread() / needsRebalance()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("spread() success test")
+    void spread_success() {
+        assertThat(PriorityRank.spread(0)).isEqualTo(PriorityRank.GAP);
+        assertThat(PriorityRank.spread(2)).isEqualTo(3 * PriorityRank.GAP);
+
+        assertThatThrownBy(() -> PriorityRank.spread(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("position must be >= 0");
+    }
+
+    @Test
+    @DisplayName("needsRebalance() success test")
+    void needsRebalance_success() {
+        long threshold = PriorityRank.REBALANCE_THRESHOLD;
+
+        assertThat(PriorityRank.needsRebalance(null, 100L, null)).isFalse();
+        assertThat(PriorityRank.needsRebalance(0L, threshold, 2 * threshold)).isFalse(); // 경계값은 여유 있음
+        assertThat(PriorityRank.needsRebalance(0L, threshold - 1, null)).isTrue();
+        assertThat(PriorityRank.needsRebalance(null, 100L, 100L + threshold - 1)).isTrue();
+        assertThat(PriorityRank.needsRebalance(Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE)).isTrue(); // unsigned 비교
+    }
+}
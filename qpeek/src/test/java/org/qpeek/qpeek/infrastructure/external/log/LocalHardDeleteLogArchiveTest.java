@@ -0,0 +1,198 @@
+package org.qpeek.qpeek.infrastructure.external.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qpeek.qpeek.application.log.dto.ArchivedHardDeleteLog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalHardDeleteLogArchiveTest {
+
+    private static final OffsetDateTime AUGUST = OffsetDateTime.parse("2025-08-01T00:00:00Z");
+
+    @TempDir
+    Path root;
+
+    // ------------------------------------------------------------------
+    // append()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("append() success test : rows round-trip through a compressed segment in hard_deleted_at order")
+    void append_success_round_trip() throws IOException {
+        //given
+        LocalHardDeleteLogArchive archive = archiveOf(3);
+        List<ArchivedHardDeleteLog> rows = List.of(
+                row(12L, 102L, AUGUST.plusHours(5)),
+                row(10L, 100L, AUGUST.plusHours(1)),
+                row(11L, 101L, AUGUST.plusHours(1)),
+                row(13L, 103L, AUGUST.plusDays(30).plusNanos(123_000)));
+
+        //when
+        archive.append(YearMonth.of(2025, 8), rows);
+
+        //then
+        assertThat(root.resolve("task-hard-delete-logs/2025-08/segment-10-13.qhdl")).exists();
+        assertThat(filesIn(root)).hasSize(1); // 임시 파일 없음
+        try (Stream<ArchivedHardDeleteLog> found = archive.findBetween(AUGUST, AUGUST.plusMonths(1))) {
+            assertThat(found.toList()).containsExactly(rows.get(1), rows.get(2), rows.get(0), rows.get(3));
+        }
+    }
+
+    @Test
+    @DisplayName("append() success test : the same id range overwrites the segment (retry is idempotent)")
+    void append_success_overwrite() {
+        //given
+        LocalHardDeleteLogArchive archive = archiveOf(4096);
+        List<ArchivedHardDeleteLog> rows = List.of(row(1L, 100L, AUGUST), row(2L, 101L, AUGUST.plusDays(1)));
+
+        //when
+        archive.append(YearMonth.of(2025, 8), rows);
+        archive.append(YearMonth.of(2025, 8), rows);
+
+        //then
+        try (Stream<ArchivedHardDeleteLog> found = archive.findBetween(AUGUST, AUGUST.plusMonths(1))) {
+            assertThat(found.toList()).containsExactlyElementsOf(rows);
+        }
+    }
+
+    @Test
+    @DisplayName("append() fail test : row outside of the month partition")
+    void append_fail_outside_month() {
+        //given
+        LocalHardDeleteLogArchive archive = archiveOf(4096);
+
+        //when & then
+        assertThatThrownBy(() -> archive.append(YearMonth.of(2025, 8), List.of(row(1L, 100L, AUGUST.minusNanos(1_000)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("row outside of partition 2025-08: 1");
+        assertThat(root.resolve("task-hard-delete-logs")).doesNotExist();
+    }
+
+    // ------------------------------------------------------------------
+    // findByTaskId()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("findByTaskId() success test : finds rows across months and blocks")
+    void findByTaskId_success() {
+        //given
+        LocalHardDeleteLogArchive archive = archiveOf(10);
+        List<ArchivedHardDeleteLog> august = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            august.add(row(1_000 + i, 5_000 + i, AUGUST.plusMinutes(i)));
+        }
+        august.add(row(2_000L, 42L, AUGUST.plusDays(3)));
+        archive.append(YearMonth.of(2025, 8), august);
+        archive.append(YearMonth.of(2025, 9), List.of(row(3_000L, 42L, AUGUST.plusMonths(1)), row(3_001L, 43L, AUGUST.plusMonths(1))));
+
+        //when
+        List<Long> logIds;
+        try (Stream<ArchivedHardDeleteLog> found = archive.findByTaskId(42L)) {
+            logIds = found.map(ArchivedHardDeleteLog::logId).toList();
+        }
+
+        //then
+        assertThat(logIds).containsExactly(2_000L, 3_000L);
+    }
+
+    @Test
+    @DisplayName("findByTaskId() success test : empty archive")
+    void findByTaskId_success_empty() {
+        try (Stream<ArchivedHardDeleteLog> found = archiveOf(4096).findByTaskId(42L)) {
+            assertThat(found).isEmpty();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // findBetween()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("findBetween() success test : half-open range across a month boundary")
+    void findBetween_success_half_open() {
+        //given
+        LocalHardDeleteLogArchive archive = archiveOf(2);
+        OffsetDateTime september = AUGUST.plusMonths(1);
+        archive.append(YearMonth.of(2025, 8), List.of(row(1L, 100L, AUGUST), row(2L, 101L, september.minusNanos(1_000))));
+        archive.append(YearMonth.of(2025, 9), List.of(row(3L, 102L, september), row(4L, 103L, september.plusHours(1))));
+
+        //when
+        List<Long> logIds;
+        try (Stream<ArchivedHardDeleteLog> found = archive.findBetween(AUGUST.plusSeconds(1), september.plusHours(1))) {
+            logIds = found.map(ArchivedHardDeleteLog::logId).toList();
+        }
+
+        //then
+        assertThat(logIds).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("findBetween() success test : rows re-archived under another id range are returned once")
+    void findBetween_success_overlapping_segments() {
+        //given (원본 삭제 전 중단 → 더 넓은 묶음으로 다시 보관)
+        LocalHardDeleteLogArchive archive = archiveOf(2);
+        archive.append(YearMonth.of(2025, 8), List.of(row(1L, 42L, AUGUST), row(2L, 42L, AUGUST.plusHours(1)), row(3L, 43L, AUGUST.plusHours(2))));
+        archive.append(YearMonth.of(2025, 8), List.of(row(2L, 42L, AUGUST.plusHours(1)), row(3L, 43L, AUGUST.plusHours(2)), row(4L, 42L, AUGUST.plusHours(3))));
+        archive.append(YearMonth.of(2025, 8), List.of(row(10L, 42L, AUGUST.plusHours(4))));
+
+        //when
+        List<Long> between;
+        try (Stream<ArchivedHardDeleteLog> found = archive.findBetween(AUGUST, AUGUST.plusMonths(1))) {
+            between = found.map(ArchivedHardDeleteLog::logId).toList();
+        }
+        List<Long> byTask;
+        try (Stream<ArchivedHardDeleteLog> found = archive.findByTaskId(42L)) {
+            byTask = found.map(ArchivedHardDeleteLog::logId).toList();
+        }
+
+        //then
+        assertThat(between).containsExactly(1L, 2L, 3L, 4L, 10L);
+        assertThat(byTask).containsExactly(1L, 2L, 4L, 10L);
+    }
+
+    @Test
+    @DisplayName("findBetween() fail test : corrupted segment")
+    void findBetween_fail_corrupted() throws IOException {
+        //given
+        LocalHardDeleteLogArchive archive = archiveOf(4096);
+        Path month = Files.createDirectories(root.resolve("task-hard-delete-logs/2025-08"));
+        Files.write(month.resolve("segment-1-1.qhdl"), new byte[]{1, 2, 3, 4});
+
+        //when & then
+        assertThatThrownBy(() -> {
+            try (Stream<ArchivedHardDeleteLog> found = archive.findBetween(AUGUST, AUGUST.plusMonths(1))) {
+                found.toList();
+            }
+        }).isInstanceOf(UncheckedIOException.class);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private LocalHardDeleteLogArchive archiveOf(int blockRows) {
+        return new LocalHardDeleteLogArchive(new HardDeleteLogArchiveStorageProperties(root, blockRows));
+    }
+
+    private static ArchivedHardDeleteLog row(Long logId, Long taskId, OffsetDateTime hardDeletedAt) {
+        return new ArchivedHardDeleteLog(logId, taskId, hardDeletedAt.minusDays(30), hardDeletedAt);
+    }
+
+    private static List<Path> filesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
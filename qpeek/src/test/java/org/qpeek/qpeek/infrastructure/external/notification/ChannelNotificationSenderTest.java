@@ -0,0 +1,164 @@
+package org.qpeek.qpeek.infrastructure.external.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.application.notification.dto.DeliveryResult;
+import org.qpeek.qpeek.application.notification.dto.NotificationDigest;
+import org.qpeek.qpeek.application.notification.dto.PendingNotification;
+import org.qpeek.qpeek.domain.notification.enums.NotificationChannelType;
+import org.qpeek.qpeek.domain.notification.enums.NotificationType;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChannelNotificationSenderTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger(); // /fast(WEBPUSH) 동시 처리 수
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger fastCalls = new AtomicInteger();
+
+    private HttpServer server;
+    private ChannelNotificationSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/fast", exchange -> {
+            fastCalls.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                respond(exchange, 50, 200);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.createContext("/slow", exchange -> respond(exchange, 3_000, 200));
+        server.createContext("/error", exchange -> respond(exchange, 0, 500));
+        server.start();
+
+        HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        NotificationChannelProperties properties = new NotificationChannelProperties(
+                new NotificationChannelProperties.Limits(64, Duration.ofSeconds(5)),
+                Map.of(NotificationChannelType.WEBPUSH, new NotificationChannelProperties.Limits(2, Duration.ofSeconds(5)),
+                        NotificationChannelType.SLACK, new NotificationChannelProperties.Limits(4, Duration.ofMillis(300))),
+                URI.create("http://127.0.0.1/unused"),
+                null);
+        sender = new ChannelNotificationSender(
+                List.of(new WebPushChannelClient(httpClient, objectMapper), new SlackChannelClient(httpClient, objectMapper)),
+                properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+        server.stop(0);
+    }
+
+    // ------------------------------------------------------------------
+    // sendAll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("sendAll() success test : per-channel in-flight limit and isolated timeouts")
+    void sendAll_bounded_and_isolated() {
+        //given
+        List<NotificationDigest> batch = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) batch.add(digest(id, NotificationChannelType.WEBPUSH, "/fast"));
+        for (long id = 11; id <= 13; id++) batch.add(digest(id, NotificationChannelType.SLACK, "/slow"));
+
+        //when
+        long startedAt = System.nanoTime();
+        List<DeliveryResult> results = sender.sendAll(batch);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        //then
+        assertThat(results).hasSize(13);
+        assertThat(results.subList(0, 10)).allMatch(DeliveryResult::delivered);
+        assertThat(results.subList(10, 13)).noneMatch(DeliveryResult::delivered)
+                .extracting(DeliveryResult::error).containsOnly("timed out");
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(elapsedMillis).isLessThan(2_000); // 느린 채널이 전체를 막지 않음
+    }
+
+    @Test
+    @DisplayName("sendAll() fail test : non-2xx response and missing client")
+    void sendAll_failures() {
+        //given
+        List<NotificationDigest> batch = List.of(
+                digest(1L, NotificationChannelType.WEBPUSH, "/error"),
+                digest(2L, NotificationChannelType.KAKAO, "/fast"));
+
+        //when
+        List<DeliveryResult> results = sender.sendAll(batch);
+
+        //then
+        assertThat(results).extracting(DeliveryResult::delivered).containsExactly(false, false);
+        assertThat(results.get(0).error()).isEqualTo("WEBPUSH responded 500");
+        assertThat(results.get(1).error()).isEqualTo("no client for KAKAO");
+    }
+
+
+    @Test
+    @DisplayName("sendAll() success test : one call per digest, result per item")
+    void sendAll_digest() {
+        //given
+        String address = "http://127.0.0.1:" + server.getAddress().getPort() + "/fast";
+        NotificationDigest digest = new NotificationDigest(1L, NotificationChannelType.WEBPUSH, address, List.of(
+                pending(1L, NotificationChannelType.WEBPUSH, address),
+                pending(2L, NotificationChannelType.WEBPUSH, address),
+                pending(3L, NotificationChannelType.WEBPUSH, address)));
+
+        //when
+        List<DeliveryResult> results = sender.sendAll(List.of(digest));
+
+        //then
+        assertThat(results).extracting(DeliveryResult::notificationId).containsExactly(1L, 2L, 3L);
+        assertThat(results).allMatch(DeliveryResult::delivered);
+        assertThat(fastCalls.get()).isEqualTo(1);
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private NotificationDigest digest(Long id, NotificationChannelType channel, String path) {
+        String address = "http://127.0.0.1:" + server.getAddress().getPort() + path;
+        return new NotificationDigest(1L, channel, address, List.of(pending(id, channel, address)));
+    }
+
+    private PendingNotification pending(Long id, NotificationChannelType channel, String address) {
+        return new PendingNotification(id, 1L, 10L, NotificationType.DUE, channel,
+                OffsetDateTime.now(), 1L, address, "Task Title", OffsetDateTime.now().plusHours(1));
+    }
+
+    private void respond(HttpExchange exchange, long delayMillis, int status) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(delayMillis);
+            exchange.sendResponseHeaders(status, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
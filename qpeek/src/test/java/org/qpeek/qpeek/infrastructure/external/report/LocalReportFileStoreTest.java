@@ -0,0 +1,115 @@
+package org.qpeek.qpeek.infrastructure.external.report;
+
+import com.lowagie.text.pdf.BaseFont;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qpeek.qpeek.application.report.client.ClosingReportRenderer.ReportDocument;
+import org.qpeek.qpeek.application.report.dto.CompletionLine;
+import org.qpeek.qpeek.application.report.dto.PendingReportPdf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalReportFileStoreTest {
+
+    @TempDir
+    Path root;
+
+    // ------------------------------------------------------------------
+    // store()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("store() success test : streamed content is published under the key")
+    void store_success() throws IOException {
+        //given
+        LocalReportFileStore store = storeOf("https://files.qpeek.org/reports");
+
+        //when
+        String url = store.store("closing-reports/2025-08-09/1-10-v0.pdf", out -> out.write("hello".getBytes(StandardCharsets.UTF_8)));
+
+        //then
+        assertThat(url).isEqualTo("https://files.qpeek.org/reports/closing-reports/2025-08-09/1-10-v0.pdf");
+        assertThat(root.resolve("closing-reports/2025-08-09/1-10-v0.pdf")).hasContent("hello");
+        assertThat(filesIn(root)).hasSize(1); // 임시 파일 없음
+    }
+
+    @Test
+    @DisplayName("store() success test : renders a long report page by page into the file")
+    void store_success_rendered_pdf() throws IOException {
+        //given
+        LocalReportFileStore store = storeOf("/files/reports/");
+        OpenPdfClosingReportRenderer renderer = new OpenPdfClosingReportRenderer(latinFont()); // 페이지 단위 기록만 확인 (글리프 무관)
+        PendingReportPdf report = new PendingReportPdf(10L, 0L, 1L, LocalDate.of(2025, 8, 9), ZoneId.of("Asia/Seoul"), 5_000, 0);
+        OffsetDateTime at = OffsetDateTime.parse("2025-08-09T00:00:00+09:00");
+
+        //when
+        store.store("r.pdf", out -> {
+            try (ReportDocument document = renderer.open(report, out)) {
+                for (int i = 0; i < 5_000; i++) {
+                    document.add(new CompletionLine(at.plusSeconds(i), "inbox", "task " + i, 100));
+                }
+            }
+        });
+
+        //then
+        byte[] pdf = Files.readAllBytes(root.resolve("r.pdf"));
+        assertThat(new String(pdf, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        assertThat(new String(pdf, pdf.length - 6, 6, StandardCharsets.US_ASCII)).contains("%%EOF");
+    }
+
+    @Test
+    @DisplayName("store() fail test : failed writer publishes nothing and leaves no temp file")
+    void store_fail_writer() throws IOException {
+        //given
+        LocalReportFileStore store = storeOf("/files/reports/");
+
+        //when & then
+        assertThatThrownBy(() -> store.store("a/b.pdf", out -> {
+            out.write(1);
+            throw new IllegalStateException("render failed");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("render failed");
+        assertThat(filesIn(root)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("store() fail test : key outside the root")
+    void store_fail_key_escapes_root() {
+        //given
+        LocalReportFileStore store = storeOf("/files/reports/");
+
+        //when & then
+        assertThatThrownBy(() -> store.store("../x.pdf", out -> out.write(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("key escapes root: ../x.pdf");
+    }
+
+
+    // 테스트 도우미 ---
+
+    private LocalReportFileStore storeOf(String baseUrl) {
+        return new LocalReportFileStore(new ReportOutputProperties(root, baseUrl, null));
+    }
+
+    private static BaseFont latinFont() throws IOException {
+        return BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+    }
+
+    private static List<Path> filesIn(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.qpeek.qpeek.infrastructure.external.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OpenPdfClosingReportRendererTest {
+
+    // ------------------------------------------------------------------
+    // new OpenPdfClosingReportRenderer()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("new OpenPdfClosingReportRenderer() fail test : font path is required (built-in fonts have no Hangul glyphs)")
+    void create_fail_font_path_missing() {
+        assertThatThrownBy(() -> new OpenPdfClosingReportRenderer(new ReportOutputProperties(Path.of("./data/reports"), "/files/reports/", null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("qpeek.report.output.font-path is required for report pdf (Hangul glyphs)");
+    }
+
+    @Test
+    @DisplayName("new OpenPdfClosingReportRenderer() fail test : unreadable font path")
+    void create_fail_font_path_unreadable() {
+        assertThatThrownBy(() -> new OpenPdfClosingReportRenderer(new ReportOutputProperties(Path.of("./data/reports"), "/files/reports/", Path.of("missing-font.ttf"))))
+                .hasMessageContaining("missing-font.ttf");
+    }
+}
@@ -0,0 +1,96 @@
+package org.qpeek.qpeek.infrastructure.persistence.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GlobalIdAllocatorTest {
+
+    // ------------------------------------------------------------------
+    // allocate()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("allocate() success test : fresh sequence starts at 1 like Hibernate's pooled optimizer")
+    void allocate_success_fresh_sequence() {
+        //given (start 1, increment 50 → nextval 1, 51, 101 ...)
+        FakeSequence sequence = new FakeSequence(1);
+        GlobalIdAllocator allocator = new GlobalIdAllocator(sequence);
+
+        //when
+        long[] ids = allocator.allocate(60);
+
+        //then (첫 블록 {1}, 이어서 2..51, 52..101 에서 8개)
+        assertThat(ids).containsExactly(LongStream.rangeClosed(1, 60).toArray());
+        assertThat(sequence.issued).containsExactly(1L, 51L, 101L);
+    }
+
+    @Test
+    @DisplayName("allocate() success test : expands each block as (V-49 .. V)")
+    void allocate_success_blocks() {
+        //given
+        FakeSequence sequence = new FakeSequence(151);
+        GlobalIdAllocator allocator = new GlobalIdAllocator(sequence);
+
+        //when
+        long[] ids = allocator.allocate(51);
+
+        //then
+        assertThat(ids).containsExactly(LongStream.rangeClosed(102, 152).toArray());
+        assertThat(sequence.issued).containsExactly(151L, 201L);
+    }
+
+    @Test
+    @DisplayName("allocate() success test : zero count does not touch the sequence")
+    void allocate_success_empty() {
+        //given
+        FakeSequence sequence = new FakeSequence(1);
+
+        //when & then
+        assertThat(new GlobalIdAllocator(sequence).allocate(0)).isEmpty();
+        assertThat(sequence.issued).isEmpty();
+    }
+
+    @Test
+    @DisplayName("allocate() fail test : negative count")
+    void allocate_fail_negative() {
+        assertThatThrownBy(() -> new GlobalIdAllocator(new FakeSequence(1)).allocate(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("count must be >= 0");
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    /**
+     * INCREMENT BY 50 시퀀스 흉내: 요청한 행 수만큼 nextval 값을 돌려준다.
+     */
+    private static class FakeSequence extends JdbcTemplate {
+
+        private final List<Long> issued = new ArrayList<>();
+        private long next;
+
+        FakeSequence(long start) {
+            this.next = start;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            List<Long> values = new ArrayList<>();
+            for (int i = 0; i < (Integer) args[0]; i++) {
+                values.add(next);
+                next += GlobalIdAllocator.BLOCK_SIZE;
+            }
+            issued.addAll(values);
+            return (List<T>) values;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.qpeek.qpeek.infrastructure.persistence.common;
+
+import jakarta.persistence.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.qpeek.qpeek.common.persistence.GlobalSequenceGenerators;
+import org.qpeek.qpeek.common.persistence.TimeOrderedId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일괄 INSERT 식별자 경로 비교 (Hibernate persist + JDBC 배치):
+ * global_seq_gen(pooled, 50개마다 nextval 왕복) vs @TimeOrderedId(메모리, 노드 번호 임대)
+ * <p>
+ * 기본 비활성. 전용(비어 있는) PostgreSQL 데이터베이스에 대해 실행:
+ * {@code ./gradlew test --tests '*TimeOrderedIdBenchmarkTest' -Dqpeek.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/qpeek_bench
+ * -Dqpeek.benchmark.username=... -Dqpeek.benchmark.password=...}
+ * (선택: qpeek.benchmark.rows, qpeek.benchmark.threads). 결과는 TestReporter 항목으로 남는다.
+ */
+@EnabledIfSystemProperty(named = "qpeek.benchmark.jdbc-url", matches = ".+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=${qpeek.benchmark.jdbc-url}",
+        "spring.datasource.username=${qpeek.benchmark.username:}",
+        "spring.datasource.password=${qpeek.benchmark.password:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + TimeOrderedIdBenchmarkTest.BATCH_SIZE,
+        "qpeek.notification.dispatch.enabled=false",
+        "qpeek.task.due.enabled=false",
+        "qpeek.trash.purge.enabled=false",
+        "qpeek.database.purge.enabled=false",
+        "qpeek.report.closing.enabled=false",
+        "qpeek.report.pdf.enabled=false",
+        "qpeek.log.hard-delete-archive.enabled=false"
+})
+class TimeOrderedIdBenchmarkTest {
+
+    static final int BATCH_SIZE = 500;
+    private static final int ALLOCATION_SIZE = 50; // GlobalSequenceGenerators 와 같은 pooled 블록 크기
+
+    private final int rows = Integer.getInteger("qpeek.benchmark.rows", 200_000);
+    private final int threads = Integer.getInteger("qpeek.benchmark.threads", 4);
+
+    @PersistenceContext
+    EntityManager entityManager;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("persist() benchmark : global_sequence (pooled) vs @TimeOrderedId through Hibernate")
+    void persist_benchmark(TestReporter reporter) throws Exception {
+        //given (워밍업 후 비움)
+        persistRows(SequenceIdRow::new);
+        persistRows(TimeOrderedIdRow::new);
+        jdbcTemplate.execute("TRUNCATE id_benchmark_sequence_rows, id_benchmark_time_ordered_rows");
+        long sequenceBefore = sequenceValue();
+
+        //when
+        Duration sequence = persistRows(SequenceIdRow::new);
+        long sequenceAdvanced = sequenceValue() - sequenceBefore;
+        Duration timeOrdered = persistRows(TimeOrderedIdRow::new);
+
+        //then
+        int total = rows / threads * threads;
+        reporter.publishEntry(Map.of(
+                "rows", Integer.toString(total),
+                "threads", Integer.toString(threads),
+                "batch", Integer.toString(BATCH_SIZE),
+                "sequence", format(sequence, total),
+                "time-ordered", format(timeOrdered, total)));
+
+        // 모든 행이 서로 다른 식별자로 들어갔는지
+        assertThat(idStats("id_benchmark_sequence_rows")).containsExactly((long) total, (long) total);
+        assertThat(idStats("id_benchmark_time_ordered_rows")).containsExactly((long) total, (long) total);
+        // pooled: nextval 은 행마다가 아니라 블록(50개)마다 (스레드별 남은 블록만큼 여유)
+        assertThat(sequenceAdvanced).isBetween((long) total - ALLOCATION_SIZE, (long) total + (long) ALLOCATION_SIZE * (threads + 1));
+        // 시간 순 식별자는 global_sequence 값과 겹치지 않는 구간(2^57 이상)
+        assertThat(minId("id_benchmark_time_ordered_rows")).isGreaterThan(maxId("id_benchmark_sequence_rows"));
+        assertThat(sequence).isPositive();
+        assertThat(timeOrdered).isPositive();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    /**
+     * threads 개 스레드가 각자 rows / threads 행을 BATCH_SIZE 단위 트랜잭션으로 persist
+     */
+    private Duration persistRows(Supplier<Object> row) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier start = new CyclicBarrier(threads + 1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> persistChunks(row, rows / threads, start)));
+            }
+            start.await();
+            long startedNanos = System.nanoTime();
+            int persisted = 0;
+            for (Future<Integer> result : results) persisted += result.get();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+
+            assertThat(persisted).isEqualTo(rows / threads * threads);
+            return elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int persistChunks(Supplier<Object> row, int count, CyclicBarrier start) throws Exception {
+        start.await();
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, count - from);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < size; i++) entityManager.persist(row.get());
+            });
+        }
+        return count;
+    }
+
+    private long sequenceValue() {
+        Long value = jdbcTemplate.queryForObject("SELECT last_value FROM global_sequence", Long.class);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * [행 수, 서로 다른 식별자 수]
+     */
+    private List<Long> idStats(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*), count(DISTINCT id) FROM " + table,
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private long minId(String table) {
+        Long id = jdbcTemplate.queryForObject("SELECT min(id) FROM " + table, Long.class);
+        return id == null ? 0 : id;
+    }
+
+    private long maxId(String table) {
+        Long id = jdbcTemplate.queryForObject("SELECT max(id) FROM " + table, Long.class);
+        return id == null ? 0 : id;
+    }
+
+    private static String format(Duration elapsed, int rows) {
+        return String.format("%d ms (%,.0f rows/s)", elapsed.toMillis(), rows * 1000.0 / Math.max(1, elapsed.toMillis()));
+    }
+
+    @Entity
+    @Table(name = "id_benchmark_sequence_rows")
+    static class SequenceIdRow extends GlobalSequenceGenerators {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "global_seq_gen")
+        @Column(name = "id")
+        Long id;
+
+        @Column(name = "created_at", nullable = false, columnDefinition = "timestamptz")
+        OffsetDateTime createdAt = OffsetDateTime.now();
+    }
+
+    @Entity
+    @Table(name = "id_benchmark_time_ordered_rows")
+    static class TimeOrderedIdRow {
+
+        @Id
+        @TimeOrderedId
+        @Column(name = "id")
+        Long id;
+
+        @Column(name = "created_at", nullable = false, columnDefinition = "timestamptz")
+        OffsetDateTime createdAt = OffsetDateTime.now();
+    }
+}
@@ -0,0 +1,137 @@
+package org.qpeek.qpeek.infrastructure.persistence.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.database.repository.DatabasePurgeRepository;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.qpeek.qpeek.domain.database.entity.Database;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class DatabasePurgeRepositoryAdapterTest {
+
+    @Autowired
+    DatabasePurgeRepository databasePurgeRepository;
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+    private Long databaseId;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+        databaseId = queue.getDatabase().getId();
+    }
+
+    // ------------------------------------------------------------------
+    // purgeTasks()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("purgeTasks() success test : deletes up to limit tasks with their completion logs and trash items")
+    void purgeTasks_success_dependents() {
+        //given
+        Long completed = fixtures.task(queue);
+        Long trashed = fixtures.task(queue);
+        fixtures.task(queue);
+        taskCommandService.complete(completed);
+        taskCommandService.trash(trashed);
+        softDelete(databaseId);
+
+        //when
+        int first = databasePurgeRepository.purgeTasks(databaseId, 2);
+        int second = databasePurgeRepository.purgeTasks(databaseId, 2);
+        int third = databasePurgeRepository.purgeTasks(databaseId, 2);
+
+        //then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(count("SELECT count(*) FROM tasks WHERE queue_id = ?", queue.getId())).isZero();
+        assertThat(count("SELECT count(*) FROM completion_logs WHERE task_id = ?", completed)).isZero();
+        assertThat(count("SELECT count(*) FROM trash_items WHERE task_id = ?", trashed)).isZero();
+    }
+
+    // ------------------------------------------------------------------
+    // purgeQueues()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("purgeQueues() success test : keeps queues that still have tasks")
+    void purgeQueues_success_skips_non_empty() {
+        //given
+        fixtures.task(queue);
+        softDelete(databaseId);
+
+        //when & then
+        assertThat(databasePurgeRepository.purgeQueues(databaseId, 10)).isZero();
+        databasePurgeRepository.purgeTasks(databaseId, 10);
+        assertThat(databasePurgeRepository.purgeQueues(databaseId, 10)).isEqualTo(1);
+    }
+
+    // ------------------------------------------------------------------
+    // purgeDatabase()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("purgeDatabase() fail test : database that is not soft-deleted is kept")
+    void purgeDatabase_fail_not_deleted() {
+        //given
+        Database active = fixtures.queue(10).getDatabase();
+        jdbcTemplate.update("DELETE FROM queues WHERE database_id = ?", active.getId());
+
+        //when & then
+        assertThat(databasePurgeRepository.purgeDatabase(active.getId())).isFalse();
+        assertThat(count("SELECT count(*) FROM databases WHERE database_id = ?", active.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("purgeDatabase() fail test : database with remaining queues is kept")
+    void purgeDatabase_fail_queues_remaining() {
+        //given
+        softDelete(databaseId);
+
+        //when & then
+        assertThat(databasePurgeRepository.purgeDatabase(databaseId)).isFalse();
+        assertThat(count("SELECT count(*) FROM databases WHERE database_id = ?", databaseId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("purgeDatabase() success test : resumes after tasks and queues were purged in earlier chunks")
+    void purgeDatabase_success_resumed() {
+        //given (이전 청크들이 작업/큐를 지운 상태)
+        fixtures.task(queue);
+        softDelete(databaseId);
+        databasePurgeRepository.purgeTasks(databaseId, 10);
+        databasePurgeRepository.purgeQueues(databaseId, 10);
+
+        //when & then
+        assertThat(databasePurgeRepository.purgeDatabase(databaseId)).isTrue();
+        assertThat(count("SELECT count(*) FROM databases WHERE database_id = ?", databaseId)).isZero();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private void softDelete(Long databaseId) {
+        jdbcTemplate.update("UPDATE databases SET deleted_at = now() WHERE database_id = ?", databaseId);
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}
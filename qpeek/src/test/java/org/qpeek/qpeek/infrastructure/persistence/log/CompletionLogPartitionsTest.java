@@ -0,0 +1,76 @@
+package org.qpeek.qpeek.infrastructure.persistence.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompletionLogPartitionsTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 11);
+
+    // ------------------------------------------------------------------
+    // toCreate()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("toCreate() success test : missing months from current to premade, across the year end")
+    void toCreate_success() {
+        //given
+        Set<YearMonth> attached = Set.of(YearMonth.of(2025, 10), CURRENT, YearMonth.of(2025, 12));
+
+        //when & then
+        assertThat(CompletionLogPartitions.toCreate(CURRENT, 3, attached))
+                .containsExactly(YearMonth.of(2026, 1), YearMonth.of(2026, 2));
+    }
+
+    @Test
+    @DisplayName("toCreate() success test : nothing when all premade months exist")
+    void toCreate_success_nothing() {
+        assertThat(CompletionLogPartitions.toCreate(CURRENT, 1, Set.of(CURRENT, CURRENT.plusMonths(1)))).isEmpty();
+    }
+
+    // ------------------------------------------------------------------
+    // toDetach()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("toDetach() success test : months older than the retained window, oldest first")
+    void toDetach_success() {
+        //given
+        Set<YearMonth> attached = Set.of(YearMonth.of(2025, 7), YearMonth.of(2025, 8), YearMonth.of(2025, 9), CURRENT);
+
+        //when & then
+        assertThat(CompletionLogPartitions.toDetach(CURRENT, 2, attached))
+                .containsExactly(YearMonth.of(2025, 7), YearMonth.of(2025, 8));
+    }
+
+    @Test
+    @DisplayName("toDetach() success test : retainedMonths 0 keeps everything")
+    void toDetach_success_disabled() {
+        assertThat(CompletionLogPartitions.toDetach(CURRENT, 0, Set.of(YearMonth.of(2000, 1)))).isEmpty();
+    }
+
+    // ------------------------------------------------------------------
+    // partitionName() / monthOf() / lowerBound()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("monthOf() success test : round trip with partitionName, foreign names ignored")
+    void monthOf_success() {
+        assertThat(CompletionLogPartitions.partitionName(CURRENT)).isEqualTo("completion_logs_p202511");
+        assertThat(CompletionLogPartitions.monthOf("completion_logs_p202511")).isEqualTo(CURRENT);
+        assertThat(CompletionLogPartitions.monthOf("completion_logs_archive_202511")).isNull();
+        assertThat(CompletionLogPartitions.monthOf("completion_logs_p2025")).isNull();
+    }
+
+    @Test
+    @DisplayName("lowerBound() success test : first day of the month at UTC midnight")
+    void lowerBound_success() {
+        assertThat(CompletionLogPartitions.lowerBound(CURRENT)).isEqualTo(OffsetDateTime.parse("2025-11-01T00:00:00Z"));
+    }
+}
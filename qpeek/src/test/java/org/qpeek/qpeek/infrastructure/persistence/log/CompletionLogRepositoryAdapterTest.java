@@ -0,0 +1,94 @@
+package org.qpeek.qpeek.infrastructure.persistence.log;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class CompletionLogRepositoryAdapterTest {
+
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+        taskId = fixtures.task(queue);
+    }
+
+    // ------------------------------------------------------------------
+    // insertAll() / delete()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("insertAll() success test : stores the member's local date and adds it to the daily rollup")
+    void insertAll_success_local_date() {
+        //when
+        taskCommandService.complete(taskId);
+
+        //then
+        LocalDate expected = completedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDate();
+        assertThat(jdbcTemplate.queryForObject("SELECT local_date FROM completion_logs WHERE task_id = ?", LocalDate.class, taskId))
+                .isEqualTo(expected);
+        assertThat(dailyRollup()).containsExactly(Map.entry(expected, 1));
+    }
+
+    @Test
+    @DisplayName("delete() success test : reopen after a time zone change subtracts from the recorded date")
+    void delete_success_zone_changed() {
+        //given (UTC+14 와 UTC-11 은 25시간 차이라 같은 시각의 날짜가 항상 다르다)
+        changeTimeZone("Pacific/Kiritimati");
+        taskCommandService.complete(taskId);
+        LocalDate recorded = completedAt().atZoneSameInstant(ZoneId.of("Pacific/Kiritimati")).toLocalDate();
+        changeTimeZone("Pacific/Pago_Pago");
+
+        //when
+        taskCommandService.reopen(taskId);
+
+        //then
+        assertThat(dailyRollup()).containsExactly(Map.entry(recorded, 0));
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private void changeTimeZone(String zoneId) {
+        jdbcTemplate.update("UPDATE members SET time_zone = ? WHERE member_id = ?", zoneId, queue.getDatabase().getMember().getId());
+    }
+
+    private OffsetDateTime completedAt() {
+        return jdbcTemplate.queryForObject("SELECT completed_at FROM tasks WHERE task_id = ?", OffsetDateTime.class, taskId);
+    }
+
+    private Map<LocalDate, Integer> dailyRollup() {
+        Map<LocalDate, Integer> rollup = new TreeMap<>();
+        jdbcTemplate.query("SELECT local_date, completed_count FROM completion_rollup_daily WHERE queue_id = ?",
+                rs -> {
+                    rollup.put(rs.getObject("local_date", LocalDate.class), rs.getInt("completed_count"));
+                },
+                queue.getId());
+        return rollup;
+    }
+}
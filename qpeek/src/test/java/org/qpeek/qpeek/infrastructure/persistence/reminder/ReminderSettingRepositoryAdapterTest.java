@@ -0,0 +1,130 @@
+package org.qpeek.qpeek.infrastructure.persistence.reminder;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.reminder.dto.CacheRegionStats;
+import org.qpeek.qpeek.application.reminder.repository.ReminderSettingRepository;
+import org.qpeek.qpeek.application.reminder.service.ReminderSettingQueryService;
+import org.qpeek.qpeek.domain.member.entity.Member;
+import org.qpeek.qpeek.domain.reminder.entity.ReminderSetting;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class ReminderSettingRepositoryAdapterTest {
+
+    @Autowired
+    ReminderSettingRepository reminderSettingRepository;
+    @Autowired
+    ReminderSettingQueryService reminderSettingQueryService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = fixtures.member();
+        fixtures.reminderSetting(member);
+        entityManagerFactory.getCache().evict(ReminderSetting.class); // INSERT 시 적재된 엔트리 제거 → 첫 조회는 미스
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+    }
+
+    // ------------------------------------------------------------------
+    // findByMemberId()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("findByMemberId() success test : first lookup misses and loads, next transaction hits the region")
+    void findByMemberId_success_miss_then_hit() {
+        //when
+        ReminderSetting first = find(member.getId());
+        ReminderSetting second = find(member.getId());
+
+        //then
+        assertThat(first.getImminentHours()).isEqualTo(ReminderSetting.DEFAULT_IMMINENT_HOURS);
+        assertThat(second.getImminentHours()).isEqualTo(ReminderSetting.DEFAULT_IMMINENT_HOURS);
+        CacheRegionStats stats = reminderSettingQueryService.cacheStatistics();
+        assertThat(stats.region()).isEqualTo(ReminderSetting.CACHE_REGION);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.putCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+        assertThat(entityManagerFactory.getCache().contains(ReminderSetting.class, member.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("findByMemberId() success test : entity update is written through to the region on commit")
+    void findByMemberId_success_update_written_through() {
+        //given
+        find(member.getId());
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> reminderSettingRepository.findByMemberId(member.getId())
+                .orElseThrow()
+                .updateAll(12, 6, false, true));
+        ReminderSetting updated = find(member.getId());
+
+        //then (갱신 후 조회도 DB 가 아니라 영역에서: 미스는 최초 1회뿐)
+        assertThat(updated.getImminentHours()).isEqualTo(12);
+        assertThat(updated.getOverdueIntervalHours()).isEqualTo(6);
+        assertThat(updated.isNotifyDayBefore()).isFalse();
+        CacheRegionStats stats = reminderSettingQueryService.cacheStatistics();
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findByMemberId() success test : evicted entry is reloaded from the database")
+    void findByMemberId_success_evicted() {
+        //given
+        find(member.getId());
+
+        //when
+        entityManagerFactory.getCache().evict(ReminderSetting.class, member.getId());
+        find(member.getId());
+
+        //then
+        CacheRegionStats stats = reminderSettingQueryService.cacheStatistics();
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.putCount()).isEqualTo(2);
+        assertThat(stats.hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findByMemberId() success test : member without settings")
+    void findByMemberId_success_absent() {
+        //given
+        Member withoutSetting = fixtures.member();
+
+        //when
+        Optional<ReminderSetting> found = transactionTemplate.execute(status -> reminderSettingRepository.findByMemberId(withoutSetting.getId()));
+
+        //then
+        assertThat(found).isEmpty();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    /**
+     * 새 트랜잭션(새 영속성 컨텍스트)에서 조회 → 1차 캐시가 아닌 2차 캐시 영역/DB 를 거친다.
+     */
+    private ReminderSetting find(Long memberId) {
+        return transactionTemplate.execute(status -> reminderSettingRepository.findByMemberId(memberId).orElseThrow());
+    }
+}
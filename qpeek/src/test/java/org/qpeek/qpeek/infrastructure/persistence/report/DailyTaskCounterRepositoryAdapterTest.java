@@ -0,0 +1,119 @@
+package org.qpeek.qpeek.infrastructure.persistence.report;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.report.repository.DailyTaskCounterRepository;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.report.value.CounterDelta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class DailyTaskCounterRepositoryAdapterTest {
+
+    // Asia/Seoul 08-10 00:30 = America/New_York 08-09 11:30
+    private static final OffsetDateTime AT = OffsetDateTime.parse("2025-08-10T00:30:00+09:00");
+
+    @Autowired
+    DailyTaskCounterRepository dailyTaskCounterRepository;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+        taskId = fixtures.task(queue);
+    }
+
+    // ------------------------------------------------------------------
+    // apply()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("apply() success test : increments land on the member's local date")
+    void apply_success_local_date() {
+        //when
+        dailyTaskCounterRepository.apply(queue.getId(), List.of(CounterDelta.completed(taskId, AT, 1), CounterDelta.dueOpen(taskId, AT.plusDays(1), 1)));
+
+        //then
+        assertThat(counters()).containsExactly(
+                Map.entry(LocalDate.of(2025, 8, 10), List.of(1, 0)),
+                Map.entry(LocalDate.of(2025, 8, 11), List.of(0, 1)));
+    }
+
+    @Test
+    @DisplayName("apply() success test : decrement after a time zone change hits the date it was counted on")
+    void apply_success_zone_changed() {
+        //given
+        dailyTaskCounterRepository.apply(queue.getId(), List.of(CounterDelta.completed(taskId, AT, 1), CounterDelta.dueOpen(taskId, AT, 1)));
+        jdbcTemplate.update("UPDATE members SET time_zone = 'America/New_York' WHERE member_id = ?", queue.getDatabase().getMember().getId());
+
+        //when
+        dailyTaskCounterRepository.apply(queue.getId(), List.of(CounterDelta.completed(taskId, AT, -1), CounterDelta.dueOpen(taskId, AT, -1)));
+
+        //then (새 시간대 날짜 08-09 에 -1 이 생기지 않는다)
+        assertThat(counters()).containsExactly(Map.entry(LocalDate.of(2025, 8, 10), List.of(0, 0)));
+    }
+
+    @Test
+    @DisplayName("apply() success test : re-completion moves the count from the recorded date")
+    void apply_success_recompleted() {
+        //given
+        dailyTaskCounterRepository.apply(queue.getId(), List.of(CounterDelta.completed(taskId, AT, 1)));
+        jdbcTemplate.update("UPDATE members SET time_zone = 'America/New_York' WHERE member_id = ?", queue.getDatabase().getMember().getId());
+
+        //when
+        dailyTaskCounterRepository.apply(queue.getId(), List.of(CounterDelta.completed(taskId, AT, -1), CounterDelta.completed(taskId, AT, 1)));
+
+        //then
+        assertThat(counters()).containsExactly(
+                Map.entry(LocalDate.of(2025, 8, 9), List.of(1, 0)),
+                Map.entry(LocalDate.of(2025, 8, 10), List.of(0, 0)));
+    }
+
+    @Test
+    @DisplayName("apply() success test : queue of a deleted database is ignored")
+    void apply_success_deleted_database() {
+        //given
+        jdbcTemplate.update("UPDATE databases SET deleted_at = now() WHERE database_id = ?", queue.getDatabase().getId());
+
+        //when
+        dailyTaskCounterRepository.apply(queue.getId(), List.of(CounterDelta.completed(taskId, AT, 1)));
+
+        //then
+        assertThat(counters()).isEmpty();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    /**
+     * 날짜 → [completed_count, due_open_count]
+     */
+    private Map<LocalDate, List<Integer>> counters() {
+        Map<LocalDate, List<Integer>> counters = new TreeMap<>();
+        jdbcTemplate.query("SELECT local_date, completed_count, due_open_count FROM daily_task_counters WHERE member_id = ?",
+                rs -> {
+                    counters.put(rs.getObject("local_date", LocalDate.class), List.of(rs.getInt("completed_count"), rs.getInt("due_open_count")));
+                },
+                queue.getDatabase().getMember().getId());
+        return counters;
+    }
+}
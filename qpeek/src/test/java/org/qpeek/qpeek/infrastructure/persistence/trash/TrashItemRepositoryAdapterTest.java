@@ -0,0 +1,126 @@
+package org.qpeek.qpeek.infrastructure.persistence.trash;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qpeek.qpeek.IntegrationFixtures;
+import org.qpeek.qpeek.PostgresIntegrationTest;
+import org.qpeek.qpeek.application.task.service.TaskCommandService;
+import org.qpeek.qpeek.application.trash.repository.TrashItemRepository;
+import org.qpeek.qpeek.domain.queue.entity.TaskQueue;
+import org.qpeek.qpeek.domain.task.enums.TaskStatus;
+import org.qpeek.qpeek.domain.task.event.TaskStatusChanged;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@PostgresIntegrationTest
+class TrashItemRepositoryAdapterTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    private static final Long MISSING_TASK_ID = Long.MAX_VALUE;
+
+    @Autowired
+    TrashItemRepository trashItemRepository;
+    @Autowired
+    TaskCommandService taskCommandService;
+    @Autowired
+    IntegrationFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = fixtures.queue(10);
+    }
+
+    // ------------------------------------------------------------------
+    // trashAll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("trashAll() success test : skips missing and already trashed tasks, bumps version of the rest")
+    void trashAll_success_skipped_ids() {
+        //given
+        Long open = fixtures.task(queue);
+        Long alreadyTrashed = fixtures.task(queue);
+        taskCommandService.trash(alreadyTrashed);
+        long openVersion = version(open);
+        long trashedVersion = version(alreadyTrashed);
+
+        //when
+        List<TaskStatusChanged> changes = trashItemRepository.trashAll(List.of(open, alreadyTrashed, MISSING_TASK_ID), NOW, NOW.plusDays(30));
+
+        //then
+        assertThat(changes).extracting(TaskStatusChanged::taskId).containsExactly(open);
+        assertThat(changes.getFirst().from()).isEqualTo(TaskStatus.ACTIVE);
+        assertThat(changes.getFirst().to()).isEqualTo(TaskStatus.TRASHED);
+        assertThat(version(open)).isEqualTo(openVersion + 1);
+        assertThat(version(alreadyTrashed)).isEqualTo(trashedVersion);
+        assertThat(count("SELECT count(*) FROM trash_items WHERE task_id = ?", open)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("trashAll() success test : leftover trash item (uk_trash_item_task) gets the new retention")
+    void trashAll_success_item_conflict() {
+        //given (휴지통 항목이 남은 채 작업만 열린 상태)
+        Long taskId = fixtures.task(queue);
+        taskCommandService.trash(taskId);
+        jdbcTemplate.update("UPDATE tasks SET status = 'ACTIVE', trashed_at = NULL WHERE task_id = ?", taskId);
+
+        //when
+        List<TaskStatusChanged> changes = trashItemRepository.trashAll(List.of(taskId), NOW, NOW.plusDays(7));
+
+        //then
+        assertThat(changes).extracting(TaskStatusChanged::taskId).containsExactly(taskId);
+        assertThat(count("SELECT count(*) FROM trash_items WHERE task_id = ?", taskId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT retention_until FROM trash_items WHERE task_id = ?", OffsetDateTime.class, taskId))
+                .isAtSameInstantAs(NOW.plusDays(7));
+    }
+
+    // ------------------------------------------------------------------
+    // restoreAll()
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("restoreAll() success test : skips tasks that are not trashed, deletes items and bumps version")
+    void restoreAll_success_skipped_ids() {
+        //given
+        Long trashed = fixtures.task(queue);
+        Long open = fixtures.task(queue);
+        taskCommandService.trash(trashed);
+        long trashedVersion = version(trashed);
+        long openVersion = version(open);
+
+        //when
+        List<TaskStatusChanged> changes = trashItemRepository.restoreAll(List.of(trashed, open, MISSING_TASK_ID), NOW);
+
+        //then
+        assertThat(changes).extracting(TaskStatusChanged::taskId).containsExactly(trashed);
+        assertThat(changes.getFirst().to()).isEqualTo(TaskStatus.ACTIVE);
+        assertThat(version(trashed)).isEqualTo(trashedVersion + 1);
+        assertThat(version(open)).isEqualTo(openVersion);
+        assertThat(count("SELECT count(*) FROM trash_items WHERE task_id = ?", trashed)).isZero();
+    }
+
+
+    // 테스트 도우미 ----------------------------------------------------------------
+
+
+    private long version(Long taskId) {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE task_id = ?", Long.class, taskId);
+        return version == null ? 0 : version;
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}